@@ -0,0 +1,73 @@
+package mingovvv.common.ratelimit.impl;
+
+import mingovvv.common.ratelimit.config.RateLimitProperties;
+import mingovvv.common.ratelimit.model.RateLimitResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GCRA 인메모리 레이트 리미터 처리량
+ * - hotKey: 모든 스레드가 같은 키 하나를 소비 (CAS 경합 최대)
+ * - spreadKeys: 키 10,000개에 고르게 분산 (IP별 한도의 일반적인 분포)
+ * 단일 스레드와 64스레드 경합을 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InMemoryRateLimiterBenchmark {
+
+    private static final int KEY_COUNT = 10_000;
+
+    private InMemoryRateLimiter rateLimiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxRequests(100);
+        properties.setWindowSeconds(60);
+        rateLimiter = new InMemoryRateLimiter(properties);
+
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "rate:ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        rateLimiter.close();
+    }
+
+    @Benchmark
+    public RateLimitResult hotKey() {
+        return rateLimiter.tryConsume(keys[0]);
+    }
+
+    @Benchmark
+    public RateLimitResult spreadKeys() {
+        return rateLimiter.tryConsume(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public RateLimitResult hotKeyContended() {
+        return rateLimiter.tryConsume(keys[0]);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public RateLimitResult spreadKeysContended() {
+        return rateLimiter.tryConsume(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+}
@@ -0,0 +1,83 @@
+package mingovvv.common.security;
+
+import mingovvv.common.properties.PublicFastPathProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.server.PathContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 fast path 허용 목록 매칭 비용
+ * 보안 체인 중 가장 먼저 평가되므로 모든 요청이 이 비용을 냅니다.
+ * - fastPathHit / otherPathMiss / otherMethodMiss: 정규화 경로(ServletRequestPathUtils) 기준 매처
+ * - rawUriHit: 이전 방식 (getRequestURI를 그대로 파싱)
+ * 요청마다 파싱 결과 캐시를 지워 첫 필터에서 파싱하는 실제 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PublicFastPathRequestMatcherBenchmark {
+
+    private static final List<String> PATHS = List.of(
+            "/api/events/{eventId}/queue/status",
+            "/api/events/{eventId}/queue/subscribe",
+            "/api/events/{eventId}/seats/summary"
+    );
+
+    private PublicFastPathRequestMatcher matcher;
+    private List<PathPattern> patterns;
+    private MockHttpServletRequest statusRequest;
+    private MockHttpServletRequest paymentRequest;
+    private MockHttpServletRequest enterRequest;
+
+    @Setup
+    public void setUp() {
+        PublicFastPathProperties properties = new PublicFastPathProperties();
+        properties.setPaths(PATHS);
+        matcher = new PublicFastPathRequestMatcher(properties);
+        patterns = PATHS.stream().map(PathPatternParser.defaultInstance::parse).toList();
+
+        statusRequest = new MockHttpServletRequest("GET", "/api/events/EVT001/queue/status");
+        paymentRequest = new MockHttpServletRequest("GET", "/api/payments/PAY-1");
+        enterRequest = new MockHttpServletRequest("POST", "/api/events/EVT001/queue/enter");
+    }
+
+    @Benchmark
+    public boolean fastPathHit() {
+        ServletRequestPathUtils.clearParsedRequestPath(statusRequest);
+        return matcher.matches(statusRequest);
+    }
+
+    @Benchmark
+    public boolean otherPathMiss() {
+        ServletRequestPathUtils.clearParsedRequestPath(paymentRequest);
+        return matcher.matches(paymentRequest);
+    }
+
+    @Benchmark
+    public boolean otherMethodMiss() {
+        return matcher.matches(enterRequest);
+    }
+
+    @Benchmark
+    public boolean rawUriHit() {
+        PathContainer path = PathContainer.parsePath(statusRequest.getRequestURI());
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,59 @@
+package mingovvv.turnstile.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제/예약 ID 발급 처리량 비교
+ * - idGenerator*: Snowflake 방식 (CAS 1회)
+ * - randomUuid: 이전 방식 (UUID 앞 8자리, 공유 SecureRandom)
+ * 단일 스레드와 8스레드 경합을 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdGeneratorBenchmark {
+
+    private IdGenerator idGenerator;
+
+    @Setup
+    public void setUp() {
+        idGenerator = new IdGenerator(1);
+    }
+
+    @Benchmark
+    public long idGeneratorLong() {
+        return idGenerator.nextId();
+    }
+
+    @Benchmark
+    public String idGeneratorPrefixed() {
+        return idGenerator.nextId("PAY-");
+    }
+
+    @Benchmark
+    public String randomUuid() {
+        return "PAY-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String idGeneratorPrefixedContended() {
+        return idGenerator.nextId("PAY-");
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String randomUuidContended() {
+        return "PAY-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
@@ -4,16 +4,19 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mingovvv.common.utils.MaskingUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.StringUtils;
@@ -98,6 +101,32 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Pub/Sub·키스페이스 알림 구독용 공용 RedisMessageListenerContainer Bean을 생성합니다.
+     * <p>
+     * 구독 연결 1개를 공유하며, 각 기능의 설정에서 이 컨테이너에 리스너를 등록합니다.
+     * 메시지 처리는 가상 스레드에서 실행하되 동시 실행 수를 제한해,
+     * 키스페이스 알림이 몰려도 메시지마다 스레드가 무한정 늘어나지 않게 합니다. (한도 초과 시 구독 스레드가 대기)
+     *
+     * @param redisConnectionFactory Redis 연결 팩토리
+     * @param concurrencyLimit       리스너 동시 실행 한도
+     * @return 공용 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            @Value("${turnstile.redis.listener-concurrency-limit:16}") int concurrencyLimit
+    ) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.setTaskExecutor(executor);
+        return container;
+    }
+
     @EventListener(ApplicationReadyEvent.class)
     public void logRedisStartup() {
         String endpoint = resolveEndpoint();
@@ -1,11 +1,17 @@
 package mingovvv.common.config;
 
 import lombok.RequiredArgsConstructor;
+import mingovvv.common.properties.PublicFastPathProperties;
 import mingovvv.common.security.JwtAccessDeniedHandler;
 import mingovvv.common.security.JwtAuthenticationEntryPoint;
 import mingovvv.common.security.JwtAuthenticationFilter;
+import mingovvv.common.security.PublicFastPathRequestMatcher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -26,6 +32,8 @@ import java.util.List;
  * <p>
  * JWT 기반 Stateless 인증 방식을 사용하며, CORS 정책을 설정합니다.
  * 메서드 레벨 보안 어노테이션(@PreAuthorize, @Secured 등)을 활성화합니다.
+ * <p>
+ * 대기열 상태 폴링/SSE 같은 공개 고빈도 경로는 별도의 최소 필터 체인(publicFastPathFilterChain)으로 처리합니다.
  */
 @Configuration
 @EnableWebSecurity
@@ -36,6 +44,47 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final PublicFastPathProperties publicFastPathProperties;
+
+    /**
+     * 공개 고빈도 경로 전용 최소 필터 체인을 설정합니다.
+     * <p>
+     * 허용 목록(feature.security.public-fast-path)에 매칭되는 요청만 이 체인을 타며, 기본 체인보다 먼저 평가됩니다.
+     * 익명 호출만 있는 경로이므로 인증/인가에 쓰이는 필터를 모두 빼고 CORS와 기본 보안 헤더만 남깁니다.
+     * - JWT 검증, SecurityContext 저장/복원, 익명 Authentication 생성 없음
+     * - 세션, CSRF, 요청 캐시, 로그아웃, 예외 변환, 인가(AuthorizationFilter) 없음
+     * - Servlet API 래핑(SecurityContextHolderAwareRequestWrapper) 없음
+     * 인증이 필요한 경로를 허용 목록에 넣으면 인증 없이 통과하므로 주의해야 합니다.
+     *
+     * @param http HttpSecurity 객체
+     * @return SecurityFilterChain
+     * @throws Exception 설정 오류 시
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @ConditionalOnProperty(name = "feature.security.public-fast-path.enabled", havingValue = "true", matchIfMissing = true)
+    public SecurityFilterChain publicFastPathFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(new PublicFastPathRequestMatcher(publicFastPathProperties))
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                // 공개 조회 응답은 컨트롤러가 정한 Cache-Control을 그대로 사용
+                .headers(headers -> headers
+                        .frameOptions(frameOptions -> frameOptions.sameOrigin())
+                        .cacheControl(cacheControl -> cacheControl.disable())
+                )
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .requestCache(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .exceptionHandling(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
 
     /**
      * Spring Security 필터 체인을 설정합니다.
@@ -113,6 +162,23 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * JwtAuthenticationFilter가 서블릿 필터로 중복 등록되지 않도록 합니다.
+     * <p>
+     * {@code @Component} 필터는 Spring Boot가 서블릿 필터로도 자동 등록하므로,
+     * 그대로 두면 fast path 체인으로 처리된 요청에서도 서블릿 단계에서 JWT를 검증합니다.
+     * 인증은 기본 보안 필터 체인 안에서만 수행합니다.
+     *
+     * @param jwtAuthenticationFilter JWT 인증 필터
+     * @return 비활성화된 FilterRegistrationBean
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter jwtAuthenticationFilter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     /**
      * CORS 설정을 정의합니다.
      * <p>
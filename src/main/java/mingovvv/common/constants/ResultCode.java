@@ -50,6 +50,8 @@ public class ResultCode {
         REQ_METHOD_NOT_ALLOWED("REQ-006", "Method not allowed.", HttpStatus.METHOD_NOT_ALLOWED), // 405
         REQ_UNSUPPORTED_MEDIA_TYPE("REQ-007", "Unsupported media type.", HttpStatus.UNSUPPORTED_MEDIA_TYPE), // 415 (ex: json 기대했는데 text 보냄)
         REQ_RATE_LIMITED("REQ-008", "Too many requests.", HttpStatus.TOO_MANY_REQUESTS), // 429
+        REQ_IDEMPOTENCY_IN_PROGRESS("REQ-009", "A request with the same idempotency key is in progress.", HttpStatus.CONFLICT), // 409
+        REQ_IDEMPOTENCY_KEY_REUSED("REQ-010", "Idempotency key was reused with a different request.", HttpStatus.UNPROCESSABLE_ENTITY), // 422
 
         // RSC: 리소스 오류
         RSC_NOT_FOUND("RSC-001", "Resource not found.", HttpStatus.NOT_FOUND), // 404
@@ -75,7 +77,8 @@ public class ResultCode {
 
         // SYS: 시스템 오류
         SYS_INTERNAL_ERROR("SYS-001", "Internal server error.", HttpStatus.INTERNAL_SERVER_ERROR), // 500
-        SYS_MAINTENANCE("SYS-002", "System maintenance.", HttpStatus.SERVICE_UNAVAILABLE); // 503
+        SYS_MAINTENANCE("SYS-002", "System maintenance.", HttpStatus.SERVICE_UNAVAILABLE), // 503
+        SYS_OVERLOADED("SYS-003", "Server is overloaded. Please retry later.", HttpStatus.SERVICE_UNAVAILABLE); // 503
 
         private final String code;
         private final String message;
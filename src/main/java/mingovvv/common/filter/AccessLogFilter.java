@@ -4,31 +4,46 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.filter.accesslog.AccessLogBody;
+import mingovvv.common.filter.accesslog.AccessLogPipeline;
+import mingovvv.common.filter.accesslog.AccessLogRecord;
+import mingovvv.common.filter.wrapper.CapturingResponseWrapper;
 import mingovvv.common.filter.wrapper.CustomRequestWrapper;
+import mingovvv.common.properties.AccessLogProperties;
 import mingovvv.common.utils.MDCUtil;
 import mingovvv.common.utils.NetworkUtil;
-import mingovvv.common.utils.StringUtil;
-import org.apache.commons.lang3.StringUtils;
+import mingovvv.common.utils.RequestPathUtil;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * HTTP 요청/응답에 대한 접근 로그(Access Log)를 기록하는 필터입니다.
  * <p>
  * 요청의 유형(Multipart, Stream, General)에 따라 바디 로깅 전략을 다르게 가져갑니다.
+ * 바디 로깅 여부는 라우트 규칙(feature.access-log.routes)의 샘플링 비율로 정하며,
+ * 샘플링되지 않은 요청은 바디를 버퍼링하지 않습니다.
+ * SSE(text/event-stream) 등 스트리밍 응답은 요청 Accept 헤더와 실제 응답 Content-Type으로 판단해 버퍼링하지 않습니다.
+ * 요청/응답 바디는 이 필터가 만든 Wrapper에 한 번만 버퍼링되며, 안쪽 필터(IdempotencyFilter 등)도 같은 버퍼를 읽습니다.
+ * 로그는 요청당 레코드 1건으로 AccessLogPipeline에 넘기며, 요청 스레드는 바디 앞부분 복사와 큐 적재만 수행합니다.
+ * (JSON 인코딩과 기록은 별도 스레드에서 ACCESS_LOG 로거로 수행)
  * MDC를 활용하여 요청 컨텍스트 정보를 관리합니다.
  * <p>
  * 실행 순서: HIGHEST_PRECEDENCE + 1 (ExceptionHandlerFilter 다음에 실행)
@@ -37,10 +52,13 @@ import java.util.regex.Pattern;
 @Slf4j
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE + 1)
-@RequiredArgsConstructor
 public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
 
-    private static final int MAX_BODY_LOG_LENGTH = 2000;
+    /**
+     * Micrometer Tracing이 MDC에 넣는 키
+     */
+    private static final String TRACE_ID = "traceId";
+    private static final String SPAN_ID = "spanId";
 
     /**
      * 로깅을 제외할 URI prefix 목록
@@ -58,10 +76,25 @@ public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
      */
     private static final Pattern DOWNLOAD_PATTERN = Pattern.compile(".*/(download(s)?|export(s)?|file(s)?|attachment(s)?|image(s)?)(/.*)?$");
     private static final Pattern EXTENSION_PATTERN = Pattern.compile(".*\\.(xlsx|xls|csv|pdf|zip|tar|7z|exe|jpg|png|mp4|mp3)$");
-    private static final Pattern STREAM_PATTERN = Pattern.compile(".*/stream/?(\\?.*)?$");
 
     private final AtomicLong sequence = new AtomicLong(0L);
 
+    /**
+     * 기동 시 컴파일한 라우트 규칙 (선언 순서대로 매칭)
+     */
+    private final List<RouteRule> routes;
+    private final RouteRule defaultRoute;
+
+    private final AccessLogPipeline accessLogPipeline;
+
+    public AccessLogFilter(AccessLogProperties properties, AccessLogPipeline accessLogPipeline) {
+        this.accessLogPipeline = accessLogPipeline;
+        this.routes = properties.getRoutes().stream()
+                .map(RouteRule::compile)
+                .toList();
+        this.defaultRoute = new RouteRule(List.of(), Set.of(), properties.getDefaultSampleRate(), false);
+    }
+
     /**
      * 필터 적용 여부를 결정합니다.
      *
@@ -76,7 +109,7 @@ public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
 
     /**
      * 실제 필터 로직을 수행합니다.
-     * 요청 유형에 따라 래핑 및 로깅 전략을 분기합니다.
+     * 요청 유형에 따라 래핑 및 로깅 전략을 분기하고, 처리가 끝나면 레코드 1건을 파이프라인에 넣습니다.
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -89,38 +122,50 @@ public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
         String contentType = request.getContentType();
         String requestUri = request.getRequestURI();
 
-        var isMultipart = isMultipartRequest(contentType);
-        var isDownload = isDownloadResponse(requestUri);
-        var isStream = isStreamResponse(requestUri);
-
+        RouteRule route = resolveRoute(request);
         long startTime = System.currentTimeMillis();
 
         try {
-            if (isMultipart || isDownload) {
-                // Multipart 또는 Download 요청 - Body 로깅 제외
-                initializeMDC(request, startTime);
-                logRequestBasic(request);
+            initializeMDC(request, startTime);
+
+            if (route.skip()) {
+                // 로그 생략 라우트 - MDC만 설정
                 filterChain.doFilter(request, response);
-                logResponseBasic(startTime);
-            } else if (isStream) {
-                // Stream/SSE 요청 - 요청 Body만 로깅, 응답 Body는 제외
-                var requestWrapper = new CustomRequestWrapper(request);
-                initializeMDC(requestWrapper, startTime);
-                logRequestWithBody(requestWrapper);
-                filterChain.doFilter(requestWrapper, response);
-                logResponseBasic(startTime);
+                return;
+            }
+
+            var isMultipart = isMultipartRequest(contentType);
+            var isDownload = isDownloadResponse(requestUri);
+            var isStream = acceptsEventStream(request);
+
+            if (isMultipart || isDownload || isStream || !route.sample()) {
+                // Multipart/Download/SSE 요청 또는 샘플링 제외 - Body 로깅 제외 (버퍼링 없음)
+                try {
+                    filterChain.doFilter(request, response);
+                } catch (IOException | ServletException | RuntimeException e) {
+                    publish(request, response.getStatus(), startTime, null, null, e);
+                    throw e;
+                }
+                publish(request, response.getStatus(), startTime, null, null, null);
             } else {
                 // 일반 JSON 요청 - 요청/응답 Body 모두 로깅
                 var requestWrapper = new CustomRequestWrapper(request);
-                var responseWrapper = new ContentCachingResponseWrapper(response);
-
-                initializeMDC(requestWrapper, startTime);
-                logRequestWithBody(requestWrapper);
-
-                filterChain.doFilter(requestWrapper, responseWrapper);
-
-                logResponseWithBody(responseWrapper, startTime);
-                responseWrapper.copyBodyToResponse();
+                var responseWrapper = new CapturingResponseWrapper(response);
+
+                try {
+                    try {
+                        filterChain.doFilter(requestWrapper, responseWrapper);
+                    } catch (IOException | ServletException | RuntimeException e) {
+                        publish(requestWrapper, responseWrapper.getStatus(), startTime, AccessLogBody.of(requestWrapper.getCapturedBody()), null, e);
+                        throw e;
+                    }
+                    publish(requestWrapper, responseWrapper.getStatus(), startTime,
+                            AccessLogBody.of(requestWrapper.getCapturedBody()), responseBody(request, responseWrapper), null);
+                    responseWrapper.copyBodyToResponse();
+                } finally {
+                    responseWrapper.release();
+                    requestWrapper.release();
+                }
             }
         } finally {
             MDCUtil.clear();
@@ -146,105 +191,57 @@ public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
         MDCUtil.setValue(MDCUtil.ACCESS_IP_ADDRESS, NetworkUtil.getClientIp(request));
     }
 
-
     /**
-     * 기본 요청 정보를 로깅합니다. (Body 제외)
+     * 접근 로그 레코드를 만들어 비동기 파이프라인에 넣습니다.
+     * 요청 스레드에서는 이미 가진 값만 담고, 포맷/정제/인코딩은 기록 스레드가 수행합니다.
      *
-     * @param request HttpServletRequest
+     * @param requestBody  요청 Body (로깅 대상이 아니면 null)
+     * @param responseBody 응답 Body (로깅 대상이 아니면 null)
+     * @param failure      필터 체인에서 전파된 예외 (정상 처리면 null)
      */
-    private void logRequestBasic(HttpServletRequest request) {
-        String uri = buildUriWithQuery(request.getRequestURI(), request.getQueryString());
-        log.info("req uri={}, method={}, ip={}", uri, request.getMethod(), NetworkUtil.getClientIp(request));
+    private void publish(HttpServletRequest request, int status, long startTime,
+                         AccessLogBody requestBody, AccessLogBody responseBody, Exception failure) {
+        long now = System.currentTimeMillis();
+        accessLogPipeline.publish(new AccessLogRecord(
+                now,
+                MDCUtil.getValue(MDCUtil.REQUEST_SEQ_ID),
+                request.getMethod(),
+                request.getRequestURI(),
+                request.getQueryString(),
+                MDCUtil.getValue(MDCUtil.ACCESS_IP_ADDRESS),
+                status,
+                now - startTime,
+                MDCUtil.getValue(TRACE_ID),
+                MDCUtil.getValue(SPAN_ID),
+                requestBody,
+                responseBody,
+                failure != null ? failure.getClass().getName() : null
+        ));
     }
 
     /**
-     * 요청 정보와 Body를 함께 로깅합니다.
+     * 응답 Body 로깅 대상을 결정합니다.
      *
-     * @param request HttpServletRequest (Wrapper)
+     * @return Body를 남기지 않으면 null
      */
-    private void logRequestWithBody(HttpServletRequest request) {
-        String uri = buildUriWithQuery(request.getRequestURI(), request.getQueryString());
-        String body = extractBody(request);
-
-        log.info("req uri={}, method={}, body={}, ip={}", uri, request.getMethod(), body, NetworkUtil.getClientIp(request));
-    }
-
-    /**
-     * 응답 정보와 Body를 함께 로깅합니다.
-     *
-     * @param response  ContentCachingResponseWrapper
-     * @param startTime 요청 시작 시간
-     */
-    private void logResponseWithBody(ContentCachingResponseWrapper response, long startTime) {
-        String uri = MDCUtil.getValue(MDCUtil.REQUEST_URI);
-        long totalTime = System.currentTimeMillis() - startTime;
-
-        if ("/whoami".equalsIgnoreCase(uri)) {
-            return;
+    private AccessLogBody responseBody(HttpServletRequest request, CapturingResponseWrapper response) {
+        // 스트리밍 응답으로 전환되었거나 비동기 처리 중이면 바디 없이 로깅
+        if (response.isStreaming() || request.isAsyncStarted()) {
+            return null;
+        }
+        if ("/whoami".equalsIgnoreCase(request.getRequestURI())) {
+            return null;
         }
 
         String contentType = response.getContentType();
         if (contentType != null && contentType.contains("octet-stream")) {
-            log.info("res uri={}, status={}, totalTime={}ms, body=skip(octet-stream)", uri, response.getStatus(), totalTime);
-            return;
+            return AccessLogBody.skipped("octet-stream");
         }
-
-        String body = new String(response.getContentAsByteArray(), StandardCharsets.UTF_8);
-        body = sanitizeAndTruncateBody(body);
-
-        log.info("res uri={}, status={}, body={}, totalTime={}ms", uri, response.getStatus(), body, totalTime);
-    }
-
-    /**
-     * 기본 응답 정보를 로깅합니다. (Body 제외)
-     *
-     * @param startTime 요청 시작 시간
-     */
-    private void logResponseBasic(long startTime) {
-        String uri = MDCUtil.getValue(MDCUtil.REQUEST_URI);
-        long totalTime = System.currentTimeMillis() - startTime;
-        log.info("res uri={}, totalTime={}ms", uri, totalTime);
+        return AccessLogBody.of(response.getCapturedBody());
     }
 
     // ====================== 유틸 메서드 ======================
 
-    /**
-     * URI와 QueryString을 조합합니다.
-     */
-    private String buildUriWithQuery(String uri, String queryString) {
-        return StringUtils.isNotBlank(queryString) ? uri + "?" + queryString : uri;
-    }
-
-    /**
-     * Request Wrapper에서 Body를 추출하고 정제합니다.
-     */
-    private String extractBody(HttpServletRequest request) {
-        String body = null;
-        if (request instanceof CustomRequestWrapper custom) {
-            body = new String(custom.getBody(), StandardCharsets.UTF_8);
-        } else if (request instanceof ContentCachingRequestWrapper wrapper) {
-            body = new String(wrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
-        }
-        return sanitizeAndTruncateBody(body);
-    }
-
-    /**
-     * Body 문자열을 정제(개행 제거)하고 최대 길이를 제한합니다.
-     *
-     * @param body 원본 Body 문자열
-     * @return 정제된 문자열
-     */
-    private String sanitizeAndTruncateBody(String body) {
-        if (body == null) {
-            return "";
-        }
-        body = StringUtil.stripNewlinesAndTabs(body);
-        if (body.length() > MAX_BODY_LOG_LENGTH) {
-            return body.substring(0, MAX_BODY_LOG_LENGTH) + "... (truncated)";
-        }
-        return body;
-    }
-
     /**
      * 헤더 정보를 디버그 레벨로 로깅합니다.
      */
@@ -271,10 +268,28 @@ public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
     }
 
     /**
-     * 스트림 관련 응답인지 확인합니다.
+     * SSE 요청인지 확인합니다. (Accept: text/event-stream)
+     */
+    private boolean acceptsEventStream(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    /**
+     * 요청에 적용할 라우트 규칙을 찾습니다.
      */
-    private boolean isStreamResponse(String requestUri) {
-        return STREAM_PATTERN.matcher(requestUri).matches();
+    private RouteRule resolveRoute(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return defaultRoute;
+        }
+        String method = request.getMethod();
+        PathContainer path = RequestPathUtil.pathWithinApplication(request);
+        for (RouteRule route : routes) {
+            if (route.matches(method, path)) {
+                return route;
+            }
+        }
+        return defaultRoute;
     }
 
     /**
@@ -285,4 +300,47 @@ public class AccessLogFilter extends OncePerRequestFilter implements Ordered {
         return Ordered.HIGHEST_PRECEDENCE + 1;
     }
 
+    /**
+     * 컴파일된 라우트 규칙
+     *
+     * @param patterns   경로 패턴
+     * @param methods    적용 HTTP 메서드 (비어 있으면 전체)
+     * @param sampleRate 바디 로깅 비율
+     * @param skip       접근 로그 생략 여부
+     */
+    private record RouteRule(List<PathPattern> patterns, Set<String> methods, double sampleRate, boolean skip) {
+
+        static RouteRule compile(AccessLogProperties.Route route) {
+            List<PathPattern> patterns = route.getPaths().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            Set<String> methods = route.getMethods().stream()
+                    .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            return new RouteRule(patterns, methods, route.getSampleRate(), route.isSkip());
+        }
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * 이번 요청의 바디를 로깅할지 결정합니다.
+         */
+        boolean sample() {
+            if (sampleRate >= 1.0) {
+                return true;
+            }
+            return sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
+    }
+
 }
@@ -0,0 +1,45 @@
+package mingovvv.common.filter.accesslog;
+
+import mingovvv.common.filter.wrapper.CaptureBuffer;
+
+/**
+ * 접근 로그에 남길 요청/응답 바디입니다.
+ * <p>
+ * 요청 스레드는 앞부분 바이트만 복사하고, 디코딩/정제/잘라내기는 기록 스레드에서 수행합니다.
+ *
+ * @param bytes       앞에서부터 최대 MAX_BYTES 바이트 (생략된 바디면 null)
+ * @param totalLength 원본 바디 길이 (bytes보다 길면 잘린 것)
+ * @param skipReason  바디를 남기지 않은 사유 (남겼으면 null)
+ */
+public record AccessLogBody(byte[] bytes, int totalLength, String skipReason) {
+
+    /**
+     * 로그에 남기는 바디 최대 글자 수
+     */
+    public static final int MAX_LENGTH = 2000;
+
+    /**
+     * 요청 스레드에서 복사하는 최대 바이트 수 (UTF-8 한 글자 최대 4바이트)
+     */
+    public static final int MAX_BYTES = MAX_LENGTH * 4;
+
+    /**
+     * 캡처한 바디의 앞부분을 복사합니다.
+     *
+     * @param captured 캡처 버퍼 (상한을 넘어 캡처하지 못했으면 null)
+     */
+    public static AccessLogBody of(CaptureBuffer captured) {
+        if (captured == null) {
+            return skipped("too large");
+        }
+        return new AccessLogBody(captured.copyPrefix(MAX_BYTES), captured.length(), null);
+    }
+
+    public static AccessLogBody skipped(String reason) {
+        return new AccessLogBody(null, 0, reason);
+    }
+
+    public boolean isTruncated() {
+        return bytes != null && totalLength > bytes.length;
+    }
+}
@@ -0,0 +1,78 @@
+package mingovvv.common.filter.accesslog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import mingovvv.common.utils.StringUtil;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 접근 로그 레코드를 JSON 한 줄로 인코딩합니다. (기록 스레드 전용)
+ * <p>
+ * 바디 디코딩, 개행 제거, 길이 제한을 모두 여기서 수행하므로 요청 스레드는 바이트 복사만 합니다.
+ */
+final class AccessLogEncoder {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME.withZone(ZoneId.systemDefault());
+
+    private final JsonFactory jsonFactory;
+
+    AccessLogEncoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * 레코드 1건을 개행 없이 기록합니다.
+     */
+    void encode(AccessLogRecord record, Writer out) throws IOException {
+        try (JsonGenerator gen = jsonFactory.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            gen.writeStartObject();
+            gen.writeStringField("ts", TIMESTAMP_FORMAT.format(Instant.ofEpochMilli(record.timestampMillis())));
+            writeIfPresent(gen, "seq", record.seq());
+            writeIfPresent(gen, "traceId", record.traceId());
+            writeIfPresent(gen, "spanId", record.spanId());
+            gen.writeStringField("method", record.method());
+            gen.writeStringField("uri", record.uri());
+            writeIfPresent(gen, "query", record.query());
+            writeIfPresent(gen, "ip", record.clientIp());
+            gen.writeNumberField("status", record.status());
+            gen.writeNumberField("totalTimeMs", record.totalTimeMs());
+            writeBody(gen, "reqBody", record.requestBody());
+            writeBody(gen, "resBody", record.responseBody());
+            writeIfPresent(gen, "error", record.error());
+            gen.writeEndObject();
+        }
+    }
+
+    private void writeBody(JsonGenerator gen, String field, AccessLogBody body) throws IOException {
+        if (body == null) {
+            return;
+        }
+        if (body.skipReason() != null) {
+            gen.writeStringField(field, "skip(" + body.skipReason() + ")");
+            return;
+        }
+
+        String text = StringUtil.stripNewlinesAndTabs(new String(body.bytes(), StandardCharsets.UTF_8));
+        if (text.length() > AccessLogBody.MAX_LENGTH) {
+            text = text.substring(0, AccessLogBody.MAX_LENGTH) + "... (truncated)";
+        } else if (body.isTruncated()) {
+            text = text + "... (truncated)";
+        }
+        gen.writeStringField(field, text);
+    }
+
+    private void writeIfPresent(JsonGenerator gen, String field, String value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(field, value);
+        }
+    }
+}
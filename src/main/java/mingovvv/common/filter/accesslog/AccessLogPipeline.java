@@ -0,0 +1,169 @@
+package mingovvv.common.filter.accesslog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.properties.AccessLogProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 접근 로그 파이프라인
+ * <p>
+ * 요청 스레드는 레코드를 링 버퍼에 넣기만 하고(CAS 1회), 단일 기록 스레드가 배치 단위로 꺼내
+ * JSON 한 줄씩 인코딩한 뒤 ACCESS_LOG 로거에 배치당 한 번 기록합니다.
+ * - 배압: 버퍼가 가득 차면 기다리지 않고 버리며 access_log.records{result=dropped}로 집계
+ * - 유휴: 버퍼가 비면 기록 스레드가 점점 길게 park (생산자는 unpark하지 않음)
+ * - 종료: 신규 적재를 멈추고 남은 레코드를 모두 기록한 뒤 종료
+ */
+@Slf4j
+@Component
+public class AccessLogPipeline {
+
+    private static final String METRIC_PREFIX = "access_log";
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS_LOG");
+
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long DROP_WARN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    // 배치 문자열 버퍼가 이보다 커지면 재사용하지 않고 새로 만듦
+    private static final int MAX_RETAINED_BUFFER_CHARS = 1024 * 1024;
+
+    private final AccessLogRingBuffer<AccessLogRecord> ring;
+    private final AccessLogEncoder encoder;
+    private final int batchSize;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Counter writtenRecords;
+    private final Counter droppedRecords;
+    private final Counter failedRecords;
+
+    // 기록 스레드 전용
+    private StringWriter buffer = new StringWriter();
+    private long lastDropWarnNanos = System.nanoTime();
+    private double lastReportedDrops;
+
+    public AccessLogPipeline(AccessLogProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.ring = new AccessLogRingBuffer<>(properties.getRingCapacity());
+        this.encoder = new AccessLogEncoder(objectMapper.getFactory());
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.writer = Thread.ofPlatform().name("access-log-writer").daemon().unstarted(this::runLoop);
+
+        this.writtenRecords = meterRegistry.counter(METRIC_PREFIX + ".records", "result", "written");
+        this.droppedRecords = meterRegistry.counter(METRIC_PREFIX + ".records", "result", "dropped");
+        this.failedRecords = meterRegistry.counter(METRIC_PREFIX + ".records", "result", "failed");
+        meterRegistry.gauge(METRIC_PREFIX + ".queue.size", ring, AccessLogRingBuffer::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+        log.info("Access log pipeline started: ringCapacity={}, batchSize={}", ring.capacity(), batchSize);
+    }
+
+    /**
+     * 종료 시 신규 적재를 멈추고 남은 레코드를 모두 기록
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+        if (ring.size() > 0) {
+            log.warn("Access log pipeline stopped with {} unwritten records", ring.size());
+        }
+    }
+
+    /**
+     * 레코드를 기록 큐에 넣습니다. (대기 없음, 가득 차면 버림)
+     */
+    public void publish(AccessLogRecord record) {
+        if (!running || !ring.offer(record)) {
+            droppedRecords.increment();
+        }
+    }
+
+    private void runLoop() {
+        List<AccessLogRecord> batch = new ArrayList<>(batchSize);
+        long idleParkNanos = MIN_IDLE_PARK_NANOS;
+
+        while (running || ring.size() > 0) {
+            try {
+                warnDropsIfDue();
+                if (ring.drainTo(batch, batchSize) > 0) {
+                    write(batch);
+                    batch.clear();
+                    idleParkNanos = MIN_IDLE_PARK_NANOS;
+                    continue;
+                }
+                LockSupport.parkNanos(idleParkNanos);
+                idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+            } catch (RuntimeException e) {
+                log.error("Access log writer error", e);
+                failedRecords.increment(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치를 JSON Lines로 인코딩해 한 번에 기록
+     * 패턴(%msg%n)이 마지막 개행을 붙이므로 레코드 사이에만 개행을 넣습니다.
+     */
+    private void write(List<AccessLogRecord> batch) {
+        int written = 0;
+        for (AccessLogRecord record : batch) {
+            int mark = buffer.getBuffer().length();
+            try {
+                if (written > 0) {
+                    buffer.write('\n');
+                }
+                encoder.encode(record, buffer);
+                written++;
+            } catch (IOException | RuntimeException e) {
+                // 인코딩 중 일부만 쓰인 레코드는 되돌림
+                buffer.getBuffer().setLength(mark);
+                failedRecords.increment();
+                log.warn("Access log encode failed: uri={}, error={}", record.uri(), e.toString());
+            }
+        }
+
+        if (written > 0) {
+            ACCESS_LOG.info(buffer.toString());
+            writtenRecords.increment(written);
+        }
+
+        if (buffer.getBuffer().capacity() > MAX_RETAINED_BUFFER_CHARS) {
+            buffer = new StringWriter();
+        } else {
+            buffer.getBuffer().setLength(0);
+        }
+    }
+
+    private void warnDropsIfDue() {
+        long now = System.nanoTime();
+        if (now - lastDropWarnNanos < DROP_WARN_INTERVAL_NANOS) {
+            return;
+        }
+        double drops = droppedRecords.count();
+        if (drops > lastReportedDrops) {
+            log.warn("Access log records dropped: {} in last {}s, ringCapacity={}",
+                    (long) (drops - lastReportedDrops), TimeUnit.NANOSECONDS.toSeconds(now - lastDropWarnNanos), ring.capacity());
+        }
+        lastReportedDrops = drops;
+        lastDropWarnNanos = now;
+    }
+}
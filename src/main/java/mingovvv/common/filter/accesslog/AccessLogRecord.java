@@ -0,0 +1,30 @@
+package mingovvv.common.filter.accesslog;
+
+/**
+ * 요청 1건의 접근 로그 레코드입니다.
+ * <p>
+ * 요청 스레드는 이미 가진 값만 담아 큐에 넣고, 문자열 포맷/JSON 인코딩은 기록 스레드가 수행합니다.
+ *
+ * @param timestampMillis 응답 완료 시각 (epoch ms)
+ * @param seq             요청 순번 (MDC seq)
+ * @param totalTimeMs     처리 시간 (ms)
+ * @param requestBody     요청 바디 (바디 로깅 대상이 아니면 null)
+ * @param responseBody    응답 바디 (바디 로깅 대상이 아니면 null)
+ * @param error           필터 체인에서 전파된 예외 클래스명 (정상 처리면 null)
+ */
+public record AccessLogRecord(
+        long timestampMillis,
+        String seq,
+        String method,
+        String uri,
+        String query,
+        String clientIp,
+        int status,
+        long totalTimeMs,
+        String traceId,
+        String spanId,
+        AccessLogBody requestBody,
+        AccessLogBody responseBody,
+        String error
+) {
+}
@@ -0,0 +1,86 @@
+package mingovvv.common.filter.accesslog;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 생산자/단일 소비자(MPSC) 고정 크기 링 버퍼입니다.
+ * <p>
+ * 생산자는 producerIndex를 CAS로 한 칸 선점한 뒤 슬롯에 기록(lazySet)하므로 락이나 대기가 없고,
+ * 가득 차 있으면 즉시 false를 반환합니다. (버리는 쪽이 배압을 받지 않도록)
+ * 소비자는 기록이 끝난 슬롯만 순서대로 꺼내 비운 뒤 consumerIndex를 전진시킵니다.
+ * 선점만 하고 아직 기록하지 않은 슬롯을 만나면 거기서 멈추고 다음 drain에서 이어 읽습니다.
+ */
+final class AccessLogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * @param requestedCapacity 최소 용량 (2의 거듭제곱으로 올림)
+     */
+    AccessLogRingBuffer(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.capacity = size;
+        this.mask = size - 1;
+    }
+
+    /**
+     * 원소를 넣습니다. (생산자, 여러 스레드)
+     *
+     * @return 버퍼가 가득 차 넣지 못했으면 false
+     */
+    boolean offer(E element) {
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index - consumerIndex.get() >= capacity) {
+                return false;
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+
+        slots.lazySet((int) (index & mask), element);
+        return true;
+    }
+
+    /**
+     * 기록이 끝난 원소를 최대 maxElements개까지 꺼냅니다. (소비자, 단일 스레드)
+     *
+     * @return 꺼낸 원소 수
+     */
+    int drainTo(List<E> sink, int maxElements) {
+        long index = consumerIndex.get();
+        int drained = 0;
+        while (drained < maxElements) {
+            int offset = (int) (index & mask);
+            E element = slots.get(offset);
+            if (element == null) {
+                break;
+            }
+            // 슬롯을 비운 뒤에 인덱스를 전진시켜야 생산자가 비워진 슬롯에만 기록함
+            slots.lazySet(offset, null);
+            sink.add(element);
+            index++;
+            drained++;
+        }
+        if (drained > 0) {
+            consumerIndex.lazySet(index);
+        }
+        return drained;
+    }
+
+    int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,149 @@
+package mingovvv.common.filter.wrapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * 상한이 있는 바디 캡처 버퍼입니다.
+ * <p>
+ * 풀에서 받은 배열로 시작해 필요할 때만 늘리며, maxBytes를 넘는 쓰기는 거절(overflow)합니다.
+ * 요청이 끝나면 release()로 배열을 풀에 반납해야 하며, 이후에는 사용할 수 없습니다.
+ */
+public final class CaptureBuffer {
+
+    /**
+     * 캡처하는 바디의 최대 크기 (이보다 큰 바디는 캡처하지 않고 그대로 흘려보냄)
+     */
+    public static final int MAX_CAPTURE_BYTES = 1024 * 1024;
+
+    private final int maxBytes;
+    private byte[] bytes;
+    private int length;
+
+    CaptureBuffer() {
+        this(MAX_CAPTURE_BYTES);
+    }
+
+    CaptureBuffer(int maxBytes) {
+        this.maxBytes = maxBytes;
+        this.bytes = CaptureBufferPool.acquire();
+    }
+
+    /**
+     * @return 상한을 넘어 쓰지 못했으면 false
+     */
+    boolean write(int b) {
+        if (!ensureCapacity(length + 1)) {
+            return false;
+        }
+        bytes[length++] = (byte) b;
+        return true;
+    }
+
+    /**
+     * @return 상한을 넘어 쓰지 못했으면 false (버퍼는 변경되지 않음)
+     */
+    boolean write(byte[] source, int offset, int count) {
+        if (!ensureCapacity(length + count)) {
+            return false;
+        }
+        System.arraycopy(source, offset, bytes, length, count);
+        length += count;
+        return true;
+    }
+
+    /**
+     * 스트림을 끝까지 버퍼로 직접 읽습니다. (중간 복사 없음)
+     *
+     * @return 상한에 도달해 다 읽지 못했으면 false (나머지는 스트림에 남음)
+     */
+    boolean readFrom(InputStream in) throws IOException {
+        while (true) {
+            if (length == bytes.length && !ensureCapacity(length + 1)) {
+                return false;
+            }
+            int read = in.read(bytes, length, bytes.length - length);
+            if (read == -1) {
+                return true;
+            }
+            length += read;
+        }
+    }
+
+    /**
+     * 버퍼 내용을 out으로 내보냅니다.
+     */
+    void writeTo(OutputStream out) throws IOException {
+        if (length > 0) {
+            out.write(bytes, 0, length);
+        }
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    /**
+     * 배열을 풀에 반납합니다.
+     */
+    void release() {
+        CaptureBufferPool.release(bytes);
+        bytes = null;
+        length = 0;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 복사 없이 읽기 전용으로 노출합니다. (요청 처리 중에만 유효)
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return ByteBuffer.wrap(bytes, 0, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * 캡처한 바디의 복사본입니다. (요청 이후에도 보관해야 할 때만 사용)
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    /**
+     * 앞에서부터 최대 maxLength 바이트의 복사본입니다. (비동기 로깅용, 디코딩은 소비 스레드에서 수행)
+     */
+    public byte[] copyPrefix(int maxLength) {
+        return Arrays.copyOf(bytes, Math.min(length, maxLength));
+    }
+
+    /**
+     * 앞에서부터 최대 maxLength 바이트를 문자열로 변환합니다. (로깅용)
+     */
+    public String toString(Charset charset, int maxLength) {
+        return new String(bytes, 0, Math.min(length, maxLength), charset);
+    }
+
+    byte[] array() {
+        return bytes;
+    }
+
+    private boolean ensureCapacity(int required) {
+        if (required <= bytes.length) {
+            return true;
+        }
+        if (required > maxBytes) {
+            return false;
+        }
+        int newCapacity = (int) Math.min(maxBytes, Math.max(required, (long) bytes.length * 2));
+        byte[] grown = Arrays.copyOf(bytes, newCapacity);
+        CaptureBufferPool.release(bytes);
+        bytes = grown;
+        return true;
+    }
+
+}
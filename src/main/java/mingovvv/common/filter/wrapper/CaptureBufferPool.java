@@ -0,0 +1,37 @@
+package mingovvv.common.filter.wrapper;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 요청/응답 바디 캡처용 버퍼 풀입니다.
+ * <p>
+ * 대부분의 JSON 바디는 CHUNK_SIZE 이하이므로, 정상 상태에서는 요청마다 새 배열을 할당하지 않고 풀의 배열을 재사용합니다.
+ * 가상 스레드 환경에서는 ThreadLocal 풀이 스레드 수만큼 늘어나므로 공유 큐를 사용합니다.
+ */
+final class CaptureBufferPool {
+
+    /**
+     * 풀링하는 버퍼 크기 (이보다 큰 바디는 풀 밖에서 할당)
+     */
+    static final int CHUNK_SIZE = 8 * 1024;
+
+    private static final int MAX_POOLED = 512;
+
+    private static final BlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(MAX_POOLED);
+
+    private CaptureBufferPool() {
+    }
+
+    static byte[] acquire() {
+        byte[] chunk = POOL.poll();
+        return chunk != null ? chunk : new byte[CHUNK_SIZE];
+    }
+
+    static void release(byte[] chunk) {
+        if (chunk != null && chunk.length == CHUNK_SIZE) {
+            POOL.offer(chunk);
+        }
+    }
+
+}
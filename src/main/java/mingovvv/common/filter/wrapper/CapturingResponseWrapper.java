@@ -0,0 +1,324 @@
+package mingovvv.common.filter.wrapper;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 응답 바디를 한 번만 버퍼링해 여러 필터가 함께 읽도록 하는 Wrapper입니다.
+ * <p>
+ * ContentCachingResponseWrapper를 필터마다 겹쳐 쓰면 바디가 필터 수만큼 버퍼링/복사되므로,
+ * 가장 바깥 필터가 하나를 만들고 안쪽 필터는 find()로 찾아 같은 버퍼를 읽습니다.
+ * <ul>
+ *     <li>풀링된 버퍼를 사용하며 CaptureBuffer.MAX_CAPTURE_BYTES를 넘으면 캡처를 멈추고 그대로 흘려보냅니다.</li>
+ *     <li>copyBodyToResponse() 이후의 쓰기는 원본 응답으로 바로 전달됩니다. (비동기/SSE 응답)</li>
+ *     <li>Content-Type이 스트리밍 타입(text/event-stream 등)으로 설정되면 즉시 캡처를 멈추고 그대로 흘려보냅니다.</li>
+ * </ul>
+ * 생성한 필터가 요청 종료 시 copyBodyToResponse()(정상) 또는 release()(예외)를 호출해야 합니다.
+ */
+public class CapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    /**
+     * 버퍼링하지 않는 스트리밍 응답 타입
+     */
+    private static final List<MediaType> STREAMING_TYPES = List.of(
+            MediaType.TEXT_EVENT_STREAM,
+            MediaType.APPLICATION_NDJSON,
+            MediaType.APPLICATION_OCTET_STREAM
+    );
+
+    private CaptureBuffer buffer = new CaptureBuffer();
+    private boolean passThrough;
+    private boolean overflowed;
+    private boolean streaming;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public CapturingResponseWrapper(HttpServletResponse response) {
+        super(response);
+    }
+
+    /**
+     * 요청 체인에서 이미 생성된 Wrapper를 찾습니다.
+     *
+     * @return 없으면 null
+     */
+    public static CapturingResponseWrapper find(ServletResponse response) {
+        return WebUtils.getNativeResponse(response, CapturingResponseWrapper.class);
+    }
+
+    /**
+     * 캡처한 응답 바디입니다.
+     *
+     * @return 상한을 넘었거나 이미 원본 응답으로 내보냈으면 null
+     */
+    public CaptureBuffer getCapturedBody() {
+        flushWriter();
+        return overflowed || buffer == null ? null : buffer;
+    }
+
+    /**
+     * 버퍼링한 바디를 원본 응답으로 내보내고 버퍼를 반납합니다.
+     * 이후의 쓰기는 원본 응답으로 바로 전달됩니다.
+     */
+    public void copyBodyToResponse() throws IOException {
+        flushWriter();
+        drainBuffer();
+    }
+
+    /**
+     * 스트리밍 응답으로 전환되어 캡처하지 않았는지 여부
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    @Override
+    public void setContentType(String type) {
+        super.setContentType(type);
+        detectStreaming(type);
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        super.setHeader(name, value);
+        if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            detectStreaming(value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        super.addHeader(name, value);
+        if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)) {
+            detectStreaming(value);
+        }
+    }
+
+    /**
+     * 내보내지 않은 버퍼를 버리고 반납합니다. (예외로 응답을 다른 필터가 작성하는 경우)
+     */
+    public void release() {
+        discardBuffer();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (writer == null) {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        // 캡처 중에는 원본 응답을 커밋하지 않습니다. (copyBodyToResponse에서 한 번에 내보냄)
+        if (passThrough) {
+            flushWriter();
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        // 캡처 중에는 copyBodyToResponse에서 실제 길이로 설정합니다.
+        if (passThrough) {
+            super.setContentLength(len);
+        }
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (passThrough) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (!passThrough) {
+            buffer.reset();
+            overflowed = false;
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (!passThrough) {
+            buffer.reset();
+            overflowed = false;
+        }
+        super.reset();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        discardBuffer();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        discardBuffer();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        discardBuffer();
+        super.sendRedirect(location);
+    }
+
+    /**
+     * 컨테이너가 응답을 직접 작성하는 경우 버퍼를 버리고 이후 쓰기를 원본으로 전달합니다.
+     */
+    private void discardBuffer() {
+        if (!passThrough) {
+            passThrough = true;
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+    /**
+     * 스트리밍 타입이면 지금까지의 버퍼를 내보내고 이후 쓰기를 원본 응답으로 전달합니다.
+     */
+    private void detectStreaming(String contentType) {
+        if (passThrough || contentType == null || !isStreamingType(contentType)) {
+            return;
+        }
+        streaming = true;
+        overflowed = true;
+        try {
+            flushWriter();
+            drainBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isStreamingType(String contentType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            for (MediaType streamingType : STREAMING_TYPES) {
+                if (streamingType.includes(mediaType)) {
+                    return true;
+                }
+            }
+        } catch (IllegalArgumentException ignored) {
+            // 잘못된 Content-Type은 일반 응답으로 취급
+        }
+        return false;
+    }
+
+    private void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 상한 초과 시 지금까지 버퍼링한 바디를 내보내고 원본 응답으로 전환합니다.
+     */
+    private void overflow() throws IOException {
+        overflowed = true;
+        drainBuffer();
+    }
+
+    private void drainBuffer() throws IOException {
+        if (passThrough) {
+            return;
+        }
+        passThrough = true;
+
+        HttpServletResponse response = (HttpServletResponse) getResponse();
+        if (buffer.length() > 0) {
+            // 상한 초과로 중간에 내보내는 경우 전체 길이를 알 수 없음
+            if (!overflowed && !response.isCommitted()) {
+                response.setContentLength(buffer.length());
+            }
+            buffer.writeTo(response.getOutputStream());
+        }
+        buffer.release();
+        buffer = null;
+    }
+
+    private class CapturingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            if (passThrough) {
+                getResponse().getOutputStream().write(b);
+            } else if (!buffer.write(b)) {
+                overflow();
+                getResponse().getOutputStream().write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (passThrough) {
+                getResponse().getOutputStream().write(b, off, len);
+            } else if (!buffer.write(b, off, len)) {
+                overflow();
+                getResponse().getOutputStream().write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (passThrough) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+
+        /**
+         * 비동기(논블로킹) 쓰기 가능 여부는 원본 스트림을 따릅니다.
+         */
+        @Override
+        public boolean isReady() {
+            return originalOutputStream().isReady();
+        }
+
+        /**
+         * WriteListener는 원본 스트림에 등록합니다. (컨테이너가 원본 스트림 기준으로 onWritePossible을 호출)
+         */
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            originalOutputStream().setWriteListener(writeListener);
+        }
+
+        private ServletOutputStream originalOutputStream() {
+            try {
+                return getResponse().getOutputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+}
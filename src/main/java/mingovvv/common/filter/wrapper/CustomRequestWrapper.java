@@ -3,39 +3,113 @@ package mingovvv.common.filter.wrapper;
 
 import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
-import lombok.Getter;
 import org.springframework.http.MediaType;
-import org.springframework.util.StreamUtils;
+import org.springframework.web.util.WebUtils;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+/**
+ * 요청 바디를 한 번만 버퍼링해 여러 필터와 컨트롤러가 함께 읽도록 하는 Wrapper입니다.
+ * <p>
+ * 바디는 처음 필요해질 때(getCapturedBody 또는 getInputStream) 풀링된 버퍼로 한 번 읽습니다.
+ * CaptureBuffer.MAX_CAPTURE_BYTES를 넘는 바디는 캡처하지 않고, 읽은 앞부분과 나머지 스트림을 이어서 그대로 전달합니다.
+ * 가장 바깥에서 생성한 필터가 요청 종료 시 release()를 호출해야 합니다.
+ */
 public class CustomRequestWrapper extends HttpServletRequestWrapper {
 
-    @Getter
-    private final byte[] body;
+    private CaptureBuffer buffer;
+    private boolean captured;
+    private boolean overflowed;
+    private InputStream remaining;
 
-    public CustomRequestWrapper(HttpServletRequest request) throws IOException {
+    public CustomRequestWrapper(HttpServletRequest request) {
         super(request);
+    }
+
+    /**
+     * 요청 체인에서 이미 생성된 Wrapper를 찾습니다.
+     *
+     * @return 없으면 null
+     */
+    public static CustomRequestWrapper find(ServletRequest request) {
+        return WebUtils.getNativeRequest(request, CustomRequestWrapper.class);
+    }
+
+    /**
+     * 캡처한 요청 바디입니다.
+     *
+     * @return 바디가 상한을 넘어 캡처하지 못했으면 null
+     */
+    public CaptureBuffer getCapturedBody() {
+        capture();
+        return overflowed ? null : buffer;
+    }
+
+    /**
+     * 바디를 문자열로 반환합니다. (로깅용, 캡처하지 못했으면 null)
+     */
+    public String getBodyAsString(int maxLength) {
+        CaptureBuffer body = getCapturedBody();
+        return body == null ? null : body.toString(StandardCharsets.UTF_8, maxLength);
+    }
+
+    /**
+     * 버퍼를 풀에 반납합니다.
+     */
+    public void release() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+
+    private void capture() {
+        if (captured) {
+            return;
+        }
+        captured = true;
+        buffer = new CaptureBuffer();
 
-        String contentType = request.getContentType();
+        String contentType = getRequest().getContentType();
 
         // 1. Form Data (application/x-www-form-urlencoded) 처리
         // 톰캣이 이미 파싱해버린 파라미터를 다시 Body 문자열로 복원해야 함
         if (contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_FORM_URLENCODED)) {
-            this.body = restoreFormBody(request);
+            byte[] form = restoreFormBody((HttpServletRequest) getRequest());
+            overflowed = !buffer.write(form, 0, form.length);
+            return;
         }
+
         // 2. JSON, Text, XML 등 일반 Body 처리
-        else {
-            this.body = StreamUtils.copyToByteArray(request.getInputStream());
+        try {
+            InputStream in = getRequest().getInputStream();
+            if (!buffer.readFrom(in)) {
+                // 상한에 도달: 정확히 상한 크기인 바디일 수 있으므로 한 바이트 더 확인
+                int next = in.read();
+                if (next != -1) {
+                    // 읽은 앞부분 + 나머지 스트림을 그대로 전달
+                    overflowed = true;
+                    remaining = new SequenceInputStream(new ByteArrayInputStream(new byte[]{(byte) next}), in);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -67,8 +141,20 @@ public class CustomRequestWrapper extends HttpServletRequestWrapper {
     }
 
     @Override
-    public ServletInputStream getInputStream() {
-        return new CachedServletInputStream(this.body);
+    public ServletInputStream getInputStream() throws IOException {
+        try {
+            capture();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new CachedServletInputStream(buffer, remaining);
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
     }
 
     /**
@@ -82,24 +168,46 @@ public class CustomRequestWrapper extends HttpServletRequestWrapper {
 
     // ==============================================================
     //  Inner Class: CachedServletInputStream
-    //  (ByteArrayInputStream을 ServletInputStream으로 감싸줌)
+    //  (캡처 버퍼 + 캡처하지 못한 나머지 스트림을 ServletInputStream으로 감싸줌)
     // ==============================================================
     private static class CachedServletInputStream extends ServletInputStream {
 
-        private final ByteArrayInputStream buffer;
+        private final byte[] bytes;
+        private final int length;
+        private final InputStream remaining;
+        private int position;
 
-        public CachedServletInputStream(byte[] contents) {
-            this.buffer = new ByteArrayInputStream(contents);
+        CachedServletInputStream(CaptureBuffer buffer, InputStream remaining) {
+            this.bytes = buffer.array();
+            this.length = buffer.length();
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position < length) {
+                return bytes[position++] & 0xFF;
+            }
+            return remaining != null ? remaining.read() : -1;
         }
 
         @Override
-        public int read() {
-            return buffer.read();
+        public int read(byte[] target, int offset, int count) throws IOException {
+            if (count == 0) {
+                return 0;
+            }
+            if (position < length) {
+                int n = Math.min(count, length - position);
+                System.arraycopy(bytes, position, target, offset, n);
+                position += n;
+                return n;
+            }
+            return remaining != null ? remaining.read(target, offset, count) : -1;
         }
 
         @Override
         public boolean isFinished() {
-            return buffer.available() == 0;
+            return position >= length && remaining == null;
         }
 
         @Override
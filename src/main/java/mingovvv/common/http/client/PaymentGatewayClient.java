@@ -0,0 +1,44 @@
+package mingovvv.common.http.client;
+
+import mingovvv.common.http.dto.PaymentGatewayCancelReq;
+import mingovvv.common.http.dto.PaymentGatewayReq;
+import mingovvv.common.http.dto.PaymentGatewayRes;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+
+/**
+ * 외부 PG(결제 대행사) 승인 API 클라이언트입니다.
+ */
+@HttpExchange("/mock/pg")
+public interface PaymentGatewayClient {
+
+    /**
+     * 결제 승인을 요청합니다. (블로킹 호출이므로 가상 스레드에서 실행합니다)
+     */
+    @PostExchange("/approve")
+    PaymentGatewayRes approve(@RequestBody PaymentGatewayReq request);
+
+    /**
+     * 결제 상태를 조회합니다. (승인 응답을 받지 못한 결제의 확정용)
+     * PG에 기록이 없으면 message가 NOT_FOUND인 응답을 반환합니다.
+     */
+    @GetExchange("/payments/{paymentId}")
+    PaymentGatewayRes inquire(@PathVariable String paymentId);
+
+    /**
+     * 결제를 취소합니다. 승인된 결제는 취소(CANCELED), 아직 기록이 없는 결제는 무효화(VOIDED)되어
+     * 이후 도착한 승인 요청도 거절됩니다.
+     */
+    @PostExchange("/cancel")
+    PaymentGatewayRes cancel(@RequestBody PaymentGatewayCancelReq request);
+
+    /**
+     * 연결 확인용 호출입니다. (오픈 전 커넥션 풀 예열에 사용합니다)
+     */
+    @GetExchange("/ping")
+    void ping();
+
+}
@@ -1,6 +1,7 @@
 package mingovvv.common.http.config;
 
 import lombok.RequiredArgsConstructor;
+import mingovvv.common.http.client.PaymentGatewayClient;
 import mingovvv.common.http.client.TestServerClient;
 import mingovvv.common.http.interceptor.RestClientLoggingInterceptor;
 import org.springframework.beans.factory.ObjectProvider;
@@ -50,4 +51,35 @@ public class RestClientConfig {
             .build(TestServerClient.class);
     }
 
+    /**
+     * PaymentGatewayClient RestClient 설정입니다.
+     * 결제 승인은 멱등하지 않으므로 재시도하지 않는 전용 Resilience4j 인스턴스(max-attempts: 1, 최초 호출만)를 사용합니다.
+     */
+    @Bean
+    public PaymentGatewayClient paymentGatewayClient(
+            @Value("${api.payment-gateway.url}") String url,
+            @Value("${api.payment-gateway.connection-timeout:1s}") Duration connectionTimeout,
+            @Value("${api.payment-gateway.read-timeout:10s}") Duration readTimeout,
+            @Value("${api.payment-gateway.api-key}") String apiKey,
+            @Value("${api.payment-gateway.resilience4j.instance-name:payment-gateway}") String resilienceInstanceName,
+            ObjectProvider<Resilience4jRestClientInterceptorFactory> interceptorFactory
+    ) {
+        List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+
+        interceptors.add(restClientLoggingInterceptor);
+
+        Resilience4jRestClientInterceptorFactory factory = interceptorFactory.getIfAvailable();
+        if (factory != null) {
+            interceptors.add(factory.create(resilienceInstanceName));
+        }
+
+        return new RestClientBuilder()
+            .url(url)
+            .headers("Authorization", "Bearer " + apiKey)
+            .connectionTimeout(connectionTimeout)
+            .readTimeout(readTimeout)
+            .requestInterceptors(interceptors.toArray(new ClientHttpRequestInterceptor[0]))
+            .build(PaymentGatewayClient.class);
+    }
+
 }
@@ -0,0 +1,4 @@
+package mingovvv.common.http.dto;
+
+public record PaymentGatewayCancelReq(String paymentId, String reason) {
+}
@@ -0,0 +1,4 @@
+package mingovvv.common.http.dto;
+
+public record PaymentGatewayReq(String paymentId, String userId, int amount) {
+}
@@ -0,0 +1,17 @@
+package mingovvv.common.http.dto;
+
+public record PaymentGatewayRes(String paymentId, boolean approved, String transactionId, String message) {
+
+    public static final String APPROVED = "APPROVED";
+    public static final String DECLINED = "DECLINED";
+    // 조회 시 PG에 해당 결제 기록이 없음 (승인 요청 미도착 또는 처리 중)
+    public static final String NOT_FOUND = "NOT_FOUND";
+    // 승인 전에 무효화됨 (이후 도착한 승인 요청은 거절)
+    public static final String VOIDED = "VOIDED";
+    // 승인 후 취소됨
+    public static final String CANCELED = "CANCELED";
+
+    public boolean isNotFound() {
+        return NOT_FOUND.equals(message);
+    }
+}
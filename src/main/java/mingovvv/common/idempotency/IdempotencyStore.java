@@ -1,27 +1,48 @@
 package mingovvv.common.idempotency;
 
 import mingovvv.common.idempotency.model.CachedResponse;
+import mingovvv.common.idempotency.model.IdempotencyRecord;
 
 import java.util.Optional;
 
 public interface IdempotencyStore {
 
     /**
-     * 주어진 키에 대한 캐시된 응답을 조회합니다.
+     * 키가 비어 있으면 IN_PROGRESS로 선점합니다. (원자적)
      *
-     * @param key 아이템포턴시 키(일반적으로 헤더 + 호출자 스코프)
-     * @return 캐시가 존재하고 만료되지 않았으면 응답 반환
+     * @param key            아이템포턴시 키
+     * @param fingerprint    요청 fingerprint
+     * @param owner          선점자 식별값 (완료/해제 시 본인 확인용)
+     * @param lockTtlSeconds 선점 유지 시간(초). 처리 중 노드가 죽어도 이 시간이 지나면 다시 처리할 수 있습니다.
+     * @return 선점에 성공하면 empty, 이미 기록이 있으면 해당 기록
      */
-    Optional<CachedResponse> get(String key);
+    Optional<IdempotencyRecord> tryClaim(String key, String fingerprint, String owner, long lockTtlSeconds);
 
     /**
-     * 동일 키가 없을 때만 응답을 저장합니다.
+     * 주어진 키에 기록된 상태를 조회합니다.
      *
      * @param key 아이템포턴시 키
-     * @param response 저장할 응답
-     * @param ttlSeconds TTL(초)
-     * @return 저장 성공 시 true, 이미 존재하면 false
+     * @return 기록이 존재하고 만료되지 않았으면 반환
      */
-    boolean putIfAbsent(String key, CachedResponse response, long ttlSeconds);
+    Optional<IdempotencyRecord> get(String key);
+
+    /**
+     * 선점한 키를 완료 상태로 바꾸고 응답을 저장합니다. 선점이 만료되어 다른 요청이 가져간 경우 무시됩니다.
+     *
+     * @param key        아이템포턴시 키
+     * @param owner      선점자 식별값
+     * @param response   저장할 응답
+     * @param ttlSeconds 응답 보관 TTL(초)
+     * @return 저장 성공 시 true
+     */
+    boolean complete(String key, String owner, CachedResponse response, long ttlSeconds);
+
+    /**
+     * 선점을 해제하여 같은 키로 다시 처리할 수 있게 합니다. (처리 실패 시)
+     *
+     * @param key   아이템포턴시 키
+     * @param owner 선점자 식별값
+     */
+    void release(String key, String owner);
 
 }
@@ -1,25 +1,39 @@
 package mingovvv.common.idempotency.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import mingovvv.common.idempotency.IdempotencyStore;
 import mingovvv.common.idempotency.filter.IdempotencyFilter;
 import mingovvv.common.idempotency.impl.InMemoryIdempotencyStore;
+import mingovvv.common.idempotency.impl.RedisIdempotencyStore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
 @Configuration
 @EnableConfigurationProperties(IdempotencyProperties.class)
 public class IdempotencyConfig {
 
+    /**
+     * store=redis인 경우 전체 노드가 선점 상태와 응답을 공유하는 Redis 구현을 사용합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "feature.idempotency", name = "store", havingValue = "redis")
+    public IdempotencyStore redisIdempotencyStore(StringRedisTemplate stringRedisTemplate) {
+        return new RedisIdempotencyStore(stringRedisTemplate);
+    }
+
     /**
      * 외부 스토어가 없을 때 사용하는 기본 인메모리 구현입니다.
+     * 항목 수/바이트 한도와 TTL로 메모리 사용량이 제한됩니다.
      */
     @Bean
     @ConditionalOnMissingBean
-    public IdempotencyStore idempotencyStore() {
-        return new InMemoryIdempotencyStore();
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        return new InMemoryIdempotencyStore(properties, meterRegistry);
     }
 
     /**
@@ -27,8 +41,8 @@ public class IdempotencyConfig {
      */
     @Bean
     @ConditionalOnProperty(prefix = "feature.idempotency", name = "enabled", havingValue = "true")
-    public IdempotencyFilter idempotencyFilter(IdempotencyProperties properties, IdempotencyStore store) {
-        return new IdempotencyFilter(properties, store);
+    public IdempotencyFilter idempotencyFilter(IdempotencyProperties properties, IdempotencyStore store, ObjectMapper objectMapper) {
+        return new IdempotencyFilter(properties, store, objectMapper);
     }
 
 }
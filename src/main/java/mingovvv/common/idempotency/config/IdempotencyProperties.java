@@ -29,6 +29,37 @@ public class IdempotencyProperties {
      */
     private Set<String> methods = Set.of("POST", "PUT");
 
+    /**
+     * 아이템포턴시 저장소입니다. (memory: 노드 로컬, redis: 전체 노드 공유)
+     */
+    private String store = "memory";
+
+    /**
+     * 처리 중(IN_PROGRESS) 선점 유지 시간(초)입니다. 가장 느린 처리 시간보다 길게 잡습니다.
+     * 처리 중 노드가 죽으면 이 시간이 지난 뒤 같은 키로 다시 처리할 수 있습니다.
+     */
+    private long lockTtlSeconds = 30;
+
+    /**
+     * memory 저장소의 최대 항목 수입니다.
+     */
+    private long maxEntries = 100_000;
+
+    /**
+     * memory 저장소의 최대 바이트 수입니다. (응답 바디 + 항목당 부가 크기)
+     */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /**
+     * memory 저장소의 응답 바디 압축 여부입니다.
+     */
+    private boolean compressionEnabled = true;
+
+    /**
+     * 이 크기(바이트) 이상의 응답 바디만 압축합니다.
+     */
+    private int compressionThresholdBytes = 1024;
+
     /**
      * 아이템포턴시 사용 여부를 설정합니다.
      */
@@ -57,4 +88,46 @@ public class IdempotencyProperties {
         this.methods = methods;
     }
 
+    /**
+     * 아이템포턴시 저장소를 설정합니다.
+     */
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    /**
+     * 처리 중 선점 유지 시간(초)을 설정합니다.
+     */
+    public void setLockTtlSeconds(long lockTtlSeconds) {
+        this.lockTtlSeconds = lockTtlSeconds;
+    }
+
+    /**
+     * memory 저장소의 최대 항목 수를 설정합니다.
+     */
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * memory 저장소의 최대 바이트 수를 설정합니다.
+     */
+    public void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 응답 바디 압축 여부를 설정합니다.
+     */
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    /**
+     * 압축 대상 최소 바디 크기(바이트)를 설정합니다.
+     */
+    public void setCompressionThresholdBytes(int compressionThresholdBytes) {
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
 }
@@ -1,32 +1,64 @@
 package mingovvv.common.idempotency.filter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.constants.ResultCode;
+import mingovvv.common.filter.wrapper.CaptureBuffer;
+import mingovvv.common.filter.wrapper.CapturingResponseWrapper;
+import mingovvv.common.filter.wrapper.CustomRequestWrapper;
 import mingovvv.common.idempotency.IdempotencyStore;
 import mingovvv.common.idempotency.config.IdempotencyProperties;
 import mingovvv.common.idempotency.model.CachedResponse;
+import mingovvv.common.idempotency.model.IdempotencyRecord;
+import mingovvv.common.model.BaseResponse;
+import mingovvv.common.model.BaseResponseFactory;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Optional;
+import java.util.UUID;
 
-@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+/**
+ * 아이템포턴시 키가 같은 요청을 한 번만 실행하는 필터입니다.
+ * <p>
+ * 체인 실행 전에 키를 IN_PROGRESS로 원자적으로 선점하므로 동시에 들어온 재시도는 실행되지 않습니다.
+ * <ul>
+ *     <li>처리 완료된 키: 저장된 응답을 그대로 재응답 (Idempotent-Replayed: true)</li>
+ *     <li>처리 중인 키: 기다리지 않고 바로 409 + Retry-After (요청 스레드를 잡아 두지 않음)</li>
+ *     <li>같은 키에 다른 요청(메서드/URI/바디): 422</li>
+ *     <li>2xx가 아닌 응답/예외: 선점을 해제하여 같은 키로 다시 시도할 수 있음</li>
+ * </ul>
+ * <p>
+ * 실행 순서: HIGHEST_PRECEDENCE + 5 (LoadShedFilter 다음에 실행)
+ * 처리율 제한/부하 차단으로 거절될 요청은 키를 선점하거나 저장소를 조회하지 않습니다.
+ */
+@Slf4j
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
 @RequiredArgsConstructor
 public class IdempotencyFilter extends OncePerRequestFilter {
 
+    private static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final IdempotencyProperties properties;
     private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
 
     /**
-     * 동일 아이템포턴시 키 요청에 대해 캐시된 응답을 재사용합니다.
+     * 동일 아이템포턴시 키 요청에 대해 한 번만 실행하고 응답을 재사용합니다.
      * 설정된 HTTP 메서드에만 적용됩니다.
      */
     @Override
@@ -45,26 +77,155 @@ public class IdempotencyFilter extends OncePerRequestFilter {
             return;
         }
 
-        Optional<CachedResponse> cached = store.get(key);
-        if (cached.isPresent()) {
-            writeCachedResponse(response, cached.get());
+        // 바깥 필터(AccessLogFilter)가 만든 Wrapper가 있으면 같은 버퍼를 읽고, 없을 때만 직접 만들어 반납합니다.
+        CustomRequestWrapper requestWrapper = CustomRequestWrapper.find(request);
+        CapturingResponseWrapper responseWrapper = CapturingResponseWrapper.find(response);
+        boolean ownsRequest = requestWrapper == null;
+        boolean ownsResponse = responseWrapper == null;
+        if (ownsRequest) {
+            requestWrapper = new CustomRequestWrapper(request);
+        }
+        if (ownsResponse) {
+            responseWrapper = new CapturingResponseWrapper(response);
+        }
+
+        try {
+            process(
+                    key,
+                    ownsRequest ? requestWrapper : request, requestWrapper,
+                    ownsResponse ? responseWrapper : response, responseWrapper,
+                    filterChain
+            );
+            if (ownsResponse) {
+                responseWrapper.copyBodyToResponse();
+            }
+        } finally {
+            if (ownsResponse) {
+                responseWrapper.release();
+            }
+            if (ownsRequest) {
+                requestWrapper.release();
+            }
+        }
+    }
+
+    /**
+     * 키를 선점하고 체인을 실행하거나, 기존 기록으로 응답합니다.
+     */
+    private void process(
+            String key,
+            HttpServletRequest request, CustomRequestWrapper requestCapture,
+            HttpServletResponse response, CapturingResponseWrapper responseCapture,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        CaptureBuffer requestBody = requestCapture.getCapturedBody();
+        if (requestBody == null) {
+            // 캡처 상한을 넘는 바디는 fingerprint를 만들 수 없으므로 아이템포턴시 없이 처리합니다.
+            log.warn("Request body too large for idempotency, processing without idempotency: key={}", key);
+            filterChain.doFilter(request, response);
             return;
         }
+        String fingerprint = fingerprint(request, requestBody);
+        String owner = UUID.randomUUID().toString();
 
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
-        filterChain.doFilter(request, responseWrapper);
+        Optional<IdempotencyRecord> existing;
+        try {
+            existing = store.tryClaim(key, fingerprint, owner, properties.getLockTtlSeconds());
+        } catch (RuntimeException e) {
+            // 저장소 장애 시 아이템포턴시 없이 처리합니다. (가용성 우선)
+            log.warn("Idempotency store unavailable, processing without idempotency: key={}, error={}", key, e.toString());
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        int status = responseWrapper.getStatus();
-        if (HttpStatus.valueOf(status).is2xxSuccessful()) {
-            CachedResponse responseBody = new CachedResponse(
-                    status,
-                    responseWrapper.getContentType(),
-                    responseWrapper.getContentAsByteArray()
-            );
-            store.putIfAbsent(key, responseBody, properties.getTtlSeconds());
+        if (existing.isPresent()) {
+            handleExisting(fingerprint, existing.get(), response);
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+
+            int status = responseCapture.getStatus();
+            CaptureBuffer responseBody = responseCapture.getCapturedBody();
+            if (HttpStatus.valueOf(status).is2xxSuccessful() && responseBody != null) {
+                // 요청 이후에도 보관해야 하므로 저장용 복사본은 여기서 한 번만 만듭니다.
+                CachedResponse cachedResponse = new CachedResponse(
+                        status,
+                        responseCapture.getContentType(),
+                        responseBody.toByteArray()
+                );
+                completed = completeQuietly(key, owner, cachedResponse);
+            }
+        } finally {
+            if (!completed) {
+                releaseQuietly(key, owner);
+            }
+        }
+    }
+
+    /**
+     * 이미 기록이 있는 키: fingerprint 확인 후 재응답하거나, 처리 중이면 409로 응답합니다.
+     */
+    private void handleExisting(String fingerprint, IdempotencyRecord record, HttpServletResponse response)
+            throws IOException {
+
+        if (!record.matches(fingerprint)) {
+            writeErrorResponse(response, ResultCode.Error.REQ_IDEMPOTENCY_KEY_REUSED);
+            return;
+        }
+
+        if (record.isCompleted()) {
+            writeCachedResponse(response, record.response());
+            return;
         }
 
-        responseWrapper.copyBodyToResponse();
+        response.setHeader("Retry-After", "1");
+        writeErrorResponse(response, ResultCode.Error.REQ_IDEMPOTENCY_IN_PROGRESS);
+    }
+
+    private boolean completeQuietly(String key, String owner, CachedResponse responseBody) {
+        try {
+            boolean completed = store.complete(key, owner, responseBody, properties.getTtlSeconds());
+            if (!completed) {
+                log.warn("Idempotency claim expired before completion: key={}", key);
+            }
+            return completed;
+        } catch (RuntimeException e) {
+            log.warn("Failed to store idempotent response: key={}, error={}", key, e.toString());
+            return false;
+        }
+    }
+
+    private void releaseQuietly(String key, String owner) {
+        try {
+            store.release(key, owner);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release idempotency claim: key={}, error={}", key, e.toString());
+        }
+    }
+
+    /**
+     * 메서드 + URI + 쿼리 + 바디의 SHA-256
+     */
+    private String fingerprint(HttpServletRequest request, CaptureBuffer body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body.asReadOnlyBuffer());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
@@ -72,10 +233,22 @@ public class IdempotencyFilter extends OncePerRequestFilter {
      */
     private void writeCachedResponse(HttpServletResponse response, CachedResponse cached) throws IOException {
         response.setStatus(cached.status());
+        response.setHeader(REPLAYED_HEADER, "true");
         if (cached.contentType() != null) {
             response.setContentType(cached.contentType());
         }
         response.getOutputStream().write(cached.body());
     }
 
+    /**
+     * 표준 에러 응답을 내려줍니다.
+     */
+    private void writeErrorResponse(HttpServletResponse response, ResultCode.Error error) throws IOException {
+        BaseResponse<Void> errorResponse = BaseResponseFactory.create(error);
+        response.setStatus(error.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
 }
@@ -1,43 +1,258 @@
 package mingovvv.common.idempotency.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import mingovvv.common.idempotency.IdempotencyStore;
+import mingovvv.common.idempotency.config.IdempotencyProperties;
 import mingovvv.common.idempotency.model.CachedResponse;
-import java.time.Instant;
-import java.util.Map;
+import mingovvv.common.idempotency.model.IdempotencyRecord;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+/**
+ * 노드 로컬 아이템포턴시 저장소입니다. (단일 노드/개발용)
+ * <p>
+ * Caffeine(W-TinyLFU)으로 항목 수와 바이트 양을 모두 제한합니다.
+ * 항목의 가중치를 max(실제 바이트, maxBytes / maxEntries)로 잡아 maximumWeight 하나로 두 한도를 함께 지킵니다.
+ * 처리 중(IN_PROGRESS) 선점은 가중치 0으로 두어 크기 제한으로 제거되지 않게 합니다. (제거되면 같은 키의 재시도가 중복 실행됨)
+ * 선점은 lockTtlSeconds 후 만료되므로 선점 수는 처리 중인 요청 수로 제한되고, 크기 제한은 완료 응답에만 적용됩니다.
+ * 조회 결과(hit/in_progress/miss)는 요청당 한 번, 선점 시점에만 집계합니다. (대기 중 폴링은 집계하지 않음)
+ * 항목별 TTL(선점은 lockTtlSeconds, 완료는 ttlSeconds)이 지나면 읽기와 관계없이 타이머로 제거됩니다.
+ * 일정 크기 이상의 응답 바디는 GZIP으로 압축해 보관합니다.
+ */
 public class InMemoryIdempotencyStore implements IdempotencyStore {
 
-    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    // 키, fingerprint, 객체 헤더 등 바디 외 항목당 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<String, Entry> cache;
+    private final boolean compressionEnabled;
+    private final int compressionThresholdBytes;
+
+    private final Counter hits;
+    private final Counter inProgressHits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.compressionEnabled = properties.isCompressionEnabled();
+        this.compressionThresholdBytes = properties.getCompressionThresholdBytes();
+
+        long maxBytes = Math.max(1, properties.getMaxBytes());
+        long maxEntries = Math.max(1, properties.getMaxEntries());
+        int minWeight = (int) Math.min(Integer.MAX_VALUE, Math.max(1, maxBytes / maxEntries));
+
+        this.hits = meterRegistry.counter("idempotency.store.requests", "result", "hit");
+        this.inProgressHits = meterRegistry.counter("idempotency.store.requests", "result", "in_progress");
+        this.misses = meterRegistry.counter("idempotency.store.requests", "result", "miss");
+        this.sizeEvictions = meterRegistry.counter("idempotency.store.evictions", "cause", "size");
+        this.expirations = meterRegistry.counter("idempotency.store.evictions", "cause", "expired");
+
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, Entry entry) -> entry.completed ? Math.max(minWeight, entry.weight(key)) : 0)
+            .expireAfter(new EntryExpiry())
+            .scheduler(Scheduler.systemScheduler())
+            .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                if (cause == RemovalCause.SIZE) {
+                    sizeEvictions.increment();
+                } else if (cause == RemovalCause.EXPIRED) {
+                    expirations.increment();
+                }
+            })
+            .build();
+
+        Gauge.builder("idempotency.store.entries", cache, Cache::estimatedSize).register(meterRegistry);
+        Gauge.builder("idempotency.store.bytes", cache, c -> c.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L))
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
 
     /**
-     * 캐시가 존재하고 만료되지 않았으면 응답을 반환합니다.
+     * 키가 없거나 만료되었으면 IN_PROGRESS로 선점합니다.
      */
     @Override
-    public Optional<CachedResponse> get(String key) {
-        Entry entry = cache.get(key);
-        if (entry == null) {
+    public Optional<IdempotencyRecord> tryClaim(String key, String fingerprint, String owner, long lockTtlSeconds) {
+        Entry claim = Entry.inProgress(fingerprint, owner, lockTtlSeconds);
+        Entry existing = cache.asMap().putIfAbsent(key, claim);
+        if (existing == null) {
+            misses.increment();
             return Optional.empty();
         }
-        if (entry.expiresAtEpochSeconds < Instant.now().getEpochSecond()) {
-            cache.remove(key);
-            return Optional.empty();
-        }
-        return Optional.of(entry.response);
+        (existing.completed ? hits : inProgressHits).increment();
+        return Optional.of(toRecord(existing));
+    }
+
+    /**
+     * 기록이 존재하고 만료되지 않았으면 반환합니다.
+     */
+    @Override
+    public Optional<IdempotencyRecord> get(String key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry == null ? Optional.empty() : Optional.of(toRecord(entry));
     }
 
     /**
-     * 동일 키가 없을 때만 응답을 저장합니다.
+     * 본인이 선점한 키만 완료 처리합니다.
      */
     @Override
-    public boolean putIfAbsent(String key, CachedResponse response, long ttlSeconds) {
-        long expiresAt = Instant.now().getEpochSecond() + ttlSeconds;
-        Entry entry = new Entry(response, expiresAt);
-        return cache.putIfAbsent(key, entry) == null;
+    public boolean complete(String key, String owner, CachedResponse response, long ttlSeconds) {
+        Entry completed = compress(response, ttlSeconds);
+        Entry updated = cache.asMap().computeIfPresent(key, (k, existing) -> existing.isClaimedBy(owner)
+            ? completed.withClaim(existing.fingerprint, owner)
+            : existing
+        );
+        return updated != null && updated.completed && updated.isOwnedBy(owner);
+    }
+
+    /**
+     * 본인이 선점한 키만 해제합니다.
+     */
+    @Override
+    public void release(String key, String owner) {
+        cache.asMap().computeIfPresent(key, (k, existing) -> existing.isClaimedBy(owner) ? null : existing);
+    }
+
+    /**
+     * 보관 중인 항목 수입니다.
+     */
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private IdempotencyRecord toRecord(Entry entry) {
+        if (!entry.completed) {
+            return IdempotencyRecord.inProgress(entry.fingerprint);
+        }
+        byte[] body = entry.compressed ? gunzip(entry.body) : entry.body;
+        return IdempotencyRecord.completed(entry.fingerprint, new CachedResponse(entry.status, entry.contentType, body));
+    }
+
+    private Entry compress(CachedResponse response, long ttlSeconds) {
+        byte[] body = response.body();
+        boolean compressed = false;
+        if (compressionEnabled && body.length >= compressionThresholdBytes) {
+            byte[] gzipped = gzip(body);
+            // 이미 압축된 바디 등 이득이 없으면 원본 보관
+            if (gzipped.length < body.length) {
+                body = gzipped;
+                compressed = true;
+            }
+        }
+        return Entry.completed(response.status(), response.contentType(), body, compressed, ttlSeconds);
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 16);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
     }
 
-    private record Entry(CachedResponse response, long expiresAtEpochSeconds) {
+    private static byte[] gunzip(byte[] body) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 보관 항목 (완료 시 압축된 바디 포함)
+     */
+    private static final class Entry {
+
+        private final boolean completed;
+        private final String fingerprint;
+        private final String owner;
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+        private final boolean compressed;
+        private final long expiresAtNanos;
+
+        private Entry(boolean completed, String fingerprint, String owner, int status, String contentType,
+                      byte[] body, boolean compressed, long expiresAtNanos) {
+            this.completed = completed;
+            this.fingerprint = fingerprint;
+            this.owner = owner;
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+            this.compressed = compressed;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        static Entry inProgress(String fingerprint, String owner, long ttlSeconds) {
+            return new Entry(false, fingerprint, owner, 0, null, null, false, deadline(ttlSeconds));
+        }
+
+        static Entry completed(int status, String contentType, byte[] body, boolean compressed, long ttlSeconds) {
+            return new Entry(true, null, null, status, contentType, body, compressed, deadline(ttlSeconds));
+        }
+
+        Entry withClaim(String fingerprint, String owner) {
+            return new Entry(completed, fingerprint, owner, status, contentType, body, compressed, expiresAtNanos);
+        }
+
+        // Caffeine 기본 Ticker(System.nanoTime) 기준 만료 시각
+        private static long deadline(long ttlSeconds) {
+            return System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds));
+        }
+
+        boolean isOwnedBy(String owner) {
+            return owner.equals(this.owner);
+        }
+
+        boolean isClaimedBy(String owner) {
+            return !completed && isOwnedBy(owner);
+        }
+
+        int weight(String key) {
+            long bytes = ENTRY_OVERHEAD_BYTES + key.length() * 2L + (body == null ? 0 : body.length);
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+    }
+
+    /**
+     * 항목별 만료 시각: 같은 항목을 다시 써도(computeIfPresent 등) 만료 시각이 늘어나지 않음
+     */
+    private static final class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return Math.max(0, entry.expiresAtNanos - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return Math.max(0, entry.expiresAtNanos - currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 
 }
@@ -0,0 +1,126 @@
+package mingovvv.common.idempotency.impl;
+
+import mingovvv.common.idempotency.IdempotencyStore;
+import mingovvv.common.idempotency.model.CachedResponse;
+import mingovvv.common.idempotency.model.IdempotencyRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 기반 아이템포턴시 저장소입니다.
+ * <p>
+ * Key: idempotency:{key} (Hash)
+ * Fields: state, fp(fingerprint), owner, status, ct(Content-Type), body(Base64)
+ * <p>
+ * 선점/완료/해제를 Lua 스크립트로 원자적으로 처리하므로, 같은 키의 요청이 여러 노드에 동시에 도착해도 하나만 실행되고
+ * 저장된 응답은 모든 노드에서 재사용됩니다.
+ */
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private static final String FIELD_STATE = "state";
+    private static final String FIELD_FINGERPRINT = "fp";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_CONTENT_TYPE = "ct";
+    private static final String FIELD_BODY = "body";
+    private static final List<Object> RECORD_FIELDS =
+        List.of(FIELD_STATE, FIELD_FINGERPRINT, FIELD_STATUS, FIELD_CONTENT_TYPE, FIELD_BODY);
+
+    // 기록이 있으면 {state, fp, status, ct, body}, 없으면 선점 후 빈 배열
+    private static final DefaultRedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+        local existing = redis.call('HMGET', KEYS[1], 'state', 'fp', 'status', 'ct', 'body')
+        if existing[1] then
+            return existing
+        end
+        redis.call('HSET', KEYS[1], 'state', 'IN_PROGRESS', 'fp', ARGV[1], 'owner', ARGV[2])
+        redis.call('EXPIRE', KEYS[1], ARGV[3])
+        return {}
+        """, List.class);
+
+    private static final DefaultRedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+            return 0
+        end
+        redis.call('HSET', KEYS[1], 'state', 'COMPLETED', 'status', ARGV[2], 'ct', ARGV[3], 'body', ARGV[4])
+        redis.call('EXPIRE', KEYS[1], ARGV[5])
+        return 1
+        """, Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        local fields = redis.call('HMGET', KEYS[1], 'owner', 'state')
+        if fields[1] == ARGV[1] and fields[2] == 'IN_PROGRESS' then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RedisIdempotencyStore(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<IdempotencyRecord> tryClaim(String key, String fingerprint, String owner, long lockTtlSeconds) {
+        List<String> existing = stringRedisTemplate.execute(
+            CLAIM_SCRIPT,
+            List.of(KEY_PREFIX + key),
+            fingerprint,
+            owner,
+            String.valueOf(Math.max(1, lockTtlSeconds))
+        );
+        return toRecord(existing);
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> get(String key) {
+        List<Object> fields = stringRedisTemplate.opsForHash().multiGet(KEY_PREFIX + key, RECORD_FIELDS);
+        return toRecord(fields);
+    }
+
+    @Override
+    public boolean complete(String key, String owner, CachedResponse response, long ttlSeconds) {
+        Long updated = stringRedisTemplate.execute(
+            COMPLETE_SCRIPT,
+            List.of(KEY_PREFIX + key),
+            owner,
+            String.valueOf(response.status()),
+            response.contentType() != null ? response.contentType() : "",
+            Base64.getEncoder().encodeToString(response.body()),
+            String.valueOf(Math.max(1, ttlSeconds))
+        );
+        return updated != null && updated == 1L;
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), owner);
+    }
+
+    private Optional<IdempotencyRecord> toRecord(List<?> fields) {
+        if (fields == null || fields.isEmpty() || fields.get(0) == null) {
+            return Optional.empty();
+        }
+        IdempotencyRecord.State state = IdempotencyRecord.State.valueOf((String) fields.get(0));
+        String fingerprint = (String) fields.get(1);
+        if (state != IdempotencyRecord.State.COMPLETED) {
+            return Optional.of(IdempotencyRecord.inProgress(fingerprint));
+        }
+
+        String contentType = (String) fields.get(3);
+        String body = (String) fields.get(4);
+        CachedResponse response = new CachedResponse(
+            Integer.parseInt((String) fields.get(2)),
+            contentType == null || contentType.isEmpty() ? null : contentType,
+            body == null ? new byte[0] : Base64.getDecoder().decode(body)
+        );
+        return Optional.of(IdempotencyRecord.completed(fingerprint, response));
+    }
+
+}
@@ -0,0 +1,44 @@
+package mingovvv.common.idempotency.model;
+
+/**
+ * 아이템포턴시 키에 기록된 상태입니다.
+ *
+ * @param state       처리 상태
+ * @param fingerprint 최초 요청의 fingerprint (메서드 + URI + 바디 해시)
+ * @param response    처리 완료 시 저장된 응답 (IN_PROGRESS면 null)
+ */
+public record IdempotencyRecord(
+    State state,
+    String fingerprint,
+    CachedResponse response
+) {
+
+    public enum State {
+        /**
+         * 다른 요청이 처리 중
+         */
+        IN_PROGRESS,
+
+        /**
+         * 처리 완료 (응답 재사용)
+         */
+        COMPLETED
+    }
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(State.IN_PROGRESS, fingerprint, null);
+    }
+
+    public static IdempotencyRecord completed(String fingerprint, CachedResponse response) {
+        return new IdempotencyRecord(State.COMPLETED, fingerprint, response);
+    }
+
+    public boolean isCompleted() {
+        return state == State.COMPLETED;
+    }
+
+    public boolean matches(String fingerprint) {
+        return this.fingerprint == null || this.fingerprint.equals(fingerprint);
+    }
+
+}
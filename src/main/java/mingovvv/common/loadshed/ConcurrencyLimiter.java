@@ -0,0 +1,35 @@
+package mingovvv.common.loadshed;
+
+public interface ConcurrencyLimiter {
+
+    /**
+     * 처리 중인 요청 수가 현재 한도보다 작으면 1건을 점유합니다.
+     *
+     * @return 점유 후 처리 중인 요청 수, 한도 초과 시 -1
+     */
+    int tryAcquire();
+
+    /**
+     * 점유를 반납하고 처리 시간을 한도 계산에 반영합니다.
+     *
+     * @param rttNanos        처리 시간(나노초)
+     * @param inflightAtStart 점유 시점의 처리 중인 요청 수
+     */
+    void onComplete(long rttNanos, int inflightAtStart);
+
+    /**
+     * 처리 시간을 반영하지 않고 점유만 반납합니다. (비동기 요청 등)
+     */
+    void release();
+
+    /**
+     * 현재 동시 처리 한도입니다.
+     */
+    int getLimit();
+
+    /**
+     * 현재 처리 중인 요청 수입니다.
+     */
+    int getInflight();
+
+}
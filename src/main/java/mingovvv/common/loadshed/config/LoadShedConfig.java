@@ -0,0 +1,78 @@
+package mingovvv.common.loadshed.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import mingovvv.common.loadshed.ConcurrencyLimiter;
+import mingovvv.common.loadshed.filter.LoadShedFilter;
+import mingovvv.common.loadshed.impl.GradientConcurrencyLimiter;
+import mingovvv.common.loadshed.model.EndpointClass;
+import mingovvv.common.loadshed.model.LoadShedPriority;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Configuration
+@EnableConfigurationProperties(LoadShedProperties.class)
+public class LoadShedConfig {
+
+    private static final String DEFAULT_CLASS = "default";
+
+    /**
+     * enabled=true인 경우에만 부하 차단 필터를 등록합니다.
+     * 엔드포인트 클래스의 경로 패턴은 기동 시 한 번 컴파일합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "feature.load-shed", name = "enabled", havingValue = "true")
+    public LoadShedFilter loadShedFilter(LoadShedProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        List<EndpointClass> classes = new ArrayList<>();
+        for (LoadShedProperties.EndpointClassProperties endpointClass : properties.getClasses()) {
+            classes.add(compile(endpointClass, properties));
+        }
+        EndpointClass defaultClass = new EndpointClass(
+            DEFAULT_CLASS, List.of(), Set.of(), properties.getDefaultPriority(), new GradientConcurrencyLimiter(properties)
+        );
+
+        Map<EndpointClass, Counter> rejections = new IdentityHashMap<>();
+        List<EndpointClass> all = new ArrayList<>(classes);
+        all.add(defaultClass);
+        for (EndpointClass endpointClass : all) {
+            ConcurrencyLimiter limiter = endpointClass.limiter();
+            Gauge.builder("load_shed.limit", limiter, ConcurrencyLimiter::getLimit)
+                .tag("class", endpointClass.name())
+                .register(meterRegistry);
+            Gauge.builder("load_shed.inflight", limiter, ConcurrencyLimiter::getInflight)
+                .tag("class", endpointClass.name())
+                .register(meterRegistry);
+            rejections.put(endpointClass, meterRegistry.counter("load_shed.rejected", "class", endpointClass.name()));
+        }
+
+        return new LoadShedFilter(properties, List.copyOf(classes), defaultClass, rejections, objectMapper);
+    }
+
+    private static EndpointClass compile(LoadShedProperties.EndpointClassProperties endpointClass, LoadShedProperties properties) {
+        if (endpointClass.getName() == null || DEFAULT_CLASS.equals(endpointClass.getName())) {
+            throw new IllegalStateException("Load shed class requires a name other than 'default'");
+        }
+        List<PathPattern> patterns = endpointClass.getPaths().stream()
+            .map(PathPatternParser.defaultInstance::parse)
+            .toList();
+        Set<String> methods = Set.copyOf(endpointClass.getMethods().stream()
+            .map(method -> method.trim().toUpperCase(Locale.ROOT))
+            .toList());
+        LoadShedPriority priority = endpointClass.getPriority() != null ? endpointClass.getPriority() : LoadShedPriority.NORMAL;
+        return new EndpointClass(endpointClass.getName(), patterns, methods, priority, new GradientConcurrencyLimiter(properties));
+    }
+
+}
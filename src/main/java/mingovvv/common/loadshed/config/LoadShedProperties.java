@@ -0,0 +1,198 @@
+package mingovvv.common.loadshed.config;
+
+import lombok.Getter;
+import mingovvv.common.loadshed.model.LoadShedPriority;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@ConfigurationProperties(prefix = "feature.load-shed")
+public class LoadShedProperties {
+
+    /**
+     * 부하 차단 필터 on/off 스위치입니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 엔드포인트 클래스별 초기 동시 처리 한도입니다.
+     */
+    private int initialLimit = 50;
+
+    /**
+     * 동시 처리 한도 하한입니다. 지연이 아무리 늘어도 이만큼은 처리합니다.
+     */
+    private int minLimit = 10;
+
+    /**
+     * 동시 처리 한도 상한입니다. Tomcat 스레드 수보다 작게 잡습니다.
+     */
+    private int maxLimit = 180;
+
+    /**
+     * 허용하는 지연 증가 배율입니다. 최근 지연이 기준 지연 × tolerance를 넘으면 한도를 줄입니다.
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * 한도 변경 반영 비율(0 ~ 1)입니다. 클수록 빠르게 반응합니다.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * 한도를 다시 계산하는 구간의 요청 수입니다.
+     */
+    private int windowSamples = 20;
+
+    /**
+     * 상위 우선순위 클래스의 사용률(처리 중 / 한도)이 이 값 이상이면 하위 우선순위 요청을 거절합니다.
+     */
+    private double yieldUtilization = 0.8;
+
+    /**
+     * 거절 응답의 Retry-After(초)입니다.
+     */
+    private int retryAfterSeconds = 1;
+
+    /**
+     * 매칭되는 클래스가 없는 요청의 우선순위입니다.
+     */
+    private LoadShedPriority defaultPriority = LoadShedPriority.NORMAL;
+
+    /**
+     * 엔드포인트 클래스입니다. 선언 순서대로 매칭하며 처음 매칭된 클래스를 사용합니다.
+     */
+    private List<EndpointClassProperties> classes = new ArrayList<>();
+
+    /**
+     * 부하 차단 사용 여부를 설정합니다.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 초기 동시 처리 한도를 설정합니다.
+     */
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    /**
+     * 동시 처리 한도 하한을 설정합니다.
+     */
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    /**
+     * 동시 처리 한도 상한을 설정합니다.
+     */
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * 허용 지연 증가 배율을 설정합니다.
+     */
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * 한도 변경 반영 비율을 설정합니다.
+     */
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * 한도 재계산 구간의 요청 수를 설정합니다.
+     */
+    public void setWindowSamples(int windowSamples) {
+        this.windowSamples = windowSamples;
+    }
+
+    /**
+     * 하위 우선순위 양보 기준 사용률을 설정합니다.
+     */
+    public void setYieldUtilization(double yieldUtilization) {
+        this.yieldUtilization = yieldUtilization;
+    }
+
+    /**
+     * 거절 응답의 Retry-After(초)를 설정합니다.
+     */
+    public void setRetryAfterSeconds(int retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 기본 우선순위를 설정합니다.
+     */
+    public void setDefaultPriority(LoadShedPriority defaultPriority) {
+        this.defaultPriority = defaultPriority;
+    }
+
+    /**
+     * 엔드포인트 클래스를 설정합니다.
+     */
+    public void setClasses(List<EndpointClassProperties> classes) {
+        this.classes = classes;
+    }
+
+    @Getter
+    public static class EndpointClassProperties {
+
+        /**
+         * 클래스 이름입니다. (메트릭 태그)
+         */
+        private String name;
+
+        /**
+         * 경로 패턴입니다. (Spring PathPattern 문법)
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 적용 HTTP 메서드입니다. 비어 있으면 전체 메서드에 적용합니다.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * 우선순위입니다.
+         */
+        private LoadShedPriority priority = LoadShedPriority.NORMAL;
+
+        /**
+         * 클래스 이름을 설정합니다.
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 경로 패턴을 설정합니다.
+         */
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        /**
+         * 적용 HTTP 메서드를 설정합니다.
+         */
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        /**
+         * 우선순위를 설정합니다.
+         */
+        public void setPriority(LoadShedPriority priority) {
+            this.priority = priority;
+        }
+    }
+
+}
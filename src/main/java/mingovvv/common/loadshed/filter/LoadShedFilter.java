@@ -0,0 +1,141 @@
+package mingovvv.common.loadshed.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import mingovvv.common.constants.ResultCode;
+import mingovvv.common.loadshed.config.LoadShedProperties;
+import mingovvv.common.loadshed.model.EndpointClass;
+import mingovvv.common.model.BaseResponse;
+import mingovvv.common.model.BaseResponseFactory;
+import mingovvv.common.utils.RequestPathUtil;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 엔드포인트 클래스별 적응형 동시 처리 한도를 적용하는 부하 차단 필터입니다.
+ * <p>
+ * 한도를 넘는 요청은 스레드를 잡고 기다리지 않고 바로 503 + Retry-After로 거절합니다.
+ * 상위 우선순위 클래스(결제/체크아웃)의 사용률이 높으면 하위 우선순위 클래스(상태 폴링)부터 거절합니다.
+ * <p>
+ * 실행 순서: HIGHEST_PRECEDENCE + 4 (RateLimitFilter 다음에 실행)
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class LoadShedFilter extends OncePerRequestFilter {
+
+    private final LoadShedProperties properties;
+    private final List<EndpointClass> classes;
+    private final EndpointClass defaultClass;
+    private final Map<EndpointClass, List<EndpointClass>> higherPriorityClasses;
+    private final Map<EndpointClass, Counter> rejections;
+    private final ObjectMapper objectMapper;
+
+    public LoadShedFilter(
+        LoadShedProperties properties,
+        List<EndpointClass> classes,
+        EndpointClass defaultClass,
+        Map<EndpointClass, Counter> rejections,
+        ObjectMapper objectMapper
+    ) {
+        this.properties = properties;
+        this.classes = classes;
+        this.defaultClass = defaultClass;
+        this.rejections = rejections;
+        this.objectMapper = objectMapper;
+
+        List<EndpointClass> all = new ArrayList<>(classes);
+        all.add(defaultClass);
+        Map<EndpointClass, List<EndpointClass>> higher = new IdentityHashMap<>();
+        for (EndpointClass endpointClass : all) {
+            higher.put(endpointClass, all.stream()
+                .filter(other -> endpointClass.priority().yieldsTo(other.priority()))
+                .toList());
+        }
+        this.higherPriorityClasses = higher;
+    }
+
+    /**
+     * 동시 처리 한도를 점유하고, 처리 시간을 한도 계산에 반영합니다.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        EndpointClass endpointClass = resolve(request);
+
+        if (shouldYield(endpointClass)) {
+            reject(endpointClass, response);
+            return;
+        }
+        int inflight = endpointClass.limiter().tryAcquire();
+        if (inflight < 0) {
+            reject(endpointClass, response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            // SSE 등 비동기 요청은 처리 시간이 의미 없으므로 점유만 반납합니다.
+            if (completed && !request.isAsyncStarted()) {
+                endpointClass.limiter().onComplete(System.nanoTime() - startNanos, inflight);
+            } else {
+                endpointClass.limiter().release();
+            }
+        }
+    }
+
+    private EndpointClass resolve(HttpServletRequest request) {
+        if (classes.isEmpty()) {
+            return defaultClass;
+        }
+        String method = request.getMethod();
+        PathContainer path = RequestPathUtil.pathWithinApplication(request);
+        for (EndpointClass endpointClass : classes) {
+            if (endpointClass.matches(method, path)) {
+                return endpointClass;
+            }
+        }
+        return defaultClass;
+    }
+
+    private boolean shouldYield(EndpointClass endpointClass) {
+        for (EndpointClass higher : higherPriorityClasses.get(endpointClass)) {
+            if (higher.utilization() >= properties.getYieldUtilization()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 과부하 시 표준 에러 응답을 내려줍니다.
+     */
+    private void reject(EndpointClass endpointClass, HttpServletResponse response) throws IOException {
+        rejections.get(endpointClass).increment();
+
+        BaseResponse<Void> errorResponse = BaseResponseFactory.create(ResultCode.Error.SYS_OVERLOADED);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader("Retry-After", String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+
+}
@@ -0,0 +1,123 @@
+package mingovvv.common.loadshed.impl;
+
+import mingovvv.common.loadshed.ConcurrencyLimiter;
+import mingovvv.common.loadshed.config.LoadShedProperties;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기울기(gradient) 기반 적응형 동시 처리 한도입니다.
+ * <p>
+ * 장기 평균 지연(longRtt)을 기준선으로 두고, 최근 구간 평균 지연(shortRtt)이 기준선보다 늘어난 만큼 한도를 줄입니다.
+ * <pre>
+ * gradient = clamp(tolerance × longRtt / shortRtt, 0.5, 1.0)
+ * newLimit = limit × gradient + √limit
+ * </pre>
+ * 지연이 기준선 × tolerance 이내면 gradient가 1이라 √limit 만큼씩 늘어나고,
+ * Redis 지연 급증처럼 처리 시간이 늘면 한도가 곱으로 줄어 스레드가 쌓이기 전에 초과 요청을 거절합니다.
+ * 처리 중인 요청이 한도의 절반도 안 되는 구간에서는 한도를 늘리지 않습니다.
+ * <p>
+ * 점유/반납은 CAS로, 한도 재계산은 구간(windowSamples)마다 한 번 모니터 안에서 수행합니다.
+ */
+public class GradientConcurrencyLimiter implements ConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_ALPHA = 2.0 / (600 + 1);
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int windowSamples;
+
+    private volatile int limit;
+
+    // 아래 필드는 모니터 안에서만 접근
+    private double estimatedLimit;
+    private double longRttNanos;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInflight;
+
+    public GradientConcurrencyLimiter(LoadShedProperties properties) {
+        this.minLimit = Math.max(1, properties.getMinLimit());
+        this.maxLimit = Math.max(minLimit, properties.getMaxLimit());
+        this.tolerance = Math.max(1.0, properties.getTolerance());
+        this.smoothing = Math.min(1.0, Math.max(0.01, properties.getSmoothing()));
+        this.windowSamples = Math.max(1, properties.getWindowSamples());
+        this.estimatedLimit = Math.min(maxLimit, Math.max(minLimit, properties.getInitialLimit()));
+        this.limit = (int) estimatedLimit;
+    }
+
+    @Override
+    public int tryAcquire() {
+        int current;
+        while ((current = inflight.get()) < limit) {
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void onComplete(long rttNanos, int inflightAtStart) {
+        inflight.decrementAndGet();
+        if (rttNanos > 0) {
+            sample(rttNanos, inflightAtStart);
+        }
+    }
+
+    @Override
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void sample(long rttNanos, int inflightAtStart) {
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtStart);
+        if (windowCount < windowSamples) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInflight = windowMaxInflight;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInflight = 0;
+
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += LONG_RTT_ALPHA * (shortRtt - longRttNanos);
+        }
+        // 지연이 기준선보다 크게 줄었으면 기준선을 빠르게 따라 내려감 (과거 과부하 구간의 영향 제거)
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        // 부하가 낮은 구간은 한도가 충분한지 알 수 없으므로 늘리지 않음
+        if (gradient >= 1.0 && maxInflight < estimatedLimit / 2) {
+            return;
+        }
+
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+}
@@ -0,0 +1,46 @@
+package mingovvv.common.loadshed.model;
+
+import mingovvv.common.loadshed.ConcurrencyLimiter;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 동시 처리 한도를 공유하는 엔드포인트 묶음입니다.
+ *
+ * @param name     클래스 이름 (메트릭 태그)
+ * @param patterns 기동 시 컴파일한 경로 패턴 (비어 있으면 기본 클래스)
+ * @param methods  적용 HTTP 메서드 (비어 있으면 전체)
+ * @param priority 우선순위
+ * @param limiter  동시 처리 한도
+ */
+public record EndpointClass(
+    String name,
+    List<PathPattern> patterns,
+    Set<String> methods,
+    LoadShedPriority priority,
+    ConcurrencyLimiter limiter
+) {
+
+    public boolean matches(String method, PathContainer path) {
+        if (!methods.isEmpty() && !methods.contains(method)) {
+            return false;
+        }
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 처리 중인 요청 수 / 한도
+     */
+    public double utilization() {
+        return (double) limiter.getInflight() / Math.max(1, limiter.getLimit());
+    }
+
+}
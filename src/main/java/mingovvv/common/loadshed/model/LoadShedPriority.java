@@ -0,0 +1,31 @@
+package mingovvv.common.loadshed.model;
+
+/**
+ * 엔드포인트 클래스 우선순위입니다.
+ * 상위 우선순위 클래스가 한도에 가까워지면 하위 우선순위 클래스부터 거절하여 처리 용량을 양보합니다.
+ */
+public enum LoadShedPriority {
+
+    /**
+     * 결제/체크아웃 등 매출과 직결된 요청 (양보하지 않음)
+     */
+    CRITICAL,
+
+    /**
+     * 일반 요청
+     */
+    NORMAL,
+
+    /**
+     * 상태 폴링 등 재시도해도 되는 요청 (가장 먼저 거절)
+     */
+    LOW;
+
+    /**
+     * 이 우선순위가 other 에게 양보해야 하는지 여부
+     */
+    public boolean yieldsTo(LoadShedPriority other) {
+        return other.ordinal() < ordinal();
+    }
+
+}
@@ -0,0 +1,119 @@
+package mingovvv.common.mockapi;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import mingovvv.common.http.dto.PaymentGatewayCancelReq;
+import mingovvv.common.http.dto.PaymentGatewayReq;
+import mingovvv.common.http.dto.PaymentGatewayRes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@Tag(name = "Mock PG", description = "결제 게이트웨이 지연 재현용 스텁 API")
+@RestController
+@RequestMapping("/mock/pg")
+@RequiredArgsConstructor
+public class MockPaymentGatewayController {
+
+    private final MockPaymentGatewayProperties properties;
+
+    // paymentId → 처리 결과 (승인/거절/무효화/취소), 조회/취소와 중복 승인 요청에 사용
+    private final Cache<String, PaymentGatewayRes> payments = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .maximumSize(100_000)
+            .build();
+
+    /**
+     * 설정된 지연 분포만큼 대기한 뒤 성공률에 따라 승인/거절을 응답합니다.
+     * 외부 PG 응답 형식을 흉내내므로 BaseResponse로 감싸지 않습니다.
+     * 지연 동안 요청 스레드를 점유하지 않도록 비동기로 응답합니다. (자기 자신을 PG로 호출해도 서블릿 스레드가 고갈되지 않음)
+     * 이미 처리되었거나 무효화된 paymentId는 기록된 결과를 그대로 응답합니다.
+     */
+    @Operation(summary = "Mock 결제 승인")
+    @PostMapping("/approve")
+    public CompletableFuture<PaymentGatewayRes> approve(@RequestBody PaymentGatewayReq request) {
+        PaymentGatewayRes recorded = payments.getIfPresent(request.paymentId());
+        if (recorded != null) {
+            return CompletableFuture.completedFuture(recorded);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long latency = sampleLatencyMillis(random);
+        boolean approved = random.nextDouble() < properties.getSuccessRate();
+
+        // 지연 중 무효화되었으면 무효화 결과가 유지됨
+        return CompletableFuture.supplyAsync(
+                () -> payments.asMap().computeIfAbsent(request.paymentId(), paymentId -> decide(paymentId, approved)),
+                CompletableFuture.delayedExecutor(latency, TimeUnit.MILLISECONDS)
+        );
+    }
+
+    /**
+     * 결제 상태를 조회합니다. 기록이 없으면 NOT_FOUND를 응답합니다.
+     */
+    @Operation(summary = "Mock 결제 조회")
+    @GetMapping("/payments/{paymentId}")
+    public PaymentGatewayRes inquire(@PathVariable String paymentId) {
+        PaymentGatewayRes recorded = payments.getIfPresent(paymentId);
+        return recorded != null ? recorded : new PaymentGatewayRes(paymentId, false, null, PaymentGatewayRes.NOT_FOUND);
+    }
+
+    /**
+     * 결제를 취소합니다.
+     * 승인된 결제는 CANCELED, 기록이 없는 결제는 VOIDED로 기록하며 거절/취소된 결제는 그대로 응답합니다.
+     */
+    @Operation(summary = "Mock 결제 취소")
+    @PostMapping("/cancel")
+    public PaymentGatewayRes cancel(@RequestBody PaymentGatewayCancelReq request) {
+        return payments.asMap().compute(request.paymentId(), (paymentId, recorded) -> {
+            if (recorded == null) {
+                return new PaymentGatewayRes(paymentId, false, null, PaymentGatewayRes.VOIDED);
+            }
+            if (recorded.approved()) {
+                return new PaymentGatewayRes(paymentId, false, recorded.transactionId(), PaymentGatewayRes.CANCELED);
+            }
+            return recorded;
+        });
+    }
+
+    /**
+     * 지연 없이 바로 응답합니다. (커넥션 예열용)
+     */
+    @Operation(summary = "Mock PG 연결 확인")
+    @GetMapping("/ping")
+    public ResponseEntity<Void> ping() {
+        return ResponseEntity.noContent().build();
+    }
+
+    private PaymentGatewayRes decide(String paymentId, boolean approved) {
+        if (approved) {
+            String transactionId = "TX-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+            return new PaymentGatewayRes(paymentId, true, transactionId, PaymentGatewayRes.APPROVED);
+        }
+        return new PaymentGatewayRes(paymentId, false, null, PaymentGatewayRes.DECLINED);
+    }
+
+    private long sampleLatencyMillis(ThreadLocalRandom random) {
+        long min = properties.getMinLatency().toMillis();
+        long max = Math.max(min, properties.getMaxLatency().toMillis());
+        long latency = min == max ? min : random.nextLong(min, max + 1);
+        if (random.nextDouble() < properties.getSlowCallRate()) {
+            latency += properties.getSlowLatency().toMillis();
+        }
+        return latency;
+    }
+
+}
@@ -0,0 +1,76 @@
+package mingovvv.common.mockapi;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Mock PG 응답 지연/성공률 설정 프로퍼티입니다.
+ * 지연은 [min-latency, max-latency] 균등 분포이며, slow-call-rate 비율의 요청은 slow-latency만큼 추가 지연됩니다.
+ */
+@Getter
+@ConfigurationProperties(prefix = "feature.mock-pg")
+public class MockPaymentGatewayProperties {
+
+    /**
+     * 승인 성공률입니다. (0.0 ~ 1.0)
+     */
+    private double successRate = 0.8;
+
+    /**
+     * 최소 응답 지연입니다.
+     */
+    private Duration minLatency = Duration.ofMillis(100);
+
+    /**
+     * 최대 응답 지연입니다.
+     */
+    private Duration maxLatency = Duration.ofMillis(500);
+
+    /**
+     * 꼬리 지연이 발생하는 요청 비율입니다. (0.0 ~ 1.0)
+     */
+    private double slowCallRate = 0.05;
+
+    /**
+     * 꼬리 지연 요청에 추가되는 지연입니다.
+     */
+    private Duration slowLatency = Duration.ofSeconds(3);
+
+    /**
+     * 승인 성공률을 설정합니다.
+     */
+    public void setSuccessRate(double successRate) {
+        this.successRate = successRate;
+    }
+
+    /**
+     * 최소 응답 지연을 설정합니다.
+     */
+    public void setMinLatency(Duration minLatency) {
+        this.minLatency = minLatency;
+    }
+
+    /**
+     * 최대 응답 지연을 설정합니다.
+     */
+    public void setMaxLatency(Duration maxLatency) {
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * 꼬리 지연 비율을 설정합니다.
+     */
+    public void setSlowCallRate(double slowCallRate) {
+        this.slowCallRate = slowCallRate;
+    }
+
+    /**
+     * 꼬리 지연 시간을 설정합니다.
+     */
+    public void setSlowLatency(Duration slowLatency) {
+        this.slowLatency = slowLatency;
+    }
+
+}
@@ -0,0 +1,31 @@
+package mingovvv.common.oauth.config;
+
+import mingovvv.common.oauth.listener.OAuth2ClientEvictionListener;
+import mingovvv.common.oauth.repository.OAuth2ClientEvictionRedisRepository;
+import mingovvv.common.oauth.service.OAuth2TokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * OAuth 2.0 클라이언트 캐시 설정
+ */
+@Configuration
+@ConditionalOnProperty(name = "feature.db.enabled", havingValue = "true")
+public class OAuth2ClientCacheConfig {
+
+    /**
+     * 다른 노드의 클라이언트 캐시 제거(oauth2:client:evict)를 공용 리스너 컨테이너로 구독해 이 노드의 캐시에서도 제거합니다.
+     */
+    @Bean
+    public OAuth2ClientEvictionListener oauth2ClientEvictionListener(
+        RedisMessageListenerContainer container,
+        OAuth2TokenService tokenService
+    ) {
+        OAuth2ClientEvictionListener listener = new OAuth2ClientEvictionListener(tokenService);
+        container.addMessageListener(listener, new ChannelTopic(OAuth2ClientEvictionRedisRepository.CHANNEL));
+        return listener;
+    }
+}
@@ -0,0 +1,81 @@
+package mingovvv.common.oauth.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.oauth.service.OAuth2TokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * OAuth 2.0 Client 관리 API
+ * <p>
+ * 클라이언트 비활성화와 캐시 제거를 처리합니다. (ADMIN 권한 필요)
+ * 제거는 Redis Pub/Sub으로 모든 노드에 전파되어 캐시된 인증/재사용 토큰이 즉시 무효화됩니다.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/oauth/clients")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "OAuth 2.0", description = "OAuth 2.0 Token API (Client Credentials Grant)")
+@ConditionalOnProperty(name = "feature.db.enabled", havingValue = "true")
+public class OAuth2ClientAdminController {
+
+    private final OAuth2TokenService tokenService;
+
+    /**
+     * 클라이언트 비활성화
+     * POST /oauth/clients/{clientId}/disable
+     */
+    @PostMapping("/{clientId}/disable")
+    @Operation(
+            summary = "OAuth 2.0 Client 비활성화",
+            description = "클라이언트를 비활성화하고 모든 노드의 인증/토큰 캐시에서 제거합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "비활성화 성공"),
+            @ApiResponse(responseCode = "401", description = "존재하지 않는 client_id"),
+            @ApiResponse(responseCode = "403", description = "ADMIN 권한 없음")
+    })
+    public ResponseEntity<Map<String, Object>> disableClient(@PathVariable String clientId) {
+        tokenService.disableClient(clientId);
+        log.info("Client disabled by admin: {}", clientId);
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "clientId", clientId
+        ));
+    }
+
+    /**
+     * 클라이언트 캐시 제거 (Secret/Scope 변경 후 호출)
+     * POST /oauth/clients/{clientId}/evict
+     */
+    @PostMapping("/{clientId}/evict")
+    @Operation(
+            summary = "OAuth 2.0 Client 캐시 제거",
+            description = "Secret/Scope 변경 후 모든 노드의 캐시된 인증 정보와 재사용 토큰을 제거합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "제거 성공"),
+            @ApiResponse(responseCode = "403", description = "ADMIN 권한 없음")
+    })
+    public ResponseEntity<Map<String, Object>> evictClient(@PathVariable String clientId) {
+        tokenService.evictClient(clientId);
+        log.info("Client cache evicted by admin: {}", clientId);
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "clientId", clientId
+        ));
+    }
+}
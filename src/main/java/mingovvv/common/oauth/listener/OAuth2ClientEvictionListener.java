@@ -0,0 +1,40 @@
+package mingovvv.common.oauth.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.oauth.service.OAuth2TokenService;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * OAuth 2.0 클라이언트 캐시 제거 리스너
+ * <p>
+ * 채널: oauth2:client:evict
+ * 메시지: {clientId}
+ * <p>
+ * 다른 노드에서 비활성화/변경된 클라이언트를 이 노드의 인증/토큰 캐시에서 제거합니다.
+ * 자신이 발행한 메시지는 이미 제거된 상태이므로 다시 제거해도 영향이 없습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OAuth2ClientEvictionListener implements MessageListener {
+
+    private final OAuth2TokenService tokenService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String clientId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (clientId.isBlank()) {
+            return;
+        }
+
+        try {
+            tokenService.evictLocalClient(clientId);
+            log.debug("Client cache evicted by remote node: {}", clientId);
+        } catch (Exception e) {
+            log.warn("Failed to evict client cache: clientId={}, error={}", clientId, e.getMessage());
+        }
+    }
+}
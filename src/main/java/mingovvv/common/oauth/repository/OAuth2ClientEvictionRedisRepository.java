@@ -0,0 +1,37 @@
+package mingovvv.common.oauth.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * OAuth 2.0 클라이언트 캐시 제거 Redis Pub/Sub Repository
+ * <p>
+ * 채널: oauth2:client:evict
+ * 메시지: {clientId}
+ * <p>
+ * 한 노드에서 클라이언트를 비활성화하거나 캐시를 제거하면 다른 노드의 인증/토큰 캐시에서도 제거되도록 전파합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "feature.db.enabled", havingValue = "true")
+public class OAuth2ClientEvictionRedisRepository {
+
+    public static final String CHANNEL = "oauth2:client:evict";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 캐시 제거 발행 (발행 실패는 로컬 캐시 제거에 영향을 주지 않음)
+     */
+    public void publish(String clientId) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, clientId);
+        } catch (Exception e) {
+            log.warn("Failed to publish client eviction: clientId={}, error={}", clientId, e.getMessage());
+        }
+    }
+}
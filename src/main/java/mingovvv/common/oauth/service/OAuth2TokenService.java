@@ -1,21 +1,34 @@
 package mingovvv.common.oauth.service;
 
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import mingovvv.common.constants.ResultCode;
 import mingovvv.common.oauth.domain.OAuth2Client;
 import mingovvv.common.oauth.dto.OAuth2TokenRequest;
 import mingovvv.common.oauth.dto.OAuth2TokenResponse;
 import mingovvv.common.oauth.exception.OAuth2Exception;
+import mingovvv.common.oauth.repository.OAuth2ClientEvictionRedisRepository;
 import mingovvv.common.oauth.repository.OAuth2ClientRepository;
+import mingovvv.common.properties.OAuth2ClientCacheProperties;
 import mingovvv.common.security.JwtTokenProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -23,17 +36,74 @@ import java.util.stream.Collectors;
  * OAuth 2.0 Token Service
  * <p>
  * Client Credentials Grant Type 토큰 발급을 처리합니다.
+ * <p>
+ * 토큰을 자주 요청하는 클라이언트 때문에 DB 조회와 BCrypt 검증이 CPU를 점유하지 않도록 두 단계로 캐시합니다.
+ * - 인증 캐시: 검증에 성공한 (Client ID, Secret SHA-256 다이제스트)를 credential-ttl 동안 보관하고,
+ *   클라이언트의 Scope 집합도 파싱해 함께 보관합니다. (원본 Secret은 보관하지 않음)
+ *   실패한 인증은 캐시하지 않으므로 잘못된 Secret 대입은 계속 BCrypt 비용을 치릅니다.
+ * - 토큰 재사용: token-reuse-window 안에 같은 클라이언트/Scope로 다시 요청하면 이전 토큰을 남은 유효 시간과 함께 반환합니다.
+ * 비활성화/Secret 변경은 disableClient/evictClient로 즉시 반영되며, DB를 직접 변경한 경우 최대 credential-ttl 후 반영됩니다.
+ * 캐시는 노드 로컬이며, 캐시 제거는 Redis Pub/Sub(oauth2:client:evict)으로 다른 노드에도 전파합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 @ConditionalOnProperty(name = "feature.db.enabled", havingValue = "true")
 public class OAuth2TokenService {
 
+    private static final String METRIC_PREFIX = "oauth2.token";
+
     private final OAuth2ClientRepository clientRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
+    private final OAuth2ClientEvictionRedisRepository evictionRepository;
+
+    /**
+     * 검증된 클라이언트 인증 캐시 (비활성화 시 null)
+     */
+    private final Cache<CredentialKey, VerifiedClient> verifiedClients;
+
+    /**
+     * 발급 토큰 재사용 캐시 (비활성화 시 null)
+     */
+    private final Cache<TokenKey, IssuedToken> issuedTokens;
+
+    private final Counter credentialHits;
+    private final Counter credentialMisses;
+    private final Counter tokensIssued;
+    private final Counter tokensReused;
+
+    public OAuth2TokenService(
+            OAuth2ClientRepository clientRepository,
+            JwtTokenProvider jwtTokenProvider,
+            PasswordEncoder passwordEncoder,
+            OAuth2ClientEvictionRedisRepository evictionRepository,
+            OAuth2ClientCacheProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.clientRepository = clientRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.evictionRepository = evictionRepository;
+
+        long maxEntries = Math.max(1, properties.getMaxEntries());
+        this.verifiedClients = isPositive(properties.getCredentialTtl())
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxEntries)
+                        .expireAfterWrite(properties.getCredentialTtl())
+                        .build()
+                : null;
+        this.issuedTokens = isPositive(properties.getTokenReuseWindow())
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxEntries)
+                        .expireAfterWrite(properties.getTokenReuseWindow())
+                        .build()
+                : null;
+
+        this.credentialHits = meterRegistry.counter(METRIC_PREFIX + ".client_auth", "result", "cache_hit");
+        this.credentialMisses = meterRegistry.counter(METRIC_PREFIX + ".client_auth", "result", "verified");
+        this.tokensIssued = meterRegistry.counter(METRIC_PREFIX + ".issue", "result", "issued");
+        this.tokensReused = meterRegistry.counter(METRIC_PREFIX + ".issue", "result", "reused");
+    }
 
     /**
      * Client Credentials Grant Type으로 Access Token을 발급합니다.
@@ -48,87 +118,241 @@ public class OAuth2TokenService {
             throw new OAuth2Exception(ResultCode.Error.OAUTH_UNSUPPORTED_GRANT_TYPE);
         }
 
-        // 2. Client 조회
-        OAuth2Client client = clientRepository.findByClientId(request.getClientId())
+        // 2. Client 인증 (캐시에 없으면 조회 + 활성화 여부 + Secret 검증)
+        VerifiedClient client = authenticate(request.getClientId(), request.getClientSecret());
+
+        // 3. Scope 검증 및 처리
+        String grantedScope = validateAndGrantScope(client, request.getScope());
+
+        // 4. Access Token 생성 (재사용 구간 안이면 이전 토큰 반환)
+        IssuedToken token = issueOrReuse(client, grantedScope);
+
+        // 5. 응답 생성
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        return OAuth2TokenResponse.builder()
+                .accessToken(token.accessToken())
+                .tokenType("Bearer")
+                .expiresIn((int) (token.expiresAtSeconds() - nowSeconds))
+                .scope(grantedScope)
+                .issuedAt(token.issuedAtSeconds())
+                .build();
+    }
+
+    /**
+     * 클라이언트를 비활성화하고 모든 노드의 인증/토큰 캐시에서 제거합니다.
+     *
+     * @param clientId Client ID
+     */
+    @Transactional
+    public void disableClient(String clientId) {
+        OAuth2Client client = clientRepository.findByClientId(clientId)
+                .orElseThrow(() -> new OAuth2Exception(ResultCode.Error.OAUTH_INVALID_CLIENT));
+        client.disable();
+        evictLocalClient(clientId);
+
+        // 커밋 전에 다른 요청이 이전 상태(활성)로 다시 캐시했을 수 있고, 다른 노드는 커밋 후에야 비활성화를 조회하므로
+        // 커밋 후 이 노드에서 한 번 더 제거하고 다른 노드에 전파
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictClient(clientId);
+                }
+            });
+        } else {
+            evictionRepository.publish(clientId);
+        }
+        log.info("Client disabled: {}", clientId);
+    }
+
+    /**
+     * 클라이언트의 캐시된 인증 정보와 재사용 토큰을 모든 노드에서 제거합니다.
+     * Secret 변경, Scope 변경 등 클라이언트 정보를 바꾼 뒤 호출합니다.
+     *
+     * @param clientId Client ID
+     */
+    public void evictClient(String clientId) {
+        evictLocalClient(clientId);
+        evictionRepository.publish(clientId);
+    }
+
+    /**
+     * 클라이언트의 캐시된 인증 정보와 재사용 토큰을 이 노드에서만 제거합니다. (다른 노드의 제거 메시지 수신 시)
+     *
+     * @param clientId Client ID
+     */
+    public void evictLocalClient(String clientId) {
+        if (verifiedClients != null) {
+            verifiedClients.asMap().keySet().removeIf(key -> key.clientId().equals(clientId));
+        }
+        if (issuedTokens != null) {
+            issuedTokens.asMap().keySet().removeIf(key -> key.clientId().equals(clientId));
+        }
+    }
+
+    /**
+     * Client를 인증합니다.
+     *
+     * @return 검증된 클라이언트 정보
+     * @throws OAuth2Exception 클라이언트가 없거나 비활성화되었거나 Secret이 틀린 경우
+     */
+    private VerifiedClient authenticate(String clientId, String clientSecret) {
+        CredentialKey key = null;
+        if (verifiedClients != null && clientId != null && clientSecret != null) {
+            key = new CredentialKey(clientId, digest(clientSecret));
+            VerifiedClient cached = verifiedClients.getIfPresent(key);
+            if (cached != null) {
+                credentialHits.increment();
+                return cached;
+            }
+        }
+
+        // Client 조회
+        OAuth2Client client = clientRepository.findByClientId(clientId)
                 .orElseThrow(() -> {
-                    log.error("Client not found: {}", request.getClientId());
+                    log.error("Client not found: {}", clientId);
                     return new OAuth2Exception(ResultCode.Error.OAUTH_INVALID_CLIENT);
                 });
 
-        // 3. Client 활성화 여부 확인
+        // Client 활성화 여부 확인
         if (!client.getEnabled()) {
-            log.error("Client is disabled: {}", request.getClientId());
+            log.error("Client is disabled: {}", clientId);
             throw new OAuth2Exception(ResultCode.Error.OAUTH_CLIENT_DISABLED);
         }
 
-        // 4. Client Secret 검증
-        if (!passwordEncoder.matches(request.getClientSecret(), client.getClientSecret())) {
-            log.error("Invalid client_secret for client: {}", request.getClientId());
+        // Client Secret 검증
+        if (!passwordEncoder.matches(clientSecret, client.getClientSecret())) {
+            log.error("Invalid client_secret for client: {}", clientId);
             throw new OAuth2Exception(ResultCode.Error.OAUTH_INVALID_CLIENT);
         }
 
-        // 5. Scope 검증 및 처리
-        String grantedScope = validateAndGrantScope(client, request.getScope());
+        credentialMisses.increment();
+        VerifiedClient verified = VerifiedClient.from(client);
+        if (key != null) {
+            verifiedClients.put(key, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * 재사용 구간 안에 발급한 토큰이 있으면 반환하고, 없으면 새로 발급합니다.
+     */
+    private IssuedToken issueOrReuse(VerifiedClient client, String grantedScope) {
+        TokenKey key = new TokenKey(client.clientId(), grantedScope);
+        long nowSeconds = System.currentTimeMillis() / 1000;
 
-        // 6. Access Token 생성
-        long validityInMs = client.getAccessTokenValiditySeconds() * 1000L;
+        if (issuedTokens != null) {
+            IssuedToken cached = issuedTokens.getIfPresent(key);
+            // 재사용 구간이 토큰 유효 시간보다 길게 설정된 경우 만료 임박 토큰은 재사용하지 않음
+            if (cached != null && cached.expiresAtSeconds() > nowSeconds) {
+                tokensReused.increment();
+                log.debug("Token reused for client: {}, scope: {}", client.clientId(), grantedScope);
+                return cached;
+            }
+        }
+
+        long validityInMs = client.accessTokenValiditySeconds() * 1000L;
         String accessToken = jwtTokenProvider.generateClientCredentialsToken(
-                client.getClientId(),
+                client.clientId(),
                 grantedScope,
                 validityInMs
         );
+        IssuedToken issued = new IssuedToken(accessToken, nowSeconds, nowSeconds + client.accessTokenValiditySeconds());
+        if (issuedTokens != null) {
+            issuedTokens.put(key, issued);
+        }
 
-        // 7. 응답 생성
-        log.info("Token issued for client: {}, scope: {}", client.getClientId(), grantedScope);
-
-        return OAuth2TokenResponse.builder()
-                .accessToken(accessToken)
-                .tokenType("Bearer")
-                .expiresIn(client.getAccessTokenValiditySeconds())
-                .scope(grantedScope)
-                .issuedAt(System.currentTimeMillis() / 1000)
-                .build();
+        tokensIssued.increment();
+        log.info("Token issued for client: {}, scope: {}", client.clientId(), grantedScope);
+        return issued;
     }
 
     /**
      * 요청된 Scope를 검증하고 부여할 Scope를 결정합니다.
      *
-     * @param client        OAuth2Client
+     * @param client         검증된 클라이언트 정보
      * @param requestedScope 요청된 Scope (null이면 모든 Scope 부여)
-     * @return 부여된 Scope (공백으로 구분)
+     * @return 부여된 Scope (공백으로 구분, 클라이언트에 등록된 순서)
      */
-    private String validateAndGrantScope(OAuth2Client client, String requestedScope) {
-        // Client가 가진 모든 Scope
-        Set<String> clientScopes = Arrays.stream(client.getScopes().split(" "))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toSet());
-
+    private String validateAndGrantScope(VerifiedClient client, String requestedScope) {
         // 요청한 Scope가 없으면 모든 Scope 부여
         if (requestedScope == null || requestedScope.isBlank()) {
-            return String.join(" ", clientScopes);
+            return client.allScopes();
         }
 
         // 요청한 Scope
-        Set<String> requestedScopes = Arrays.stream(requestedScope.split(" "))
-                .map(String::trim)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toSet());
+        Set<String> requestedScopes = parseScopes(requestedScope);
 
         // 요청한 Scope 중 Client가 가지지 않은 Scope가 있는지 확인
-        Set<String> invalidScopes = new HashSet<>(requestedScopes);
-        invalidScopes.removeAll(clientScopes);
+        Set<String> invalidScopes = requestedScopes.stream()
+                .filter(scope -> !client.scopes().contains(scope))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
 
         if (!invalidScopes.isEmpty()) {
-            log.error("Invalid scope requested for client {}: {}", client.getClientId(), invalidScopes);
+            log.error("Invalid scope requested for client {}: {}", client.clientId(), invalidScopes);
             throw new OAuth2Exception(ResultCode.Error.OAUTH_INVALID_SCOPE,
                     "Invalid scope: " + String.join(", ", invalidScopes));
         }
 
-        // 교집합(요청한 Scope 중 Client가 가진 Scope만)
-        requestedScopes.retainAll(clientScopes);
+        // 교집합(요청한 Scope 중 Client가 가진 Scope만, 같은 요청이면 같은 문자열이 되도록 등록 순서로 정렬)
+        return client.scopes().stream()
+                .filter(requestedScopes::contains)
+                .collect(Collectors.joining(" "));
+    }
 
-        return String.join(" ", requestedScopes);
+    /**
+     * 공백으로 구분된 Scope 문자열을 집합으로 변환합니다. (순서 유지)
+     */
+    private static Set<String> parseScopes(String scopes) {
+        return Arrays.stream(scopes.split(" "))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * 캐시 키로 쓸 Secret 다이제스트 (SHA-256, Base64)
+     */
+    private static String digest(String secret) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return duration != null && !duration.isZero() && !duration.isNegative();
+    }
+
+    private record CredentialKey(String clientId, String secretDigest) {
+    }
+
+    private record TokenKey(String clientId, String scope) {
+    }
+
+    /**
+     * 검증된 클라이언트 정보 (엔티티와 분리된 불변 스냅샷)
+     *
+     * @param scopes    파싱된 Scope 집합 (등록 순서)
+     * @param allScopes 전체 Scope 문자열 (요청 Scope가 없을 때 부여)
+     */
+    private record VerifiedClient(String clientId, Set<String> scopes, String allScopes, int accessTokenValiditySeconds) {
+
+        static VerifiedClient from(OAuth2Client client) {
+            Set<String> scopes = Collections.unmodifiableSet(parseScopes(client.getScopes()));
+            return new VerifiedClient(client.getClientId(), scopes, String.join(" ", scopes), client.getAccessTokenValiditySeconds());
+        }
+    }
+
+    /**
+     * 발급한 토큰
+     *
+     * @param issuedAtSeconds  발급 시각 (epoch 초)
+     * @param expiresAtSeconds 만료 시각 (epoch 초)
+     */
+    private record IssuedToken(String accessToken, long issuedAtSeconds, long expiresAtSeconds) {
     }
 
 }
@@ -0,0 +1,122 @@
+package mingovvv.common.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 접근 로그 설정 정보를 바인딩하는 Properties 클래스
+ * <p>
+ * application.yml의 feature.access-log.* 속성들을 매핑합니다.
+ */
+@Getter
+@ConfigurationProperties(prefix = "feature.access-log")
+public class AccessLogProperties {
+
+    /**
+     * 라우트 규칙에 매칭되지 않는 요청의 바디 로깅 비율 (0.0 ~ 1.0)
+     * 기본값: 1.0 (전체)
+     */
+    private double defaultSampleRate = 1.0;
+
+    /**
+     * 라우트별 규칙 (선언 순서대로 매칭, 처음 매칭된 규칙 적용)
+     */
+    private List<Route> routes = new ArrayList<>();
+
+    /**
+     * 비동기 기록 링 버퍼 크기 (2의 거듭제곱으로 올림, 가득 차면 레코드를 버림)
+     * 기본값: 65536
+     */
+    private int ringCapacity = 65536;
+
+    /**
+     * 기록 스레드가 한 번에 인코딩/기록하는 최대 레코드 수
+     * 기본값: 512
+     */
+    private int batchSize = 512;
+
+    /**
+     * 기본 바디 로깅 비율을 설정합니다.
+     */
+    public void setDefaultSampleRate(double defaultSampleRate) {
+        this.defaultSampleRate = defaultSampleRate;
+    }
+
+    /**
+     * 라우트별 규칙을 설정합니다.
+     */
+    public void setRoutes(List<Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * 링 버퍼 크기를 설정합니다.
+     */
+    public void setRingCapacity(int ringCapacity) {
+        this.ringCapacity = ringCapacity;
+    }
+
+    /**
+     * 배치 크기를 설정합니다.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Getter
+    public static class Route {
+
+        /**
+         * 경로 패턴 (Spring PathPattern 문법)
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 적용 HTTP 메서드 (비어 있으면 전체)
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * 요청/응답 바디를 로깅할 비율 (0.0 ~ 1.0)
+         * 샘플링되지 않은 요청은 바디를 버퍼링하지 않고 요청/응답 라인만 로깅합니다.
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * 접근 로그를 남기지 않을지 여부 (MDC는 유지)
+         */
+        private boolean skip = false;
+
+        /**
+         * 경로 패턴을 설정합니다.
+         */
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        /**
+         * 적용 HTTP 메서드를 설정합니다.
+         */
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        /**
+         * 바디 로깅 비율을 설정합니다.
+         */
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        /**
+         * 접근 로그 생략 여부를 설정합니다.
+         */
+        public void setSkip(boolean skip) {
+            this.skip = skip;
+        }
+    }
+
+}
@@ -49,4 +49,11 @@ public class JwtProperties {
      */
     private final String prefix;
 
+    /**
+     * 검증된 토큰 캐시 최대 항목 수 (0 이하이면 캐시 비활성화)
+     * 항목은 토큰 만료 시각에 함께 만료됩니다.
+     * 기본값: 10000
+     */
+    private final long verifiedTokenCacheSize;
+
 }
@@ -0,0 +1,58 @@
+package mingovvv.common.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * OAuth 2.0 클라이언트 인증 캐시 설정 정보를 바인딩하는 Properties 클래스
+ * <p>
+ * application.yml의 feature.oauth2.client-cache.* 속성들을 매핑합니다.
+ */
+@Getter
+@ConfigurationProperties(prefix = "feature.oauth2.client-cache")
+public class OAuth2ClientCacheProperties {
+
+    /**
+     * 검증된 클라이언트 인증 정보 보관 시간 (0이면 캐시 비활성화)
+     * DB에서 직접 비활성화/Secret 변경한 클라이언트는 최대 이 시간만큼 기존 인증이 유지됩니다.
+     * 기본값: 60초
+     */
+    private Duration credentialTtl = Duration.ofSeconds(60);
+
+    /**
+     * 캐시 최대 항목 수
+     * 기본값: 10000
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * 발급 토큰 재사용 구간 (0이면 매 요청 새로 발급)
+     * 같은 클라이언트/Scope로 이 시간 안에 다시 요청하면 이전에 발급한 토큰을 남은 유효 시간과 함께 반환합니다.
+     * 기본값: 0
+     */
+    private Duration tokenReuseWindow = Duration.ZERO;
+
+    /**
+     * 인증 정보 보관 시간을 설정합니다.
+     */
+    public void setCredentialTtl(Duration credentialTtl) {
+        this.credentialTtl = credentialTtl;
+    }
+
+    /**
+     * 캐시 최대 항목 수를 설정합니다.
+     */
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 발급 토큰 재사용 구간을 설정합니다.
+     */
+    public void setTokenReuseWindow(Duration tokenReuseWindow) {
+        this.tokenReuseWindow = tokenReuseWindow;
+    }
+
+}
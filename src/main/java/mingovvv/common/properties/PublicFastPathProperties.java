@@ -0,0 +1,57 @@
+package mingovvv.common.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공개 고빈도 경로 보안 fast path 설정 정보를 바인딩하는 Properties 클래스
+ * <p>
+ * application.yml의 feature.security.public-fast-path.* 속성들을 매핑합니다.
+ */
+@Getter
+@ConfigurationProperties(prefix = "feature.security.public-fast-path")
+public class PublicFastPathProperties {
+
+    /**
+     * fast path 사용 여부
+     * 기본값: true
+     */
+    private boolean enabled = true;
+
+    /**
+     * 경로 패턴 (Spring PathPattern 문법)
+     * 인증 없이 호출되는 경로만 등록해야 합니다. (이 경로에서는 JWT를 검증하지 않음)
+     */
+    private List<String> paths = new ArrayList<>();
+
+    /**
+     * 적용 HTTP 메서드 (비어 있으면 전체)
+     * 기본값: GET
+     */
+    private List<String> methods = new ArrayList<>(List.of("GET"));
+
+    /**
+     * fast path 사용 여부를 설정합니다.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 경로 패턴을 설정합니다.
+     */
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    /**
+     * 적용 HTTP 메서드를 설정합니다.
+     */
+    public void setMethods(List<String> methods) {
+        this.methods = methods;
+    }
+
+}
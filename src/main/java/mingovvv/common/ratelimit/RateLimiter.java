@@ -1,16 +1,28 @@
 package mingovvv.common.ratelimit;
 
+import mingovvv.common.ratelimit.model.RateLimitQuota;
 import mingovvv.common.ratelimit.model.RateLimitResult;
+import mingovvv.common.ratelimit.model.RateLimitTimestamp;
 
 public interface RateLimiter {
 
     /**
-     * 주어진 키에 대해 1건의 요청을 소비합니다.
-     * 구현체가 윈도우 전략과 잔여 횟수 계산 방식을 결정합니다.
+     * 주어진 키에 대해 기본 한도(feature.rate-limit.max-requests 등)로 1건의 요청을 소비합니다.
      *
      * @param key 호출자를 구분하는 키(ip, user, client id 등)
      * @return 허용 여부 및 리셋 정보
      */
     RateLimitResult tryConsume(String key);
 
+    /**
+     * 주어진 키에 대해 지정한 한도로 1건의 요청을 소비합니다.
+     * 정책별 한도를 검사할 때 사용하며, 같은 요청의 검사는 같은 기준 시각을 공유합니다.
+     *
+     * @param key       정책 이름이 포함된 레이트 리밋 키
+     * @param quota     적용할 한도
+     * @param timestamp 요청 기준 시각
+     * @return 허용 여부 및 리셋 정보
+     */
+    RateLimitResult tryConsume(String key, RateLimitQuota quota, RateLimitTimestamp timestamp);
+
 }
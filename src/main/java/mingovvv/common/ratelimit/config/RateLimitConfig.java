@@ -1,16 +1,33 @@
 package mingovvv.common.ratelimit.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import mingovvv.common.properties.JwtProperties;
 import mingovvv.common.ratelimit.RateLimitKeyResolver;
 import mingovvv.common.ratelimit.RateLimiter;
 import mingovvv.common.ratelimit.filter.RateLimitFilter;
 import mingovvv.common.ratelimit.impl.InMemoryRateLimiter;
 import mingovvv.common.ratelimit.impl.IpRateLimitKeyResolver;
+import mingovvv.common.ratelimit.impl.JwtSubjectRateLimitKeyResolver;
+import mingovvv.common.ratelimit.impl.RedisRateLimiter;
+import mingovvv.common.ratelimit.model.RateLimitQuota;
+import mingovvv.common.ratelimit.policy.RateLimitDimension;
+import mingovvv.common.ratelimit.policy.RateLimitPolicy;
+import mingovvv.common.ratelimit.policy.RateLimitPolicyEngine;
+import mingovvv.common.ratelimit.policy.RateLimitPolicyMatcher;
+import mingovvv.common.security.JwtTokenProvider;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Configuration
 @EnableConfigurationProperties(RateLimitProperties.class)
@@ -25,6 +42,20 @@ public class RateLimitConfig {
         return new IpRateLimitKeyResolver();
     }
 
+    /**
+     * store=redis인 경우 전체 노드가 한도를 공유하는 Redis 구현을 사용합니다.
+     * Redis 장애 시에는 노드 로컬 인메모리 구현으로 대체합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "feature.rate-limit", name = "store", havingValue = "redis")
+    public RateLimiter redisRateLimiter(
+        StringRedisTemplate stringRedisTemplate,
+        RateLimitProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new RedisRateLimiter(stringRedisTemplate, properties, new InMemoryRateLimiter(properties), meterRegistry);
+    }
+
     /**
      * 외부 스토어가 없을 때 사용하는 기본 인메모리 구현입니다.
      */
@@ -34,6 +65,35 @@ public class RateLimitConfig {
         return new InMemoryRateLimiter(properties);
     }
 
+    /**
+     * 경로/메서드별 정책을 기동 시 한 번 컴파일합니다.
+     * subject 기준은 JWT 모듈이 있을 때만 토큰에서 추출하고, 없으면 IP로 대체됩니다.
+     */
+    @Bean
+    public RateLimitPolicyEngine rateLimitPolicyEngine(
+        RateLimitProperties properties,
+        RateLimiter rateLimiter,
+        ObjectProvider<JwtTokenProvider> jwtTokenProvider,
+        ObjectProvider<JwtProperties> jwtProperties
+    ) {
+        RateLimitPolicyMatcher matcher = new RateLimitPolicyMatcher();
+        Set<String> names = new HashSet<>();
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            if (policy.getName() == null || !names.add(policy.getName())) {
+                throw new IllegalStateException("Rate limit policy name must be unique: " + policy.getName());
+            }
+            RateLimitPolicy compiled = compile(policy);
+            policy.getPaths().forEach(path -> matcher.register(path, compiled));
+        }
+
+        JwtTokenProvider tokenProvider = jwtTokenProvider.getIfAvailable();
+        JwtProperties tokenProperties = jwtProperties.getIfAvailable();
+        RateLimitKeyResolver subjectResolver = tokenProvider != null && tokenProperties != null
+            ? new JwtSubjectRateLimitKeyResolver(tokenProvider, tokenProperties)
+            : null;
+        return new RateLimitPolicyEngine(matcher, rateLimiter, subjectResolver);
+    }
+
     /**
      * enabled=true인 경우에만 레이트 리밋 필터를 등록합니다.
      */
@@ -43,9 +103,24 @@ public class RateLimitConfig {
         RateLimitProperties properties,
         RateLimiter rateLimiter,
         RateLimitKeyResolver keyResolver,
+        RateLimitPolicyEngine policyEngine,
         ObjectMapper objectMapper
     ) {
-        return new RateLimitFilter(properties, rateLimiter, keyResolver, objectMapper);
+        return new RateLimitFilter(properties, rateLimiter, keyResolver, policyEngine, objectMapper);
+    }
+
+    private static RateLimitPolicy compile(RateLimitProperties.Policy policy) {
+        Set<String> methods = new HashSet<>();
+        policy.getMethods().forEach(method -> methods.add(method.trim().toUpperCase(Locale.ROOT)));
+        List<RateLimitDimension> dimensions = policy.getKeys().stream()
+            .map(RateLimitDimension::from)
+            .distinct()
+            .toList();
+        if (dimensions.isEmpty()) {
+            dimensions = List.of(RateLimitDimension.IP);
+        }
+        RateLimitQuota quota = RateLimitQuota.of(policy.getMaxRequests(), policy.getWindowSeconds(), policy.getBurst());
+        return new RateLimitPolicy(policy.getName(), Set.copyOf(methods), dimensions, quota);
     }
 
 }
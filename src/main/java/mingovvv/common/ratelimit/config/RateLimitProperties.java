@@ -1,9 +1,11 @@
 package mingovvv.common.ratelimit.config;
 
 import lombok.Getter;
-import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @ConfigurationProperties(prefix = "feature.rate-limit")
 public class RateLimitProperties {
@@ -23,6 +25,38 @@ public class RateLimitProperties {
      */
     private int windowSeconds = 60;
 
+    /**
+     * 한 번에 몰아서 허용하는 최대 요청 수입니다.
+     * 요청은 windowSeconds / maxRequests 간격으로 평탄화되며, 이 값만큼만 연속으로 통과합니다.
+     * 설정하지 않으면 maxRequests와 같아 윈도우 한도만큼 한 번에 보낼 수 있습니다.
+     */
+    private Integer burst;
+
+    /**
+     * 유휴 키(버킷이 가득 찬 키) 제거 주기(초)입니다.
+     */
+    private int idleSweepSeconds = 30;
+
+    /**
+     * 레이트 리밋 저장소입니다. (memory: 노드별 한도, redis: 전체 노드 공유 한도)
+     */
+    private String store = "memory";
+
+    /**
+     * redis 저장소에서 노드가 한 번에 임대하는 최대 허가 수입니다. 1이면 요청마다 Redis를 호출합니다.
+     */
+    private int leaseSize = 20;
+
+    /**
+     * 임대한 허가의 유효 시간(밀리초)입니다. 만료된 미사용 허가는 버려집니다.
+     */
+    private int leaseTtlMillis = 1000;
+
+    /**
+     * 경로/메서드별 정책입니다. 매칭되는 정책이 있으면 기본 한도 대신 정책의 한도를 모두 적용합니다.
+     */
+    private List<Policy> policies = new ArrayList<>();
+
     /**
      * 레이트 리밋 사용 여부를 설정합니다.
      */
@@ -44,4 +78,148 @@ public class RateLimitProperties {
         this.windowSeconds = windowSeconds;
     }
 
+    /**
+     * 연속 허용 최대 요청 수를 설정합니다.
+     */
+    public void setBurst(Integer burst) {
+        this.burst = burst;
+    }
+
+    /**
+     * 연속 허용 최대 요청 수입니다. (미설정 시 maxRequests)
+     */
+    public int getBurst() {
+        return burst != null ? burst : maxRequests;
+    }
+
+    /**
+     * 유휴 키 제거 주기(초)를 설정합니다.
+     */
+    public void setIdleSweepSeconds(int idleSweepSeconds) {
+        this.idleSweepSeconds = idleSweepSeconds;
+    }
+
+    /**
+     * 레이트 리밋 저장소를 설정합니다.
+     */
+    public void setStore(String store) {
+        this.store = store;
+    }
+
+    /**
+     * 노드당 최대 임대 허가 수를 설정합니다.
+     */
+    public void setLeaseSize(int leaseSize) {
+        this.leaseSize = leaseSize;
+    }
+
+    /**
+     * 임대 허가 유효 시간(밀리초)을 설정합니다.
+     */
+    public void setLeaseTtlMillis(int leaseTtlMillis) {
+        this.leaseTtlMillis = leaseTtlMillis;
+    }
+
+    /**
+     * 경로/메서드별 정책을 설정합니다.
+     */
+    public void setPolicies(List<Policy> policies) {
+        this.policies = policies;
+    }
+
+    @Getter
+    public static class Policy {
+
+        /**
+         * 정책 이름입니다. 레이트 리밋 키의 prefix로 사용되므로 정책마다 달라야 합니다.
+         */
+        private String name;
+
+        /**
+         * 적용 경로 패턴입니다. ({name}: 경로 변수, *: 세그먼트 1개, 마지막 **: 하위 전체)
+         */
+        private List<String> paths = new ArrayList<>();
+
+        /**
+         * 적용 HTTP 메서드입니다. 비어 있으면 전체 메서드에 적용합니다.
+         */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * 키 구성 기준입니다. (ip, subject, user, event 조합)
+         */
+        private List<String> keys = new ArrayList<>(List.of("ip"));
+
+        /**
+         * 윈도우당 허용 요청 수입니다.
+         */
+        private int maxRequests = 100;
+
+        /**
+         * 윈도우 크기(초)입니다.
+         */
+        private int windowSeconds = 60;
+
+        /**
+         * 연속 허용 최대 요청 수입니다. 설정하지 않으면 maxRequests와 같습니다.
+         */
+        private Integer burst;
+
+        /**
+         * 정책 이름을 설정합니다.
+         */
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 적용 경로 패턴을 설정합니다.
+         */
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        /**
+         * 적용 HTTP 메서드를 설정합니다.
+         */
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        /**
+         * 키 구성 기준을 설정합니다.
+         */
+        public void setKeys(List<String> keys) {
+            this.keys = keys;
+        }
+
+        /**
+         * 윈도우당 최대 요청 수를 설정합니다.
+         */
+        public void setMaxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+        }
+
+        /**
+         * 윈도우 크기(초)를 설정합니다.
+         */
+        public void setWindowSeconds(int windowSeconds) {
+            this.windowSeconds = windowSeconds;
+        }
+
+        /**
+         * 연속 허용 최대 요청 수를 설정합니다.
+         */
+        public void setBurst(Integer burst) {
+            this.burst = burst;
+        }
+
+        /**
+         * 연속 허용 최대 요청 수입니다. (미설정 시 maxRequests)
+         */
+        public int getBurst() {
+            return burst != null ? burst : maxRequests;
+        }
+    }
+
 }
@@ -13,6 +13,7 @@ import mingovvv.common.ratelimit.RateLimitKeyResolver;
 import mingovvv.common.ratelimit.RateLimiter;
 import mingovvv.common.ratelimit.config.RateLimitProperties;
 import mingovvv.common.ratelimit.model.RateLimitResult;
+import mingovvv.common.ratelimit.policy.RateLimitPolicyEngine;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -29,6 +30,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private final RateLimitProperties properties;
     private final RateLimiter rateLimiter;
     private final RateLimitKeyResolver keyResolver;
+    private final RateLimitPolicyEngine policyEngine;
     private final ObjectMapper objectMapper;
 
     /**
@@ -44,14 +46,24 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        String key = keyResolver.resolve(request);
-        if (key == null || key.isBlank()) {
-            key = "unknown";
-        }
+        RateLimitResult result;
+        int limit;
 
-        RateLimitResult result = rateLimiter.tryConsume(key);
+        // 경로/메서드별 정책이 있으면 정책 한도를, 없으면 기본 한도를 적용합니다.
+        RateLimitPolicyEngine.Decision decision = policyEngine.evaluate(request);
+        if (decision != null) {
+            result = decision.result();
+            limit = decision.limit();
+        } else {
+            String key = keyResolver.resolve(request);
+            if (key == null || key.isBlank()) {
+                key = "unknown";
+            }
+            result = rateLimiter.tryConsume(key);
+            limit = properties.getMaxRequests();
+        }
 
-        response.setHeader("X-RateLimit-Limit", String.valueOf(properties.getMaxRequests()));
+        response.setHeader("X-RateLimit-Limit", String.valueOf(limit));
         response.setHeader("X-RateLimit-Remaining", String.valueOf(result.remaining()));
         response.setHeader("X-RateLimit-Reset", String.valueOf(result.resetEpochSeconds()));
 
@@ -1,53 +1,140 @@
 package mingovvv.common.ratelimit.impl;
 
+import lombok.extern.slf4j.Slf4j;
 import mingovvv.common.ratelimit.RateLimiter;
 import mingovvv.common.ratelimit.config.RateLimitProperties;
+import mingovvv.common.ratelimit.model.RateLimitQuota;
 import mingovvv.common.ratelimit.model.RateLimitResult;
+import mingovvv.common.ratelimit.model.RateLimitTimestamp;
+
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 기반 인메모리 레이트 리미터입니다.
+ * <p>
+ * 키별 상태는 TAT(theoretical arrival time, 나노초) long 하나뿐이라 락 없이 CAS 한 번으로 소비합니다.
+ * 요청은 emission interval(윈도우 / 최대 요청 수) 간격으로 평탄화되고 burst만큼만 몰아서 허용하므로,
+ * 고정 윈도우 경계에서 2배가 통과하던 문제가 없습니다. (임의 구간 t에서 최대 burst + t / interval건)
+ * <p>
+ * TAT가 현재 시각보다 과거인 키는 새 키와 상태가 같으므로 백그라운드 스위퍼가 제거합니다.
+ * 제거 직전 EVICTED로 CAS해 두어, 제거 중인 셀을 잡은 요청은 새 셀로 다시 시도합니다.
+ */
+@Slf4j
+public class InMemoryRateLimiter implements RateLimiter, AutoCloseable {
 
-public class InMemoryRateLimiter implements RateLimiter {
+    private static final long EVICTED = Long.MIN_VALUE;
 
     private final RateLimitProperties properties;
-    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> cells = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    // nanoTime 기준점 (TAT 0이 항상 과거가 되도록 1ns 앞당김)
+    private final long originNanos = System.nanoTime() - 1;
 
     public InMemoryRateLimiter(RateLimitProperties properties) {
         this.properties = properties;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rate-limit-sweeper").daemon().factory()
+        );
+        long sweepSeconds = Math.max(1, properties.getIdleSweepSeconds());
+        sweeper.scheduleWithFixedDelay(this::evictIdle, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
     }
 
     /**
-     * 키별 고정 윈도우 카운터 방식입니다.
-     * 설정한 시간이 지나면 윈도우를 리셋합니다.
+     * 기본 한도로 1건을 소비합니다.
      */
     @Override
     public RateLimitResult tryConsume(String key) {
-        long nowMs = System.currentTimeMillis();
-        Window window = windows.computeIfAbsent(key, ignored -> new Window(nowMs));
-        long windowMs = properties.getWindowSeconds() * 1000L;
-
-        synchronized (window) {
-            if (nowMs - window.windowStartMs >= windowMs) {
-                window.windowStartMs = nowMs;
-                window.count.set(0);
+        RateLimitQuota quota = RateLimitQuota.of(properties.getMaxRequests(), properties.getWindowSeconds(), properties.getBurst());
+        return tryConsume(key, quota, RateLimitTimestamp.now());
+    }
+
+    /**
+     * GCRA로 1건을 소비합니다.
+     * newTat = max(tat, now) + interval 이 now + burst × interval 을 넘지 않으면 허용합니다.
+     */
+    @Override
+    public RateLimitResult tryConsume(String key, RateLimitQuota quota, RateLimitTimestamp timestamp) {
+        long intervalNanos = quota.intervalNanos();
+        long capacityNanos = quota.capacityNanos();
+        long now = timestamp.nanoTime() - originNanos;
+
+        while (true) {
+            AtomicLong cell = cells.get(key);
+            if (cell == null) {
+                cell = cells.computeIfAbsent(key, ignored -> new AtomicLong());
             }
 
-            int count = window.count.incrementAndGet();
-            boolean allowed = count <= properties.getMaxRequests();
-            int remaining = Math.max(0, properties.getMaxRequests() - count);
-            long resetEpochSeconds = (window.windowStartMs + windowMs) / 1000L;
+            long tat;
+            while ((tat = cell.get()) != EVICTED) {
+                long newTat = Math.max(tat, now) + intervalNanos;
+                long backlogNanos = newTat - now;
 
-            return new RateLimitResult(allowed, remaining, resetEpochSeconds);
+                if (backlogNanos > capacityNanos) {
+                    // 다음 요청이 허용되는 시각까지 대기
+                    return result(false, 0, timestamp, backlogNanos - capacityNanos);
+                }
+                if (cell.compareAndSet(tat, newTat)) {
+                    int remaining = (int) ((capacityNanos - backlogNanos) / intervalNanos);
+                    // 버킷이 가득 차는 시각
+                    return result(true, remaining, timestamp, backlogNanos);
+                }
+            }
+            // 스위퍼가 제거 중인 셀: 새 셀로 재시도
         }
     }
 
-    private static class Window {
-        private volatile long windowStartMs;
-        private final AtomicInteger count = new AtomicInteger(0);
+    /**
+     * 추적 중인 키 수입니다.
+     */
+    public int size() {
+        return cells.size();
+    }
 
-        private Window(long windowStartMs) {
-            this.windowStartMs = windowStartMs;
+    /**
+     * 스위퍼를 중지합니다.
+     */
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * TAT가 지난(버킷이 가득 찬) 키를 제거합니다.
+     */
+    private void evictIdle() {
+        try {
+            long now = nowNanos();
+            int before = cells.size();
+            cells.forEach((key, cell) -> {
+                long tat = cell.get();
+                if (tat != EVICTED && tat <= now && cell.compareAndSet(tat, EVICTED)) {
+                    cells.remove(key, cell);
+                }
+            });
+            int evicted = before - cells.size();
+            if (evicted > 0) {
+                log.debug("Rate limit keys evicted: evicted={}, remaining={}", evicted, cells.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Rate limit sweep failed: {}", e.toString());
         }
     }
 
+    private RateLimitResult result(boolean allowed, int remaining, RateLimitTimestamp timestamp, long resetAfterNanos) {
+        long resetEpochMillis = timestamp.epochMillis() + TimeUnit.NANOSECONDS.toMillis(resetAfterNanos);
+        // 초 단위 올림 (Retry-After가 0으로 내려가지 않도록)
+        long resetEpochSeconds = (resetEpochMillis + 999) / 1000;
+        return new RateLimitResult(allowed, remaining, resetEpochSeconds);
+    }
+
+    private long nowNanos() {
+        return System.nanoTime() - originNanos;
+    }
+
 }
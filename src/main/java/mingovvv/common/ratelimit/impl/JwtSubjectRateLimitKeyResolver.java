@@ -0,0 +1,33 @@
+package mingovvv.common.ratelimit.impl;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import mingovvv.common.properties.JwtProperties;
+import mingovvv.common.ratelimit.RateLimitKeyResolver;
+import mingovvv.common.security.JwtTokenProvider;
+
+@RequiredArgsConstructor
+public class JwtSubjectRateLimitKeyResolver implements RateLimitKeyResolver {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 서명이 검증된 JWT의 subject를 레이트 리밋 키로 사용합니다.
+     * 토큰이 없거나 유효하지 않으면 null을 반환합니다. (401 처리는 인증 필터 담당)
+     */
+    @Override
+    public String resolve(HttpServletRequest request) {
+        String token = jwtTokenProvider.resolveToken(request.getHeader(jwtProperties.getHeader()));
+        if (token == null) {
+            return null;
+        }
+        try {
+            return jwtTokenProvider.getUsernameFromToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+}
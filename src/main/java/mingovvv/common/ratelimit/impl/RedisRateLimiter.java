@@ -0,0 +1,300 @@
+package mingovvv.common.ratelimit.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.ratelimit.RateLimiter;
+import mingovvv.common.ratelimit.config.RateLimitProperties;
+import mingovvv.common.ratelimit.model.RateLimitQuota;
+import mingovvv.common.ratelimit.model.RateLimitResult;
+import mingovvv.common.ratelimit.model.RateLimitTimestamp;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis GCRA 기반 분산 레이트 리미터입니다.
+ * <p>
+ * 키별 TAT를 Redis에 두고 Lua 스크립트로 갱신하므로 노드 수와 관계없이 전체 허용량이 maxRequests로 유지됩니다.
+ * 요청마다 Redis를 거치지 않도록 노드는 허가(permit)를 묶음으로 임대(lease)해 로컬에서 소진합니다.
+ * <ul>
+ *     <li>임대량은 1부터 시작해 임대분을 만료 전에 다 쓰면 두 배씩 늘립니다. (최대 leaseSize)
+ *     트래픽이 적은 키가 다른 노드 몫까지 선점하지 않도록 하기 위함입니다.</li>
+ *     <li>임대분은 leaseTtlMillis 후 만료됩니다. 만료된 미사용분은 버려지므로 과소 허용은 있어도 초과 허용은 없습니다.</li>
+ *     <li>거절되면 Redis가 알려준 다음 허용 시각까지 로컬에서 바로 거절하여, 차단된 키가 Redis를 두드리지 않습니다.</li>
+ * </ul>
+ * Redis 장애 시에는 노드 로컬 리미터로 대체합니다.
+ * 정확도(만료 미사용 허가 수)와 처리량(요청당 Redis 호출 수)은 rate_limit.* 메트릭으로 확인합니다.
+ */
+@Slf4j
+public class RedisRateLimiter implements RateLimiter, AutoCloseable {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final long FALLBACK_WARN_INTERVAL_MS = 10_000;
+
+    // TAT(마이크로초)를 서버 시각 기준으로 갱신, 최대 requested개까지 허가
+    // 반환: {허가 수, 허가 시 버킷이 가득 차기까지 / 거절 시 다음 허용까지 남은 마이크로초, 남은 허가 수}
+    private static final DefaultRedisScript<List> LEASE_SCRIPT = new DefaultRedisScript<>("""
+        local interval = tonumber(ARGV[1])
+        local capacity = tonumber(ARGV[2])
+        local requested = tonumber(ARGV[3])
+
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+        local tat = tonumber(redis.call('GET', KEYS[1]) or '0')
+        if tat < now then
+            tat = now
+        end
+
+        local available = math.floor((now + capacity - tat) / interval)
+        if available <= 0 then
+            return {0, tat + interval - capacity - now, 0}
+        end
+
+        local granted = math.min(requested, available)
+        tat = tat + granted * interval
+        redis.call('SET', KEYS[1], string.format('%.0f', tat), 'PX', math.ceil((tat - now) / 1000) + 1)
+        return {granted, tat - now, available - granted}
+        """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RateLimitProperties properties;
+    private final RateLimiter fallback;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    private final Counter redisCalls;
+    private final Counter permitsLeased;
+    private final Counter permitsExpired;
+    private final Counter localHits;
+    private final Counter fallbacks;
+
+    private volatile long lastFallbackWarnMs;
+
+    public RedisRateLimiter(
+        StringRedisTemplate stringRedisTemplate,
+        RateLimitProperties properties,
+        RateLimiter fallback,
+        MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.fallback = fallback;
+
+        this.redisCalls = meterRegistry.counter("rate_limit.redis.calls");
+        this.permitsLeased = meterRegistry.counter("rate_limit.lease.permits", "result", "leased");
+        this.permitsExpired = meterRegistry.counter("rate_limit.lease.permits", "result", "expired_unused");
+        this.localHits = meterRegistry.counter("rate_limit.lease.local_hits");
+        this.fallbacks = meterRegistry.counter("rate_limit.redis.fallbacks");
+        Gauge.builder("rate_limit.lease.keys", leases, Map::size).register(meterRegistry);
+
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rate-limit-lease-sweeper").daemon().factory()
+        );
+        long sweepSeconds = Math.max(1, properties.getIdleSweepSeconds());
+        sweeper.scheduleWithFixedDelay(this::evictIdle, sweepSeconds, sweepSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 기본 한도로 1건을 소비합니다.
+     */
+    @Override
+    public RateLimitResult tryConsume(String key) {
+        RateLimitQuota quota = RateLimitQuota.of(properties.getMaxRequests(), properties.getWindowSeconds(), properties.getBurst());
+        return tryConsume(key, quota, RateLimitTimestamp.now());
+    }
+
+    /**
+     * 로컬 임대분에서 1건을 소비하고, 없으면 Redis에서 새로 임대합니다.
+     */
+    @Override
+    public RateLimitResult tryConsume(String key, RateLimitQuota quota, RateLimitTimestamp timestamp) {
+        Lease lease = leases.computeIfAbsent(key, ignored -> new Lease());
+        long nowMs = timestamp.epochMillis();
+
+        int remaining = lease.tryTake(nowMs);
+        if (remaining >= 0) {
+            localHits.increment();
+            return new RateLimitResult(true, remaining, lease.resetEpochSeconds);
+        }
+
+        synchronized (lease) {
+            // 다른 스레드가 먼저 임대했을 수 있음
+            remaining = lease.tryTake(nowMs);
+            if (remaining >= 0) {
+                localHits.increment();
+                return new RateLimitResult(true, remaining, lease.resetEpochSeconds);
+            }
+            if (nowMs < lease.deniedUntilMs) {
+                return new RateLimitResult(false, 0, toEpochSecondsCeil(lease.deniedUntilMs));
+            }
+            return lease(key, quota, timestamp, lease);
+        }
+    }
+
+    /**
+     * 추적 중인 키 수입니다.
+     */
+    public int size() {
+        return leases.size();
+    }
+
+    /**
+     * 스위퍼를 중지하고, 대체 리미터도 닫습니다. (대체 리미터는 빈이 아니므로 이 리미터가 수명을 관리)
+     */
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+        if (fallback instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Fallback rate limiter close failed: {}", e.toString());
+            }
+        }
+    }
+
+    /**
+     * Redis에서 임대 (lease 모니터를 잡은 상태에서 호출)
+     */
+    private RateLimitResult lease(String key, RateLimitQuota quota, RateLimitTimestamp timestamp, Lease lease) {
+        long nowMs = timestamp.epochMillis();
+        int requested = lease.nextBatchSize(nowMs, Math.max(1, properties.getLeaseSize()));
+        permitsExpired.increment(lease.discard());
+
+        List<Long> reply;
+        try {
+            reply = execute(key, quota, requested);
+        } catch (RuntimeException e) {
+            warnFallback(e);
+            fallbacks.increment();
+            return fallback.tryConsume(key, quota, timestamp);
+        }
+
+        long granted = reply.get(0);
+        long afterMs = TimeUnit.MICROSECONDS.toMillis(reply.get(1));
+        int serverRemaining = (int) Math.min(Integer.MAX_VALUE, reply.get(2));
+
+        if (granted <= 0) {
+            lease.deniedUntilMs = nowMs + afterMs;
+            return new RateLimitResult(false, 0, toEpochSecondsCeil(lease.deniedUntilMs));
+        }
+
+        permitsLeased.increment(granted);
+        // 1건은 이번 요청에 사용
+        lease.refill((int) granted - 1, nowMs + properties.getLeaseTtlMillis(), toEpochSecondsCeil(nowMs + afterMs));
+        return new RateLimitResult(true, (int) granted - 1 + serverRemaining, lease.resetEpochSeconds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> execute(String key, RateLimitQuota quota, int requested) {
+        long intervalMicros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(quota.intervalNanos()));
+        long capacityMicros = intervalMicros * quota.burst();
+
+        redisCalls.increment();
+        List<Long> reply = stringRedisTemplate.execute(
+            LEASE_SCRIPT,
+            List.of(KEY_PREFIX + key),
+            String.valueOf(intervalMicros),
+            String.valueOf(capacityMicros),
+            String.valueOf(requested)
+        );
+        if (reply == null || reply.size() < 3) {
+            throw new IllegalStateException("Unexpected rate limit script reply: " + reply);
+        }
+        return reply;
+    }
+
+    /**
+     * 임대분이 만료되고 거절 대기도 끝난 키를 제거합니다.
+     * 제거된 임대를 잡고 있던 요청의 허가는 버려질 뿐이므로 초과 허용은 생기지 않습니다.
+     */
+    private void evictIdle() {
+        try {
+            long nowMs = System.currentTimeMillis();
+            leases.forEach((key, lease) -> {
+                if (lease.isIdle(nowMs) && leases.remove(key, lease)) {
+                    permitsExpired.increment(lease.discard());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Rate limit lease sweep failed: {}", e.toString());
+        }
+    }
+
+    private void warnFallback(RuntimeException e) {
+        long nowMs = System.currentTimeMillis();
+        if (nowMs - lastFallbackWarnMs >= FALLBACK_WARN_INTERVAL_MS) {
+            lastFallbackWarnMs = nowMs;
+            log.warn("Redis rate limiter unavailable, using local limiter: {}", e.toString());
+        }
+    }
+
+    private static long toEpochSecondsCeil(long epochMillis) {
+        return (epochMillis + 999) / 1000;
+    }
+
+    /**
+     * 노드 로컬 임대분
+     * 허가 소비는 CAS로, 임대 갱신은 lease 모니터 안에서만 수행합니다.
+     */
+    private static final class Lease {
+
+        private final AtomicInteger permits = new AtomicInteger();
+        private volatile long expiresAtMs;
+        private volatile long resetEpochSeconds;
+        private volatile long deniedUntilMs;
+        private int lastBatchSize;
+
+        /**
+         * @return 소비 후 남은 허가 수, 소비할 허가가 없으면 -1
+         */
+        int tryTake(long nowMs) {
+            if (nowMs >= expiresAtMs) {
+                return -1;
+            }
+            int current;
+            while ((current = permits.get()) > 0) {
+                if (permits.compareAndSet(current, current - 1)) {
+                    return current - 1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 다음 임대량 (만료 전에 다 썼으면 두 배, 아니면 1부터 다시 시작)
+         */
+        int nextBatchSize(long nowMs, int maxBatchSize) {
+            boolean exhaustedBeforeExpiry = lastBatchSize > 0 && nowMs < expiresAtMs;
+            lastBatchSize = exhaustedBeforeExpiry ? Math.min(lastBatchSize * 2, maxBatchSize) : 1;
+            return lastBatchSize;
+        }
+
+        void refill(int count, long expiresAtMs, long resetEpochSeconds) {
+            this.resetEpochSeconds = resetEpochSeconds;
+            this.expiresAtMs = expiresAtMs;
+            permits.set(count);
+        }
+
+        /**
+         * 남은 임대분을 버리고 버린 수를 반환합니다.
+         */
+        int discard() {
+            return permits.getAndSet(0);
+        }
+
+        boolean isIdle(long nowMs) {
+            return nowMs >= expiresAtMs && nowMs >= deniedUntilMs;
+        }
+    }
+
+}
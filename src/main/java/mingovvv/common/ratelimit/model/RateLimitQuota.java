@@ -0,0 +1,30 @@
+package mingovvv.common.ratelimit.model;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레이트 리밋 한도입니다. (GCRA 파라미터로 미리 환산해 둡니다)
+ *
+ * @param maxRequests   윈도우당 허용 요청 수
+ * @param intervalNanos 요청 간 평균 간격 (윈도우 / maxRequests)
+ * @param burst         연속 허용 최대 요청 수
+ */
+public record RateLimitQuota(
+    int maxRequests,
+    long intervalNanos,
+    int burst
+) {
+
+    public static RateLimitQuota of(int maxRequests, int windowSeconds, int burst) {
+        long intervalNanos = Math.max(1, TimeUnit.SECONDS.toNanos(windowSeconds) / Math.max(1, maxRequests));
+        return new RateLimitQuota(maxRequests, intervalNanos, Math.max(1, burst));
+    }
+
+    /**
+     * 버킷 용량 (burst × interval)
+     */
+    public long capacityNanos() {
+        return intervalNanos * burst;
+    }
+
+}
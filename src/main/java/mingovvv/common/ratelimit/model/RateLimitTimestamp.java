@@ -0,0 +1,19 @@
+package mingovvv.common.ratelimit.model;
+
+/**
+ * 요청 1건의 기준 시각입니다.
+ * 여러 한도를 검사할 때 시계를 한 번만 읽어 같은 값을 공유합니다.
+ *
+ * @param nanoTime    단조 시계 (System.nanoTime)
+ * @param epochMillis 벽시계 (리셋 시각 계산용)
+ */
+public record RateLimitTimestamp(
+    long nanoTime,
+    long epochMillis
+) {
+
+    public static RateLimitTimestamp now() {
+        return new RateLimitTimestamp(System.nanoTime(), System.currentTimeMillis());
+    }
+
+}
@@ -0,0 +1,43 @@
+package mingovvv.common.ratelimit.policy;
+
+import java.util.Locale;
+
+/**
+ * 레이트 리밋 키를 구성하는 호출자 식별 기준입니다.
+ * 정책은 하나 이상의 기준을 조합해 키를 만듭니다. (예: USER + EVENT)
+ */
+public enum RateLimitDimension {
+
+    /**
+     * 클라이언트 IP (프록시 헤더 포함)
+     */
+    IP,
+
+    /**
+     * 검증된 JWT의 subject (토큰이 없거나 유효하지 않으면 IP)
+     */
+    SUBJECT,
+
+    /**
+     * 경로 변수 또는 쿼리 파라미터 userId (없으면 IP)
+     * 클라이언트가 임의로 바꿀 수 있는 값이므로 IP 기준 정책과 함께 사용합니다.
+     */
+    USER,
+
+    /**
+     * 경로 변수 eventId (없으면 전체 공통)
+     */
+    EVENT;
+
+    /**
+     * 설정 값(ip, subject, user, event)을 변환합니다.
+     */
+    public static RateLimitDimension from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown rate limit key dimension: " + value, e);
+        }
+    }
+
+}
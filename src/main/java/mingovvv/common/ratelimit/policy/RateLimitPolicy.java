@@ -0,0 +1,27 @@
+package mingovvv.common.ratelimit.policy;
+
+import mingovvv.common.ratelimit.model.RateLimitQuota;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 컴파일된 레이트 리밋 정책입니다.
+ *
+ * @param name       정책 이름 (레이트 리밋 키 prefix)
+ * @param methods    적용 HTTP 메서드 (비어 있으면 전체)
+ * @param dimensions 키 구성 기준
+ * @param quota      한도
+ */
+public record RateLimitPolicy(
+    String name,
+    Set<String> methods,
+    List<RateLimitDimension> dimensions,
+    RateLimitQuota quota
+) {
+
+    public boolean appliesTo(String method) {
+        return methods.isEmpty() || methods.contains(method);
+    }
+
+}
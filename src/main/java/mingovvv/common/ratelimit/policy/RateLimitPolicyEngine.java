@@ -0,0 +1,144 @@
+package mingovvv.common.ratelimit.policy;
+
+import jakarta.servlet.http.HttpServletRequest;
+import mingovvv.common.ratelimit.RateLimitKeyResolver;
+import mingovvv.common.ratelimit.RateLimiter;
+import mingovvv.common.ratelimit.model.RateLimitResult;
+import mingovvv.common.ratelimit.model.RateLimitTimestamp;
+import mingovvv.common.utils.NetworkUtil;
+import mingovvv.common.utils.RequestPathUtil;
+
+import java.util.Map;
+
+/**
+ * 경로/메서드별 레이트 리밋 정책 엔진입니다.
+ * <p>
+ * 매칭되는 정책마다 키(정책 이름 + 기준 값)를 만들어 각각의 한도로 소비합니다.
+ * 경로는 MVC 핸들러 매핑과 같은 정규화 경로로 매칭하므로, 경로 파라미터나 인코딩으로 정책을 우회할 수 없습니다.
+ * 시각은 요청당 한 번만 읽어 모든 정책에 같은 값을 사용하며, 하나라도 거절되면 이후 정책은 검사하지 않습니다.
+ */
+public class RateLimitPolicyEngine {
+
+    private static final String ALL = "*";
+
+    private final RateLimitPolicyMatcher matcher;
+    private final RateLimiter rateLimiter;
+    private final RateLimitKeyResolver subjectResolver;
+
+    /**
+     * 정책 평가 결과입니다.
+     *
+     * @param policy 결과를 결정한 정책 (거절한 정책 또는 남은 허용량이 가장 적은 정책)
+     * @param result 소비 결과
+     */
+    public record Decision(RateLimitPolicy policy, RateLimitResult result) {
+
+        public int limit() {
+            return policy.quota().maxRequests();
+        }
+    }
+
+    public RateLimitPolicyEngine(RateLimitPolicyMatcher matcher, RateLimiter rateLimiter, RateLimitKeyResolver subjectResolver) {
+        this.matcher = matcher;
+        this.rateLimiter = rateLimiter;
+        this.subjectResolver = subjectResolver;
+    }
+
+    /**
+     * 요청에 매칭되는 정책을 모두 적용합니다.
+     *
+     * @return 가장 엄격한 결과, 매칭되는 정책이 없으면 null
+     */
+    public Decision evaluate(HttpServletRequest request) {
+        RateLimitPolicyMatcher.Match match = matcher.match(RequestPathUtil.pathWithinApplication(request));
+        if (match.isEmpty()) {
+            return null;
+        }
+
+        String method = request.getMethod();
+        RateLimitTimestamp timestamp = null;
+        Decision tightest = null;
+        KeyContext context = new KeyContext(request, match.pathVariables());
+
+        for (RateLimitPolicy policy : match.policies()) {
+            if (!policy.appliesTo(method)) {
+                continue;
+            }
+            if (timestamp == null) {
+                timestamp = RateLimitTimestamp.now();
+            }
+
+            RateLimitResult result = rateLimiter.tryConsume(key(policy, context), policy.quota(), timestamp);
+            if (!result.allowed()) {
+                return new Decision(policy, result);
+            }
+            if (tightest == null || result.remaining() < tightest.result().remaining()) {
+                tightest = new Decision(policy, result);
+            }
+        }
+        return tightest;
+    }
+
+    private String key(RateLimitPolicy policy, KeyContext context) {
+        StringBuilder key = new StringBuilder(policy.name()).append(':');
+        for (int i = 0; i < policy.dimensions().size(); i++) {
+            if (i > 0) {
+                key.append('|');
+            }
+            key.append(context.value(policy.dimensions().get(i)));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 요청 하나의 기준 값 (여러 정책이 같은 값을 쓰므로 한 번만 계산)
+     */
+    private final class KeyContext {
+
+        private final HttpServletRequest request;
+        private final Map<String, String> pathVariables;
+        private String ip;
+        private String subject;
+        private boolean subjectResolved;
+
+        private KeyContext(HttpServletRequest request, Map<String, String> pathVariables) {
+            this.request = request;
+            this.pathVariables = pathVariables;
+        }
+
+        private String value(RateLimitDimension dimension) {
+            return switch (dimension) {
+                case IP -> ip();
+                case SUBJECT -> orIp("s=", subject());
+                case USER -> orIp("u=", userId());
+                case EVENT -> pathVariables.getOrDefault("eventId", ALL);
+            };
+        }
+
+        // 식별 값이 없는 요청은 IP로 묶어, 값을 생략하는 것으로 한도를 우회하지 못하게 합니다.
+        private String orIp(String prefix, String value) {
+            return value == null || value.isBlank() ? "ip=" + ip() : prefix + value;
+        }
+
+        private String ip() {
+            if (ip == null) {
+                ip = NetworkUtil.getClientIp(request);
+            }
+            return ip;
+        }
+
+        private String subject() {
+            if (!subjectResolved) {
+                subject = subjectResolver == null ? null : subjectResolver.resolve(request);
+                subjectResolved = true;
+            }
+            return subject;
+        }
+
+        private String userId() {
+            String userId = pathVariables.get("userId");
+            return userId != null ? userId : request.getParameter("userId");
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package mingovvv.common.ratelimit.policy;
+
+import org.springframework.http.server.PathContainer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 패턴 → 정책 매처입니다.
+ * <p>
+ * 기동 시 모든 패턴을 경로 세그먼트 트리로 컴파일해 두고, 요청마다 경로를 한 번 훑어 매칭되는 정책 전체와
+ * 경로 변수를 함께 얻습니다. 정책 수와 관계없이 비용은 경로 세그먼트 수에 비례합니다.
+ * <p>
+ * 지원 문법: 리터럴 세그먼트, {name}(경로 변수), *(세그먼트 1개), 마지막 위치의 **(하위 전체)
+ * <p>
+ * 요청 경로는 MVC와 같은 기준(PathContainer 세그먼트의 valueToMatch, 디코딩 + 경로 파라미터 제거)으로 비교합니다.
+ */
+public final class RateLimitPolicyMatcher {
+
+    private static final String MATCH_ALL = "**";
+    private static final String MATCH_ONE = "*";
+
+    private final Node root = new Node();
+
+    /**
+     * 매칭 결과입니다.
+     *
+     * @param policies      매칭된 정책 (등록 순)
+     * @param pathVariables 경로 변수
+     */
+    public record Match(List<RateLimitPolicy> policies, Map<String, String> pathVariables) {
+
+        static final Match NONE = new Match(List.of(), Map.of());
+
+        public boolean isEmpty() {
+            return policies.isEmpty();
+        }
+    }
+
+    /**
+     * 패턴과 정책을 등록합니다. (기동 시에만 호출)
+     */
+    public void register(String pattern, RateLimitPolicy policy) {
+        String[] segments = split(pattern);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (MATCH_ALL.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment: " + pattern);
+                }
+                node.matchAllPolicies.add(policy);
+                return;
+            }
+            if (isVariable(segment) || MATCH_ONE.equals(segment)) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+                if (isVariable(segment)) {
+                    node.variableNames.add(segment.substring(1, segment.length() - 1));
+                }
+            } else {
+                node = node.literals.computeIfAbsent(segment, ignored -> new Node());
+            }
+        }
+        node.policies.add(policy);
+    }
+
+    /**
+     * 요청 경로에 매칭되는 정책을 찾습니다.
+     */
+    public Match match(String path) {
+        return match(PathContainer.parsePath(path));
+    }
+
+    /**
+     * 파싱된 요청 경로에 매칭되는 정책을 찾습니다.
+     */
+    public Match match(PathContainer path) {
+        String[] segments = segments(path);
+        List<RateLimitPolicy> policies = new ArrayList<>(2);
+        Map<String, String> variables = new HashMap<>(4);
+        collect(root, segments, 0, policies, variables);
+        return policies.isEmpty() ? Match.NONE : new Match(policies, variables);
+    }
+
+    private void collect(Node node, String[] segments, int index,
+                         List<RateLimitPolicy> policies, Map<String, String> variables) {
+        addAll(policies, node.matchAllPolicies);
+        if (index == segments.length) {
+            addAll(policies, node.policies);
+            return;
+        }
+
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            collect(literal, segments, index + 1, policies, variables);
+        }
+        if (node.wildcard != null) {
+            for (String name : node.wildcard.variableNames) {
+                variables.putIfAbsent(name, segments[index]);
+            }
+            collect(node.wildcard, segments, index + 1, policies, variables);
+        }
+    }
+
+    private static void addAll(List<RateLimitPolicy> target, List<RateLimitPolicy> source) {
+        for (RateLimitPolicy policy : source) {
+            if (!target.contains(policy)) {
+                target.add(policy);
+            }
+        }
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    private static String[] split(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.endsWith("/") && path.length() > start ? path.length() - 1 : path.length();
+        return start >= end ? new String[0] : path.substring(start, end).split("/");
+    }
+
+    private static String[] segments(PathContainer path) {
+        List<PathContainer.Element> elements = path.elements();
+        List<String> segments = new ArrayList<>(elements.size());
+        for (PathContainer.Element element : elements) {
+            if (element instanceof PathContainer.PathSegment segment && !segment.valueToMatch().isEmpty()) {
+                segments.add(segment.valueToMatch());
+            }
+        }
+        return segments.toArray(String[]::new);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<String> variableNames = new ArrayList<>(1);
+        private final List<RateLimitPolicy> policies = new ArrayList<>(1);
+        private final List<RateLimitPolicy> matchAllPolicies = new ArrayList<>(1);
+        private Node wildcard;
+    }
+
+}
@@ -22,9 +22,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * JWT 인증 필터 (엄격한 방식)
@@ -74,8 +72,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 3. 토큰이 있는 경우 → 반드시 유효해야 함
-        if (!jwtTokenProvider.validateToken(token)) {
+        // 3. 토큰이 있는 경우 → 반드시 유효해야 함 (파싱/검증은 요청당 한 번, 검증된 토큰은 캐시 재사용)
+        JwtPrincipal principal = jwtTokenProvider.verify(token);
+        if (principal == null) {
             // 유효하지 않은 토큰 → 즉시 401 응답
             log.error("Invalid JWT token for request uri: {}", requestUri);
             sendUnauthorizedResponse(response, ResultCode.Error.AUTH_TOKEN_INVALID);
@@ -84,7 +83,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // 4. 토큰이 유효한 경우 → 인증 정보 설정
         try {
-            setAuthenticationToSecurityContext(token, request);
+            setAuthenticationToSecurityContext(principal, request);
             log.debug("Successfully authenticated request for uri: {}", requestUri);
         } catch (Exception e) {
             // 인증 정보 설정 중 예외 발생 → 즉시 401 응답
@@ -98,39 +97,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * JWT 토큰에서 사용자 정보를 추출하여 SecurityContext에 인증 정보를 설정합니다.
+     * 검증된 토큰의 인증 정보로 SecurityContext에 인증 정보를 설정합니다.
      *
-     * @param token   JWT 토큰
-     * @param request HttpServletRequest
+     * @param principal 검증된 토큰의 인증 정보
+     * @param request   HttpServletRequest
      */
-    private void setAuthenticationToSecurityContext(String token, HttpServletRequest request) {
+    private void setAuthenticationToSecurityContext(JwtPrincipal principal, HttpServletRequest request) {
         // 1. 토큰에서 사용자 정보 추출
-        String username = jwtTokenProvider.getUsernameFromToken(token);
-
-        // 2. 권한 정보 추출 (authorities 또는 scope 시도)
-        String authoritiesString = jwtTokenProvider.getAuthoritiesFromToken(token);
-        if (authoritiesString == null || authoritiesString.isBlank()) {
-            // Client Credentials의 경우 scope를 권한으로 사용
-            String scope = jwtTokenProvider.getScopeFromToken(token);
-            authoritiesString = scope;
-        }
+        String username = principal.subject();
 
-        // 3. 권한 정보 파싱
-        List<SimpleGrantedAuthority> authorities = parseAuthorities(authoritiesString);
+        // 2. 권한 정보 (authorities 또는 scope, 토큰 검증 시 파싱됨)
+        List<SimpleGrantedAuthority> authorities = principal.authorities();
 
-        // 4. UserDetails 객체 생성
+        // 3. UserDetails 객체 생성
         UserDetails userDetails = User.builder()
                 .username(username)
                 .password("")  // 비밀번호는 JWT에 포함되지 않음
                 .authorities(authorities)
                 .build();
 
-        // 5. Authentication 객체 생성
+        // 4. Authentication 객체 생성
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null, authorities);
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-        // 6. SecurityContext에 인증 정보 저장
+        // 5. SecurityContext에 인증 정보 저장
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         log.debug("Set Authentication to security context for '{}', uri: {}", username, request.getRequestURI());
@@ -165,26 +156,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         return jwtTokenProvider.resolveToken(bearerToken);
     }
 
-    /**
-     * 권한 문자열을 파싱하여 SimpleGrantedAuthority 리스트로 변환합니다.
-     *
-     * @param authoritiesString 콤마 또는 공백으로 구분된 권한 문자열
-     *                          예: "ROLE_USER,ROLE_ADMIN" 또는 "read write admin"
-     * @return SimpleGrantedAuthority 리스트
-     */
-    private List<SimpleGrantedAuthority> parseAuthorities(String authoritiesString) {
-        if (authoritiesString == null || authoritiesString.isBlank()) {
-            return List.of();
-        }
-
-        // 콤마 또는 공백으로 구분 (OAuth scope는 공백, 일반 권한은 콤마)
-        String delimiter = authoritiesString.contains(",") ? "," : " ";
-
-        return Arrays.stream(authoritiesString.split(delimiter))
-                .map(String::trim)
-                .filter(auth -> !auth.isEmpty())
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
-    }
-
 }
@@ -0,0 +1,70 @@
+package mingovvv.common.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 서명이 검증된 JWT에서 추출한 불변 인증 정보
+ * <p>
+ * 토큰 1개당 한 번만 만들어지며, 검증 캐시에 그대로 보관되어 같은 토큰의 다음 요청에서 재사용됩니다.
+ *
+ * @param subject     사용자 이름 또는 Client ID
+ * @param authorities 권한 목록 (authorities 클레임, 없으면 scope)
+ * @param scope       Client Credentials 토큰의 scope (없으면 null)
+ * @param expiresAt   만료 시각 (없으면 null)
+ */
+public record JwtPrincipal(String subject, List<SimpleGrantedAuthority> authorities, String scope, Instant expiresAt) {
+
+    public JwtPrincipal {
+        authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * Claims에서 인증 정보를 추출합니다.
+     */
+    static JwtPrincipal from(Claims claims) {
+        String scope = claims.get("scope", String.class);
+
+        // Client Credentials의 경우 scope를 권한으로 사용
+        String authoritiesString = claims.get("authorities", String.class);
+        if (authoritiesString == null || authoritiesString.isBlank()) {
+            authoritiesString = scope;
+        }
+
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+        return new JwtPrincipal(claims.getSubject(), parseAuthorities(authoritiesString), scope, expiresAt);
+    }
+
+    /**
+     * 권한 문자열을 파싱하여 SimpleGrantedAuthority 리스트로 변환합니다.
+     *
+     * @param authoritiesString 콤마 또는 공백으로 구분된 권한 문자열
+     *                          예: "ROLE_USER,ROLE_ADMIN" 또는 "read write admin"
+     * @return SimpleGrantedAuthority 리스트
+     */
+    private static List<SimpleGrantedAuthority> parseAuthorities(String authoritiesString) {
+        if (authoritiesString == null || authoritiesString.isBlank()) {
+            return List.of();
+        }
+
+        // 콤마 또는 공백으로 구분 (OAuth scope는 공백, 일반 권한은 콤마)
+        String delimiter = authoritiesString.contains(",") ? "," : " ";
+
+        return Arrays.stream(authoritiesString.split(delimiter))
+                .map(String::trim)
+                .filter(auth -> !auth.isEmpty())
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    /**
+     * 지정 시각에 아직 만료되지 않았는지 확인합니다.
+     */
+    public boolean isValidAt(Instant now) {
+        return expiresAt == null || now.isBefore(expiresAt);
+    }
+}
@@ -1,9 +1,14 @@
 package mingovvv.common.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import mingovvv.common.properties.JwtProperties;
 import org.springframework.security.core.Authentication;
@@ -13,6 +18,11 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.stream.Collectors;
 
@@ -20,22 +30,49 @@ import java.util.stream.Collectors;
  * JWT 토큰 생성, 검증, 파싱을 담당하는 Provider 클래스
  * <p>
  * HMAC-SHA256 알고리즘을 사용하여 JWT를 생성하고 검증합니다.
+ * <p>
+ * 서명 키와 파서는 기동 시 한 번만 만들어 재사용합니다. (둘 다 불변, 스레드 안전)
+ * 검증에 성공한 토큰은 SHA-256 다이제스트를 키로 만료 시각까지 캐시하여,
+ * 같은 토큰으로 반복 호출하는 클라이언트는 Base64 디코딩/JSON 파싱/HMAC 검증을 다시 하지 않습니다.
+ * 원본 토큰 대신 다이제스트만 보관하므로 캐시에 토큰이 남지 않습니다.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtProperties jwtProperties;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
 
     /**
-     * JWT 서명에 사용할 SecretKey를 생성합니다.
-     *
-     * @return HMAC-SHA 알고리즘용 SecretKey
+     * 검증된 토큰 캐시 (키: 토큰 SHA-256 다이제스트, 비활성화 시 null)
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+
+    private final Counter cacheHits;
+    private final Counter verified;
+    private final Counter rejected;
+
+    public JwtTokenProvider(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+
+        this.cacheHits = meterRegistry.counter("jwt.verify", "result", "cache_hit");
+        this.verified = meterRegistry.counter("jwt.verify", "result", "verified");
+        this.rejected = meterRegistry.counter("jwt.verify", "result", "rejected");
+
+        if (jwtProperties.getVerifiedTokenCacheSize() > 0) {
+            this.verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                    .expireAfter(new UntilTokenExpiry())
+                    .build();
+            Gauge.builder("jwt.verified_cache.size", verifiedTokens, Cache::estimatedSize).register(meterRegistry);
+        } else {
+            this.verifiedTokens = null;
+        }
     }
 
     /**
@@ -81,7 +118,7 @@ public class JwtTokenProvider {
                 .issuer(jwtProperties.getIssuer())                       // 발급자
                 .issuedAt(now)                                           // 발급 시간
                 .expiration(expiryDate)                                  // 만료 시간
-                .signWith(getSigningKey(), Jwts.SIG.HS256)               // 서명 알고리즘 및 키
+                .signWith(signingKey, Jwts.SIG.HS256)                    // 서명 알고리즘 및 키
                 .compact();
     }
 
@@ -90,21 +127,23 @@ public class JwtTokenProvider {
      *
      * @param token JWT 토큰
      * @return 사용자 이름
+     * @throws JwtException 토큰 검증 실패 시
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return claims.getSubject();
+        return parse(token).subject();
     }
 
     /**
-     * JWT 토큰에서 권한 정보를 추출합니다.
+     * JWT 토큰에서 권한 정보를 추출합니다. (검증 캐시 사용)
      *
      * @param token JWT 토큰
-     * @return 권한 문자열 (콤마로 구분)
+     * @return 권한 문자열 (콤마로 구분, authorities 클레임이 없으면 scope)
+     * @throws JwtException 토큰 검증 실패 시
      */
     public String getAuthoritiesFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("authorities", String.class);
+        return parse(token).authorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
     }
 
     /**
@@ -114,9 +153,18 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 아니면 false
      */
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * JWT 토큰을 검증하고 인증 정보를 반환합니다. (요청당 한 번 호출)
+     *
+     * @param token JWT 토큰
+     * @return 인증 정보, 유효하지 않으면 null
+     */
+    public JwtPrincipal verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            return parse(token);
         } catch (SignatureException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -127,8 +175,50 @@ public class JwtTokenProvider {
             log.error("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.error("JWT token is invalid: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * JWT 토큰을 검증하고 인증 정보를 반환합니다.
+     * 캐시에 있고 아직 만료되지 않은 토큰은 서명 검증 없이 캐시된 값을 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return 인증 정보
+     * @throws JwtException             토큰 검증 실패 시
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public JwtPrincipal parse(String token) {
+        if (verifiedTokens == null || token == null || token.isBlank()) {
+            return verifyAndExtract(token);
+        }
+
+        String digest = digest(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.isValidAt(Instant.now())) {
+            cacheHits.increment();
+            return cached;
+        }
+
+        JwtPrincipal principal = verifyAndExtract(token);
+        // 만료 시각이 없는 토큰은 캐시하지 않음 (무기한 보관 방지)
+        if (principal.expiresAt() != null) {
+            verifiedTokens.put(digest, principal);
+        }
+        return principal;
+    }
+
+    private JwtPrincipal verifyAndExtract(String token) {
+        try {
+            JwtPrincipal principal = JwtPrincipal.from(parseClaims(token));
+            verified.increment();
+            return principal;
+        } catch (JwtException | IllegalArgumentException e) {
+            rejected.increment();
+            throw e;
         }
-        return false;
     }
 
     /**
@@ -139,13 +229,23 @@ public class JwtTokenProvider {
      * @throws JwtException 토큰 파싱 실패 시
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * 캐시 키로 쓸 토큰 다이제스트 (SHA-256, Base64)
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     /**
      * Client Credentials Grant용 Access Token을 생성합니다.
      * <p>
@@ -168,7 +268,7 @@ public class JwtTokenProvider {
                 .issuer(jwtProperties.getIssuer())                       // 발급자
                 .issuedAt(now)                                           // 발급 시간
                 .expiration(expiryDate)                                  // 만료 시간
-                .signWith(getSigningKey(), Jwts.SIG.HS256)               // 서명 알고리즘 및 키
+                .signWith(signingKey, Jwts.SIG.HS256)                    // 서명 알고리즘 및 키
                 .compact();
     }
 
@@ -179,8 +279,7 @@ public class JwtTokenProvider {
      * @return Scope 문자열 (공백으로 구분)
      */
     public String getScopeFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return claims.get("scope", String.class);
+        return parse(token).scope();
     }
 
     /**
@@ -196,4 +295,25 @@ public class JwtTokenProvider {
         return null;
     }
 
+    /**
+     * 캐시 항목을 토큰 만료 시각에 만료시킵니다. (읽기/갱신으로 연장되지 않음)
+     */
+    private static final class UntilTokenExpiry implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), principal.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
 }
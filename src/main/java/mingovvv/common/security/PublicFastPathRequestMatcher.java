@@ -0,0 +1,53 @@
+package mingovvv.common.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import mingovvv.common.properties.PublicFastPathProperties;
+import mingovvv.common.utils.RequestPathUtil;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 고빈도 경로 fast path 허용 목록 매처입니다.
+ * <p>
+ * 경로 패턴은 생성 시 한 번만 컴파일하며, 요청 경로는 MVC 핸들러 매핑과 같은 정규화 경로(context path 제외,
+ * 디코딩, 경로 파라미터 제거)로 비교합니다. MVC와 다른 기준으로 비교하면 허용 목록 밖의 핸들러가 인증 없이 호출될 수 있습니다.
+ */
+public class PublicFastPathRequestMatcher implements RequestMatcher {
+
+    private final List<PathPattern> patterns;
+    private final Set<String> methods;
+
+    public PublicFastPathRequestMatcher(PublicFastPathProperties properties) {
+        this.patterns = properties.getPaths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        this.methods = properties.getMethods().stream()
+                .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * 경로 패턴과 HTTP 메서드가 모두 맞으면 true를 반환합니다.
+     */
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        if (patterns.isEmpty() || (!methods.isEmpty() && !methods.contains(request.getMethod()))) {
+            return false;
+        }
+        PathContainer path = RequestPathUtil.pathWithinApplication(request);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
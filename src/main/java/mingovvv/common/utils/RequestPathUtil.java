@@ -0,0 +1,26 @@
+package mingovvv.common.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.RequestPath;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RequestPathUtil {
+
+    /**
+     * Spring MVC 핸들러 매핑과 같은 기준의 요청 경로 (context path 제외)
+     * 필터에서 경로 패턴을 매칭할 때 사용합니다. 세그먼트의 valueToMatch()는 디코딩되고 ;로 시작하는 경로 파라미터가 제거된 값이므로,
+     * getRequestURI를 그대로 매칭할 때처럼 "/status;x=1" 이나 인코딩된 경로로 정책을 우회할 수 없습니다.
+     * 파싱 결과는 요청 속성에 캐시되어 이후 필터와 DispatcherServlet이 재사용합니다.
+     */
+    public static PathContainer pathWithinApplication(HttpServletRequest request) {
+        RequestPath path = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request)
+                : ServletRequestPathUtils.parseAndCache(request);
+        return path.pathWithinApplication();
+    }
+
+}
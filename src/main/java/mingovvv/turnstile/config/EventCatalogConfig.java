@@ -0,0 +1,36 @@
+package mingovvv.turnstile.config;
+
+import mingovvv.turnstile.listener.EventStatusListener;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.repository.redis.EventStatusRedisRepository;
+import mingovvv.turnstile.service.EventService;
+import mingovvv.turnstile.service.QueueService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 이벤트 카탈로그 설정
+ */
+@Configuration
+public class EventCatalogConfig {
+
+    /**
+     * 다른 노드의 이벤트 상태 변경(event:status)을 공용 리스너 컨테이너로 구독해 로컬 카탈로그에 반영합니다.
+     * 단일 노드 운영 시 turnstile.event-catalog.sync-enabled=false로 끌 수 있습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "turnstile.event-catalog", name = "sync-enabled", havingValue = "true", matchIfMissing = true)
+    public EventStatusListener eventStatusListener(
+        RedisMessageListenerContainer container,
+        EventService eventService,
+        QueueService queueService,
+        SeatInventoryMemoryRepository inventoryRepository
+    ) {
+        EventStatusListener listener = new EventStatusListener(eventService, queueService, inventoryRepository);
+        container.addMessageListener(listener, new ChannelTopic(EventStatusRedisRepository.CHANNEL));
+        return listener;
+    }
+}
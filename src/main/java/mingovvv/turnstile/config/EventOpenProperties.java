@@ -0,0 +1,110 @@
+package mingovvv.turnstile.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Getter
+@ConfigurationProperties(prefix = "turnstile.event-open")
+public class EventOpenProperties {
+
+    /**
+     * 예약 오픈 시각보다 이만큼 앞서 예열(pre-warm)을 시작합니다.
+     */
+    private Duration preWarmLead = Duration.ofSeconds(60);
+
+    /**
+     * 좌석 조회 경로(조회 + JSON 직렬화) 예열 반복 횟수입니다. JIT 컴파일을 유도하기 위한 값입니다.
+     */
+    private int warmUpIterations = 2_000;
+
+    /**
+     * Redis 커넥션 예열 시 동시에 보내는 PING 수입니다.
+     */
+    private int redisConnections = 8;
+
+    /**
+     * PG 커넥션 풀 예열 시 동시에 보내는 요청 수입니다. (HttpClient 라우트당 최대 커넥션 수 이하 권장)
+     */
+    private int httpConnections = 5;
+
+    /**
+     * 오픈 시각 이전 사전 대기열 접수 구간입니다. 이 구간에 진입한 사용자는 오픈 시 추첨 순서로 대기열에 등록됩니다.
+     * 0이면 사전 대기열을 사용하지 않습니다. (오픈 전에는 EVENT_NOT_OPEN)
+     */
+    private Duration preQueueWindow = Duration.ofMinutes(10);
+
+    /**
+     * 사전 대기열 최대 인원입니다. (전체 노드 합산)
+     */
+    private int preQueueCapacity = 1_000_000;
+
+    /**
+     * 오픈 시 사전 대기열을 대기열로 옮길 때 스크립트 한 번에 옮기는 인원입니다.
+     */
+    private int preQueueBatchSize = 10_000;
+
+    /**
+     * 시드 이벤트(EVT002)의 예약 오픈 시각입니다. (ISO-8601, 예: 2026-11-01T02:00:00Z)
+     * 모든 노드에 같은 값을 설정해야 같은 시각에 열립니다. 없으면 수동 전환 대상으로 등록됩니다.
+     */
+    private Instant seedOpenAt;
+
+    /**
+     * 예열 시작 시점(오픈 시각 기준 선행 시간)을 설정합니다.
+     */
+    public void setPreWarmLead(Duration preWarmLead) {
+        this.preWarmLead = preWarmLead;
+    }
+
+    /**
+     * 좌석 조회 경로 예열 반복 횟수를 설정합니다.
+     */
+    public void setWarmUpIterations(int warmUpIterations) {
+        this.warmUpIterations = warmUpIterations;
+    }
+
+    /**
+     * Redis 커넥션 예열 동시 PING 수를 설정합니다.
+     */
+    public void setRedisConnections(int redisConnections) {
+        this.redisConnections = redisConnections;
+    }
+
+    /**
+     * PG 커넥션 풀 예열 동시 요청 수를 설정합니다.
+     */
+    public void setHttpConnections(int httpConnections) {
+        this.httpConnections = httpConnections;
+    }
+
+    /**
+     * 사전 대기열 접수 구간을 설정합니다.
+     */
+    public void setPreQueueWindow(Duration preQueueWindow) {
+        this.preQueueWindow = preQueueWindow;
+    }
+
+    /**
+     * 사전 대기열 최대 인원을 설정합니다.
+     */
+    public void setPreQueueCapacity(int preQueueCapacity) {
+        this.preQueueCapacity = preQueueCapacity;
+    }
+
+    /**
+     * 사전 대기열 일괄 등록 단위를 설정합니다.
+     */
+    public void setPreQueueBatchSize(int preQueueBatchSize) {
+        this.preQueueBatchSize = preQueueBatchSize;
+    }
+
+    /**
+     * 시드 이벤트 오픈 시각을 설정합니다.
+     */
+    public void setSeedOpenAt(Instant seedOpenAt) {
+        this.seedOpenAt = seedOpenAt;
+    }
+}
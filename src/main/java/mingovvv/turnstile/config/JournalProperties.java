@@ -0,0 +1,111 @@
+package mingovvv.turnstile.config;
+
+import lombok.Getter;
+import mingovvv.turnstile.journal.MappedJournal.FsyncPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties(prefix = "turnstile.journal")
+public class JournalProperties {
+
+    /**
+     * 메모리 Repository 변경 저널 사용 여부입니다. 활성화 시 기동 시점에 저널을 재생해 상태를 복구합니다.
+     */
+    private boolean enabled = false;
+
+    /**
+     * 저널 세그먼트/스냅샷 파일 디렉터리입니다.
+     */
+    private String directory = "./data/journal";
+
+    /**
+     * 세그먼트 파일(메모리 맵) 크기입니다.
+     */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * fsync 정책입니다. (NONE, INTERVAL, SYNC)
+     * SYNC만 요청 스레드가 디스크 동기화까지 대기합니다.
+     */
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.INTERVAL;
+
+    /**
+     * INTERVAL 정책의 fsync 주기입니다.
+     */
+    private Duration fsyncInterval = Duration.ofSeconds(1);
+
+    /**
+     * 마지막 스냅샷 이후 이 건수만큼 기록되면 압축 스냅샷을 생성합니다.
+     */
+    private long snapshotEveryRecords = 1_000_000;
+
+    /**
+     * 기록 대기 큐 최대 크기입니다. 가득 차면 생산자가 append-timeout 동안 대기합니다.
+     */
+    private int queueCapacity = 65_536;
+
+    /**
+     * 큐가 가득 찼을 때 생산자가 대기하는 최대 시간입니다. 초과 시 기록 요청이 예외로 실패합니다.
+     */
+    private Duration appendTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 저널 사용 여부를 설정합니다.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 저널 디렉터리를 설정합니다.
+     */
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * 세그먼트 크기를 설정합니다.
+     */
+    public void setSegmentSize(DataSize segmentSize) {
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * fsync 정책을 설정합니다.
+     */
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    /**
+     * fsync 주기를 설정합니다.
+     */
+    public void setFsyncInterval(Duration fsyncInterval) {
+        this.fsyncInterval = fsyncInterval;
+    }
+
+    /**
+     * 스냅샷 생성 주기(기록 건수)를 설정합니다.
+     */
+    public void setSnapshotEveryRecords(long snapshotEveryRecords) {
+        this.snapshotEveryRecords = snapshotEveryRecords;
+    }
+
+    /**
+     * 기록 대기 큐 최대 크기를 설정합니다.
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 큐 대기 최대 시간을 설정합니다.
+     */
+    public void setAppendTimeout(Duration appendTimeout) {
+        this.appendTimeout = appendTimeout;
+    }
+
+}
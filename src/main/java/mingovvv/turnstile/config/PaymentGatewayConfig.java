@@ -0,0 +1,25 @@
+package mingovvv.turnstile.config;
+
+import mingovvv.common.async.impl.MdcTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 결제 게이트웨이 비동기 실행 설정
+ */
+@Configuration
+public class PaymentGatewayConfig {
+
+    /**
+     * PG 호출/결제 완료 처리용 가상 스레드 실행기
+     * 동시 호출 수 제한은 Resilience4j Bulkhead(payment-gateway)가 담당
+     */
+    @Bean(name = "paymentGatewayExecutor")
+    public SimpleAsyncTaskExecutor paymentGatewayExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("pg-");
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        return executor;
+    }
+}
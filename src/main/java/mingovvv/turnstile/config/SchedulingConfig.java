@@ -1,7 +1,9 @@
 package mingovvv.turnstile.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * 스케줄링 활성화 설정
@@ -9,4 +11,18 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
+
+    /**
+     * @Scheduled 작업과 이벤트 오픈 전환용 스케줄러
+     * 자동 구성 스케줄러는 단일 스레드이므로, 대기열 처리 주기와 오픈 전환 시각이 겹쳐도
+     * 전환이 밀리지 않도록 스레드를 여러 개 둔 스케줄러를 명시적으로 등록합니다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
 }
@@ -0,0 +1,69 @@
+package mingovvv.turnstile.config;
+
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.listener.SeatLockKeyspaceListener;
+import mingovvv.turnstile.listener.TokenKeyspaceListener;
+import mingovvv.turnstile.service.SeatService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 좌석 선점 설정
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(SeatLockProperties.class)
+public class SeatLockConfig {
+
+    // K: 키스페이스 채널, g: DEL 등 일반 명령, x: 만료, $: 문자열(SET)
+    private static final String KEYSPACE_EVENTS = "Kgx$";
+
+    /**
+     * keyspace-notification-enabled=true(기본값)인 경우 공용 리스너 컨테이너로 키스페이스 알림을 구독합니다.
+     * - seat:lock:* : 다른 노드의 선점, 해제, TTL 만료를 선점 미러에 반영
+     * - token:*     : 토큰 만료 시 사용자의 좌석 선점 일괄 해제
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "turnstile.seat-lock", name = "keyspace-notification-enabled", havingValue = "true", matchIfMissing = true)
+    public SeatLockKeyspaceListener seatLockKeyspaceListener(
+        RedisMessageListenerContainer container,
+        RedisConnectionFactory connectionFactory,
+        SeatLockProperties properties,
+        SeatService seatService
+    ) {
+        if (properties.isConfigureKeyspaceEvents()) {
+            configureKeyspaceEvents(connectionFactory);
+        }
+
+        SeatLockKeyspaceListener listener = new SeatLockKeyspaceListener(seatService);
+        container.addMessageListener(listener, new PatternTopic(SeatLockKeyspaceListener.CHANNEL_PATTERN));
+        return listener;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "turnstile.seat-lock", name = "keyspace-notification-enabled", havingValue = "true", matchIfMissing = true)
+    public TokenKeyspaceListener tokenKeyspaceListener(
+        RedisMessageListenerContainer container,
+        SeatService seatService
+    ) {
+        TokenKeyspaceListener listener = new TokenKeyspaceListener(seatService);
+        container.addMessageListener(listener, new PatternTopic(TokenKeyspaceListener.CHANNEL_PATTERN));
+        return listener;
+    }
+
+    private void configureKeyspaceEvents(RedisConnectionFactory connectionFactory) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.serverCommands().setConfig("notify-keyspace-events", KEYSPACE_EVENTS);
+            log.info("Redis keyspace events configured: {}", KEYSPACE_EVENTS);
+        } catch (Exception e) {
+            log.warn("Failed to configure Redis keyspace events (configure on server side): {}", e.getMessage());
+        }
+    }
+
+}
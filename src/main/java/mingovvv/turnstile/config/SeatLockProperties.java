@@ -0,0 +1,48 @@
+package mingovvv.turnstile.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@ConfigurationProperties(prefix = "turnstile.seat-lock")
+public class SeatLockProperties {
+
+    /**
+     * 사용자당 동시에 선점할 수 있는 최대 좌석 수입니다. (0 이하면 제한 없음)
+     */
+    private int maxHoldsPerUser = 4;
+
+    /**
+     * Redis 키스페이스 알림(seat:lock:* 의 set/del/expired) 구독 여부입니다.
+     * 비활성화 시 선점 미러에 다른 노드의 선점이 반영되지 않으므로 좌석 상태 조회는 Redis EXISTS로 확인합니다.
+     */
+    private boolean keyspaceNotificationEnabled = true;
+
+    /**
+     * 기동 시 Redis에 notify-keyspace-events 설정을 시도할지 여부입니다.
+     * 관리형 Redis처럼 CONFIG SET이 막힌 환경에서는 false로 두고 서버 측에서 설정합니다.
+     */
+    private boolean configureKeyspaceEvents = true;
+
+    /**
+     * 사용자당 최대 선점 좌석 수를 설정합니다.
+     */
+    public void setMaxHoldsPerUser(int maxHoldsPerUser) {
+        this.maxHoldsPerUser = maxHoldsPerUser;
+    }
+
+    /**
+     * 키스페이스 알림 사용 여부를 설정합니다.
+     */
+    public void setKeyspaceNotificationEnabled(boolean keyspaceNotificationEnabled) {
+        this.keyspaceNotificationEnabled = keyspaceNotificationEnabled;
+    }
+
+    /**
+     * notify-keyspace-events 자동 설정 여부를 설정합니다.
+     */
+    public void setConfigureKeyspaceEvents(boolean configureKeyspaceEvents) {
+        this.configureKeyspaceEvents = configureKeyspaceEvents;
+    }
+
+}
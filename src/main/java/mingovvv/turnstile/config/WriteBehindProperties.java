@@ -0,0 +1,108 @@
+package mingovvv.turnstile.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@ConfigurationProperties(prefix = "turnstile.write-behind")
+public class WriteBehindProperties {
+
+    /**
+     * 영속화 대기 큐 최대 크기입니다. 가득 차면 생산자가 enqueue-timeout 동안 대기합니다.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * 한 트랜잭션(JDBC 배치)으로 저장할 최대 건수입니다.
+     */
+    private int batchSize = 200;
+
+    /**
+     * 배치가 차지 않아도 저장을 시작하는 최대 대기 시간입니다.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * 배치 저장 최대 시도 횟수입니다. (초기 1회 포함)
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * 재시도 기본 대기 시간입니다. 시도마다 2배씩 증가합니다.
+     */
+    private Duration retryBackoff = Duration.ofMillis(200);
+
+    /**
+     * 큐가 가득 찼을 때 생산자가 대기하는 최대 시간입니다. 초과 시 해당 건은 유실로 집계됩니다.
+     */
+    private Duration enqueueTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 처리량(inserts/sec) 로그 출력 주기입니다.
+     */
+    private Duration statsInterval = Duration.ofSeconds(10);
+
+    /**
+     * 최대 시도 후에도 저장하지 못한 건을 한 줄에 하나씩 JSON으로 기록하는 파일입니다. 재처리 시 이 파일을 사용합니다.
+     */
+    private String deadLetterFile = "./data/write-behind/dead-letter.jsonl";
+
+    /**
+     * 큐 최대 크기를 설정합니다.
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 배치 크기를 설정합니다.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 배치 최대 대기 시간을 설정합니다.
+     */
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * 배치 저장 최대 시도 횟수를 설정합니다.
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 재시도 기본 대기 시간을 설정합니다.
+     */
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+
+    /**
+     * 생산자 최대 대기 시간을 설정합니다.
+     */
+    public void setEnqueueTimeout(Duration enqueueTimeout) {
+        this.enqueueTimeout = enqueueTimeout;
+    }
+
+    /**
+     * 처리량 로그 출력 주기를 설정합니다.
+     */
+    public void setStatsInterval(Duration statsInterval) {
+        this.statsInterval = statsInterval;
+    }
+
+    /**
+     * 저장 실패 건 기록 파일을 설정합니다.
+     */
+    public void setDeadLetterFile(String deadLetterFile) {
+        this.deadLetterFile = deadLetterFile;
+    }
+
+}
@@ -2,10 +2,13 @@ package mingovvv.turnstile.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import mingovvv.common.model.PageRequestDto;
+import mingovvv.common.model.PageResponseDto;
 import mingovvv.turnstile.dto.request.PaymentRequest;
 import mingovvv.turnstile.dto.response.PaymentResponse;
 import mingovvv.turnstile.dto.response.ReservationResponse;
 import mingovvv.turnstile.service.PaymentService;
+import mingovvv.turnstile.service.TokenService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,7 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * 결제 API Controller (Mock)
+ * 결제 API Controller
  */
 @RestController
 @RequestMapping("/api")
@@ -21,20 +24,30 @@ import java.util.Map;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final TokenService tokenService;
 
     /**
-     * 결제 요청
+     * 결제 요청 (비동기)
      * POST /api/payments
+     * PENDING 결제를 202로 즉시 응답하며, 최종 결과는 결제 정보 조회로 확인
+     * <p>
+     * 입장 토큰이 필요함 (헤더: X-Entry-Token)
      */
     @PostMapping("/payments")
-    public ResponseEntity<Map<String, Object>> processPayment(@Valid @RequestBody PaymentRequest request) {
+    public ResponseEntity<Map<String, Object>> processPayment(
+            @RequestHeader(value = "X-Entry-Token", required = false) String token,
+            @Valid @RequestBody PaymentRequest request) {
+
+        // 토큰 검증 (본인의 입장권으로만 결제 가능, PG 호출 전)
+        tokenService.validateToken(request.getEventId(), request.getUserId(), token);
+
         PaymentResponse payment = paymentService.processPayment(
                 request.getEventId(),
                 request.getSeatId(),
                 request.getUserId()
         );
 
-        return ResponseEntity.ok(Map.of(
+        return ResponseEntity.accepted().body(Map.of(
                 "success", true,
                 "data", payment
         ));
@@ -68,6 +81,40 @@ public class PaymentController {
         ));
     }
 
+    /**
+     * 사용자 예약 목록 페이지 조회 (최신 확정 순)
+     * GET /api/users/{userId}/reservations/page?page=1&size=10
+     */
+    @GetMapping("/users/{userId}/reservations/page")
+    public ResponseEntity<Map<String, Object>> getUserReservationPage(
+            @PathVariable String userId,
+            @ModelAttribute PageRequestDto pageRequest
+    ) {
+        PageResponseDto<ReservationResponse> reservations = paymentService.getUserReservationPage(userId, pageRequest);
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", reservations
+        ));
+    }
+
+    /**
+     * 사용자 결제 내역 조회 (최신 요청 순 페이지)
+     * GET /api/users/{userId}/payments?page=1&size=10
+     */
+    @GetMapping("/users/{userId}/payments")
+    public ResponseEntity<Map<String, Object>> getUserPayments(
+            @PathVariable String userId,
+            @ModelAttribute PageRequestDto pageRequest
+    ) {
+        PageResponseDto<PaymentResponse> payments = paymentService.getUserPayments(userId, pageRequest);
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", payments
+        ));
+    }
+
     /**
      * 예약 정보 조회
      * GET /api/reservations/{reservationId}
@@ -2,20 +2,28 @@ package mingovvv.turnstile.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import mingovvv.turnstile.dto.request.SeatLockRequest;
 import mingovvv.turnstile.dto.response.SeatLockResponse;
 import mingovvv.turnstile.dto.response.SeatResponse;
+import mingovvv.turnstile.dto.response.SeatSummaryResponse;
 import mingovvv.turnstile.service.SeatService;
 import mingovvv.turnstile.service.TokenService;
+import mingovvv.turnstile.sse.SeatSseEmitterRegistry;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 좌석 API Controller
  */
+@Slf4j
 @RestController
 @RequestMapping("/api/events/{eventId}/seats")
 @RequiredArgsConstructor
@@ -23,6 +31,7 @@ public class SeatController {
 
     private final SeatService seatService;
     private final TokenService tokenService;
+    private final SeatSseEmitterRegistry seatSseRegistry;
 
     /**
      * 좌석 목록 조회
@@ -48,6 +57,36 @@ public class SeatController {
         ));
     }
 
+    /**
+     * 구역/등급별 잔여 좌석 요약 조회
+     * GET /api/events/{eventId}/seats/summary
+     * <p>
+     * 전체 좌석 목록 대신 카운터만 내려주며, 1초간 캐시 가능
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<Map<String, Object>> getSeatSummary(@PathVariable String eventId) {
+        SeatSummaryResponse summary = seatService.getSeatSummary(eventId);
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.SECONDS).cachePublic())
+                .body(Map.of(
+                        "success", true,
+                        "data", summary
+                ));
+    }
+
+    /**
+     * 좌석 상태 변경 SSE 구독
+     * GET /api/events/{eventId}/seats/subscribe
+     * <p>
+     * 선점 해제/만료로 좌석이 다시 선택 가능해지면 SEAT_RELEASED 이벤트를 받습니다.
+     */
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable String eventId) {
+        log.info("Seat SSE subscribe: eventId={}", eventId);
+        return seatSseRegistry.register(eventId);
+    }
+
     /**
      * 좌석 상세 조회
      * GET /api/events/{eventId}/seats/{seatId}
@@ -89,6 +128,33 @@ public class SeatController {
         ));
     }
 
+    /**
+     * 사용자의 모든 좌석 선점 해제 (좌석 선택 이탈)
+     * DELETE /api/events/{eventId}/seats/locks?userId={userId}
+     * <p>
+     * 입장 토큰이 필요함 (헤더: X-Entry-Token)
+     */
+    @DeleteMapping("/locks")
+    public ResponseEntity<Map<String, Object>> releaseAllLocks(
+            @PathVariable String eventId,
+            @RequestParam String userId,
+            @RequestHeader(value = "X-Entry-Token", required = false) String token) {
+
+        // 토큰 검증 (본인의 입장권으로만 일괄 해제 가능)
+        tokenService.validateToken(eventId, userId, token);
+
+        int released = seatService.releaseAllHolds(eventId, userId);
+
+        return ResponseEntity.ok(Map.of(
+                "success", true,
+                "data", Map.of(
+                        "eventId", eventId,
+                        "userId", userId,
+                        "releasedCount", released
+                )
+        ));
+    }
+
     /**
      * 좌석 선점 해제
      * DELETE /api/events/{eventId}/seats/{seatId}/lock?userId={userId}
@@ -4,25 +4,37 @@ import lombok.Builder;
 import lombok.Getter;
 import mingovvv.turnstile.domain.enums.EventStatus;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 /**
  * 이벤트(공연) 도메인
+ * <p>
+ * 이벤트 카탈로그 스냅샷에 그대로 공유되므로 불변으로 유지합니다.
+ * 상태 변경은 withStatus로 새 인스턴스를 만들어 EventMemoryRepository.updateStatus로 교체합니다.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class Event {
 
-    private String eventId;
-    private String name;
-    private String venue;
-    private LocalDateTime eventDate;
-    private int maxConcurrentUsers;  // 동시 입장 가능 인원
-    private EventStatus status;
-    private LocalDateTime createdAt;
+    private final String eventId;
+    private final String name;
+    private final String venue;
+    private final LocalDateTime eventDate;
+    private final int maxConcurrentUsers;  // 동시 입장 가능 인원
+    private final EventStatus status;
+    private final Instant openAt;  // 예약 오픈 시각 (UPCOMING → OPEN 자동 전환, null이면 수동, 모든 노드가 같은 절대 시각 기준)
+    private final LocalDateTime createdAt;
 
-    public void updateStatus(EventStatus status) {
-        this.status = status;
+    public Event withStatus(EventStatus status) {
+        return toBuilder().status(status).build();
+    }
+
+    /**
+     * 예약 오픈 대상 여부 (오픈 시각이 지정된 UPCOMING 이벤트)
+     */
+    public boolean isScheduledToOpen() {
+        return this.status == EventStatus.UPCOMING && this.openAt != null;
     }
 
     public boolean isOpen() {
@@ -15,20 +15,30 @@ public class Payment {
 
     private String paymentId;
     private String userId;
+    // 결제 대상 좌석 (재시작 후 PENDING 결제 확정 시 선점 해제/체크아웃에 사용)
+    private String eventId;
+    private String seatId;
     private String reservationId;
     private int amount;
-    private PaymentStatus status;
+    // 비동기 결제 완료 스레드에서 변경되고 조회 스레드에서 읽히므로 volatile (다른 필드는 status 이전에 기록)
+    private volatile PaymentStatus status;
+    private LocalDateTime requestedAt;
     private LocalDateTime paidAt;
 
-    public void success() {
-        this.status = PaymentStatus.SUCCESS;
+    public void success(String reservationId) {
+        this.reservationId = reservationId;
         this.paidAt = LocalDateTime.now();
+        this.status = PaymentStatus.SUCCESS;
     }
 
     public void fail() {
         this.status = PaymentStatus.FAILED;
     }
 
+    public boolean isPending() {
+        return this.status == PaymentStatus.PENDING;
+    }
+
     public boolean isSuccess() {
         return this.status == PaymentStatus.SUCCESS;
     }
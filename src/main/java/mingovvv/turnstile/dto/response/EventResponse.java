@@ -5,6 +5,7 @@ import lombok.Getter;
 import mingovvv.turnstile.domain.Event;
 import mingovvv.turnstile.domain.enums.EventStatus;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 /**
@@ -20,6 +21,7 @@ public class EventResponse {
     private LocalDateTime eventDate;
     private EventStatus status;
     private String statusDescription;
+    private Instant openAt;
     private int maxConcurrentUsers;
 
     public static EventResponse from(Event event) {
@@ -30,6 +32,7 @@ public class EventResponse {
                 .eventDate(event.getEventDate())
                 .status(event.getStatus())
                 .statusDescription(event.getStatus().getDescription())
+                .openAt(event.getOpenAt())
                 .maxConcurrentUsers(event.getMaxConcurrentUsers())
                 .build();
     }
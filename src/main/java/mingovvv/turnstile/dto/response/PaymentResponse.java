@@ -20,6 +20,7 @@ public class PaymentResponse {
     private int amount;
     private PaymentStatus status;
     private String statusDescription;
+    private LocalDateTime requestedAt;
     private LocalDateTime paidAt;
 
     public static PaymentResponse from(Payment payment) {
@@ -30,6 +31,7 @@ public class PaymentResponse {
                 .amount(payment.getAmount())
                 .status(payment.getStatus())
                 .statusDescription(payment.getStatus().getDescription())
+                .requestedAt(payment.getRequestedAt())
                 .paidAt(payment.getPaidAt())
                 .build();
     }
@@ -17,6 +17,7 @@ public class QueueStatusResponse {
     private int estimatedWaitSeconds; // 예상 대기 시간 (초)
     private boolean canEnter;        // 입장 가능 여부
     private String token;            // 입장 토큰 (입장 가능 시)
+    private boolean preQueued;       // 사전 대기열 등록 여부 (오픈 시 추첨으로 순번 부여)
 
     public static QueueStatusResponse waiting(String eventId, String userId, long position, long totalWaiting, int estimatedWaitSeconds) {
         return QueueStatusResponse.builder()
@@ -42,6 +43,19 @@ public class QueueStatusResponse {
                 .build();
     }
 
+    public static QueueStatusResponse preQueued(String eventId, String userId, long totalPreQueued) {
+        return QueueStatusResponse.builder()
+                .eventId(eventId)
+                .userId(userId)
+                .position(-1)
+                .totalWaiting(totalPreQueued)
+                .estimatedWaitSeconds(0)
+                .canEnter(false)
+                .token(null)
+                .preQueued(true)
+                .build();
+    }
+
     public static QueueStatusResponse notInQueue(String eventId, String userId) {
         return QueueStatusResponse.builder()
                 .eventId(eventId)
@@ -0,0 +1,63 @@
+package mingovvv.turnstile.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import mingovvv.turnstile.domain.enums.SeatGrade;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository.SeatInventory;
+
+import java.util.List;
+
+/**
+ * 좌석 잔여 현황 요약 응답
+ */
+@Getter
+@Builder
+public class SeatSummaryResponse {
+
+    private String eventId;
+    private int totalSeats;
+    private int available;
+    private int locked;
+    private int reserved;
+    private List<SectionSummary> sections;   // 구역/등급별 현황
+
+    public static SeatSummaryResponse from(String eventId, List<SeatInventory> inventories) {
+        List<SectionSummary> sections = inventories.stream()
+                .map(SectionSummary::from)
+                .toList();
+
+        return SeatSummaryResponse.builder()
+                .eventId(eventId)
+                .totalSeats(inventories.stream().mapToInt(SeatInventory::total).sum())
+                .available(inventories.stream().mapToInt(SeatInventory::available).sum())
+                .locked(inventories.stream().mapToInt(SeatInventory::locked).sum())
+                .reserved(inventories.stream().mapToInt(SeatInventory::reserved).sum())
+                .sections(sections)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    public static class SectionSummary {
+
+        private String section;
+        private SeatGrade grade;
+        private String gradeDescription;
+        private int totalSeats;
+        private int available;
+        private int locked;
+        private int reserved;
+
+        public static SectionSummary from(SeatInventory inventory) {
+            return SectionSummary.builder()
+                    .section(inventory.section())
+                    .grade(inventory.grade())
+                    .gradeDescription(inventory.grade().getDescription())
+                    .totalSeats(inventory.total())
+                    .available(inventory.available())
+                    .locked(inventory.locked())
+                    .reserved(inventory.reserved())
+                    .build();
+        }
+    }
+}
@@ -12,11 +12,13 @@ public enum ErrorCode {
     // Event 관련
     EVENT_NOT_FOUND(HttpStatus.NOT_FOUND, "E001", "이벤트를 찾을 수 없습니다."),
     EVENT_NOT_OPEN(HttpStatus.BAD_REQUEST, "E002", "예매가 진행 중인 이벤트가 아닙니다."),
+    EVENT_SOLD_OUT(HttpStatus.CONFLICT, "E003", "매진된 이벤트입니다."),
 
     // Queue 관련
     ALREADY_IN_QUEUE(HttpStatus.CONFLICT, "Q001", "이미 대기열에 등록되어 있습니다."),
     NOT_IN_QUEUE(HttpStatus.BAD_REQUEST, "Q002", "대기열에 등록되어 있지 않습니다."),
     QUEUE_ENTRY_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "Q003", "대기열 진입에 실패했습니다."),
+    PRE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "Q004", "사전 대기열이 가득 찼습니다. 오픈 후 다시 시도해 주세요."),
 
     // Token 관련
     TOKEN_NOT_FOUND(HttpStatus.UNAUTHORIZED, "T001", "입장 토큰이 없습니다."),
@@ -29,10 +31,13 @@ public enum ErrorCode {
     SEAT_ALREADY_RESERVED(HttpStatus.CONFLICT, "S003", "이미 예약 완료된 좌석입니다."),
     SEAT_NOT_LOCKED_BY_USER(HttpStatus.FORBIDDEN, "S004", "본인이 선점한 좌석이 아닙니다."),
     SEAT_LOCK_EXPIRED(HttpStatus.BAD_REQUEST, "S005", "좌석 선점 시간이 만료되었습니다."),
+    SEAT_HOLD_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "S006", "선점 가능한 좌석 수를 초과했습니다."),
 
     // Payment 관련
     PAYMENT_FAILED(HttpStatus.BAD_REQUEST, "P001", "결제에 실패했습니다."),
     PAYMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "P002", "결제 정보를 찾을 수 없습니다."),
+    PAYMENT_GATEWAY_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "P003", "결제 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    PAYMENT_IN_PROGRESS(HttpStatus.CONFLICT, "P004", "이미 진행 중인 결제가 있는 좌석입니다."),
 
     // Reservation 관련
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "R001", "예약 정보를 찾을 수 없습니다."),
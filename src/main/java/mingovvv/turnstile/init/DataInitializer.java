@@ -3,21 +3,27 @@ package mingovvv.turnstile.init;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.config.EventOpenProperties;
 import mingovvv.turnstile.domain.Event;
 import mingovvv.turnstile.domain.Seat;
 import mingovvv.turnstile.domain.enums.EventStatus;
 import mingovvv.turnstile.domain.enums.SeatGrade;
 import mingovvv.turnstile.domain.enums.SeatStatus;
+import mingovvv.turnstile.journal.RepositoryJournal;
 import mingovvv.turnstile.repository.memory.EventMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
 import mingovvv.turnstile.repository.memory.SeatMemoryRepository;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 샘플 데이터 초기화
  * <p>
  * 애플리케이션 시작 시 테스트용 이벤트와 좌석 데이터를 생성합니다.
+ * 저널이 활성화되어 있으면 시드 데이터 위에 저널을 재생해 예약/결제 상태를 복구한 뒤 재고 카운터를 초기화합니다.
  */
 @Slf4j
 @Component
@@ -26,6 +32,9 @@ public class DataInitializer {
 
     private final EventMemoryRepository eventRepository;
     private final SeatMemoryRepository seatRepository;
+    private final SeatInventoryMemoryRepository inventoryRepository;
+    private final ObjectProvider<RepositoryJournal> journal;
+    private final EventOpenProperties eventOpenProperties;
 
     @PostConstruct
     public void init() {
@@ -37,6 +46,12 @@ public class DataInitializer {
         // 좌석 생성
         createSeats();
 
+        // 저널 재생 (좌석 예약, 예약/결제 복구)
+        journal.ifAvailable(RepositoryJournal::recover);
+
+        // 구역/등급별 재고 카운터 초기화 (복구된 좌석 상태 기준)
+        initializeInventory();
+
         log.info("Sample data initialization completed. Events: {}, Seats: {}",
                 eventRepository.count(), seatRepository.count());
     }
@@ -54,7 +69,7 @@ public class DataInitializer {
                 .build();
         eventRepository.save(event1);
 
-        // 이벤트 2: 봄 뮤직 페스티벌
+        // 이벤트 2: 봄 뮤직 페스티벌 (seed-open-at 설정 시 해당 시각에 자동 오픈)
         Event event2 = Event.builder()
                 .eventId("EVT002")
                 .name("2026 봄 뮤직 페스티벌")
@@ -62,6 +77,7 @@ public class DataInitializer {
                 .eventDate(LocalDateTime.of(2026, 4, 15, 18, 0))
                 .maxConcurrentUsers(200)
                 .status(EventStatus.UPCOMING)
+                .openAt(eventOpenProperties.getSeedOpenAt())
                 .createdAt(LocalDateTime.now())
                 .build();
         eventRepository.save(event2);
@@ -84,6 +100,21 @@ public class DataInitializer {
         log.info("Created {} seats for event {}", seatRepository.countByEventId(eventId), eventId);
     }
 
+    private void initializeInventory() {
+        for (Event event : eventRepository.findAll()) {
+            String eventId = event.getEventId();
+            List<Seat> seats = seatRepository.findByEventId(eventId);
+            if (seats.isEmpty()) {
+                continue;
+            }
+            inventoryRepository.initialize(eventId, seats);
+            if (inventoryRepository.isSoldOut(eventId)) {
+                eventRepository.updateStatus(eventId, EventStatus.SOLD_OUT);
+                log.info("Event restored as sold out: eventId={}", eventId);
+            }
+        }
+    }
+
     private void createSectionSeats(String eventId, String section, SeatGrade grade, int rows, int seatsPerRow) {
         for (int row = 1; row <= rows; row++) {
             for (int seatNum = 1; seatNum <= seatsPerRow; seatNum++) {
@@ -0,0 +1,107 @@
+package mingovvv.turnstile.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 저널 레코드 페이로드 인코딩/디코딩
+ * <p>
+ * 문자열: [short 길이][UTF-8 바이트] (null은 길이 -1), 시각: UTC epoch millis (null은 Long.MIN_VALUE)
+ */
+final class JournalCodec {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    private JournalCodec() {
+    }
+
+    /**
+     * 가변 길이 레코드 작성기
+     */
+    static final class Writer {
+
+        private byte[] bytes = new byte[128];
+        private int position;
+
+        Writer(byte type) {
+            putByte(type);
+        }
+
+        Writer putByte(byte value) {
+            ensure(1);
+            bytes[position++] = value;
+            return this;
+        }
+
+        Writer putInt(int value) {
+            ensure(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                bytes[position++] = (byte) (value >>> shift);
+            }
+            return this;
+        }
+
+        Writer putLong(long value) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                bytes[position++] = (byte) (value >>> shift);
+            }
+            return this;
+        }
+
+        Writer putString(String value) {
+            if (value == null) {
+                ensure(2);
+                bytes[position++] = (byte) 0xFF;
+                bytes[position++] = (byte) 0xFF;
+                return this;
+            }
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Journal string too long: " + encoded.length);
+            }
+            ensure(2 + encoded.length);
+            bytes[position++] = (byte) (encoded.length >>> 8);
+            bytes[position++] = (byte) encoded.length;
+            System.arraycopy(encoded, 0, bytes, position, encoded.length);
+            position += encoded.length;
+            return this;
+        }
+
+        Writer putTime(LocalDateTime value) {
+            return putLong(value != null ? value.toInstant(ZoneOffset.UTC).toEpochMilli() : NULL_TIME);
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, position);
+        }
+
+        private void ensure(int size) {
+            if (position + size > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + size));
+            }
+        }
+    }
+
+    static String getString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static LocalDateTime getTime(ByteBuffer buffer) {
+        long epochMillis = buffer.getLong();
+        if (epochMillis == NULL_TIME) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochMillis, 1000), (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,425 @@
+package mingovvv.turnstile.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 맵 기반 append-only 저널 (세그먼트 파일 + 압축 스냅샷)
+ * <p>
+ * 레코드 형식: [int 길이][int CRC32C][페이로드]
+ * 세그먼트는 0으로 채워진 고정 크기 파일로 매핑되므로 길이 0이 끝을 의미하며,
+ * CRC가 맞지 않는 레코드(비정상 종료 중 잘린 꼬리)에서 재생을 멈춥니다.
+ * <p>
+ * 생산자는 큐에 적재만 하고 단일 writer 스레드가 세그먼트에 기록합니다.
+ * SYNC 정책에서만 생산자가 그룹 fsync 완료까지 대기합니다.
+ * 큐는 크기가 제한되어 있어 writer가 밀리면 생산자가 append-timeout 동안 대기하고, 초과 시 예외가 발생합니다.
+ * 세그먼트 전환 등 기록에 실패하면 writer를 멈추고 이후 append는 원인 예외와 함께 실패합니다.
+ * <p>
+ * 스냅샷: 기록 건수가 임계치를 넘으면 새 세그먼트 N으로 넘긴 뒤 현재 상태 전체를 snapshot-N에 기록하고,
+ * N 미만 세그먼트와 이전 스냅샷을 삭제합니다. 복구는 최신 스냅샷 + N 이상 세그먼트 재생입니다.
+ */
+@Slf4j
+public class MappedJournal implements AutoCloseable {
+
+    public enum FsyncPolicy {
+        NONE,       // OS 페이지 캐시에 맡김 (프로세스 비정상 종료는 안전, 전원 장애 시 유실 가능)
+        INTERVAL,   // writer가 주기적으로 fsync
+        SYNC        // 기록마다 그룹 fsync, 생산자는 완료까지 대기
+    }
+
+    /**
+     * 재생 레코드 처리기 (페이로드 버퍼는 호출 중에만 유효)
+     */
+    @FunctionalInterface
+    public interface ReplayHandler {
+        void apply(ByteBuffer payload);
+    }
+
+    /**
+     * 스냅샷 내용 제공자 (현재 상태를 레코드 페이로드로 sink에 기록)
+     */
+    @FunctionalInterface
+    public interface SnapshotSource {
+        void writeTo(Consumer<byte[]> sink);
+    }
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_DRAIN = 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    private final long snapshotEveryRecords;
+    private final SnapshotSource snapshotSource;
+    private final long appendTimeoutNanos;
+
+    private final LinkedBlockingQueue<Entry> queue;
+    private final AtomicBoolean snapshotRunning = new AtomicBoolean();
+    private volatile boolean running;
+    // writer 중단 원인 (null이면 정상)
+    private volatile Throwable failure;
+    private Thread writer;
+
+    // 이하 writer 스레드 전용 (start 이전에는 replay 스레드)
+    private long segmentIndex;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private boolean dirty;
+    private long lastForceNanos;
+    private long recordsSinceSnapshot;
+
+    public MappedJournal(Path directory, int segmentSize, FsyncPolicy fsyncPolicy,
+                         long fsyncIntervalMillis, long snapshotEveryRecords, SnapshotSource snapshotSource,
+                         int queueCapacity, long appendTimeoutMillis) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = fsyncPolicy;
+        this.fsyncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(fsyncIntervalMillis);
+        this.snapshotEveryRecords = snapshotEveryRecords;
+        this.snapshotSource = snapshotSource;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.appendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(appendTimeoutMillis);
+    }
+
+    /**
+     * 최신 스냅샷과 이후 세그먼트를 순서대로 재생 (start 이전에 호출)
+     *
+     * @return 재생한 레코드 수
+     */
+    public long replay(ReplayHandler handler) throws IOException {
+        Files.createDirectories(directory);
+
+        long snapshotIndex = latestIndex(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        long replayed = 0;
+        if (snapshotIndex >= 0) {
+            replayed += replayFile(path(SNAPSHOT_PREFIX, snapshotIndex, SNAPSHOT_SUFFIX), handler);
+        }
+
+        long lastSegment = snapshotIndex;
+        long segmentRecords = 0;
+        for (long index : indexes(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (index >= snapshotIndex) {
+                segmentRecords += replayFile(path(SEGMENT_PREFIX, index, SEGMENT_SUFFIX), handler);
+            }
+            lastSegment = Math.max(lastSegment, index);
+        }
+        segmentIndex = lastSegment;
+        // 스냅샷 이후 누적분을 이어서 세어 재시작이 잦아도 스냅샷 주기가 유지되도록 함
+        recordsSinceSnapshot = segmentRecords;
+        return replayed + segmentRecords;
+    }
+
+    /**
+     * 새 세그먼트를 열고 writer 스레드 시작
+     * 재생한 기존 세그먼트에는 이어 쓰지 않습니다.
+     */
+    public void start() throws IOException {
+        openSegment(segmentIndex + 1);
+        lastForceNanos = System.nanoTime();
+        running = true;
+        writer = Thread.ofPlatform().name("journal-writer").start(this::runLoop);
+    }
+
+    /**
+     * 레코드 적재 (SYNC 정책이면 fsync 완료까지 대기)
+     * 큐가 가득 차면 append-timeout 동안 대기합니다.
+     *
+     * @throws IllegalStateException writer가 기록 실패로 멈췄거나 대기 시간 안에 큐에 넣지 못한 경우
+     */
+    public void append(byte[] payload) {
+        if (HEADER_BYTES + payload.length + HEADER_BYTES > segmentSize) {
+            throw new IllegalArgumentException("Journal record larger than segment: " + payload.length);
+        }
+        checkWriter();
+        if (!running) {
+            log.warn("Journal not running, record dropped: size={}", payload.length);
+            return;
+        }
+
+        CompletableFuture<Void> durable = fsyncPolicy == FsyncPolicy.SYNC ? new CompletableFuture<>() : null;
+        try {
+            if (!queue.offer(new Entry(payload, durable), appendTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new IllegalStateException("Journal queue full: size=" + queue.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Journal append interrupted", e);
+        }
+
+        // 적재 직후 writer가 멈췄다면 남은 레코드를 실패 처리 (SYNC 대기가 끝나지 않는 것을 방지)
+        Throwable cause = failure;
+        if (cause != null) {
+            failQueued(cause);
+        }
+        if (durable != null) {
+            durable.join();
+        }
+    }
+
+    /**
+     * writer가 기록 실패로 멈췄는지 확인
+     */
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    private void checkWriter() {
+        Throwable cause = failure;
+        if (cause != null) {
+            throw new IllegalStateException("Journal writer stopped", cause);
+        }
+    }
+
+    /**
+     * 적재를 멈추고 남은 큐를 기록한 뒤 fsync 후 종료
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+    }
+
+    private void runLoop() {
+        List<Entry> batch = new ArrayList<>(MAX_DRAIN);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_DRAIN - 1);
+                    for (Entry entry : batch) {
+                        write(entry.payload());
+                    }
+                }
+                syncIfDue(batch);
+                batch.clear();
+                snapshotIfDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException | RuntimeException e) {
+                // 세그먼트 전환/기록 실패는 재시도해도 같은 위치에서 반복되므로 writer를 멈추고 원인을 남김
+                failure = e;
+                running = false;
+                log.error("Journal writer stopped after write failure: segment={}, batchSize={}, queued={}",
+                        segmentIndex, batch.size(), queue.size(), e);
+                batch.forEach(entry -> fail(entry, e));
+                batch.clear();
+                failQueued(e);
+                break;
+            }
+        }
+
+        try {
+            force();
+            channel.close();
+        } catch (IOException | RuntimeException e) {
+            log.error("Journal close failed: segment={}", segmentIndex, e);
+        }
+        log.info("Journal writer stopped: segment={}", segmentIndex);
+    }
+
+    private void failQueued(Throwable cause) {
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            fail(entry, cause);
+        }
+    }
+
+    private void fail(Entry entry, Throwable cause) {
+        if (entry.durable() != null) {
+            entry.durable().completeExceptionally(cause);
+        }
+    }
+
+    private void write(byte[] payload) throws IOException {
+        int recordSize = HEADER_BYTES + payload.length;
+        // 다음 레코드 헤더 자리(0)를 남겨 세그먼트 끝을 표시
+        if (buffer.remaining() < recordSize + HEADER_BYTES) {
+            roll();
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(payload);
+        dirty = true;
+        recordsSinceSnapshot++;
+    }
+
+    private void syncIfDue(List<Entry> batch) {
+        if (fsyncPolicy == FsyncPolicy.SYNC) {
+            if (!batch.isEmpty()) {
+                force();
+                batch.forEach(entry -> entry.durable().complete(null));
+            }
+        } else if (fsyncPolicy == FsyncPolicy.INTERVAL && System.nanoTime() - lastForceNanos >= fsyncIntervalNanos) {
+            force();
+        }
+    }
+
+    private void force() {
+        if (dirty) {
+            buffer.force();
+            dirty = false;
+        }
+        lastForceNanos = System.nanoTime();
+    }
+
+    private void snapshotIfDue() throws IOException {
+        if (recordsSinceSnapshot < snapshotEveryRecords || !snapshotRunning.compareAndSet(false, true)) {
+            return;
+        }
+        // 새 세그먼트로 넘긴 뒤 상태를 읽으므로, 이전 세그먼트의 변경은 모두 스냅샷에 포함됨
+        roll();
+        long snapshotIndex = segmentIndex;
+        recordsSinceSnapshot = 0;
+        Thread.ofVirtual().name("journal-snapshot").start(() -> writeSnapshot(snapshotIndex));
+    }
+
+    private void writeSnapshot(long snapshotIndex) {
+        long startNanos = System.nanoTime();
+        Path target = path(SNAPSHOT_PREFIX, snapshotIndex, SNAPSHOT_SUFFIX);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        long[] records = {0};
+
+        try (FileChannel snapshotChannel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(snapshotChannel), 1 << 16));
+            snapshotSource.writeTo(payload -> {
+                try {
+                    CRC32C crc = new CRC32C();
+                    crc.update(payload);
+                    out.writeInt(payload.length);
+                    out.writeInt((int) crc.getValue());
+                    out.write(payload);
+                    records[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+            snapshotChannel.force(true);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            deleteBefore(SEGMENT_PREFIX, SEGMENT_SUFFIX, snapshotIndex);
+            deleteBefore(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX, snapshotIndex);
+
+            log.info("Journal snapshot written: index={}, records={}, elapsedMs={}",
+                    snapshotIndex, records[0], TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (IOException | RuntimeException e) {
+            log.error("Journal snapshot failed: index={}", snapshotIndex, e);
+        } finally {
+            snapshotRunning.set(false);
+        }
+    }
+
+    private void roll() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NONE) {
+            force();
+        }
+        channel.close();
+        openSegment(segmentIndex + 1);
+    }
+
+    private void openSegment(long index) throws IOException {
+        Path segment = path(SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+        channel = FileChannel.open(segment,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segmentIndex = index;
+        dirty = false;
+    }
+
+    private long replayFile(Path file, ReplayHandler handler) throws IOException {
+        long records = 0;
+        try (FileChannel replayChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = replayChannel.map(FileChannel.MapMode.READ_ONLY, 0, replayChannel.size());
+            CRC32C crc = new CRC32C();
+            while (mapped.remaining() >= HEADER_BYTES) {
+                int length = mapped.getInt();
+                if (length <= 0) {
+                    break;
+                }
+                int checksum = mapped.getInt();
+                if (length > mapped.remaining()) {
+                    log.warn("Journal truncated record: file={}, position={}", file.getFileName(), mapped.position());
+                    break;
+                }
+
+                ByteBuffer payload = mapped.slice(mapped.position(), length);
+                crc.reset();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("Journal checksum mismatch: file={}, position={}", file.getFileName(), mapped.position());
+                    break;
+                }
+
+                handler.apply(payload);
+                mapped.position(mapped.position() + length);
+                records++;
+            }
+        }
+        return records;
+    }
+
+    private void deleteBefore(String prefix, String suffix, long index) throws IOException {
+        for (long candidate : indexes(prefix, suffix)) {
+            if (candidate < index) {
+                Files.deleteIfExists(path(prefix, candidate, suffix));
+            }
+        }
+    }
+
+    private long latestIndex(String prefix, String suffix) throws IOException {
+        List<Long> indexes = indexes(prefix, suffix);
+        return indexes.isEmpty() ? -1 : indexes.getLast();
+    }
+
+    private List<Long> indexes(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path path(String prefix, long index, String suffix) {
+        return directory.resolve(prefix + String.format("%020d", index) + suffix);
+    }
+
+    private record Entry(byte[] payload, CompletableFuture<Void> durable) {
+    }
+}
@@ -0,0 +1,211 @@
+package mingovvv.turnstile.journal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.config.JournalProperties;
+import mingovvv.turnstile.domain.Payment;
+import mingovvv.turnstile.domain.Reservation;
+import mingovvv.turnstile.domain.Seat;
+import mingovvv.turnstile.domain.enums.PaymentStatus;
+import mingovvv.turnstile.domain.enums.ReservationStatus;
+import mingovvv.turnstile.repository.memory.PaymentMemoryRepository;
+import mingovvv.turnstile.repository.memory.ReservationMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatMemoryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 메모리 Repository 변경 저널
+ * <p>
+ * 좌석 예약, 예약 저장, 결제 저장/삭제를 MappedJournal에 기록하고,
+ * 기동 시 스냅샷 + 저널 재생으로 메모리 Repository를 복구합니다.
+ * 레코드는 호출 시점 상태를 바이트로 인코딩해 큐에만 넣으므로 요청 경로에서 I/O가 발생하지 않습니다.
+ * (fsync-policy=SYNC인 경우만 디스크 동기화까지 대기)
+ * 기록 실패(writer 중단, 큐 포화)는 turnstile.journal.append{result=failed}로 집계한 뒤 예외로 전달하며,
+ * 이미 반영된 상태 변경 이후의 기록이면 호출자가 예외를 삼키고 로그만 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "turnstile.journal", name = "enabled", havingValue = "true")
+public class RepositoryJournal {
+
+    private static final byte SEAT_RESERVED = 1;
+    private static final byte RESERVATION_SAVED = 2;
+    private static final byte PAYMENT_SAVED = 3;
+    private static final byte PAYMENT_DELETED = 4;
+
+    private final SeatMemoryRepository seatRepository;
+    private final ReservationMemoryRepository reservationRepository;
+    private final PaymentMemoryRepository paymentRepository;
+    private final MappedJournal journal;
+    private final Counter appendFailures;
+
+    public RepositoryJournal(
+            SeatMemoryRepository seatRepository,
+            ReservationMemoryRepository reservationRepository,
+            PaymentMemoryRepository paymentRepository,
+            JournalProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.seatRepository = seatRepository;
+        this.reservationRepository = reservationRepository;
+        this.paymentRepository = paymentRepository;
+        this.journal = new MappedJournal(
+                Path.of(properties.getDirectory()),
+                (int) properties.getSegmentSize().toBytes(),
+                properties.getFsyncPolicy(),
+                properties.getFsyncInterval().toMillis(),
+                properties.getSnapshotEveryRecords(),
+                this::writeSnapshot,
+                properties.getQueueCapacity(),
+                properties.getAppendTimeout().toMillis()
+        );
+        this.appendFailures = meterRegistry.counter("turnstile.journal.append", "result", "failed");
+    }
+
+    /**
+     * 스냅샷 + 저널 재생으로 메모리 Repository 복구 후 기록 시작
+     * 좌석 시드 데이터 생성 이후, 재고 카운터 초기화 이전에 호출해야 합니다.
+     * 승인 결과를 받지 못한 채 남은 PENDING 결제는 PENDING으로 두고,
+     * 기동 완료 후 PaymentService가 PG 조회로 확정하면서 좌석 선점을 정리합니다.
+     */
+    public void recover() {
+        long startNanos = System.nanoTime();
+        long replayed;
+        try {
+            replayed = journal.replay(this::apply);
+            journal.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journal recovery failed", e);
+        }
+
+        long pending = paymentRepository.findAll().stream()
+                .filter(Payment::isPending)
+                .count();
+
+        log.info("Journal recovered: records={}, reservations={}, payments={}, pending={}, elapsedMs={}",
+                replayed, reservationRepository.count(), paymentRepository.count(), pending,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        journal.close();
+    }
+
+    public void seatReserved(Seat seat) {
+        append(encodeSeatReserved(seat));
+    }
+
+    public void reservationSaved(Reservation reservation) {
+        append(encodeReservation(reservation));
+    }
+
+    public void paymentSaved(Payment payment) {
+        append(encodePayment(payment));
+    }
+
+    public void paymentDeleted(String paymentId) {
+        append(new JournalCodec.Writer(PAYMENT_DELETED).putString(paymentId).toByteArray());
+    }
+
+    private void append(byte[] record) {
+        try {
+            journal.append(record);
+        } catch (RuntimeException e) {
+            appendFailures.increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 메모리 상태 전체를 스냅샷 레코드로 기록 (스냅샷 스레드에서 호출)
+     */
+    private void writeSnapshot(Consumer<byte[]> sink) {
+        seatRepository.findAll().stream()
+                .filter(Seat::isReserved)
+                .forEach(seat -> sink.accept(encodeSeatReserved(seat)));
+        reservationRepository.findAll().forEach(reservation -> sink.accept(encodeReservation(reservation)));
+        paymentRepository.findAll().forEach(payment -> sink.accept(encodePayment(payment)));
+    }
+
+    /**
+     * 레코드 재생 (같은 키는 나중 레코드가 덮어씀)
+     */
+    private void apply(ByteBuffer record) {
+        byte type = record.get();
+        switch (type) {
+            case SEAT_RESERVED -> {
+                String eventId = JournalCodec.getString(record);
+                String seatId = JournalCodec.getString(record);
+                seatRepository.findById(eventId, seatId).ifPresent(Seat::reserve);
+            }
+            case RESERVATION_SAVED -> reservationRepository.save(Reservation.builder()
+                    .reservationId(JournalCodec.getString(record))
+                    .eventId(JournalCodec.getString(record))
+                    .seatId(JournalCodec.getString(record))
+                    .userId(JournalCodec.getString(record))
+                    .paymentId(JournalCodec.getString(record))
+                    .amount(record.getInt())
+                    .status(ReservationStatus.valueOf(JournalCodec.getString(record)))
+                    .confirmedAt(JournalCodec.getTime(record))
+                    .build());
+            case PAYMENT_SAVED -> paymentRepository.save(Payment.builder()
+                    .paymentId(JournalCodec.getString(record))
+                    .userId(JournalCodec.getString(record))
+                    .eventId(JournalCodec.getString(record))
+                    .seatId(JournalCodec.getString(record))
+                    .reservationId(JournalCodec.getString(record))
+                    .amount(record.getInt())
+                    .status(PaymentStatus.valueOf(JournalCodec.getString(record)))
+                    .requestedAt(JournalCodec.getTime(record))
+                    .paidAt(JournalCodec.getTime(record))
+                    .build());
+            case PAYMENT_DELETED -> paymentRepository.deleteById(JournalCodec.getString(record));
+            default -> log.warn("Unknown journal record type: {}", type);
+        }
+    }
+
+    private byte[] encodeSeatReserved(Seat seat) {
+        return new JournalCodec.Writer(SEAT_RESERVED)
+                .putString(seat.getEventId())
+                .putString(seat.getSeatId())
+                .toByteArray();
+    }
+
+    private byte[] encodeReservation(Reservation reservation) {
+        return new JournalCodec.Writer(RESERVATION_SAVED)
+                .putString(reservation.getReservationId())
+                .putString(reservation.getEventId())
+                .putString(reservation.getSeatId())
+                .putString(reservation.getUserId())
+                .putString(reservation.getPaymentId())
+                .putInt(reservation.getAmount())
+                .putString(reservation.getStatus().name())
+                .putTime(reservation.getConfirmedAt())
+                .toByteArray();
+    }
+
+    private byte[] encodePayment(Payment payment) {
+        return new JournalCodec.Writer(PAYMENT_SAVED)
+                .putString(payment.getPaymentId())
+                .putString(payment.getUserId())
+                .putString(payment.getEventId())
+                .putString(payment.getSeatId())
+                .putString(payment.getReservationId())
+                .putInt(payment.getAmount())
+                .putString(payment.getStatus().name())
+                .putTime(payment.getRequestedAt())
+                .putTime(payment.getPaidAt())
+                .toByteArray();
+    }
+}
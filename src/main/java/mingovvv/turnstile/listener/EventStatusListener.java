@@ -0,0 +1,63 @@
+package mingovvv.turnstile.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.domain.enums.EventStatus;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.service.EventService;
+import mingovvv.turnstile.service.QueueService;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 상태 변경 리스너
+ * <p>
+ * 채널: event:status
+ * 메시지: {eventId}:{status}
+ * <p>
+ * 다른 노드의 상태 변경을 이 노드의 이벤트 카탈로그에 반영합니다.
+ * 매진으로 바뀌면 이 노드의 재고 SOLD_OUT 비트를 세워 대기열 진입/좌석 선점 fast path가 바로 거절하게 하고,
+ * 이 노드에 연결된 대기열 SSE 구독자에게도 SOLD_OUT을 전송합니다.
+ * 자신이 발행한 메시지는 이미 같은 상태이므로 무시됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EventStatusListener implements MessageListener {
+
+    private final EventService eventService;
+    private final QueueService queueService;
+    private final SeatInventoryMemoryRepository inventoryRepository;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        String eventId = body.substring(0, separator);
+
+        EventStatus status;
+        try {
+            status = EventStatus.valueOf(body.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown event status message: {}", body);
+            return;
+        }
+
+        try {
+            boolean changed = eventService.applyRemoteStatus(eventId, status);
+            if (status == EventStatus.SOLD_OUT) {
+                // 이벤트 상태가 이미 SOLD_OUT이어도 재고 비트는 별도로 세움
+                boolean soldOutFlipped = inventoryRepository.markSoldOut(eventId);
+                if (changed || soldOutFlipped) {
+                    queueService.closeQueueSoldOut(eventId);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to apply event status: eventId={}, status={}, error={}", eventId, status, e.getMessage());
+        }
+    }
+}
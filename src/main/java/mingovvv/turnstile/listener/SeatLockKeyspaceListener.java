@@ -0,0 +1,59 @@
+package mingovvv.turnstile.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.service.SeatService;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 좌석 선점 락 키스페이스 알림 리스너
+ * <p>
+ * 채널: __keyspace@{db}__:seat:lock:{eventId}:{seatId}
+ * 메시지: 명령 이름 (set, del, expired)
+ * <p>
+ * 다른 노드의 선점과 TTL 만료를 선점 미러에 반영합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SeatLockKeyspaceListener implements MessageListener {
+
+    public static final String CHANNEL_PATTERN = "__keyspace@*__:seat:lock:*";
+
+    private static final String LOCK_KEY_PREFIX = "seat:lock:";
+
+    private final SeatService seatService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String command = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        int prefixIndex = channel.indexOf(LOCK_KEY_PREFIX);
+        if (prefixIndex < 0) {
+            return;
+        }
+
+        // eventId:seatId (seatId에는 ':'가 없음)
+        String lockId = channel.substring(prefixIndex + LOCK_KEY_PREFIX.length());
+        int separator = lockId.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        String eventId = lockId.substring(0, separator);
+        String seatId = lockId.substring(separator + 1);
+
+        try {
+            switch (command) {
+                case "set" -> seatService.onLockAcquired(eventId, seatId);
+                case "expired" -> seatService.onLockReleased(eventId, seatId, true);
+                case "del" -> seatService.onLockReleased(eventId, seatId, false);
+                default -> log.trace("Ignored seat lock keyspace event: command={}, key={}", command, lockId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to apply seat lock keyspace event: command={}, key={}, error={}", command, lockId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package mingovvv.turnstile.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.service.SeatService;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 입장 토큰 키스페이스 알림 리스너
+ * <p>
+ * 채널: __keyspace@{db}__:token:{eventId}:{userId}
+ * 메시지: 명령 이름 (expired만 처리)
+ * <p>
+ * 토큰이 TTL로 만료되면 사용자의 좌석 선점을 일괄 해제합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenKeyspaceListener implements MessageListener {
+
+    public static final String CHANNEL_PATTERN = "__keyspace@*__:token:*";
+
+    private static final String TOKEN_KEY_PREFIX = "token:";
+
+    private final SeatService seatService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String command = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (!"expired".equals(command)) {
+            return;
+        }
+
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        int prefixIndex = channel.indexOf(TOKEN_KEY_PREFIX);
+        if (prefixIndex < 0) {
+            return;
+        }
+
+        // eventId:userId
+        String tokenId = channel.substring(prefixIndex + TOKEN_KEY_PREFIX.length());
+        int separator = tokenId.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        String eventId = tokenId.substring(0, separator);
+        String userId = tokenId.substring(separator + 1);
+
+        try {
+            seatService.releaseAllHolds(eventId, userId);
+        } catch (Exception e) {
+            log.warn("Failed to release holds on token expiry: eventId={}, userId={}, error={}", eventId, userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package mingovvv.turnstile.repository.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import mingovvv.turnstile.domain.Payment;
+import mingovvv.turnstile.domain.enums.PaymentStatus;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 영속화 엔티티 (write-behind 저장 전용, 최종 상태만 저장)
+ */
+@Getter
+@Entity
+@Table(name = "payment", indexes = {
+        @Index(name = "idx_payment_user", columnList = "user_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "payment_id", length = 32)
+    private String paymentId;
+
+    @Column(name = "user_id", nullable = false, length = 64)
+    private String userId;
+
+    @Column(name = "reservation_id", length = 32)
+    private String reservationId;
+
+    @Column(name = "amount", nullable = false)
+    private int amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private PaymentStatus status;
+
+    @Column(name = "requested_at")
+    private LocalDateTime requestedAt;
+
+    @Column(name = "paid_at")
+    private LocalDateTime paidAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * 도메인 객체의 현재 상태를 스냅샷으로 복사
+     */
+    public static PaymentEntity from(Payment payment) {
+        PaymentEntity entity = new PaymentEntity();
+        entity.paymentId = payment.getPaymentId();
+        entity.userId = payment.getUserId();
+        entity.reservationId = payment.getReservationId();
+        entity.amount = payment.getAmount();
+        entity.status = payment.getStatus();
+        entity.requestedAt = payment.getRequestedAt();
+        entity.paidAt = payment.getPaidAt();
+        return entity;
+    }
+
+    @Override
+    public String getId() {
+        return paymentId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 롤백된 저장을 재시도할 때 다시 INSERT 대상으로 표시
+     */
+    void markNew() {
+        this.isNew = true;
+    }
+}
@@ -0,0 +1,307 @@
+package mingovvv.turnstile.repository.jpa;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.config.WriteBehindProperties;
+import mingovvv.turnstile.domain.Payment;
+import mingovvv.turnstile.domain.Reservation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제/예약 write-behind 영속화 Repository
+ * <p>
+ * 결제 완료 경로는 메모리 저장 후 이 큐에 스냅샷만 넣고 반환하며,
+ * 단일 writer 스레드가 큐를 배치 단위로 꺼내 한 트랜잭션(JDBC 배치 INSERT)으로 저장합니다.
+ * - 순서: 단일 writer가 큐 순서대로 저장하고 실패 배치는 재시도 후에야 다음 배치로 넘어가므로 키별 순서가 보장됨
+ * - 배압: 큐가 가득 차면 생산자(결제 완료 가상 스레드)가 enqueue-timeout 동안 대기
+ * - 재시도: 배치 단위 지수 백오프, 최대 시도 초과 시 배치를 반씩 나눠 다시 저장해 실패 원인 건만 골라냄
+ * - 실패 건: 1건 단위까지 나눠도 저장되지 않은 건은 dead-letter-file에 JSON 한 줄로 기록하고 failed로 집계 (재처리용)
+ * 조회는 계속 메모리 Repository를 사용합니다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "feature.db.enabled", havingValue = "true")
+public class PaymentWriteBehindRepository {
+
+    private static final String METRIC_PREFIX = "turnstile.write_behind";
+
+    private final ReservationJpaRepository reservationJpaRepository;
+    private final PaymentJpaRepository paymentJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final WriteBehindProperties properties;
+    private final Path deadLetterFile;
+    private final ObjectMapper deadLetterMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final BlockingQueue<WriteRecord> queue;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Counter persistedRows;
+    private final Counter failedRecords;
+    private final Counter droppedRecords;
+    private final Timer flushTimer;
+
+    // 처리량 로그용 (writer 스레드 전용)
+    private long statsWindowStartNanos = System.nanoTime();
+    private long statsWindowRows;
+
+    public PaymentWriteBehindRepository(
+            ReservationJpaRepository reservationJpaRepository,
+            PaymentJpaRepository paymentJpaRepository,
+            PlatformTransactionManager transactionManager,
+            WriteBehindProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.reservationJpaRepository = reservationJpaRepository;
+        this.paymentJpaRepository = paymentJpaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.deadLetterFile = Path.of(properties.getDeadLetterFile());
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writer = Thread.ofPlatform().name("write-behind").unstarted(this::runLoop);
+
+        this.persistedRows = meterRegistry.counter(METRIC_PREFIX + ".rows", "result", "persisted");
+        this.failedRecords = meterRegistry.counter(METRIC_PREFIX + ".records", "result", "failed");
+        this.droppedRecords = meterRegistry.counter(METRIC_PREFIX + ".records", "result", "dropped");
+        this.flushTimer = meterRegistry.timer(METRIC_PREFIX + ".flush");
+        meterRegistry.gauge(METRIC_PREFIX + ".queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+        log.info("Write-behind started: queueCapacity={}, batchSize={}, flushInterval={}",
+                properties.getQueueCapacity(), properties.getBatchSize(), properties.getFlushInterval());
+    }
+
+    /**
+     * 종료 시 신규 적재를 멈추고 남은 큐를 모두 저장한 뒤 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(properties.getEnqueueTimeout().plusSeconds(30).toMillis());
+        if (!queue.isEmpty()) {
+            log.error("Write-behind stopped with {} unsaved records", queue.size());
+        }
+    }
+
+    /**
+     * 결제 최종 상태(와 확정 예약)를 영속화 큐에 적재
+     * 호출 시점의 상태를 스냅샷으로 복사하므로 이후 도메인 객체 변경은 반영되지 않습니다.
+     *
+     * @param reservation 결제 실패 건이면 null
+     */
+    public void enqueue(Payment payment, Reservation reservation) {
+        WriteRecord record = new WriteRecord(
+                PaymentEntity.from(payment),
+                reservation != null ? ReservationEntity.from(reservation) : null
+        );
+
+        try {
+            if (running && queue.offer(record, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        droppedRecords.increment();
+        log.error("Write-behind enqueue dropped: paymentId={}, reservationId={}, queueSize={}",
+                payment.getPaymentId(), payment.getReservationId(), queue.size());
+    }
+
+    private void runLoop() {
+        List<WriteRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                WriteRecord first = queue.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, properties.getBatchSize() - 1);
+                    flush(batch);
+                    batch.clear();
+                }
+                logThroughputIfDue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Write-behind writer interrupted: remaining={}", queue.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("Write-behind writer error", e);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 배치를 한 트랜잭션으로 저장, 실패 시 지수 백오프 재시도
+     * 최대 시도 후에도 실패하면 일시 장애가 아닌 특정 건(중복 키 등)의 문제로 보고 배치를 나눠 정상 건을 저장
+     */
+    private void flush(List<WriteRecord> batch) throws InterruptedException {
+        long backoffMillis = properties.getRetryBackoff().toMillis();
+        for (int attempt = 1; ; attempt++) {
+            RuntimeException failure = persist(batch);
+            if (failure == null) {
+                return;
+            }
+            if (attempt >= properties.getMaxAttempts()) {
+                log.warn("Write-behind batch failed after {} attempts, splitting to isolate failed records: size={}, error={}",
+                        attempt, batch.size(), failure.getMessage());
+                isolate(batch, failure);
+                return;
+            }
+            log.warn("Write-behind batch failed (attempt {}/{}), retrying in {}ms: size={}, error={}",
+                    attempt, properties.getMaxAttempts(), backoffMillis, batch.size(), failure.getMessage());
+            Thread.sleep(backoffMillis);
+            backoffMillis *= 2;
+        }
+    }
+
+    /**
+     * 실패한 배치를 반씩 나눠 재시도 없이 저장하고, 1건까지 나눠도 실패한 건만 dead letter로 기록
+     * 실패 건이 k개면 저장 시도는 최대 약 2k·log2(배치 크기)회
+     */
+    private void isolate(List<WriteRecord> records, RuntimeException failure) {
+        if (records.size() == 1) {
+            deadLetter(records.getFirst(), failure);
+            return;
+        }
+        int middle = records.size() / 2;
+        for (List<WriteRecord> half : List.of(records.subList(0, middle), records.subList(middle, records.size()))) {
+            RuntimeException halfFailure = persist(half);
+            if (halfFailure != null) {
+                isolate(half, halfFailure);
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 저장
+     *
+     * @return 실패 시 예외, 성공 시 null
+     */
+    private RuntimeException persist(List<WriteRecord> records) {
+        List<PaymentEntity> payments = records.stream().map(WriteRecord::payment).toList();
+        List<ReservationEntity> reservations = records.stream()
+                .map(WriteRecord::reservation)
+                .filter(Objects::nonNull)
+                .toList();
+        int rows = payments.size() + reservations.size();
+
+        // 롤백된 이전 시도에서 저장 완료로 표시되었을 수 있으므로 다시 INSERT 대상으로 (중복 키는 덮어쓰지 않고 실패시킴)
+        payments.forEach(PaymentEntity::markNew);
+        reservations.forEach(ReservationEntity::markNew);
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                paymentJpaRepository.saveAll(payments);
+                reservationJpaRepository.saveAll(reservations);
+            }));
+        } catch (RuntimeException e) {
+            return e;
+        }
+        persistedRows.increment(rows);
+        statsWindowRows += rows;
+        return null;
+    }
+
+    /**
+     * 저장하지 못한 건을 dead-letter-file에 JSON 한 줄로 추가 (파일 기록도 실패하면 전체 내용을 ERROR 로그로 남김)
+     */
+    private void deadLetter(WriteRecord record, RuntimeException failure) {
+        failedRecords.increment();
+        PaymentEntity payment = record.payment();
+        ReservationEntity reservation = record.reservation();
+        DeadLetter deadLetter = new DeadLetter(
+                Instant.now(),
+                String.valueOf(NestedExceptionUtils.getMostSpecificCause(failure).getMessage()),
+                payment.getPaymentId(), payment.getUserId(), payment.getReservationId(), payment.getAmount(),
+                payment.getStatus().name(), payment.getRequestedAt(), payment.getPaidAt(),
+                reservation != null ? reservation.getEventId() : null,
+                reservation != null ? reservation.getSeatId() : null,
+                reservation != null ? reservation.getStatus().name() : null,
+                reservation != null ? reservation.getConfirmedAt() : null
+        );
+
+        String line;
+        try {
+            line = deadLetterMapper.writeValueAsString(deadLetter);
+            Path parent = deadLetterFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(deadLetterFile, line + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Write-behind dead letter write failed: file={}, record={}", deadLetterFile, deadLetter, e);
+            return;
+        }
+        log.error("Write-behind record failed and written to dead letter: paymentId={}, reservationId={}, file={}, error={}",
+                payment.getPaymentId(), payment.getReservationId(), deadLetterFile, deadLetter.error());
+    }
+
+    private void logThroughputIfDue() {
+        long elapsedNanos = System.nanoTime() - statsWindowStartNanos;
+        if (elapsedNanos < properties.getStatsInterval().toNanos()) {
+            return;
+        }
+        if (statsWindowRows > 0) {
+            double insertsPerSecond = statsWindowRows * 1_000_000_000.0 / elapsedNanos;
+            log.info("Write-behind throughput: {} rows in {}ms ({} inserts/sec), queueSize={}",
+                    statsWindowRows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    String.format("%.1f", insertsPerSecond), queue.size());
+        }
+        statsWindowStartNanos = System.nanoTime();
+        statsWindowRows = 0;
+    }
+
+    private record WriteRecord(PaymentEntity payment, ReservationEntity reservation) {
+    }
+
+    /**
+     * dead letter 기록 형식 (결제 + 확정 예약 스냅샷, 결제 실패 건이면 예약 필드는 null)
+     */
+    private record DeadLetter(
+            Instant failedAt,
+            String error,
+            String paymentId,
+            String userId,
+            String reservationId,
+            int amount,
+            String paymentStatus,
+            LocalDateTime requestedAt,
+            LocalDateTime paidAt,
+            String eventId,
+            String seatId,
+            String reservationStatus,
+            LocalDateTime confirmedAt
+    ) {
+    }
+}
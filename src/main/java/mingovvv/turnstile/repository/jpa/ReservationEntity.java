@@ -0,0 +1,103 @@
+package mingovvv.turnstile.repository.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import mingovvv.turnstile.domain.Reservation;
+import mingovvv.turnstile.domain.enums.ReservationStatus;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 영속화 엔티티 (write-behind 저장 전용)
+ * <p>
+ * ID를 직접 할당하므로 Persistable로 신규 여부를 알려 merge 전 SELECT 없이 배치 INSERT 되도록 합니다.
+ */
+@Getter
+@Entity
+@Table(name = "reservation", indexes = {
+        @Index(name = "idx_reservation_user", columnList = "user_id"),
+        @Index(name = "idx_reservation_event", columnList = "event_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "reservation_id", length = 32)
+    private String reservationId;
+
+    @Column(name = "event_id", nullable = false, length = 32)
+    private String eventId;
+
+    @Column(name = "seat_id", nullable = false, length = 32)
+    private String seatId;
+
+    @Column(name = "user_id", nullable = false, length = 64)
+    private String userId;
+
+    @Column(name = "payment_id", length = 32)
+    private String paymentId;
+
+    @Column(name = "amount", nullable = false)
+    private int amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private ReservationStatus status;
+
+    @Column(name = "confirmed_at")
+    private LocalDateTime confirmedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * 도메인 객체의 현재 상태를 스냅샷으로 복사
+     */
+    public static ReservationEntity from(Reservation reservation) {
+        ReservationEntity entity = new ReservationEntity();
+        entity.reservationId = reservation.getReservationId();
+        entity.eventId = reservation.getEventId();
+        entity.seatId = reservation.getSeatId();
+        entity.userId = reservation.getUserId();
+        entity.paymentId = reservation.getPaymentId();
+        entity.amount = reservation.getAmount();
+        entity.status = reservation.getStatus();
+        entity.confirmedAt = reservation.getConfirmedAt();
+        return entity;
+    }
+
+    @Override
+    public String getId() {
+        return reservationId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    /**
+     * 롤백된 저장을 재시도할 때 다시 INSERT 대상으로 표시
+     */
+    void markNew() {
+        this.isNew = true;
+    }
+}
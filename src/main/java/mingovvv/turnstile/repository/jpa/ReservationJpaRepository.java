@@ -0,0 +1,9 @@
+package mingovvv.turnstile.repository.jpa;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 예약 JPA Repository (write-behind 저장 전용, 조회는 메모리 Repository 사용)
+ */
+public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, String> {
+}
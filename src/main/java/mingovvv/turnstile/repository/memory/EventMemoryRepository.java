@@ -1,48 +1,105 @@
 package mingovvv.turnstile.repository.memory;
 
 import mingovvv.turnstile.domain.Event;
+import mingovvv.turnstile.domain.enums.EventStatus;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * 이벤트 In-Memory Repository (RDB 대체)
+ * <p>
+ * 이벤트는 조회가 압도적으로 많고 변경(등록, 상태 전환)은 드물기 때문에 copy-on-write 카탈로그로 관리합니다.
+ * 변경 시 불변 스냅샷(이벤트 맵 + 전체 목록 + 오픈 이벤트 목록)을 새로 만들어 volatile 참조를 교체하므로,
+ * 조회는 락 없이 volatile 읽기 한 번으로 끝나고 오픈 이벤트 목록도 매번 필터링하지 않습니다.
  */
 @Repository
 public class EventMemoryRepository {
 
-    private final Map<String, Event> store = new ConcurrentHashMap<>();
+    private volatile Catalog catalog = Catalog.EMPTY;
 
-    public Event save(Event event) {
-        store.put(event.getEventId(), event);
+    public synchronized Event save(Event event) {
+        swap(events -> events.put(event.getEventId(), event));
         return event;
     }
 
+    /**
+     * 이벤트 상태 전환 (새 인스턴스로 교체 후 스냅샷 재생성)
+     *
+     * @return 상태가 실제로 바뀌었으면 true (없는 이벤트이거나 이미 같은 상태면 false)
+     */
+    public synchronized boolean updateStatus(String eventId, EventStatus status) {
+        Event current = catalog.events().get(eventId);
+        if (current == null || current.getStatus() == status) {
+            return false;
+        }
+        swap(events -> events.put(eventId, current.withStatus(status)));
+        return true;
+    }
+
     public Optional<Event> findById(String eventId) {
-        return Optional.ofNullable(store.get(eventId));
+        return Optional.ofNullable(catalog.events().get(eventId));
     }
 
+    /**
+     * 전체 이벤트 (eventId 순, 불변 목록)
+     */
     public List<Event> findAll() {
-        return new ArrayList<>(store.values());
+        return catalog.all();
+    }
+
+    /**
+     * 오픈 상태 이벤트 (eventId 순, 불변 목록)
+     */
+    public List<Event> findAllOpen() {
+        return catalog.open();
     }
 
     public boolean existsById(String eventId) {
-        return store.containsKey(eventId);
+        return catalog.events().containsKey(eventId);
     }
 
-    public void deleteById(String eventId) {
-        store.remove(eventId);
+    public synchronized void deleteById(String eventId) {
+        swap(events -> events.remove(eventId));
     }
 
-    public void deleteAll() {
-        store.clear();
+    public synchronized void deleteAll() {
+        catalog = Catalog.EMPTY;
     }
 
     public long count() {
-        return store.size();
+        return catalog.events().size();
+    }
+
+    /**
+     * 현재 스냅샷을 복사해 변경한 뒤 새 스냅샷으로 교체 (synchronized 메서드 안에서만 호출)
+     */
+    private void swap(Consumer<Map<String, Event>> mutation) {
+        Map<String, Event> events = new HashMap<>(catalog.events());
+        mutation.accept(events);
+        catalog = Catalog.of(events);
+    }
+
+    /**
+     * 이벤트 카탈로그 불변 스냅샷
+     */
+    private record Catalog(Map<String, Event> events, List<Event> all, List<Event> open) {
+
+        static final Catalog EMPTY = new Catalog(Map.of(), List.of(), List.of());
+
+        static Catalog of(Map<String, Event> events) {
+            List<Event> all = events.values().stream()
+                    .sorted(Comparator.comparing(Event::getEventId))
+                    .toList();
+            List<Event> open = all.stream()
+                    .filter(Event::isOpen)
+                    .toList();
+            return new Catalog(Map.copyOf(events), all, open);
+        }
     }
 }
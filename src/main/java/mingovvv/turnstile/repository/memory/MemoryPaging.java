@@ -0,0 +1,34 @@
+package mingovvv.turnstile.repository.memory;
+
+import mingovvv.common.model.PageRequestDto;
+import mingovvv.common.model.PageResponseDto;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * In-Memory Repository 조회 결과 페이지네이션
+ */
+final class MemoryPaging {
+
+    private MemoryPaging() {
+    }
+
+    /**
+     * 보조 인덱스로 좁힌 결과를 정렬 후 요청 페이지만 잘라 반환
+     */
+    static <T> PageResponseDto<T> page(List<T> items, PageRequestDto pageRequest,
+                                       Comparator<T> comparator, Sort sort) {
+        Pageable pageable = pageRequest.toPageable(sort);
+        List<T> content = items.stream()
+                .sorted(comparator)
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+
+        return PageResponseDto.of(new PageImpl<>(content, pageable, items.size()));
+    }
+}
@@ -1,25 +1,50 @@
 package mingovvv.turnstile.repository.memory;
 
+import mingovvv.common.model.PageRequestDto;
+import mingovvv.common.model.PageResponseDto;
 import mingovvv.turnstile.domain.Payment;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * 결제 In-Memory Repository (RDB 대체)
+ * <p>
+ * 사용자/예약 조회는 전체 스캔 대신 보조 인덱스(userId → paymentId, reservationId → paymentId)를 사용합니다.
+ * 결제 완료 시 reservationId가 채워지므로, 상태 변경 후 save를 다시 호출해 인덱스를 갱신합니다.
  */
 @Repository
 public class PaymentMemoryRepository {
 
+    // 최신 요청 순
+    private static final Comparator<Payment> LATEST_FIRST = Comparator.comparing(
+            Payment::getRequestedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+    private static final Sort LATEST_FIRST_SORT = Sort.by(Sort.Direction.DESC, "requestedAt");
+
     private final Map<String, Payment> store = new ConcurrentHashMap<>();
 
+    // reservationId → paymentId 매핑
+    private final Map<String, String> reservationPaymentIndex = new ConcurrentHashMap<>();
+
+    // userId → paymentId 집합
+    private final SecondaryIndex userIndex = new SecondaryIndex();
+
     public Payment save(Payment payment) {
-        store.put(payment.getPaymentId(), payment);
+        store.compute(payment.getPaymentId(), (id, previous) -> {
+            if (previous != null && previous != payment) {
+                unindex(previous);
+            }
+            index(payment);
+            return payment;
+        });
         return payment;
     }
 
@@ -28,15 +53,22 @@ public class PaymentMemoryRepository {
     }
 
     public Optional<Payment> findByReservationId(String reservationId) {
-        return store.values().stream()
-                .filter(p -> p.getReservationId().equals(reservationId))
-                .findFirst();
+        return Optional.ofNullable(reservationPaymentIndex.get(reservationId))
+                .map(store::get);
     }
 
     public List<Payment> findByUserId(String userId) {
-        return store.values().stream()
-                .filter(p -> p.getUserId().equals(userId))
-                .collect(Collectors.toList());
+        return userIndex.get(userId).stream()
+                .map(store::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 사용자 결제 페이지 조회 (최신 요청 순)
+     */
+    public PageResponseDto<Payment> findByUserId(String userId, PageRequestDto pageRequest) {
+        return MemoryPaging.page(findByUserId(userId), pageRequest, LATEST_FIRST, LATEST_FIRST_SORT);
     }
 
     public List<Payment> findAll() {
@@ -48,14 +80,33 @@ public class PaymentMemoryRepository {
     }
 
     public void deleteById(String paymentId) {
-        store.remove(paymentId);
+        store.computeIfPresent(paymentId, (id, payment) -> {
+            unindex(payment);
+            return null;
+        });
     }
 
     public void deleteAll() {
         store.clear();
+        reservationPaymentIndex.clear();
+        userIndex.clear();
     }
 
     public long count() {
         return store.size();
     }
+
+    private void index(Payment payment) {
+        if (payment.getReservationId() != null) {
+            reservationPaymentIndex.put(payment.getReservationId(), payment.getPaymentId());
+        }
+        userIndex.add(payment.getUserId(), payment.getPaymentId());
+    }
+
+    private void unindex(Payment payment) {
+        if (payment.getReservationId() != null) {
+            reservationPaymentIndex.remove(payment.getReservationId(), payment.getPaymentId());
+        }
+        userIndex.remove(payment.getUserId(), payment.getPaymentId());
+    }
 }
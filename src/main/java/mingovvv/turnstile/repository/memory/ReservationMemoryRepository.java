@@ -1,31 +1,53 @@
 package mingovvv.turnstile.repository.memory;
 
+import mingovvv.common.model.PageRequestDto;
+import mingovvv.common.model.PageResponseDto;
 import mingovvv.turnstile.domain.Reservation;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
  * 예약 In-Memory Repository (RDB 대체)
+ * <p>
+ * 사용자/이벤트 조회는 전체 스캔 대신 보조 인덱스(userId → reservationId, eventId → reservationId)를 사용합니다.
+ * 인덱스는 저장/삭제 시 같은 예약 ID의 compute 안에서 함께 갱신됩니다.
  */
 @Repository
 public class ReservationMemoryRepository {
 
+    // 최신 확정 순 (확정 시각이 없으면 마지막)
+    private static final Comparator<Reservation> LATEST_FIRST = Comparator.comparing(
+            Reservation::getConfirmedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+    private static final Sort LATEST_FIRST_SORT = Sort.by(Sort.Direction.DESC, "confirmedAt");
+
     private final Map<String, Reservation> store = new ConcurrentHashMap<>();
 
     // eventId:seatId → reservationId 매핑 (좌석 중복 예약 방지)
     private final Map<String, String> seatReservationIndex = new ConcurrentHashMap<>();
 
+    // userId → reservationId 집합
+    private final SecondaryIndex userIndex = new SecondaryIndex();
+
+    // eventId → reservationId 집합
+    private final SecondaryIndex eventIndex = new SecondaryIndex();
+
     public Reservation save(Reservation reservation) {
-        store.put(reservation.getReservationId(), reservation);
-        // 좌석-예약 인덱스 업데이트
-        String seatKey = reservation.getSeatCompositeKey();
-        seatReservationIndex.put(seatKey, reservation.getReservationId());
+        store.compute(reservation.getReservationId(), (id, previous) -> {
+            if (previous != null && previous != reservation) {
+                unindex(previous);
+            }
+            index(reservation);
+            return reservation;
+        });
         return reservation;
     }
 
@@ -43,15 +65,25 @@ public class ReservationMemoryRepository {
     }
 
     public List<Reservation> findByUserId(String userId) {
-        return store.values().stream()
-                .filter(r -> r.getUserId().equals(userId))
-                .collect(Collectors.toList());
+        return resolve(userIndex, userId);
     }
 
     public List<Reservation> findByEventId(String eventId) {
-        return store.values().stream()
-                .filter(r -> r.getEventId().equals(eventId))
-                .collect(Collectors.toList());
+        return resolve(eventIndex, eventId);
+    }
+
+    /**
+     * 사용자 예약 페이지 조회 (최신 확정 순)
+     */
+    public PageResponseDto<Reservation> findByUserId(String userId, PageRequestDto pageRequest) {
+        return MemoryPaging.page(findByUserId(userId), pageRequest, LATEST_FIRST, LATEST_FIRST_SORT);
+    }
+
+    /**
+     * 이벤트 예약 페이지 조회 (최신 확정 순)
+     */
+    public PageResponseDto<Reservation> findByEventId(String eventId, PageRequestDto pageRequest) {
+        return MemoryPaging.page(findByEventId(eventId), pageRequest, LATEST_FIRST, LATEST_FIRST_SORT);
     }
 
     public List<Reservation> findAll() {
@@ -64,18 +96,41 @@ public class ReservationMemoryRepository {
     }
 
     public void deleteById(String reservationId) {
-        Reservation reservation = store.remove(reservationId);
-        if (reservation != null) {
-            seatReservationIndex.remove(reservation.getSeatCompositeKey());
-        }
+        store.computeIfPresent(reservationId, (id, reservation) -> {
+            unindex(reservation);
+            return null;
+        });
     }
 
     public void deleteAll() {
         store.clear();
         seatReservationIndex.clear();
+        userIndex.clear();
+        eventIndex.clear();
     }
 
     public long count() {
         return store.size();
     }
+
+    private void index(Reservation reservation) {
+        String reservationId = reservation.getReservationId();
+        seatReservationIndex.put(reservation.getSeatCompositeKey(), reservationId);
+        userIndex.add(reservation.getUserId(), reservationId);
+        eventIndex.add(reservation.getEventId(), reservationId);
+    }
+
+    private void unindex(Reservation reservation) {
+        String reservationId = reservation.getReservationId();
+        seatReservationIndex.remove(reservation.getSeatCompositeKey(), reservationId);
+        userIndex.remove(reservation.getUserId(), reservationId);
+        eventIndex.remove(reservation.getEventId(), reservationId);
+    }
+
+    private List<Reservation> resolve(SecondaryIndex index, String key) {
+        return index.get(key).stream()
+                .map(store::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 }
@@ -0,0 +1,275 @@
+package mingovvv.turnstile.repository.memory;
+
+import mingovvv.turnstile.domain.Seat;
+import mingovvv.turnstile.domain.enums.SeatGrade;
+import mingovvv.turnstile.domain.enums.SeatStatus;
+import org.springframework.stereotype.Repository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 좌석 재고 카운터 In-Memory Repository
+ * <p>
+ * (eventId, section, grade) 단위로 AVAILABLE / LOCKED / RESERVED 좌석 수를 증분 관리합니다.
+ * 세 카운터를 하나의 long에 패킹하여 상태 전이(예: AVAILABLE → LOCKED)를 CAS 한 번으로 반영합니다.
+ * 좌석 전체 목록을 순회하지 않고 요약 정보를 제공하기 위한 용도입니다.
+ * <p>
+ * 이벤트 단위 합계 카운터는 SOLD_OUT 비트를 함께 가지며,
+ * 마지막 좌석이 예약되는 전이와 같은 CAS로 매진 상태로 전환됩니다.
+ * 다른 노드에서 매진된 이벤트는 event:status 전파를 받아 {@link #markSoldOut(String)}로 전환됩니다.
+ */
+@Repository
+public class SeatInventoryMemoryRepository {
+
+    // eventId → 이벤트 재고 (합계 + section:grade별 카운터)
+    private final Map<String, EventInventory> inventories = new ConcurrentHashMap<>();
+
+    /**
+     * 좌석 목록으로 이벤트의 카운터를 재구성
+     */
+    public void initialize(String eventId, List<Seat> seats) {
+        EventInventory inventory = new EventInventory();
+        for (Seat seat : seats) {
+            inventory.sections.computeIfAbsent(counterKey(seat), ignored -> new SeatCounter(seat.getSection(), seat.getGrade()))
+                    .add(seat.getStatus());
+            inventory.total.add(seat.getStatus());
+        }
+        inventory.total.markSoldOutIfExhausted();
+        inventories.put(eventId, inventory);
+    }
+
+    /**
+     * 좌석 선점 반영 (AVAILABLE → LOCKED)
+     * 선점 미러(SeatLockMemoryRepository)에 새로 등록된 경우에만 호출
+     */
+    public void onLocked(Seat seat) {
+        move(seat, SeatStatus.AVAILABLE, SeatStatus.LOCKED);
+    }
+
+    /**
+     * 좌석 선점 해제/만료 반영 (LOCKED → AVAILABLE)
+     * 선점 미러에서 실제로 제거된 경우에만 호출
+     */
+    public void onUnlocked(Seat seat) {
+        move(seat, SeatStatus.LOCKED, SeatStatus.AVAILABLE);
+    }
+
+    /**
+     * 좌석 예약 완료 반영 (LOCKED → RESERVED)
+     * 선점 미러에 없던 좌석이면 AVAILABLE → RESERVED로 처리
+     *
+     * @return 이번 예약으로 이벤트가 매진 상태로 전환되었으면 true (이벤트당 1회)
+     */
+    public boolean onReserved(Seat seat, boolean wasLocked) {
+        SeatStatus from = wasLocked ? SeatStatus.LOCKED : SeatStatus.AVAILABLE;
+        return move(seat, from, SeatStatus.RESERVED);
+    }
+
+    /**
+     * 매진 여부 조회 (O(1), Redis 미사용)
+     */
+    public boolean isSoldOut(String eventId) {
+        EventInventory inventory = inventories.get(eventId);
+        return inventory != null && inventory.total.isSoldOut();
+    }
+
+    /**
+     * 다른 노드에서 전파된 매진 반영
+     * 이 노드의 카운터는 다른 노드의 선점/예약을 알지 못하므로 카운터와 관계없이 SOLD_OUT 비트를 세움
+     *
+     * @return 이 노드에서 새로 매진 상태가 되었으면 true
+     */
+    public boolean markSoldOut(String eventId) {
+        EventInventory inventory = inventories.get(eventId);
+        return inventory != null && inventory.total.markSoldOut();
+    }
+
+    /**
+     * 이벤트의 선택 가능 좌석 수 조회
+     * 재고 정보가 없는 이벤트는 제한 없음(Integer.MAX_VALUE)으로 간주, 매진된 이벤트는 0
+     */
+    public int getAvailableCount(String eventId) {
+        EventInventory inventory = inventories.get(eventId);
+        if (inventory == null) {
+            return Integer.MAX_VALUE;
+        }
+        return inventory.total.isSoldOut() ? 0 : inventory.total.snapshot().available();
+    }
+
+    /**
+     * 이벤트 전체 재고 합계 조회
+     */
+    public Optional<SeatInventory> findTotalByEventId(String eventId) {
+        return Optional.ofNullable(inventories.get(eventId))
+                .map(inventory -> inventory.total.snapshot());
+    }
+
+    /**
+     * 이벤트의 구역/등급별 재고 조회 (구역명 순)
+     */
+    public List<SeatInventory> findByEventId(String eventId) {
+        EventInventory inventory = inventories.get(eventId);
+        if (inventory == null) {
+            return List.of();
+        }
+        return inventory.sections.values().stream()
+                .map(SeatCounter::snapshot)
+                .sorted(Comparator.comparing(SeatInventory::section).thenComparing(SeatInventory::grade))
+                .toList();
+    }
+
+    public void deleteByEventId(String eventId) {
+        inventories.remove(eventId);
+    }
+
+    public void deleteAll() {
+        inventories.clear();
+    }
+
+    /**
+     * 구역/등급 카운터와 이벤트 합계 카운터에 상태 전이 반영
+     *
+     * @return 이번 전이로 매진 상태가 되었으면 true
+     */
+    private boolean move(Seat seat, SeatStatus from, SeatStatus to) {
+        EventInventory inventory = inventories.get(seat.getEventId());
+        if (inventory == null) {
+            return false;
+        }
+        SeatCounter counter = inventory.sections.get(counterKey(seat));
+        if (counter == null || !counter.move(from, to)) {
+            return false;
+        }
+        return inventory.total.moveAndMarkSoldOut(from, to);
+    }
+
+    private String counterKey(Seat seat) {
+        return seat.getSection() + ":" + seat.getGrade().name();
+    }
+
+    /**
+     * 구역/등급별 재고 스냅샷
+     */
+    public record SeatInventory(String section, SeatGrade grade, int available, int locked, int reserved) {
+
+        public int total() {
+            return available + locked + reserved;
+        }
+    }
+
+    private static final class EventInventory {
+
+        private final SeatCounter total = new SeatCounter(null, null);
+        private final Map<String, SeatCounter> sections = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * AVAILABLE / LOCKED / RESERVED 카운터를 21bit씩 하나의 long에 패킹한 카운터
+     * 최상위 비트는 SOLD_OUT 플래그 (이벤트 합계 카운터에서만 사용)
+     */
+    private static final class SeatCounter {
+
+        private static final int BITS = 21;
+        private static final long MASK = (1L << BITS) - 1;
+        private static final long SOLD_OUT_BIT = 1L << 63;
+
+        private final String section;
+        private final SeatGrade grade;
+        private final AtomicLong packed = new AtomicLong();
+
+        private SeatCounter(String section, SeatGrade grade) {
+            this.section = section;
+            this.grade = grade;
+        }
+
+        private void add(SeatStatus status) {
+            packed.addAndGet(1L << shift(status));
+        }
+
+        /**
+         * from 카운터를 1 감소시키고 to 카운터를 1 증가 (from이 0이면 무시)
+         */
+        private boolean move(SeatStatus from, SeatStatus to) {
+            int fromShift = shift(from);
+            long delta = (1L << shift(to)) - (1L << fromShift);
+            while (true) {
+                long current = packed.get();
+                if (((current >>> fromShift) & MASK) == 0) {
+                    return false;
+                }
+                if (packed.compareAndSet(current, current + delta)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * 상태 전이 후 AVAILABLE, LOCKED가 모두 0이면 같은 CAS로 SOLD_OUT 비트를 세움
+         *
+         * @return 이번 전이로 SOLD_OUT 비트가 세워졌으면 true
+         */
+        private boolean moveAndMarkSoldOut(SeatStatus from, SeatStatus to) {
+            int fromShift = shift(from);
+            long delta = (1L << shift(to)) - (1L << fromShift);
+            while (true) {
+                long current = packed.get();
+                if (((current >>> fromShift) & MASK) == 0) {
+                    return false;
+                }
+                long next = current + delta;
+                boolean exhausted = isExhausted(next) && (current & SOLD_OUT_BIT) == 0;
+                if (exhausted) {
+                    next |= SOLD_OUT_BIT;
+                }
+                if (packed.compareAndSet(current, next)) {
+                    return exhausted;
+                }
+            }
+        }
+
+        private void markSoldOutIfExhausted() {
+            if (isExhausted(packed.get())) {
+                packed.getAndUpdate(value -> value | SOLD_OUT_BIT);
+            }
+        }
+
+        private boolean markSoldOut() {
+            return (packed.getAndUpdate(value -> value | SOLD_OUT_BIT) & SOLD_OUT_BIT) == 0;
+        }
+
+        private boolean isSoldOut() {
+            return (packed.get() & SOLD_OUT_BIT) != 0;
+        }
+
+        private static boolean isExhausted(long value) {
+            long available = (value >>> shift(SeatStatus.AVAILABLE)) & MASK;
+            long locked = (value >>> shift(SeatStatus.LOCKED)) & MASK;
+            long reserved = (value >>> shift(SeatStatus.RESERVED)) & MASK;
+            return available == 0 && locked == 0 && reserved > 0;
+        }
+
+        private SeatInventory snapshot() {
+            long value = packed.get();
+            return new SeatInventory(
+                    section,
+                    grade,
+                    (int) ((value >>> shift(SeatStatus.AVAILABLE)) & MASK),
+                    (int) ((value >>> shift(SeatStatus.LOCKED)) & MASK),
+                    (int) ((value >>> shift(SeatStatus.RESERVED)) & MASK)
+            );
+        }
+
+        private static int shift(SeatStatus status) {
+            return switch (status) {
+                case AVAILABLE -> 0;
+                case LOCKED -> BITS;
+                case RESERVED -> BITS * 2;
+            };
+        }
+    }
+}
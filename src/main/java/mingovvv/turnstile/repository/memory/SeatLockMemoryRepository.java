@@ -0,0 +1,103 @@
+package mingovvv.turnstile.repository.memory;
+
+import mingovvv.turnstile.domain.Seat;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 선점 미러 In-Memory Repository
+ * <p>
+ * Redis 선점 락(seat:lock:*)의 노드 로컬 사본입니다.
+ * 로컬 선점/해제, Redis 키스페이스 알림(set/del/expired), 만료 시각 스윕으로 갱신되며
+ * 좌석 상태 조회 시 Redis EXISTS 대신 사용합니다.
+ * Key: eventId:seatId
+ */
+@Repository
+public class SeatLockMemoryRepository {
+
+    private final Map<String, LockEntry> store = new ConcurrentHashMap<>();
+
+    /**
+     * 선점 등록 (기존 항목이 있으면 만료 시각 갱신)
+     * 선점자를 모르는 등록(키스페이스 set 알림)은 이미 알고 있는 선점자를 덮어쓰지 않습니다.
+     *
+     * @return 새로 선점 상태가 되었으면 true
+     */
+    public boolean lock(Seat seat, String userId, long expiresAtMs) {
+        boolean[] created = new boolean[1];
+        store.compute(seat.getCompositeKey(), (key, existing) -> {
+            if (existing == null) {
+                created[0] = true;
+                return new LockEntry(seat, userId, expiresAtMs);
+            }
+            String owner = userId != null ? userId : existing.userId();
+            return new LockEntry(seat, owner, expiresAtMs);
+        });
+        return created[0];
+    }
+
+    /**
+     * 선점 해제
+     *
+     * @return 해제된 항목 (선점 상태가 아니었으면 empty)
+     */
+    public Optional<LockEntry> release(String eventId, String seatId) {
+        return Optional.ofNullable(store.remove(compositeKey(eventId, seatId)));
+    }
+
+    /**
+     * 만료 시각이 지난 항목 해제
+     *
+     * @return 해제된 항목 목록
+     */
+    public List<LockEntry> releaseExpired(long nowMs) {
+        List<LockEntry> released = new ArrayList<>();
+        for (Map.Entry<String, LockEntry> entry : store.entrySet()) {
+            LockEntry lockEntry = entry.getValue();
+            if (lockEntry.expiresAtMs() <= nowMs && store.remove(entry.getKey(), lockEntry)) {
+                released.add(lockEntry);
+            }
+        }
+        return released;
+    }
+
+    public boolean isLocked(String eventId, String seatId) {
+        return store.containsKey(compositeKey(eventId, seatId));
+    }
+
+    public Optional<LockEntry> findById(String eventId, String seatId) {
+        return Optional.ofNullable(store.get(compositeKey(eventId, seatId)));
+    }
+
+    public void deleteByEventId(String eventId) {
+        String prefix = eventId + ":";
+        store.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public void deleteAll() {
+        store.clear();
+    }
+
+    public long count() {
+        return store.size();
+    }
+
+    private String compositeKey(String eventId, String seatId) {
+        return eventId + ":" + seatId;
+    }
+
+    /**
+     * 선점 항목
+     *
+     * @param seat        선점된 좌석
+     * @param userId      선점자 (다른 노드에서 선점되어 알 수 없으면 null)
+     * @param expiresAtMs 선점 만료 예상 시각(ms)
+     */
+    public record LockEntry(Seat seat, String userId, long expiresAtMs) {
+    }
+}
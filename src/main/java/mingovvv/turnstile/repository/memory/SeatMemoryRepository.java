@@ -5,8 +5,10 @@ import mingovvv.turnstile.domain.enums.SeatStatus;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -14,15 +16,22 @@ import java.util.stream.Collectors;
 /**
  * 좌석 In-Memory Repository (RDB 대체)
  * Key: eventId:seatId (복합키)
+ * <p>
+ * 이벤트별, 구역별 인덱스를 유지하여 좌석 배치도 조회 시 전체 좌석을 순회하지 않습니다.
+ * 좌석의 이벤트/구역은 바뀌지 않으므로 인덱스는 저장/삭제 시에만 갱신합니다.
  */
 @Repository
 public class SeatMemoryRepository {
 
     private final Map<String, Seat> store = new ConcurrentHashMap<>();
+    private final SecondaryIndex eventIndex = new SecondaryIndex();
+    private final SecondaryIndex sectionIndex = new SecondaryIndex();
 
     public Seat save(Seat seat) {
         String key = compositeKey(seat.getEventId(), seat.getSeatId());
         store.put(key, seat);
+        eventIndex.add(seat.getEventId(), seat.getSeatId());
+        sectionIndex.add(compositeKey(seat.getEventId(), seat.getSection()), seat.getSeatId());
         return seat;
     }
 
@@ -32,23 +41,17 @@ public class SeatMemoryRepository {
     }
 
     public List<Seat> findByEventId(String eventId) {
-        return store.values().stream()
-                .filter(seat -> seat.getEventId().equals(eventId))
-                .collect(Collectors.toList());
+        return resolve(eventId, eventIndex.get(eventId));
     }
 
     public List<Seat> findByEventIdAndStatus(String eventId, SeatStatus status) {
-        return store.values().stream()
-                .filter(seat -> seat.getEventId().equals(eventId))
+        return findByEventId(eventId).stream()
                 .filter(seat -> seat.getStatus() == status)
                 .collect(Collectors.toList());
     }
 
     public List<Seat> findByEventIdAndSection(String eventId, String section) {
-        return store.values().stream()
-                .filter(seat -> seat.getEventId().equals(eventId))
-                .filter(seat -> seat.getSection().equals(section))
-                .collect(Collectors.toList());
+        return resolve(eventId, sectionIndex.get(compositeKey(eventId, section)));
     }
 
     public List<Seat> findAll() {
@@ -60,15 +63,20 @@ public class SeatMemoryRepository {
     }
 
     public void deleteById(String eventId, String seatId) {
-        store.remove(compositeKey(eventId, seatId));
+        Seat removed = store.remove(compositeKey(eventId, seatId));
+        if (removed != null) {
+            unindex(removed);
+        }
     }
 
     public void deleteByEventId(String eventId) {
-        store.entrySet().removeIf(entry -> entry.getValue().getEventId().equals(eventId));
+        findByEventId(eventId).forEach(seat -> deleteById(eventId, seat.getSeatId()));
     }
 
     public void deleteAll() {
         store.clear();
+        eventIndex.clear();
+        sectionIndex.clear();
     }
 
     public long count() {
@@ -76,9 +84,19 @@ public class SeatMemoryRepository {
     }
 
     public long countByEventId(String eventId) {
-        return store.values().stream()
-                .filter(seat -> seat.getEventId().equals(eventId))
-                .count();
+        return eventIndex.get(eventId).size();
+    }
+
+    private List<Seat> resolve(String eventId, Collection<String> seatIds) {
+        return seatIds.stream()
+                .map(seatId -> store.get(compositeKey(eventId, seatId)))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private void unindex(Seat seat) {
+        eventIndex.remove(seat.getEventId(), seat.getSeatId());
+        sectionIndex.remove(compositeKey(seat.getEventId(), seat.getSection()), seat.getSeatId());
     }
 
     private String compositeKey(String eventId, String seatId) {
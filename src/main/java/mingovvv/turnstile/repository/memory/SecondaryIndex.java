@@ -0,0 +1,46 @@
+package mingovvv.turnstile.repository.memory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-Memory Repository용 다중값 보조 인덱스 (key → ID 집합)
+ * <p>
+ * 추가/제거를 같은 키의 compute로 직렬화하여, 빈 집합 정리와 동시 추가가 경합해도 ID가 유실되지 않습니다.
+ * 조회는 ID 집합의 스냅샷 복사본을 반환합니다.
+ */
+final class SecondaryIndex {
+
+    private final Map<String, Set<String>> index = new ConcurrentHashMap<>();
+
+    void add(String key, String id) {
+        if (key == null) {
+            return;
+        }
+        index.compute(key, (k, ids) -> {
+            Set<String> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(id);
+            return target;
+        });
+    }
+
+    void remove(String key, String id) {
+        if (key == null) {
+            return;
+        }
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    Set<String> get(String key) {
+        Set<String> ids = index.get(key);
+        return ids != null ? Set.copyOf(ids) : Set.of();
+    }
+
+    void clear() {
+        index.clear();
+    }
+}
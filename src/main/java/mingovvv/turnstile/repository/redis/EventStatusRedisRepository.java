@@ -0,0 +1,36 @@
+package mingovvv.turnstile.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.domain.enums.EventStatus;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 이벤트 상태 변경 Redis Pub/Sub Repository
+ * <p>
+ * 채널: event:status
+ * 메시지: {eventId}:{status}
+ * <p>
+ * 한 노드에서 이벤트 상태가 바뀌면 다른 노드의 이벤트 카탈로그에도 반영되도록 전파합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EventStatusRedisRepository {
+
+    public static final String CHANNEL = "event:status";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 상태 변경 발행 (발행 실패는 로컬 상태 변경에 영향을 주지 않음)
+     */
+    public void publish(String eventId, EventStatus status) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, eventId + ":" + status.name());
+        } catch (Exception e) {
+            log.warn("Failed to publish event status: eventId={}, status={}, error={}", eventId, status, e.getMessage());
+        }
+    }
+}
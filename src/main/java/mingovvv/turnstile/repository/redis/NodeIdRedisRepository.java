@@ -0,0 +1,111 @@
+package mingovvv.turnstile.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ID 생성기 노드 ID 임대 Redis Repository
+ * <p>
+ * 노드 ID마다 키 하나를 두고 소유자 값과 TTL로 임대합니다. (node:id:{lease}:{nodeId})
+ * 모든 키에 같은 해시 태그를 붙여 클러스터에서도 한 슬롯에서 스크립트가 실행됩니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NodeIdRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String NODE_ID_KEY_PREFIX = "node:id:{lease}:";
+
+    /**
+     * 빈 노드 ID 하나를 임대
+     * KEYS: 노드 ID 0..N-1 키, ARGV[1]: 소유자, ARGV[2]: TTL(ms), ARGV[3]: 탐색 시작 위치
+     * 반환: 임대한 노드 ID, 모두 사용 중이면 -1
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local count = #KEYS
+            local start = tonumber(ARGV[3])
+            for i = 0, count - 1 do
+                local nodeId = (start + i) % count
+                if redis.call('SET', KEYS[nodeId + 1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+                    return nodeId
+                end
+            end
+            return -1
+            """, Long.class);
+
+    /**
+     * 임대 연장 (본인 소유이거나 만료되어 비어 있으면 다시 확보)
+     * 반환: 1 연장, 0 다른 소유자가 사용 중
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            local owner = redis.call('GET', KEYS[1])
+            if owner == ARGV[1] then
+                redis.call('PEXPIRE', KEYS[1], ARGV[2])
+                return 1
+            end
+            if not owner then
+                redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 임대 반납 (본인 소유일 때만 삭제)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 노드 ID 임대
+     *
+     * @param nodeCount 노드 ID 범위 (0..nodeCount-1)
+     * @param start     탐색 시작 위치 (노드끼리 같은 ID부터 경쟁하지 않도록 분산)
+     * @return 임대한 노드 ID, 모두 사용 중이면 -1
+     */
+    public long acquire(int nodeCount, String owner, Duration ttl, int start) {
+        List<String> keys = new ArrayList<>(nodeCount);
+        for (int nodeId = 0; nodeId < nodeCount; nodeId++) {
+            keys.add(nodeIdKey(nodeId));
+        }
+        Long nodeId = stringRedisTemplate.execute(ACQUIRE_SCRIPT, keys,
+                owner, String.valueOf(ttl.toMillis()), String.valueOf(start));
+        return nodeId != null ? nodeId : -1;
+    }
+
+    /**
+     * 임대 연장
+     *
+     * @return 다른 소유자가 사용 중이면 false
+     */
+    public boolean renew(long nodeId, String owner, Duration ttl) {
+        Long result = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(nodeIdKey(nodeId)),
+                owner, String.valueOf(ttl.toMillis()));
+        return result != null && result == 1;
+    }
+
+    /**
+     * 임대 반납
+     */
+    public void release(long nodeId, String owner) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(nodeIdKey(nodeId)), owner);
+    }
+
+    public static String nodeIdKey(long nodeId) {
+        return NODE_ID_KEY_PREFIX + nodeId;
+    }
+}
@@ -0,0 +1,161 @@
+package mingovvv.turnstile.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 오픈 전 사전 대기열 Redis Repository (Sorted Set 활용)
+ * <p>
+ * 사전 대기열: queue:pre:{eventId} (Sorted Set, Score = 접수 시 부여한 [0, 2^52) 난수, Member = userId)
+ * 오픈 전환 표시: queue:pre-opened:{eventId} (String, TTL 1일)
+ * <p>
+ * 모든 노드가 같은 집합을 공유하므로 정원은 전체 기준이며, 이탈은 어느 노드에서 처리해도 바로 반영됩니다.
+ * 오픈 시 옮기기는 스크립트 한 번에 "상위 N명 조회 → 대기열 ZADD NX → 사전 대기열에서 제거"를 원자적으로 수행하므로,
+ * 그 전에 이탈한 사용자는 옮겨지지 않고 그 후에 이탈한 사용자는 대기열에서 제거됩니다. (이탈이 되살아나지 않음)
+ * 옮기기가 시작되면 오픈 전환 표시가 설정되어, 아직 UPCOMING을 보고 있는 노드의 신규 접수는 일반 대기열로 진입합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PreQueueRedisRepository {
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String PRE_QUEUE_KEY_PREFIX = "queue:pre:";
+    private static final String OPENED_KEY_PREFIX = "queue:pre-opened:";
+    private static final long OPENED_TTL_SECONDS = 86_400; // 1일
+    // double로 정확히 표현되는 범위, 대기열의 timestamp 기반 Score보다 항상 작음
+    private static final long LOTTERY_SCORE_BOUND = 1L << 52;
+
+    // 사전 대기열 접수: 오픈 전환 여부, 중복, 정원 확인 후 추첨 Score로 등록
+    private static final DefaultRedisScript<String> ENTER_SCRIPT = new DefaultRedisScript<>("""
+        local preKey = KEYS[1]
+        local openedKey = KEYS[2]
+        local userId = ARGV[1]
+        local score = ARGV[2]
+        local capacity = tonumber(ARGV[3])
+
+        if redis.call('EXISTS', openedKey) == 1 then
+            return 'OPENED'
+        end
+        if redis.call('ZSCORE', preKey, userId) then
+            return 'ALREADY_QUEUED'
+        end
+        if redis.call('ZCARD', preKey) >= capacity then
+            return 'FULL'
+        end
+
+        redis.call('ZADD', preKey, score, userId)
+        return 'ADDED'
+        """, String.class);
+
+    // 사전 대기열 옮기기: 오픈 전환 표시 후 상위 N명을 접수 Score 그대로 대기열에 등록하고 사전 대기열에서 제거
+    // 반환: {새로 등록된 인원, 남은 사전 대기 인원}
+    private static final DefaultRedisScript<List> FLUSH_SCRIPT = new DefaultRedisScript<>("""
+        local preKey = KEYS[1]
+        local queueKey = KEYS[2]
+        local openedKey = KEYS[3]
+        local batchSize = tonumber(ARGV[1])
+        local openedTtl = ARGV[2]
+
+        redis.call('SET', openedKey, '1', 'EX', openedTtl)
+
+        local entries = redis.call('ZRANGE', preKey, 0, batchSize - 1, 'WITHSCORES')
+        local added = 0
+        for i = 1, #entries, 2 do
+            added = added + redis.call('ZADD', queueKey, 'NX', entries[i + 1], entries[i])
+        end
+        if #entries > 0 then
+            redis.call('ZREMRANGEBYRANK', preKey, 0, #entries / 2 - 1)
+        end
+
+        return {added, redis.call('ZCARD', preKey)}
+        """, List.class);
+
+    /**
+     * 사전 대기열 접수 결과
+     */
+    public enum EnterResult {
+        ADDED,          // 접수 완료
+        ALREADY_QUEUED, // 이미 접수된 사용자
+        FULL,           // 정원 초과
+        OPENED          // 오픈 전환이 시작됨 (일반 대기열로 진입해야 함)
+    }
+
+    /**
+     * 사전 대기열 접수
+     * 추첨 Score는 접수 시 사용자마다 독립 난수로 부여하므로, 사전 대기열 안의 순서가 곧 공정 셔플이 됩니다.
+     */
+    public EnterResult enter(String eventId, String userId, int capacity) {
+        long score = ThreadLocalRandom.current().nextLong(LOTTERY_SCORE_BOUND);
+        String result = stringRedisTemplate.execute(
+                ENTER_SCRIPT,
+                List.of(preQueueKey(eventId), openedKey(eventId)),
+                userId, String.valueOf(score), String.valueOf(capacity)
+        );
+        log.debug("Pre-queue enter: eventId={}, userId={}, result={}", eventId, userId, result);
+        return EnterResult.valueOf(result);
+    }
+
+    /**
+     * 사전 대기열 전체를 대기열로 옮기기 (batchSize 단위로 스크립트 반복 실행)
+     * 여러 노드가 동시에 호출해도 각 사용자는 한 번만 옮겨집니다.
+     *
+     * @return 새로 등록된 인원
+     */
+    @SuppressWarnings("unchecked")
+    public long flushToQueue(String eventId, int batchSize) {
+        List<String> keys = List.of(preQueueKey(eventId), QueueRedisRepository.queueKey(eventId), openedKey(eventId));
+        long added = 0;
+
+        while (true) {
+            List<Long> result = stringRedisTemplate.execute(
+                    FLUSH_SCRIPT, keys, String.valueOf(batchSize), String.valueOf(OPENED_TTL_SECONDS));
+            if (result == null || result.size() < 2) {
+                break;
+            }
+            added += result.get(0);
+            if (result.get(1) == 0) {
+                break;
+            }
+        }
+
+        log.debug("Pre-queue flushed: eventId={}, added={}", eventId, added);
+        return added;
+    }
+
+    public boolean contains(String eventId, String userId) {
+        return stringRedisTemplate.opsForZSet().score(preQueueKey(eventId), userId) != null;
+    }
+
+    public boolean remove(String eventId, String userId) {
+        Long removed = stringRedisTemplate.opsForZSet().remove(preQueueKey(eventId), userId);
+        return removed != null && removed > 0;
+    }
+
+    public long size(String eventId) {
+        Long size = stringRedisTemplate.opsForZSet().zCard(preQueueKey(eventId));
+        return size != null ? size : 0;
+    }
+
+    /**
+     * 사전 대기열과 오픈 전환 표시 삭제
+     */
+    public void clear(String eventId) {
+        stringRedisTemplate.delete(List.of(preQueueKey(eventId), openedKey(eventId)));
+    }
+
+    private String preQueueKey(String eventId) {
+        return PRE_QUEUE_KEY_PREFIX + eventId;
+    }
+
+    private String openedKey(String eventId) {
+        return OPENED_KEY_PREFIX + eventId;
+    }
+}
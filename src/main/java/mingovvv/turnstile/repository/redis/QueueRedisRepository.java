@@ -13,6 +13,9 @@ import java.util.Set;
  * <p>
  * Score = timestamp(ms) × 1,000,000 + sequence
  * Member = userId
+ * <p>
+ * 사전 대기열에서 옮겨진 사용자는 접수 시 부여된 Score = [0, 2^52) 난수로 등록되어 오픈 이후 진입한 사용자보다 항상 앞서며,
+ * 사전 대기열 사용자끼리의 순서는 난수 순서(공정 셔플)가 됩니다. (옮기기는 {@link PreQueueRedisRepository} 참고)
  */
 @Slf4j
 @Repository
@@ -129,7 +132,7 @@ public class QueueRedisRepository {
         stringRedisTemplate.delete(sequenceKey(eventId));
     }
 
-    private String queueKey(String eventId) {
+    static String queueKey(String eventId) {
         return QUEUE_KEY_PREFIX + eventId;
     }
 
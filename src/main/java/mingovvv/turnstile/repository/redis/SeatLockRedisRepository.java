@@ -2,12 +2,17 @@ package mingovvv.turnstile.repository.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.config.SeatLockProperties;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.Collections;
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -15,6 +20,18 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * SET NX EX를 활용한 원자적 좌석 선점
  * TTL: 5분 (300초)
+ * <p>
+ * 사용자별 선점 인덱스: seat:holds:{eventId}:{userId} (Set, member = seatId)
+ * 선점 락과 같은 스크립트 안에서 갱신되며, 사용자별 최대 선점 수 제한과 일괄 해제에 사용합니다.
+ * 인덱스에 남은 만료 좌석은 다음 선점 시 정리됩니다.
+ * 스크립트가 접근하는 키는 모두 KEYS로 전달하므로, 인덱스를 먼저 읽어 좌석 락 키를 함께 넘기고
+ * 스크립트 실행 시점에 인덱스가 달라졌으면(STALE) 다시 읽어 재시도합니다.
+ * <p>
+ * 예약 완료 좌석: seat:reserved:{eventId} (Set, member = seatId)
+ * 노드 간 공유되는 예약 상태로, 체크아웃 스크립트에서만 추가됩니다.
+ * <p>
+ * 진행 중 결제: seat:paying:{eventId}:{seatId} (String, value = paymentId, TTL = 선점 TTL)
+ * 선점 소유 확인과 같은 스크립트에서 설정되어 같은 좌석의 결제가 동시에 두 건 진행되지 않게 합니다.
  */
 @Slf4j
 @Repository
@@ -22,54 +39,269 @@ import java.util.concurrent.TimeUnit;
 public class SeatLockRedisRepository {
 
     private final StringRedisTemplate stringRedisTemplate;
+    private final SeatLockProperties properties;
 
     private static final String LOCK_KEY_PREFIX = "seat:lock:";
+    private static final String HOLDS_KEY_PREFIX = "seat:holds:";
+    private static final String RESERVED_KEY_PREFIX = "seat:reserved:";
+    private static final String PAYING_KEY_PREFIX = "seat:paying:";
     private static final long LOCK_TTL_SECONDS = 300; // 5분
 
+    // 스크립트 결과: 호출 전에 읽은 선점 인덱스가 그 사이 바뀜 (다시 읽고 재시도)
+    private static final String STALE = "STALE";
+    private static final int MAX_STALE_RETRIES = 5;
+
+    // 좌석 선점: 예약 여부, 선점자, 사용자별 선점 수 확인 후 설정
+    // KEYS[4..n] / ARGV[5..n]: 호출 직전에 읽은 선점 인덱스의 좌석 락 키 / 좌석 ID (최대 선점 수 제한 시에만 전달)
+    private static final DefaultRedisScript<String> TRY_LOCK_SCRIPT = new DefaultRedisScript<>("""
+        local lockKey = KEYS[1]
+        local holdsKey = KEYS[2]
+        local reservedKey = KEYS[3]
+        local userId = ARGV[1]
+        local ttl = ARGV[2]
+        local seatId = ARGV[3]
+        local maxHolds = tonumber(ARGV[4])
+        local held = #KEYS - 3
+
+        if redis.call('SISMEMBER', reservedKey, seatId) == 1 then
+            return 'RESERVED'
+        end
+
+        local current = redis.call('GET', lockKey)
+        if current then
+            if current == userId then
+                return 'ALREADY_OWNED'
+            else
+                return 'LOCKED'
+            end
+        end
+
+        if maxHolds > 0 then
+            if redis.call('SCARD', holdsKey) ~= held then
+                return 'STALE'
+            end
+            for i = 1, held do
+                if redis.call('SISMEMBER', holdsKey, ARGV[4 + i]) == 0 then
+                    return 'STALE'
+                end
+            end
+
+            local count = 0
+            for i = 1, held do
+                if redis.call('GET', KEYS[3 + i]) == userId then
+                    count = count + 1
+                else
+                    redis.call('SREM', holdsKey, ARGV[4 + i])
+                end
+            end
+            if count >= maxHolds then
+                return 'LIMIT_EXCEEDED'
+            end
+        end
+
+        redis.call('SET', lockKey, userId, 'EX', ttl)
+        redis.call('SADD', holdsKey, seatId)
+        redis.call('EXPIRE', holdsKey, ttl)
+        return 'SUCCESS'
+        """, String.class);
+
+    // 선점 해제: 본인이 선점한 경우에만 삭제 (선점 인덱스에서도 제거)
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+        local lockKey = KEYS[1]
+        local holdsKey = KEYS[2]
+        local userId = ARGV[1]
+        local seatId = ARGV[2]
+
+        local current = redis.call('GET', lockKey)
+        if current == userId then
+            redis.call('DEL', lockKey)
+            redis.call('SREM', holdsKey, seatId)
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    // 일괄 해제: 인덱스의 좌석 중 본인이 아직 선점 중인 것만 삭제
+    // KEYS[2..n] / ARGV[2..n]: 호출 직전에 읽은 선점 인덱스의 좌석 락 키 / 좌석 ID
+    private static final DefaultRedisScript<List> UNLOCK_ALL_SCRIPT = new DefaultRedisScript<>("""
+        local holdsKey = KEYS[1]
+        local userId = ARGV[1]
+        local held = #KEYS - 1
+
+        if redis.call('SCARD', holdsKey) ~= held then
+            return {'STALE'}
+        end
+        for i = 1, held do
+            if redis.call('SISMEMBER', holdsKey, ARGV[1 + i]) == 0 then
+                return {'STALE'}
+            end
+        end
+
+        local result = {'OK'}
+        for i = 1, held do
+            if redis.call('GET', KEYS[1 + i]) == userId then
+                redis.call('DEL', KEYS[1 + i])
+                table.insert(result, ARGV[1 + i])
+            end
+        end
+        redis.call('DEL', holdsKey)
+        return result
+        """, List.class);
+
+    // 체크아웃: 선점 확인 → 예약 표시 → 락 해제 → 토큰 회수 → 나머지 선점 해제
+    // KEYS[5..n] / ARGV[3..n]: 호출 직전에 읽은 선점 인덱스의 좌석 락 키 / 좌석 ID
+    private static final DefaultRedisScript<List> CHECKOUT_SCRIPT = new DefaultRedisScript<>("""
+        local lockKey = KEYS[1]
+        local holdsKey = KEYS[2]
+        local reservedKey = KEYS[3]
+        local tokenKey = KEYS[4]
+        local userId = ARGV[1]
+        local seatId = ARGV[2]
+        local held = #KEYS - 4
+
+        if redis.call('SISMEMBER', reservedKey, seatId) == 1 then
+            return {'ALREADY_RESERVED'}
+        end
+
+        local current = redis.call('GET', lockKey)
+        if not current then
+            return {'LOCK_EXPIRED'}
+        end
+        if current ~= userId then
+            return {'NOT_OWNER'}
+        end
+
+        if redis.call('SCARD', holdsKey) ~= held then
+            return {'STALE'}
+        end
+        for i = 1, held do
+            if redis.call('SISMEMBER', holdsKey, ARGV[2 + i]) == 0 then
+                return {'STALE'}
+            end
+        end
+
+        redis.call('SADD', reservedKey, seatId)
+        redis.call('DEL', lockKey)
+        redis.call('DEL', tokenKey)
+
+        local result = {'SUCCESS'}
+        for i = 1, held do
+            local heldSeatId = ARGV[2 + i]
+            if heldSeatId ~= seatId and redis.call('GET', KEYS[4 + i]) == userId then
+                redis.call('DEL', KEYS[4 + i])
+                table.insert(result, heldSeatId)
+            end
+        end
+        redis.call('DEL', holdsKey)
+        return result
+        """, List.class);
+
+    // 결제 시작: 예약 여부, 선점 소유 확인 후 진행 중 결제 표시 (같은 좌석에 진행 중 결제가 있으면 거절)
+    private static final DefaultRedisScript<String> BEGIN_PAYMENT_SCRIPT = new DefaultRedisScript<>("""
+        local lockKey = KEYS[1]
+        local reservedKey = KEYS[2]
+        local payingKey = KEYS[3]
+        local userId = ARGV[1]
+        local seatId = ARGV[2]
+        local paymentId = ARGV[3]
+        local ttl = ARGV[4]
+
+        if redis.call('SISMEMBER', reservedKey, seatId) == 1 then
+            return 'ALREADY_RESERVED'
+        end
+
+        local current = redis.call('GET', lockKey)
+        if not current then
+            return 'LOCK_EXPIRED'
+        end
+        if current ~= userId then
+            return 'NOT_OWNER'
+        end
+
+        if redis.call('SET', payingKey, paymentId, 'NX', 'EX', ttl) then
+            return 'STARTED'
+        end
+        return 'IN_PROGRESS'
+        """, String.class);
+
+    // 결제 종료: 본인 결제의 진행 중 표시만 삭제
+    private static final DefaultRedisScript<Long> END_PAYMENT_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private static final List<DefaultRedisScript<?>> SCRIPTS = List.of(
+            TRY_LOCK_SCRIPT, UNLOCK_SCRIPT, UNLOCK_ALL_SCRIPT, CHECKOUT_SCRIPT, BEGIN_PAYMENT_SCRIPT, END_PAYMENT_SCRIPT);
+
     /**
      * 좌석 선점 락 결과
      */
     public enum LockResult {
         SUCCESS,        // 선점 성공
         ALREADY_OWNED,  // 본인이 이미 선점
-        LOCKED          // 다른 사용자가 선점
+        LOCKED,         // 다른 사용자가 선점
+        LIMIT_EXCEEDED, // 사용자별 최대 선점 수 초과
+        RESERVED        // 이미 예약 완료 (다른 노드 포함)
+    }
+
+    /**
+     * 체크아웃 결과 상태
+     */
+    public enum CheckoutStatus {
+        SUCCESS,            // 예약 표시, 락 해제, 토큰 회수 완료
+        ALREADY_RESERVED,   // 이미 예약 완료된 좌석
+        LOCK_EXPIRED,       // 선점 만료
+        NOT_OWNER           // 다른 사용자가 선점
+    }
+
+    /**
+     * 체크아웃 결과
+     *
+     * @param status          결과 상태
+     * @param releasedSeatIds 토큰 회수와 함께 해제된 사용자의 나머지 선점 좌석
+     */
+    public record CheckoutResult(CheckoutStatus status, List<String> releasedSeatIds) {
+    }
+
+    /**
+     * 결제 시작 결과
+     */
+    public enum PaymentStartResult {
+        STARTED,            // 선점 소유 확인, 진행 중 결제 표시 완료
+        IN_PROGRESS,        // 같은 좌석에 진행 중인 결제가 있음
+        ALREADY_RESERVED,   // 이미 예약 완료된 좌석
+        LOCK_EXPIRED,       // 선점 만료
+        NOT_OWNER           // 다른 사용자가 선점
     }
 
     /**
      * 좌석 선점 시도 (Lua Script로 원자성 보장)
+     * 선점 성공 시 사용자별 선점 인덱스에 함께 등록하며, 최대 선점 수를 넘으면 거절
+     * 스크립트가 접근하는 좌석 락 키를 모두 KEYS로 전달하기 위해 선점 인덱스를 먼저 읽고,
+     * 그 사이 인덱스가 바뀌었으면 다시 읽어 재시도
      */
     public LockResult tryLock(String eventId, String seatId, String userId) {
         String lockKey = lockKey(eventId, seatId);
+        String holdsKey = holdsKey(eventId, userId);
+        String reservedKey = reservedKey(eventId);
+        int maxHolds = properties.getMaxHoldsPerUser();
 
-        // Lua Script: 원자적으로 확인 및 설정
-        String script = """
-                local lockKey = KEYS[1]
-                local userId = ARGV[1]
-                local ttl = ARGV[2]
-
-                local current = redis.call('GET', lockKey)
-                if current then
-                    if current == userId then
-                        return 'ALREADY_OWNED'
-                    else
-                        return 'LOCKED'
-                    end
-                end
-
-                redis.call('SET', lockKey, userId, 'EX', ttl)
-                return 'SUCCESS'
-                """;
+        for (int attempt = 0; attempt < MAX_STALE_RETRIES; attempt++) {
+            List<String> heldSeatIds = maxHolds > 0 ? heldSeatIds(holdsKey) : List.of();
 
-        DefaultRedisScript<String> redisScript = new DefaultRedisScript<>(script, String.class);
-        String result = stringRedisTemplate.execute(
-                redisScript,
-                Collections.singletonList(lockKey),
-                userId,
-                String.valueOf(LOCK_TTL_SECONDS)
-        );
+            List<String> keys = new ArrayList<>(List.of(lockKey, holdsKey, reservedKey));
+            List<String> args = new ArrayList<>(List.of(userId, String.valueOf(LOCK_TTL_SECONDS), seatId, String.valueOf(maxHolds)));
+            addHeldSeats(eventId, heldSeatIds, keys, args);
 
-        log.debug("Seat lock attempt: eventId={}, seatId={}, userId={}, result={}", eventId, seatId, userId, result);
-        return LockResult.valueOf(result);
+            String result = stringRedisTemplate.execute(TRY_LOCK_SCRIPT, keys, args.toArray());
+            if (!STALE.equals(result)) {
+                log.debug("Seat lock attempt: eventId={}, seatId={}, userId={}, result={}", eventId, seatId, userId, result);
+                return LockResult.valueOf(result);
+            }
+        }
+        throw new IllegalStateException("Seat hold index kept changing: eventId=" + eventId + ", userId=" + userId);
     }
 
     /**
@@ -78,25 +310,13 @@ public class SeatLockRedisRepository {
      */
     public boolean unlock(String eventId, String seatId, String userId) {
         String lockKey = lockKey(eventId, seatId);
+        String holdsKey = holdsKey(eventId, userId);
 
-        // Lua Script: 본인이 선점한 경우에만 삭제
-        String script = """
-                local lockKey = KEYS[1]
-                local userId = ARGV[1]
-
-                local current = redis.call('GET', lockKey)
-                if current == userId then
-                    redis.call('DEL', lockKey)
-                    return 1
-                end
-                return 0
-                """;
-
-        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>(script, Long.class);
         Long result = stringRedisTemplate.execute(
-                redisScript,
-                Collections.singletonList(lockKey),
-                userId
+                UNLOCK_SCRIPT,
+                List.of(lockKey, holdsKey),
+                userId,
+                seatId
         );
 
         boolean unlocked = result != null && result == 1;
@@ -105,28 +325,139 @@ public class SeatLockRedisRepository {
     }
 
     /**
-     * 좌석 선점자 조회
+     * 사용자의 모든 좌석 선점 일괄 해제
+     * 인덱스의 좌석 중 본인이 아직 선점 중인 것만 삭제하고 인덱스를 제거
+     *
+     * @return 해제된 좌석 ID 목록
      */
-    public Optional<String> getLockedBy(String eventId, String seatId) {
-        String lockKey = lockKey(eventId, seatId);
-        String userId = stringRedisTemplate.opsForValue().get(lockKey);
-        return Optional.ofNullable(userId);
+    @SuppressWarnings("unchecked")
+    public List<String> unlockAll(String eventId, String userId) {
+        String holdsKey = holdsKey(eventId, userId);
+
+        for (int attempt = 0; attempt < MAX_STALE_RETRIES; attempt++) {
+            List<String> keys = new ArrayList<>(List.of(holdsKey));
+            List<String> args = new ArrayList<>(List.of(userId));
+            addHeldSeats(eventId, heldSeatIds(holdsKey), keys, args);
+
+            List<String> result = stringRedisTemplate.execute(UNLOCK_ALL_SCRIPT, keys, args.toArray());
+            if (result == null || result.isEmpty()) {
+                throw new IllegalStateException("Empty unlock-all script result: eventId=" + eventId + ", userId=" + userId);
+            }
+            if (!STALE.equals(result.get(0))) {
+                List<String> released = List.copyOf(result.subList(1, result.size()));
+                log.debug("Seat unlock all: eventId={}, userId={}, released={}", eventId, userId, released);
+                return released;
+            }
+        }
+        throw new IllegalStateException("Seat hold index kept changing: eventId=" + eventId + ", userId=" + userId);
     }
 
     /**
-     * 좌석이 선점되었는지 확인
+     * 원자적 체크아웃
+     * 선점 소유 확인 → 예약 표시(공유 상태) → 락 해제 → 토큰 회수 → 나머지 선점 해제를 한 번에 수행
+     *
+     * @return 체크아웃 결과
      */
-    public boolean isLocked(String eventId, String seatId) {
-        String lockKey = lockKey(eventId, seatId);
-        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(lockKey));
+    @SuppressWarnings("unchecked")
+    public CheckoutResult checkout(String eventId, String seatId, String userId) {
+        String holdsKey = holdsKey(eventId, userId);
+
+        for (int attempt = 0; attempt < MAX_STALE_RETRIES; attempt++) {
+            List<String> keys = new ArrayList<>(List.of(
+                    lockKey(eventId, seatId), holdsKey, reservedKey(eventId), TokenRedisRepository.tokenKey(eventId, userId)));
+            List<String> args = new ArrayList<>(List.of(userId, seatId));
+            addHeldSeats(eventId, heldSeatIds(holdsKey), keys, args);
+
+            List<String> result = stringRedisTemplate.execute(CHECKOUT_SCRIPT, keys, args.toArray());
+            if (result == null || result.isEmpty()) {
+                throw new IllegalStateException("Empty checkout script result: eventId=" + eventId + ", seatId=" + seatId);
+            }
+            if (STALE.equals(result.get(0))) {
+                continue;
+            }
+
+            CheckoutStatus status = CheckoutStatus.valueOf(result.get(0));
+            List<String> releasedSeatIds = List.copyOf(result.subList(1, result.size()));
+            log.debug("Seat checkout: eventId={}, seatId={}, userId={}, status={}, released={}",
+                    eventId, seatId, userId, status, releasedSeatIds);
+            return new CheckoutResult(status, releasedSeatIds);
+        }
+        throw new IllegalStateException("Seat hold index kept changing: eventId=" + eventId + ", userId=" + userId);
     }
 
     /**
-     * 특정 사용자가 선점했는지 확인
+     * 결제 시작 (PG 호출 전)
+     * 선점 소유 확인과 진행 중 결제 표시를 한 번에 수행하여, 같은 좌석에 두 번째 결제가 시작되지 않게 함
      */
-    public boolean isLockedBy(String eventId, String seatId, String userId) {
-        Optional<String> lockedBy = getLockedBy(eventId, seatId);
-        return lockedBy.isPresent() && lockedBy.get().equals(userId);
+    public PaymentStartResult beginPayment(String eventId, String seatId, String userId, String paymentId) {
+        String result = stringRedisTemplate.execute(
+                BEGIN_PAYMENT_SCRIPT,
+                List.of(lockKey(eventId, seatId), reservedKey(eventId), payingKey(eventId, seatId)),
+                userId,
+                seatId,
+                paymentId,
+                String.valueOf(LOCK_TTL_SECONDS)
+        );
+
+        log.debug("Payment begin: eventId={}, seatId={}, userId={}, paymentId={}, result={}",
+                eventId, seatId, userId, paymentId, result);
+        return PaymentStartResult.valueOf(result);
+    }
+
+    /**
+     * 결제 종료 (결제 확정/실패 시)
+     * 진행 중 결제 표시가 이 결제의 것일 때만 삭제
+     */
+    public void endPayment(String eventId, String seatId, String paymentId) {
+        stringRedisTemplate.execute(END_PAYMENT_SCRIPT, List.of(payingKey(eventId, seatId)), paymentId);
+    }
+
+    /**
+     * Lua Script 사전 적재 (SCRIPT LOAD)
+     * 스크립트는 EVALSHA로 실행되므로 오픈 직전에 적재해 두면 첫 요청의 NOSCRIPT → EVAL 재전송을 피할 수 있습니다.
+     *
+     * @return 적재된 스크립트 수
+     */
+    public int preloadScripts() {
+        Integer loaded = stringRedisTemplate.execute((RedisCallback<Integer>) connection -> {
+            for (DefaultRedisScript<?> script : SCRIPTS) {
+                connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+            }
+            return SCRIPTS.size();
+        });
+        log.debug("Seat lock scripts preloaded: count={}", loaded);
+        return loaded != null ? loaded : 0;
+    }
+
+    /**
+     * 공유 예약 상태 확인
+     */
+    public boolean isReserved(String eventId, String seatId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(reservedKey(eventId), seatId));
+    }
+
+    /**
+     * 선점 중인 좌석 ID 조회 (EXISTS를 파이프라인 1회로 전송)
+     */
+    public Set<String> findLockedSeatIds(String eventId, List<String> seatIds) {
+        if (seatIds.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String seatId : seatIds) {
+                connection.keyCommands().exists(lockKey(eventId, seatId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        Set<String> locked = new HashSet<>();
+        for (int i = 0; i < seatIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                locked.add(seatIds.get(i));
+            }
+        }
+        return locked;
     }
 
     /**
@@ -139,22 +470,44 @@ public class SeatLockRedisRepository {
     }
 
     /**
-     * 선점 락 강제 삭제 (예약 확정 시 사용)
+     * 선점 TTL 기본값 조회
      */
-    public void forceUnlock(String eventId, String seatId) {
-        String lockKey = lockKey(eventId, seatId);
-        stringRedisTemplate.delete(lockKey);
-        log.debug("Seat force unlock: eventId={}, seatId={}", eventId, seatId);
+    public long getLockTtlSeconds() {
+        return LOCK_TTL_SECONDS;
+    }
+
+    private List<String> heldSeatIds(String holdsKey) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(holdsKey);
+        return members != null ? List.copyOf(members) : List.of();
     }
 
     /**
-     * 선점 TTL 기본값 조회
+     * 선점 인덱스의 좌석 락 키는 KEYS 뒤에, 좌석 ID는 ARGV 뒤에 같은 순서로 추가
      */
-    public long getLockTtlSeconds() {
-        return LOCK_TTL_SECONDS;
+    private void addHeldSeats(String eventId, List<String> heldSeatIds, List<String> keys, List<String> args) {
+        for (String heldSeatId : heldSeatIds) {
+            keys.add(lockKey(eventId, heldSeatId));
+            args.add(heldSeatId);
+        }
     }
 
     private String lockKey(String eventId, String seatId) {
-        return LOCK_KEY_PREFIX + eventId + ":" + seatId;
+        return lockKeyPrefix(eventId) + seatId;
+    }
+
+    private String lockKeyPrefix(String eventId) {
+        return LOCK_KEY_PREFIX + eventId + ":";
+    }
+
+    private String holdsKey(String eventId, String userId) {
+        return HOLDS_KEY_PREFIX + eventId + ":" + userId;
+    }
+
+    private String payingKey(String eventId, String seatId) {
+        return PAYING_KEY_PREFIX + eventId + ":" + seatId;
+    }
+
+    private String reservedKey(String eventId) {
+        return RESERVED_KEY_PREFIX + eventId;
     }
 }
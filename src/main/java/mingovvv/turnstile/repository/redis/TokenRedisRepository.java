@@ -125,7 +125,10 @@ public class TokenRedisRepository {
         return count;
     }
 
-    private String tokenKey(String eventId, String userId) {
+    /**
+     * 토큰 키 조합 (체크아웃 스크립트처럼 다른 Repository의 스크립트에서 토큰 키가 필요할 때 사용)
+     */
+    public static String tokenKey(String eventId, String userId) {
         return TOKEN_KEY_PREFIX + eventId + ":" + userId;
     }
 }
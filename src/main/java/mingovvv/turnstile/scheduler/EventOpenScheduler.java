@@ -0,0 +1,92 @@
+package mingovvv.turnstile.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.config.EventOpenProperties;
+import mingovvv.turnstile.domain.Event;
+import mingovvv.turnstile.domain.enums.EventStatus;
+import mingovvv.turnstile.repository.memory.EventMemoryRepository;
+import mingovvv.turnstile.service.EventService;
+import mingovvv.turnstile.service.EventWarmUpService;
+import mingovvv.turnstile.service.QueueService;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 예약 오픈 스케줄러
+ * <p>
+ * 오픈 시각(openAt)이 지정된 UPCOMING 이벤트를 감시하다가 pre-warm-lead 전에 예열을 시작하고,
+ * 오픈 시각 정각에 OPEN으로 전환하도록 TaskScheduler에 등록합니다.
+ * 각 노드가 같은 오픈 시각을 기준으로 스스로 전환하므로 Pub/Sub 전달 지연과 무관하게 동시에 열리며,
+ * 노드 간 오차는 시스템 시계(NTP) 동기화 수준입니다. 전환 결과는 기존 상태 전파로도 한 번 더 수렴합니다.
+ * 이미 오픈 시각이 지난 이벤트는 즉시 전환합니다.
+ * 전환 직후 이 노드의 사전 대기열을 추첨 순서로 Redis 대기열에 일괄 등록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventOpenScheduler {
+
+    private final EventMemoryRepository eventRepository;
+    private final EventService eventService;
+    private final EventWarmUpService warmUpService;
+    private final QueueService queueService;
+    private final TaskScheduler taskScheduler;
+    private final EventOpenProperties properties;
+
+    // 예열/전환을 이미 등록한 이벤트
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 1초마다 예열 구간에 들어선 이벤트 확인
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void scheduleOpenings() {
+        Instant now = Instant.now();
+
+        for (Event event : eventRepository.findAll()) {
+            if (!event.isScheduledToOpen()) {
+                continue;
+            }
+
+            String eventId = event.getEventId();
+            Instant openAt = event.getOpenAt();
+            if (now.isBefore(openAt.minus(properties.getPreWarmLead())) || !scheduled.add(eventId)) {
+                continue;
+            }
+
+            if (now.isBefore(openAt)) {
+                Thread.ofVirtual().name("pre-warm-" + eventId).start(() -> warmUpService.warmUp(eventId));
+            }
+            taskScheduler.schedule(() -> open(eventId), openAt);
+            log.info("Event opening scheduled: eventId={}, openAt={}", eventId, openAt);
+        }
+    }
+
+    /**
+     * 오픈 전환 후 사전 대기열 등록 (그 사이 수동으로 상태가 바뀐 이벤트는 건드리지 않음)
+     * 다른 노드의 전환이 먼저 전파되어 이미 OPEN이어도 이 노드의 사전 대기열은 등록합니다.
+     */
+    private void open(String eventId) {
+        try {
+            boolean stillUpcoming = eventRepository.findById(eventId)
+                    .filter(Event::isScheduledToOpen)
+                    .isPresent();
+            if (stillUpcoming) {
+                eventService.updateStatus(eventId, EventStatus.OPEN);
+            }
+            if (eventRepository.findById(eventId).filter(Event::isOpen).isPresent()) {
+                queueService.flushPreQueue(eventId);
+            }
+        } catch (Exception e) {
+            log.error("Failed to open event: eventId={}", eventId, e);
+        } finally {
+            scheduled.remove(eventId);
+        }
+    }
+}
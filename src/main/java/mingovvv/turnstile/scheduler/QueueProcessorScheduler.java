@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mingovvv.turnstile.domain.Event;
 import mingovvv.turnstile.repository.memory.EventMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
 import mingovvv.turnstile.repository.redis.TokenRedisRepository;
 import mingovvv.turnstile.service.QueueService;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -16,6 +17,7 @@ import java.util.List;
  * <p>
  * 주기적으로 대기열에서 사용자를 꺼내 입장 토큰을 발급합니다.
  * 동시 입장 인원(maxConcurrentUsers)을 초과하지 않도록 제어합니다.
+ * 입장 인원은 남은 좌석 수로도 제한하며, 선택 가능한 좌석이 없으면 Redis를 조회하지 않습니다.
  */
 @Slf4j
 @Component
@@ -25,16 +27,15 @@ public class QueueProcessorScheduler {
     private final QueueService queueService;
     private final EventMemoryRepository eventRepository;
     private final TokenRedisRepository tokenRepository;
+    private final SeatInventoryMemoryRepository inventoryRepository;
 
     /**
      * 10초마다 대기열 처리
-     * 각 이벤트별로 (maxConcurrentUsers - 현재 토큰 보유자 수)만큼 입장 처리
+     * 각 이벤트별로 min(maxConcurrentUsers - 현재 토큰 보유자 수, 선택 가능 좌석 수)만큼 입장 처리
      */
     @Scheduled(fixedRate = 10000)
     public void processQueue() {
-        List<Event> openEvents = eventRepository.findAll().stream()
-                .filter(Event::isOpen)
-                .toList();
+        List<Event> openEvents = eventRepository.findAllOpen();
 
         for (Event event : openEvents) {
             try {
@@ -47,13 +48,23 @@ public class QueueProcessorScheduler {
 
     private void processEventQueue(Event event) {
         String eventId = event.getEventId();
+
+        // 오픈 전환이 실패했거나 이 노드가 전환을 놓친 경우 사전 대기열 등록 (이미 옮긴 이벤트는 Redis 조회 없음)
+        queueService.flushPreQueue(eventId);
         int maxConcurrent = event.getMaxConcurrentUsers();
 
+        // 선택 가능한 좌석이 없으면 입장시키지 않음 (매진 / 전 좌석 선점 중)
+        int availableSeats = inventoryRepository.getAvailableCount(eventId);
+        if (availableSeats <= 0) {
+            log.debug("No available seats: eventId={}", eventId);
+            return;
+        }
+
         // 현재 토큰 보유자 수 (= 좌석 선택 페이지에 있는 사용자 수)
         long currentTokenCount = tokenRepository.countByEventId(eventId);
 
         // 입장 가능 인원 계산
-        int availableSlots = (int) (maxConcurrent - currentTokenCount);
+        int availableSlots = (int) Math.min(maxConcurrent - currentTokenCount, availableSeats);
 
         if (availableSlots <= 0) {
             log.debug("Queue full: eventId={}, maxConcurrent={}, currentTokens={}",
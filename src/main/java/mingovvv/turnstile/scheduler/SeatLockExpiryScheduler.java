@@ -0,0 +1,35 @@
+package mingovvv.turnstile.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.service.SeatService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 선점 만료 스케줄러
+ * <p>
+ * Redis 선점 락은 TTL로 조용히 만료되므로,
+ * 만료 시각이 지난 좌석을 선점 미러에서 해제하고 재고 카운터를 LOCKED → AVAILABLE로 되돌립니다.
+ * 키스페이스 알림을 사용하지 않는 환경(로컬/테스트)에서 expired 알림을 대신하며,
+ * 알림을 사용하는 경우에도 유실 대비 안전망으로 동작합니다. (미러에서 이미 제거된 좌석은 중복 처리되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatLockExpiryScheduler {
+
+    private final SeatService seatService;
+
+    /**
+     * 1초마다 만료된 선점 정리
+     */
+    @Scheduled(fixedRate = 1000)
+    public void releaseExpiredLocks() {
+        int released = seatService.releaseExpiredLocks();
+
+        if (released > 0) {
+            log.info("Seat locks expired: count={}", released);
+        }
+    }
+}
@@ -3,10 +3,12 @@ package mingovvv.turnstile.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import mingovvv.turnstile.domain.Event;
+import mingovvv.turnstile.domain.enums.EventStatus;
 import mingovvv.turnstile.dto.response.EventResponse;
 import mingovvv.turnstile.exception.ErrorCode;
 import mingovvv.turnstile.exception.TurnstileException;
 import mingovvv.turnstile.repository.memory.EventMemoryRepository;
+import mingovvv.turnstile.repository.redis.EventStatusRedisRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,6 +16,9 @@ import java.util.stream.Collectors;
 
 /**
  * 이벤트 서비스
+ * <p>
+ * 이벤트 조회와 오픈 여부 검증은 카탈로그 스냅샷 읽기 한 번으로 처리합니다.
+ * 상태 변경은 로컬 카탈로그에 반영한 뒤 Redis Pub/Sub으로 다른 노드에 전파합니다.
  */
 @Slf4j
 @Service
@@ -21,6 +26,7 @@ import java.util.stream.Collectors;
 public class EventService {
 
     private final EventMemoryRepository eventRepository;
+    private final EventStatusRedisRepository eventStatusRepository;
 
     /**
      * 이벤트 목록 조회
@@ -49,11 +55,53 @@ public class EventService {
 
     /**
      * 이벤트가 예매 가능한지 확인
+     *
+     * @return 검증된 이벤트 (추가 조회 없이 사용)
      */
-    public void validateEventOpen(String eventId) {
-        Event event = findEventOrThrow(eventId);
+    public Event validateEventOpen(String eventId) {
+        return validateEventOpen(findEventOrThrow(eventId));
+    }
+
+    /**
+     * 이미 조회한 이벤트가 예매 가능한지 확인
+     */
+    public Event validateEventOpen(Event event) {
+        if (event.getStatus() == EventStatus.SOLD_OUT) {
+            throw new TurnstileException(ErrorCode.EVENT_SOLD_OUT, event.getEventId());
+        }
         if (!event.isOpen()) {
-            throw new TurnstileException(ErrorCode.EVENT_NOT_OPEN, eventId);
+            throw new TurnstileException(ErrorCode.EVENT_NOT_OPEN, event.getEventId());
+        }
+        return event;
+    }
+
+    /**
+     * 이벤트 매진 처리 (다른 노드에 전파)
+     */
+    public void markSoldOut(String eventId) {
+        updateStatus(eventId, EventStatus.SOLD_OUT);
+    }
+
+    /**
+     * 이벤트 상태 변경 후 다른 노드에 전파
+     */
+    public void updateStatus(String eventId, EventStatus status) {
+        if (eventRepository.updateStatus(eventId, status)) {
+            eventStatusRepository.publish(eventId, status);
+            log.info("Event status changed: eventId={}, status={}", eventId, status);
+        }
+    }
+
+    /**
+     * 다른 노드에서 전파된 상태 변경 반영 (재전파하지 않음)
+     *
+     * @return 이 노드의 상태가 실제로 바뀌었으면 true
+     */
+    public boolean applyRemoteStatus(String eventId, EventStatus status) {
+        boolean changed = eventRepository.updateStatus(eventId, status);
+        if (changed) {
+            log.info("Event status synced: eventId={}, status={}", eventId, status);
         }
+        return changed;
     }
 }
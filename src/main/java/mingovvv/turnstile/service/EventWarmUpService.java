@@ -0,0 +1,108 @@
+package mingovvv.turnstile.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.http.client.PaymentGatewayClient;
+import mingovvv.turnstile.config.EventOpenProperties;
+import mingovvv.turnstile.dto.response.EventResponse;
+import mingovvv.turnstile.dto.response.SeatSummaryResponse;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.repository.redis.QueueRedisRepository;
+import mingovvv.turnstile.repository.redis.SeatLockRedisRepository;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 오픈 전 예열(pre-warm) 서비스
+ * <p>
+ * 오픈 직후 몰리는 요청이 콜드 상태(JIT 미컴파일, 빈 커넥션 풀, 미적재 Lua 스크립트)를 만나지 않도록
+ * 오픈 시각 전에 다음을 수행합니다.
+ * 1. Lua 스크립트 SCRIPT LOAD
+ * 2. Redis / PG 커넥션 예열 (동시 호출로 커넥션 수립, TLS 핸드셰이크)
+ * 3. 좌석 배치도, 잔여 좌석 요약, 대기열 조회 경로 반복 실행 + JSON 직렬화 (JIT 유도)
+ * <p>
+ * 각 단계는 실패해도 다음 단계를 계속 진행하며, 오픈 전환 시각에는 영향을 주지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventWarmUpService {
+
+    private final EventService eventService;
+    private final SeatService seatService;
+    private final SeatLockRedisRepository seatLockRepository;
+    private final QueueRedisRepository queueRepository;
+    private final SeatInventoryMemoryRepository inventoryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final ObjectMapper objectMapper;
+    private final EventOpenProperties properties;
+
+    /**
+     * 이벤트 예열 실행 (블로킹, 가상 스레드에서 호출)
+     */
+    public void warmUp(String eventId) {
+        long startNanos = System.nanoTime();
+        log.info("Event pre-warm started: eventId={}", eventId);
+
+        step(eventId, "scripts", seatLockRepository::preloadScripts);
+        step(eventId, "redis", () -> concurrently(properties.getRedisConnections(),
+                () -> stringRedisTemplate.execute((RedisCallback<String>) RedisConnection::ping)));
+        step(eventId, "http", () -> concurrently(properties.getHttpConnections(), paymentGatewayClient::ping));
+        step(eventId, "endpoints", () -> warmUpReadPaths(eventId));
+
+        log.info("Event pre-warm completed: eventId={}, elapsedMs={}",
+                eventId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * 오픈 직후 가장 많이 호출되는 조회 경로를 상태 변경 없이 반복 실행
+     */
+    private void warmUpReadPaths(String eventId) throws JsonProcessingException {
+        for (int i = 0; i < properties.getWarmUpIterations(); i++) {
+            objectMapper.writeValueAsBytes(EventResponse.from(eventService.findEventOrThrow(eventId)));
+            objectMapper.writeValueAsBytes(seatService.warmUpSeats(eventId));
+            objectMapper.writeValueAsBytes(SeatSummaryResponse.from(eventId, inventoryRepository.findByEventId(eventId)));
+        }
+        queueRepository.getTotalWaiting(eventId);
+    }
+
+    private void concurrently(int count, Runnable task) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private void step(String eventId, String name, WarmUpStep step) {
+        long startNanos = System.nanoTime();
+        try {
+            step.run();
+            log.debug("Pre-warm step done: eventId={}, step={}, elapsedMs={}",
+                    eventId, name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (Exception e) {
+            log.warn("Pre-warm step failed: eventId={}, step={}, error={}", eventId, name, e.toString());
+        }
+    }
+
+    @FunctionalInterface
+    private interface WarmUpStep {
+        void run() throws Exception;
+    }
+}
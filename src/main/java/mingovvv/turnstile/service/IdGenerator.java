@@ -0,0 +1,113 @@
+package mingovvv.turnstile.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순 정렬 ID 생성기 (Snowflake 방식, lock-free)
+ * <p>
+ * 64bit = [41bit 타임스탬프(ms, 2026-01-01 기준)][10bit 노드 ID][12bit 시퀀스]
+ * 타임스탬프와 시퀀스를 하나의 AtomicLong에 묶어 CAS 한 번으로 발급하므로 락이 없고,
+ * 같은 ms에 4096개를 넘기면 다음 ms를 미리 사용하여 대기 없이 단조 증가를 유지합니다. (시계 역행 시에도 동일)
+ * <p>
+ * 문자열은 Crockford Base32 고정 13자리로 인코딩하여 사전순 정렬이 발급 순서와 일치합니다.
+ * 예측 가능한 값이므로 입장 토큰처럼 추측되면 안 되는 값에는 사용하지 않습니다.
+ * <p>
+ * 노드 ID는 NodeIdLease가 명시 설정 또는 Redis 임대로 확보하며, 임대를 잃으면 발급을 중단합니다.
+ */
+@Slf4j
+@Service
+public class IdGenerator {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    static final int NODE_COUNT = 1 << NODE_BITS;
+    static final long MAX_NODE_ID = NODE_COUNT - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final char[] BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    private final long nodeBits;
+    // 임대한 노드 ID (고정 노드 ID면 null)
+    private final NodeIdLease lease;
+
+    // [타임스탬프][시퀀스] (노드 ID 제외)
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public IdGenerator(NodeIdLease lease) {
+        this(lease.getNodeId(), lease);
+    }
+
+    /**
+     * 고정 노드 ID로 생성
+     */
+    public IdGenerator(long nodeId) {
+        this(nodeId, null);
+    }
+
+    private IdGenerator(long nodeId, NodeIdLease lease) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be 0~" + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+        this.lease = lease;
+        log.info("IdGenerator initialized: nodeId={}", nodeId);
+    }
+
+    /**
+     * 64bit 시간 순 ID 발급
+     *
+     * @throws IllegalStateException 노드 ID 임대를 잃은 경우 (다른 노드와 ID가 겹칠 수 있음)
+     */
+    public long nextId() {
+        if (lease != null && !lease.isValid()) {
+            throw new IllegalStateException("Node id lease lost, id issuing stopped");
+        }
+        while (true) {
+            long current = state.get();
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+            long lastTimestamp = current >>> SEQUENCE_BITS;
+
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else if ((current & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = current + 1;
+            } else {
+                next = (lastTimestamp + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(current, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 접두어 + Base32 ID 발급 (예: PAY-0C8Z3K1W5R00A)
+     */
+    public String nextId(String prefix) {
+        char[] chars = new char[prefix.length() + ENCODED_LENGTH];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        encode(nextId(), chars, prefix.length());
+        return new String(chars);
+    }
+
+    /**
+     * 64bit 값을 고정 13자리 Crockford Base32로 인코딩 (상위 비트부터)
+     */
+    private static void encode(long value, char[] target, int offset) {
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            target[offset + i] = BASE32[(int) (value & 0x1F)];
+            value >>>= 5;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package mingovvv.turnstile.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.repository.redis.NodeIdRedisRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ID 생성기 노드 ID 확보
+ * <p>
+ * turnstile.id.node-id가 0 이상이면 그 값을 사용하고, -1(미설정)이면 Redis에서 빈 노드 ID를 임대합니다.
+ * 임대에 실패하면(Redis 장애, 노드 ID 소진) 기동을 중단합니다. 호스트명 해시처럼 노드끼리 충돌할 수 있는 값은 사용하지 않습니다.
+ * 임대는 주기적으로 연장하며, 연장하지 못한 채 TTL이 지나거나 다른 노드가 가져간 경우 ID 발급을 중단합니다.
+ * TTL 경과는 연장 주기와 관계없이 ID 발급 시마다 확인하고, 시계 오차를 고려해 TTL의 90%가 지나면 만료로 간주합니다.
+ * 임대 반납은 Redis 연결이 닫히기 전(컨텍스트 종료 이벤트)에 수행합니다.
+ */
+@Slf4j
+@Component
+public class NodeIdLease {
+
+    private final NodeIdRedisRepository nodeIdRepository;
+    private final Duration ttl;
+    // 마지막 연장 시작 시각부터 이 시간이 지나면 만료로 간주 (TTL의 90%)
+    private final long validNanos;
+    private final boolean leased;
+    private final String owner;
+
+    @Getter
+    private final long nodeId;
+
+    private volatile boolean valid = true;
+    private volatile long lastRenewedNanos = System.nanoTime();
+
+    public NodeIdLease(
+            NodeIdRedisRepository nodeIdRepository,
+            @Value("${turnstile.id.node-id:-1}") long configuredNodeId,
+            @Value("${turnstile.id.lease-ttl:30s}") Duration ttl
+    ) {
+        this.nodeIdRepository = nodeIdRepository;
+        this.ttl = ttl;
+        this.validNanos = ttl.toNanos() / 10 * 9;
+        this.owner = ownerName();
+
+        if (configuredNodeId > IdGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException("turnstile.id.node-id must be 0~" + IdGenerator.MAX_NODE_ID + ": " + configuredNodeId);
+        }
+        if (configuredNodeId >= 0) {
+            this.nodeId = configuredNodeId;
+            this.leased = false;
+            log.info("Node id configured: nodeId={}", nodeId);
+            return;
+        }
+
+        long acquired;
+        try {
+            acquired = nodeIdRepository.acquire(IdGenerator.NODE_COUNT, owner, ttl,
+                    ThreadLocalRandom.current().nextInt(IdGenerator.NODE_COUNT));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("turnstile.id.node-id is not set and a node id could not be leased from Redis", e);
+        }
+        if (acquired < 0) {
+            throw new IllegalStateException("turnstile.id.node-id is not set and all " + IdGenerator.NODE_COUNT + " node ids are leased");
+        }
+        this.nodeId = acquired;
+        this.leased = true;
+        log.info("Node id leased: nodeId={}, owner={}, ttl={}", nodeId, owner, ttl);
+    }
+
+    /**
+     * 임대가 유효한지 확인 (명시 설정이면 항상 유효)
+     * Redis가 응답하지 않아 연장이 멈춘 경우에도 다음 연장 주기를 기다리지 않고 TTL 경과 시점부터 무효
+     */
+    public boolean isValid() {
+        if (!leased) {
+            return true;
+        }
+        return valid && System.nanoTime() - lastRenewedNanos < validNanos;
+    }
+
+    /**
+     * 임대 연장 (TTL보다 짧은 주기)
+     */
+    @Scheduled(fixedRateString = "${turnstile.id.lease-renew-interval:10s}")
+    public void renew() {
+        if (!leased) {
+            return;
+        }
+        // Redis의 TTL은 요청 처리 시점부터 다시 시작되므로, 보수적으로 요청 전 시각을 연장 시각으로 사용
+        long renewStartedNanos = System.nanoTime();
+        try {
+            boolean renewed = nodeIdRepository.renew(nodeId, owner, ttl);
+            if (renewed) {
+                lastRenewedNanos = renewStartedNanos;
+                if (!valid) {
+                    log.info("Node id lease restored: nodeId={}", nodeId);
+                }
+                valid = true;
+                return;
+            }
+            valid = false;
+            log.error("Node id lease taken by another node, id issuing stopped: nodeId={}", nodeId);
+        } catch (RuntimeException e) {
+            // 연장하지 못한 채 TTL이 지나면 다른 노드가 같은 ID를 임대했을 수 있으므로 발급 중단
+            if (System.nanoTime() - lastRenewedNanos >= validNanos) {
+                valid = false;
+                log.error("Node id lease expired without renewal, id issuing stopped: nodeId={}", nodeId, e);
+            } else {
+                log.warn("Node id lease renewal failed: nodeId={}, error={}", nodeId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 임대 반납 (Redis 연결 팩토리가 중지되기 전인 컨텍스트 종료 이벤트에서 실행)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void release() {
+        if (!leased) {
+            return;
+        }
+        try {
+            nodeIdRepository.release(nodeId, owner);
+        } catch (RuntimeException e) {
+            log.warn("Node id lease release failed: nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    private static String ownerName() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid() + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,121 @@
+package mingovvv.turnstile.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.http.client.PaymentGatewayClient;
+import mingovvv.common.http.dto.PaymentGatewayCancelReq;
+import mingovvv.common.http.dto.PaymentGatewayReq;
+import mingovvv.common.http.dto.PaymentGatewayRes;
+import mingovvv.turnstile.exception.ErrorCode;
+import mingovvv.turnstile.exception.TurnstileException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * 결제 게이트웨이 호출 서비스
+ * <p>
+ * PG 승인 호출을 가상 스레드에서 실행하고 요청 스레드는 즉시 반환합니다.
+ * - Bulkhead: PG 동시 호출 수 제한 (초과 시 대기 없이 즉시 거절)
+ * - TimeLimiter: 승인 응답 대기 시간 제한 (초과 시 TimeoutException으로 콜백)
+ * <p>
+ * 응답을 받지 못한 승인의 확정(조회)과 승인 취소는 블로킹 호출이므로 가상 스레드에서 호출합니다.
+ * 타임아웃 판정과 지연 실행용 타이머는 이 서비스가 소유하며 빈으로 노출하지 않습니다.
+ * (ScheduledExecutorService 빈이 있으면 Spring Boot의 TaskScheduler 자동 구성이 생략됨)
+ */
+@Slf4j
+@Service
+public class PaymentGatewayService {
+
+    public static final String INSTANCE_NAME = "payment-gateway";
+
+    private final PaymentGatewayClient paymentGatewayClient;
+    private final Bulkhead bulkhead;
+    private final TimeLimiter timeLimiter;
+    private final Executor executor;
+
+    // 타이머만 실행하므로 단일 스레드 (실제 작업은 executor의 가상 스레드에서 실행)
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("pg-timer").daemon(true).factory()
+    );
+
+    public PaymentGatewayService(
+            PaymentGatewayClient paymentGatewayClient,
+            BulkheadRegistry bulkheadRegistry,
+            TimeLimiterRegistry timeLimiterRegistry,
+            @Qualifier("paymentGatewayExecutor") Executor executor
+    ) {
+        this.paymentGatewayClient = paymentGatewayClient;
+        this.bulkhead = bulkheadRegistry.bulkhead(INSTANCE_NAME);
+        this.timeLimiter = timeLimiterRegistry.timeLimiter(INSTANCE_NAME);
+        this.executor = executor;
+    }
+
+    /**
+     * 결제 승인 요청을 비동기로 제출
+     * <p>
+     * 콜백은 승인 응답, 거절, 타임아웃, 호출 오류 중 하나로 정확히 한 번 가상 스레드에서 호출됩니다.
+     * Bulkhead 여유가 없으면 제출하지 않고 즉시 예외를 던지므로 호출자는 선점을 유지한 채 재시도할 수 있습니다.
+     */
+    public void approve(PaymentGatewayReq request, BiConsumer<PaymentGatewayRes, Throwable> callback) {
+        if (!bulkhead.tryAcquirePermission()) {
+            log.warn("Payment gateway bulkhead full: paymentId={}, maxConcurrentCalls={}",
+                    request.paymentId(), bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+            throw new TurnstileException(ErrorCode.PAYMENT_GATEWAY_BUSY, request.paymentId());
+        }
+
+        timeLimiter.executeCompletionStage(timer,
+                        () -> CompletableFuture.supplyAsync(() -> call(request), executor))
+                .whenCompleteAsync(callback, executor);
+    }
+
+    /**
+     * 결제 상태 조회 (블로킹, 가상 스레드에서 호출)
+     */
+    public PaymentGatewayRes inquire(String paymentId) {
+        return paymentGatewayClient.inquire(paymentId);
+    }
+
+    /**
+     * 결제 취소 (블로킹, 가상 스레드에서 호출)
+     * 승인된 결제는 취소되고, PG에 기록이 없는 결제는 무효화되어 늦게 도착한 승인 요청도 거절됩니다.
+     */
+    public PaymentGatewayRes cancel(String paymentId, String reason) {
+        return paymentGatewayClient.cancel(new PaymentGatewayCancelReq(paymentId, reason));
+    }
+
+    /**
+     * 지연 후 가상 스레드에서 작업 실행 (조회/취소 재시도용)
+     */
+    public void schedule(Runnable task, Duration delay) {
+        timer.schedule(() -> executor.execute(task), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * PG 호출 (블로킹)
+     * 타임아웃 후에도 실제 호출이 끝날 때까지 Bulkhead 슬롯을 점유하여 PG 동시 호출 수를 정확히 제한
+     */
+    private PaymentGatewayRes call(PaymentGatewayReq request) {
+        try {
+            return paymentGatewayClient.approve(request);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+}
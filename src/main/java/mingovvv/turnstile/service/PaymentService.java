@@ -2,6 +2,10 @@ package mingovvv.turnstile.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mingovvv.common.http.dto.PaymentGatewayReq;
+import mingovvv.common.http.dto.PaymentGatewayRes;
+import mingovvv.common.model.PageRequestDto;
+import mingovvv.common.model.PageResponseDto;
 import mingovvv.turnstile.domain.Payment;
 import mingovvv.turnstile.domain.Reservation;
 import mingovvv.turnstile.domain.Seat;
@@ -11,107 +15,285 @@ import mingovvv.turnstile.dto.response.PaymentResponse;
 import mingovvv.turnstile.dto.response.ReservationResponse;
 import mingovvv.turnstile.exception.ErrorCode;
 import mingovvv.turnstile.exception.TurnstileException;
+import mingovvv.turnstile.journal.RepositoryJournal;
+import mingovvv.turnstile.repository.jpa.PaymentWriteBehindRepository;
 import mingovvv.turnstile.repository.memory.PaymentMemoryRepository;
 import mingovvv.turnstile.repository.memory.ReservationMemoryRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Random;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
- * 결제 서비스 (Mock)
+ * 결제 서비스
+ * <p>
+ * 결제 요청은 PENDING 상태로 즉시 응답하고, PG 승인 결과는 가상 스레드에서 비동기로 반영합니다.
+ * 클라이언트는 GET /api/payments/{paymentId} 폴링으로 최종 상태(SUCCESS / FAILED)를 확인합니다.
+ * 승인 응답을 받지 못한 결제(타임아웃/호출 오류)는 PENDING을 유지한 채 PG 조회로 확정하고,
+ * 승인됐으나 예약에 실패한 결제는 PG에 취소를 요청합니다.
+ * feature.db.enabled=true이면 최종 상태를 write-behind 큐로 DB에 비동기 저장하고,
+ * turnstile.journal.enabled=true이면 결제/예약 변경을 저널에 기록해 재시작 시 복구합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
+    // PG 조회/취소 최대 시도 횟수와 첫 재시도 대기 시간 (시도마다 2배)
+    private static final int MAX_GATEWAY_FOLLOW_UP_ATTEMPTS = 5;
+    private static final Duration GATEWAY_FOLLOW_UP_DELAY = Duration.ofSeconds(1);
+
     private final SeatService seatService;
-    private final TokenService tokenService;
+    private final PaymentGatewayService paymentGatewayService;
+    private final IdGenerator idGenerator;
     private final PaymentMemoryRepository paymentRepository;
     private final ReservationMemoryRepository reservationRepository;
-
-    private final Random random = new Random();
-
-    // Mock 결제 성공률 (80%)
-    private static final double SUCCESS_RATE = 0.8;
+    private final ObjectProvider<PaymentWriteBehindRepository> writeBehindRepository;
+    private final ObjectProvider<RepositoryJournal> journal;
 
     /**
-     * 결제 처리 (Mock)
+     * 결제 요청 (비동기)
+     * <p>
+     * PG 승인 요청을 제출하고 PENDING 결제를 즉시 반환합니다. 요청 스레드는 PG 응답을 기다리지 않습니다.
+     * PG 호출 전에 선점 소유 확인과 진행 중 결제 표시를 Redis 스크립트 한 번으로 수행하여
+     * 다른 사용자의 선점 좌석이나 이미 결제가 진행 중인 좌석으로는 결제가 시작되지 않게 하고,
+     * 승인 후 선점 검증, 예약 표시, 락 해제, 토큰 회수는 원자적 체크아웃 한 번으로 처리합니다.
+     * 입장 토큰 검증은 호출자(Controller)가 먼저 수행합니다.
      */
     public PaymentResponse processPayment(String eventId, String seatId, String userId) {
-        // 좌석 선점 검증
-        seatService.validateSeatLock(eventId, seatId, userId);
-
-        // 좌석 정보 조회
+        // 좌석 정보 조회 (메모리)
         Seat seat = seatService.findSeatOrThrow(eventId, seatId);
 
-        // 이미 예약된 좌석인지 확인
-        if (reservationRepository.existsBySeat(eventId, seatId)) {
+        // 이 노드에서 이미 예약 완료로 확인된 좌석이면 Redis 조회 없이 거절
+        if (seat.isReserved() || reservationRepository.existsBySeat(eventId, seatId)) {
             throw new TurnstileException(ErrorCode.SEAT_ALREADY_RESERVED, seatId);
         }
 
-        // Mock 결제 처리
-        String paymentId = "PAY-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        String reservationId = "RSV-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        String paymentId = idGenerator.nextId("PAY-");
+
+        // 외부 부수효과(PG 승인) 전에 선점 소유 확인 + 같은 좌석의 진행 중 결제 거절
+        seatService.beginPayment(eventId, seatId, userId, paymentId);
+
         int amount = seat.getPrice();
 
-        boolean paymentSuccess = random.nextDouble() < SUCCESS_RATE;
-
-        if (paymentSuccess) {
-            // 결제 성공
-            Payment payment = Payment.builder()
-                    .paymentId(paymentId)
-                    .userId(userId)
-                    .reservationId(reservationId)
-                    .amount(amount)
-                    .status(PaymentStatus.SUCCESS)
-                    .paidAt(LocalDateTime.now())
-                    .build();
-            paymentRepository.save(payment);
-
-            // 예약 생성
-            Reservation reservation = Reservation.builder()
-                    .reservationId(reservationId)
-                    .eventId(eventId)
-                    .seatId(seatId)
-                    .userId(userId)
-                    .paymentId(paymentId)
-                    .amount(amount)
-                    .status(ReservationStatus.CONFIRMED)
-                    .confirmedAt(LocalDateTime.now())
-                    .build();
-            reservationRepository.save(reservation);
-
-            // 좌석 상태 업데이트 (RESERVED) 및 Redis 락 해제
-            seatService.reserveSeat(eventId, seatId);
-
-            // 토큰 삭제 (더 이상 필요 없음)
-            tokenService.deleteToken(eventId, userId);
-
-            log.info("Payment success: paymentId={}, reservationId={}, userId={}, amount={}",
-                    paymentId, reservationId, userId, amount);
-
-            return PaymentResponse.from(payment);
-        } else {
-            // 결제 실패
-            Payment payment = Payment.builder()
-                    .paymentId(paymentId)
-                    .userId(userId)
-                    .reservationId(null)
-                    .amount(amount)
-                    .status(PaymentStatus.FAILED)
-                    .paidAt(null)
-                    .build();
-            paymentRepository.save(payment);
-
-            log.info("Payment failed: paymentId={}, userId={}, amount={}", paymentId, userId, amount);
-
-            throw new TurnstileException(ErrorCode.PAYMENT_FAILED, paymentId);
+        Payment payment = Payment.builder()
+                .paymentId(paymentId)
+                .userId(userId)
+                .eventId(eventId)
+                .seatId(seatId)
+                .reservationId(null)
+                .amount(amount)
+                .status(PaymentStatus.PENDING)
+                .requestedAt(LocalDateTime.now())
+                .paidAt(null)
+                .build();
+        paymentRepository.save(payment);
+        journal.ifAvailable(repositoryJournal -> repositoryJournal.paymentSaved(payment));
+
+        try {
+            paymentGatewayService.approve(
+                    new PaymentGatewayReq(paymentId, userId, amount),
+                    (result, ex) -> completePayment(payment, eventId, seatId, result, ex)
+            );
+        } catch (TurnstileException e) {
+            // PG 제출 실패 (Bulkhead 포화): 결제를 남기지 않고 선점은 유지하여 재시도 허용
+            paymentRepository.deleteById(paymentId);
+            journal.ifAvailable(repositoryJournal -> repositoryJournal.paymentDeleted(paymentId));
+            seatService.endPayment(eventId, seatId, paymentId);
+            throw e;
+        }
+
+        log.info("Payment pending: paymentId={}, userId={}, seatId={}, amount={}", paymentId, userId, seatId, amount);
+
+        return PaymentResponse.from(payment);
+    }
+
+    /**
+     * PG 승인 결과 반영 (가상 스레드에서 호출)
+     * - 승인: 원자적 체크아웃 후 예약 생성, 결제 SUCCESS
+     * - 거절: 결제 FAILED, 사용자의 좌석 선점 일괄 해제
+     * - 타임아웃/호출 오류: 승인 여부를 알 수 없으므로 PENDING 유지 후 PG 조회로 확정
+     */
+    private void completePayment(Payment payment, String eventId, String seatId,
+                                 PaymentGatewayRes result, Throwable ex) {
+        if (ex != null || result == null) {
+            log.warn("Payment gateway result unknown, reconciling: paymentId={}, userId={}, error={}",
+                    payment.getPaymentId(), payment.getUserId(), ex != null ? ex.toString() : "empty response");
+            reconcile(payment, eventId, seatId, 1);
+            return;
         }
+
+        if (!result.approved()) {
+            decline(payment, eventId, seatId, result.message());
+            return;
+        }
+
+        applyApproval(payment, eventId, seatId, result);
+    }
+
+    /**
+     * 승인된 결제 반영
+     * 체크아웃 실패(선점 만료/이전 등) 시 PG에 승인 취소를 요청한 뒤 FAILED
+     */
+    private void applyApproval(Payment payment, String eventId, String seatId, PaymentGatewayRes result) {
+        String paymentId = payment.getPaymentId();
+        String userId = payment.getUserId();
+
+        try {
+            seatService.checkout(eventId, seatId, userId);
+        } catch (RuntimeException e) {
+            log.warn("Payment approved but checkout failed, canceling: paymentId={}, transactionId={}, userId={}, seatId={}, error={}",
+                    paymentId, result.transactionId(), userId, seatId, e.getMessage());
+            refund(payment, eventId, seatId, 1);
+            return;
+        }
+
+        String reservationId = idGenerator.nextId("RSV-");
+        Reservation reservation = Reservation.builder()
+                .reservationId(reservationId)
+                .eventId(eventId)
+                .seatId(seatId)
+                .userId(userId)
+                .paymentId(paymentId)
+                .amount(payment.getAmount())
+                .status(ReservationStatus.CONFIRMED)
+                .confirmedAt(LocalDateTime.now())
+                .build();
+        reservationRepository.save(reservation);
+        payment.success(reservationId);
+        // reservationId → paymentId 인덱스 갱신
+        paymentRepository.save(payment);
+        persist(payment, reservation);
+        seatService.endPayment(eventId, seatId, paymentId);
+
+        log.info("Payment success: paymentId={}, reservationId={}, transactionId={}, userId={}, amount={}",
+                paymentId, reservationId, result.transactionId(), userId, payment.getAmount());
+    }
+
+    /**
+     * 거절(또는 무효화/취소 확정)된 결제 반영: FAILED, 사용자의 좌석 선점 일괄 해제
+     */
+    private void decline(Payment payment, String eventId, String seatId, String reason) {
+        payment.fail();
+        persist(payment, null);
+        seatService.endPayment(eventId, seatId, payment.getPaymentId());
+        seatService.releaseAllHolds(eventId, payment.getUserId());
+
+        log.info("Payment declined: paymentId={}, userId={}, amount={}, reason={}",
+                payment.getPaymentId(), payment.getUserId(), payment.getAmount(), reason);
+    }
+
+    /**
+     * 승인 여부를 알 수 없는 결제 확정 (가상 스레드에서 지연 실행)
+     * - PG 승인 기록 있음: 승인 반영
+     * - PG 거절 기록 있음: 거절 반영
+     * - PG 기록 없음: 늦게 도착한 승인 요청이 처리되지 않도록 무효화(취소) 후 거절 반영
+     * 조회/무효화 호출이 실패하면 재시도하고, 모두 실패하면 PENDING으로 남겨 수동 확인 대상으로 기록
+     */
+    private void reconcile(Payment payment, String eventId, String seatId, int attempt) {
+        paymentGatewayService.schedule(() -> {
+            String paymentId = payment.getPaymentId();
+            try {
+                PaymentGatewayRes status = paymentGatewayService.inquire(paymentId);
+                if (status.approved()) {
+                    applyApproval(payment, eventId, seatId, status);
+                } else if (status.isNotFound()) {
+                    PaymentGatewayRes voided = paymentGatewayService.cancel(paymentId, "APPROVAL_TIMEOUT");
+                    decline(payment, eventId, seatId, voided.message());
+                } else {
+                    decline(payment, eventId, seatId, status.message());
+                }
+            } catch (RuntimeException e) {
+                if (attempt < MAX_GATEWAY_FOLLOW_UP_ATTEMPTS) {
+                    log.warn("Payment reconcile failed, retrying: paymentId={}, attempt={}, error={}", paymentId, attempt, e.getMessage());
+                    reconcile(payment, eventId, seatId, attempt + 1);
+                } else {
+                    log.error("Payment left pending, manual reconciliation required: paymentId={}, userId={}, error={}",
+                            paymentId, payment.getUserId(), e.getMessage());
+                }
+            }
+        }, followUpDelay(attempt));
+    }
+
+    /**
+     * 승인됐으나 예약에 실패한 결제 취소 (가상 스레드에서 호출)
+     * 취소가 확인되면 FAILED, 호출이 실패하면 지연 후 재시도하고 모두 실패하면 FAILED로 두고 수동 환불 대상으로 기록
+     */
+    private void refund(Payment payment, String eventId, String seatId, int attempt) {
+        String paymentId = payment.getPaymentId();
+        try {
+            PaymentGatewayRes canceled = paymentGatewayService.cancel(paymentId, "CHECKOUT_FAILED");
+            payment.fail();
+            persist(payment, null);
+            seatService.endPayment(eventId, seatId, paymentId);
+            log.info("Payment canceled after checkout failure: paymentId={}, userId={}, result={}",
+                    paymentId, payment.getUserId(), canceled.message());
+        } catch (RuntimeException e) {
+            if (attempt < MAX_GATEWAY_FOLLOW_UP_ATTEMPTS) {
+                log.warn("Payment cancel failed, retrying: paymentId={}, attempt={}, error={}", paymentId, attempt, e.getMessage());
+                paymentGatewayService.schedule(() -> refund(payment, eventId, seatId, attempt + 1), followUpDelay(attempt));
+                return;
+            }
+            payment.fail();
+            persist(payment, null);
+            seatService.endPayment(eventId, seatId, paymentId);
+            log.error("Payment cancel failed, manual refund required: paymentId={}, userId={}, amount={}, error={}",
+                    paymentId, payment.getUserId(), payment.getAmount(), e.getMessage());
+        }
+    }
+
+    /**
+     * 재시작 전 승인 결과를 받지 못한 PENDING 결제 확정 (저널 복구 후, 기동 완료 시 호출)
+     * 일반 타임아웃과 같이 PG 조회로 승인/거절을 확정하여 좌석 선점과 진행 중 결제 표시를 정리합니다.
+     * 좌석 정보가 없는 결제는 확인할 수 없으므로 FAILED로 기록합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcilePendingPayments() {
+        List<Payment> pending = paymentRepository.findAll().stream()
+                .filter(Payment::isPending)
+                .toList();
+        for (Payment payment : pending) {
+            if (payment.getEventId() == null || payment.getSeatId() == null) {
+                payment.fail();
+                persist(payment, null);
+                log.warn("Pending payment without seat failed on startup: paymentId={}, userId={}",
+                        payment.getPaymentId(), payment.getUserId());
+                continue;
+            }
+            reconcile(payment, payment.getEventId(), payment.getSeatId(), 1);
+        }
+        if (!pending.isEmpty()) {
+            log.info("Reconciling pending payments after restart: count={}", pending.size());
+        }
+    }
+
+    private Duration followUpDelay(int attempt) {
+        return GATEWAY_FOLLOW_UP_DELAY.multipliedBy(1L << (attempt - 1));
+    }
+
+    /**
+     * 결제 최종 상태 기록
+     * - 저널 (turnstile.journal.enabled=true): 재시작 복구용
+     * - DB write-behind (feature.db.enabled=true)
+     */
+    private void persist(Payment payment, Reservation reservation) {
+        // 최종 상태는 이미 메모리에 반영되었으므로 저널 기록 실패로 결제 처리를 중단하지 않음
+        try {
+            journal.ifAvailable(repositoryJournal -> {
+                if (reservation != null) {
+                    repositoryJournal.reservationSaved(reservation);
+                }
+                repositoryJournal.paymentSaved(payment);
+            });
+        } catch (RuntimeException e) {
+            log.error("Journal append failed for payment: paymentId={}, status={}, reservationId={}, error={}",
+                    payment.getPaymentId(), payment.getStatus(), payment.getReservationId(), e.getMessage());
+        }
+        writeBehindRepository.ifAvailable(repository -> repository.enqueue(payment, reservation));
     }
 
     /**
@@ -129,7 +311,29 @@ public class PaymentService {
     public List<ReservationResponse> getUserReservations(String userId) {
         return reservationRepository.findByUserId(userId).stream()
                 .map(ReservationResponse::from)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    /**
+     * 사용자의 예약 목록 페이지 조회 (최신 확정 순)
+     */
+    public PageResponseDto<ReservationResponse> getUserReservationPage(String userId, PageRequestDto pageRequest) {
+        PageResponseDto<Reservation> page = reservationRepository.findByUserId(userId, pageRequest);
+        return new PageResponseDto<>(
+                page.items().stream().map(ReservationResponse::from).toList(),
+                page.pageInfo()
+        );
+    }
+
+    /**
+     * 사용자의 결제 내역 페이지 조회 (최신 요청 순)
+     */
+    public PageResponseDto<PaymentResponse> getUserPayments(String userId, PageRequestDto pageRequest) {
+        PageResponseDto<Payment> page = paymentRepository.findByUserId(userId, pageRequest);
+        return new PageResponseDto<>(
+                page.items().stream().map(PaymentResponse::from).toList(),
+                page.pageInfo()
+        );
     }
 
     /**
@@ -2,21 +2,32 @@ package mingovvv.turnstile.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.config.EventOpenProperties;
 import mingovvv.turnstile.domain.Event;
 import mingovvv.turnstile.dto.response.QueueStatusResponse;
 import mingovvv.turnstile.exception.ErrorCode;
 import mingovvv.turnstile.exception.TurnstileException;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.repository.redis.PreQueueRedisRepository;
+import mingovvv.turnstile.repository.redis.PreQueueRedisRepository.EnterResult;
 import mingovvv.turnstile.repository.redis.QueueRedisRepository;
 import mingovvv.turnstile.repository.redis.TokenRedisRepository;
 import mingovvv.turnstile.sse.QueueSseEmitterRegistry;
 import mingovvv.turnstile.sse.QueueSseEvent;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 대기열 서비스
+ * <p>
+ * 오픈 시각이 지정된 이벤트는 오픈 전 pre-queue-window 동안 사전 대기열(Redis, 노드 간 공유)로 접수하고,
+ * 오픈 시 추첨 순서로 대기열에 일괄 등록합니다. 오픈 직전 도착 순서(네트워크 운)는 순번에 영향을 주지 않습니다.
+ * 옮기기가 끝난 이벤트는 노드 로컬에 기록해 두고, 이후 호출에서는 Redis를 조회하지 않습니다.
  */
 @Slf4j
 @Service
@@ -27,17 +38,36 @@ public class QueueService {
     private final QueueRedisRepository queueRepository;
     private final TokenRedisRepository tokenRepository;
     private final QueueSseEmitterRegistry sseRegistry;
+    private final SeatInventoryMemoryRepository inventoryRepository;
+    private final PreQueueRedisRepository preQueueRepository;
+    private final EventOpenProperties eventOpenProperties;
 
     // 평균 처리 시간 (초) - 순번당 예상 대기 시간 계산용
     private static final int AVG_PROCESSING_TIME_PER_USER = 3;
 
+    // 사전 대기열을 끝까지 옮긴 이벤트 (옮기기가 시작되면 신규 접수는 일반 대기열로 가므로 다시 채워지지 않음)
+    private final Set<String> flushedPreQueues = ConcurrentHashMap.newKeySet();
+
     /**
      * 대기열 진입
      */
     public QueueStatusResponse enterQueue(String eventId, String userId) {
-        // 이벤트 유효성 검증
+        // 매진 이벤트는 Redis 조회 없이 즉시 거절
+        if (inventoryRepository.isSoldOut(eventId)) {
+            throw new TurnstileException(ErrorCode.EVENT_SOLD_OUT, eventId);
+        }
+
+        // 이벤트 유효성 검증 (카탈로그 스냅샷 1회 조회)
         Event event = eventService.findEventOrThrow(eventId);
-        eventService.validateEventOpen(eventId);
+        if (!isPreQueueWindow(event)) {
+            eventService.validateEventOpen(event);
+        } else {
+            QueueStatusResponse preQueued = enterPreQueue(eventId, userId);
+            if (preQueued != null) {
+                return preQueued;
+            }
+            // 다른 노드가 이미 오픈 전환(사전 대기열 옮기기)을 시작함 → 일반 대기열로 진입
+        }
 
         // 이미 토큰이 있는지 확인 (이미 입장한 사용자)
         if (tokenRepository.hasToken(eventId, userId)) {
@@ -46,8 +76,8 @@ public class QueueService {
             return QueueStatusResponse.canEnter(eventId, userId, token);
         }
 
-        // 이미 대기열에 있는지 확인
-        if (queueRepository.isInQueue(eventId, userId)) {
+        // 이미 대기열에 있는지 확인 (Redis로 옮겨지기 전의 사전 대기열 포함)
+        if (preQueueRepository.contains(eventId, userId) || queueRepository.isInQueue(eventId, userId)) {
             throw new TurnstileException(ErrorCode.ALREADY_IN_QUEUE, userId);
         }
 
@@ -63,6 +93,11 @@ public class QueueService {
      * 대기열 상태 조회
      */
     public QueueStatusResponse getQueueStatus(String eventId, String userId) {
+        // 사전 대기열 (오픈 전 폴링)
+        if (preQueueRepository.contains(eventId, userId)) {
+            return QueueStatusResponse.preQueued(eventId, userId, preQueueRepository.size(eventId));
+        }
+
         // 이미 토큰이 있는지 확인
         Optional<String> token = tokenRepository.getToken(eventId, userId);
         if (token.isPresent()) {
@@ -85,13 +120,68 @@ public class QueueService {
      * 대기열 이탈
      */
     public void leaveQueue(String eventId, String userId) {
-        boolean removed = queueRepository.leave(eventId, userId);
+        boolean removed = preQueueRepository.remove(eventId, userId) || queueRepository.leave(eventId, userId);
         if (!removed) {
             throw new TurnstileException(ErrorCode.NOT_IN_QUEUE, userId);
         }
         log.info("User left queue: eventId={}, userId={}", eventId, userId);
     }
 
+    /**
+     * 사전 대기열을 추첨 순서로 대기열에 일괄 등록 (오픈 시, 이후 스케줄러 주기마다 잔여분 처리)
+     * 여러 노드가 동시에 호출해도 안전하며, 옮기기 전에 이탈한 사용자는 등록되지 않습니다.
+     * 이 노드에서 한 번 끝까지 옮긴 이벤트는 Redis를 조회하지 않고 바로 반환합니다. (실패하면 다음 호출에서 재시도)
+     *
+     * @return 새로 등록된 인원
+     */
+    public long flushPreQueue(String eventId) {
+        if (flushedPreQueues.contains(eventId)) {
+            return 0;
+        }
+        long startNanos = System.nanoTime();
+        long added = preQueueRepository.flushToQueue(eventId, eventOpenProperties.getPreQueueBatchSize());
+        flushedPreQueues.add(eventId);
+        if (added == 0) {
+            return 0;
+        }
+        log.info("Pre-queue flushed: eventId={}, added={}, elapsedMs={}",
+                eventId, added, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+
+        broadcastQueueUpdate(eventId);
+        return added;
+    }
+
+    /**
+     * 사전 대기열 접수 구간 여부 (오픈 시각이 지정된 UPCOMING 이벤트의 오픈 직전 구간)
+     */
+    private boolean isPreQueueWindow(Event event) {
+        Duration window = eventOpenProperties.getPreQueueWindow();
+        if (!event.isScheduledToOpen() || window.isZero() || window.isNegative()) {
+            return false;
+        }
+        return !Instant.now().isBefore(event.getOpenAt().minus(window));
+    }
+
+    /**
+     * 사전 대기열 접수
+     *
+     * @return 접수 결과 응답 (오픈 전환이 이미 시작되었으면 null)
+     */
+    private QueueStatusResponse enterPreQueue(String eventId, String userId) {
+        EnterResult result = preQueueRepository.enter(eventId, userId, eventOpenProperties.getPreQueueCapacity());
+        if (result == EnterResult.OPENED) {
+            return null;
+        }
+        if (result == EnterResult.FULL) {
+            throw new TurnstileException(ErrorCode.PRE_QUEUE_FULL, eventId);
+        }
+        if (result == EnterResult.ALREADY_QUEUED) {
+            throw new TurnstileException(ErrorCode.ALREADY_IN_QUEUE, userId);
+        }
+        log.debug("User entered pre-queue: eventId={}, userId={}", eventId, userId);
+        return QueueStatusResponse.preQueued(eventId, userId, preQueueRepository.size(eventId));
+    }
+
     /**
      * 대기열에서 N명 입장 처리 (Scheduler에서 호출)
      *
@@ -121,6 +211,17 @@ public class QueueService {
         return users.size();
     }
 
+    /**
+     * 매진 시 대기열 종료
+     * 대기 중인 모든 사용자에게 SOLD_OUT 이벤트를 한 번 전송하고 대기열을 비움
+     */
+    public void closeQueueSoldOut(String eventId) {
+        int notified = sseRegistry.sendAndCompleteAll(eventId, QueueSseEvent.soldOut(eventId));
+        queueRepository.clear(eventId);
+        preQueueRepository.clear(eventId);
+        log.info("Queue closed (sold out): eventId={}, notified={}", eventId, notified);
+    }
+
     /**
      * 대기열 사용자들에게 순번 업데이트 SSE 전송
      */
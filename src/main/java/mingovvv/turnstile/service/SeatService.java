@@ -2,19 +2,32 @@ package mingovvv.turnstile.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import mingovvv.turnstile.config.SeatLockProperties;
 import mingovvv.turnstile.domain.Seat;
 import mingovvv.turnstile.domain.enums.SeatStatus;
 import mingovvv.turnstile.dto.response.SeatLockResponse;
 import mingovvv.turnstile.dto.response.SeatResponse;
+import mingovvv.turnstile.dto.response.SeatSummaryResponse;
 import mingovvv.turnstile.exception.ErrorCode;
 import mingovvv.turnstile.exception.TurnstileException;
+import mingovvv.turnstile.journal.RepositoryJournal;
 import mingovvv.turnstile.repository.memory.ReservationMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatLockMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatLockMemoryRepository.LockEntry;
 import mingovvv.turnstile.repository.memory.SeatMemoryRepository;
 import mingovvv.turnstile.repository.redis.SeatLockRedisRepository;
+import mingovvv.turnstile.repository.redis.SeatLockRedisRepository.CheckoutResult;
 import mingovvv.turnstile.repository.redis.SeatLockRedisRepository.LockResult;
+import mingovvv.turnstile.repository.redis.SeatLockRedisRepository.PaymentStartResult;
+import mingovvv.turnstile.sse.SeatSseEmitterRegistry;
+import mingovvv.turnstile.sse.SeatSseEvent;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -26,25 +39,30 @@ import java.util.stream.Collectors;
 public class SeatService {
 
     private final EventService eventService;
+    private final QueueService queueService;
     private final SeatMemoryRepository seatRepository;
     private final SeatLockRedisRepository seatLockRepository;
     private final ReservationMemoryRepository reservationRepository;
+    private final SeatInventoryMemoryRepository inventoryRepository;
+    private final SeatLockMemoryRepository lockMirrorRepository;
+    private final SeatSseEmitterRegistry seatSseRegistry;
+    private final SeatLockProperties seatLockProperties;
+    private final ObjectProvider<RepositoryJournal> journal;
 
     /**
      * 이벤트의 전체 좌석 목록 조회
-     * Redis 선점 상태를 반영하여 반환
+     * 선점 미러 상태를 반영하여 반환
      */
     public List<SeatResponse> getSeats(String eventId) {
         eventService.validateEventOpen(eventId);
+        return toResponses(seatRepository.findByEventId(eventId));
+    }
 
-        List<Seat> seats = seatRepository.findByEventId(eventId);
-
-        return seats.stream()
-                .map(seat -> {
-                    SeatStatus effectiveStatus = getEffectiveStatus(seat);
-                    return SeatResponse.from(seat, effectiveStatus);
-                })
-                .collect(Collectors.toList());
+    /**
+     * 좌석 목록 조회 경로 예열 (오픈 전 워밍업용, 이벤트 상태 검증 없음)
+     */
+    public List<SeatResponse> warmUpSeats(String eventId) {
+        return toResponses(seatRepository.findByEventId(eventId));
     }
 
     /**
@@ -52,15 +70,16 @@ public class SeatService {
      */
     public List<SeatResponse> getSeatsBySection(String eventId, String section) {
         eventService.validateEventOpen(eventId);
+        return toResponses(seatRepository.findByEventIdAndSection(eventId, section));
+    }
 
-        List<Seat> seats = seatRepository.findByEventIdAndSection(eventId, section);
-
-        return seats.stream()
-                .map(seat -> {
-                    SeatStatus effectiveStatus = getEffectiveStatus(seat);
-                    return SeatResponse.from(seat, effectiveStatus);
-                })
-                .collect(Collectors.toList());
+    /**
+     * 구역/등급별 잔여 좌석 요약 조회
+     * 좌석 목록을 순회하지 않고 증분 카운터에서 바로 반환
+     */
+    public SeatSummaryResponse getSeatSummary(String eventId) {
+        eventService.validateEventOpen(eventId);
+        return SeatSummaryResponse.from(eventId, inventoryRepository.findByEventId(eventId));
     }
 
     /**
@@ -68,7 +87,7 @@ public class SeatService {
      */
     public SeatResponse getSeat(String eventId, String seatId) {
         Seat seat = findSeatOrThrow(eventId, seatId);
-        SeatStatus effectiveStatus = getEffectiveStatus(seat);
+        SeatStatus effectiveStatus = getEffectiveStatus(seat, lockCheck(List.of(seat)));
         return SeatResponse.from(seat, effectiveStatus);
     }
 
@@ -76,6 +95,11 @@ public class SeatService {
      * 좌석 선점
      */
     public SeatLockResponse lockSeat(String eventId, String seatId, String userId) {
+        // 매진 이벤트는 좌석/Redis 조회 없이 즉시 거절
+        if (inventoryRepository.isSoldOut(eventId)) {
+            throw new TurnstileException(ErrorCode.EVENT_SOLD_OUT, eventId);
+        }
+
         eventService.validateEventOpen(eventId);
         Seat seat = findSeatOrThrow(eventId, seatId);
 
@@ -89,6 +113,7 @@ public class SeatService {
 
         switch (result) {
             case SUCCESS:
+                trackLock(seat, userId);
                 log.info("Seat locked: eventId={}, seatId={}, userId={}", eventId, seatId, userId);
                 return SeatLockResponse.success(eventId, seatId, userId, (int) seatLockRepository.getLockTtlSeconds());
 
@@ -101,6 +126,14 @@ public class SeatService {
                 log.info("Seat already locked by another user: eventId={}, seatId={}", eventId, seatId);
                 throw new TurnstileException(ErrorCode.SEAT_ALREADY_LOCKED, seatId);
 
+            case RESERVED:
+                log.info("Seat already reserved: eventId={}, seatId={}", eventId, seatId);
+                throw new TurnstileException(ErrorCode.SEAT_ALREADY_RESERVED, seatId);
+
+            case LIMIT_EXCEEDED:
+                log.info("Seat hold limit exceeded: eventId={}, seatId={}, userId={}", eventId, seatId, userId);
+                throw new TurnstileException(ErrorCode.SEAT_HOLD_LIMIT_EXCEEDED, userId);
+
             default:
                 throw new TurnstileException(ErrorCode.INTERNAL_ERROR);
         }
@@ -110,41 +143,151 @@ public class SeatService {
      * 좌석 선점 해제
      */
     public void unlockSeat(String eventId, String seatId, String userId) {
-        findSeatOrThrow(eventId, seatId);
+        Seat seat = findSeatOrThrow(eventId, seatId);
 
         boolean unlocked = seatLockRepository.unlock(eventId, seatId, userId);
         if (!unlocked) {
             throw new TurnstileException(ErrorCode.SEAT_NOT_LOCKED_BY_USER, seatId);
         }
+        untrackLock(seat, "UNLOCKED");
 
         log.info("Seat unlocked: eventId={}, seatId={}, userId={}", eventId, seatId, userId);
     }
 
     /**
-     * 좌석 선점 검증 (결제 시 사용)
+     * 사용자의 모든 좌석 선점 일괄 해제
+     * 토큰 만료(키스페이스 알림), 결제 실패, 명시적 이탈 시 사용
+     *
+     * @return 해제된 좌석 수
      */
-    public void validateSeatLock(String eventId, String seatId, String userId) {
-        if (!seatLockRepository.isLockedBy(eventId, seatId, userId)) {
-            if (seatLockRepository.isLocked(eventId, seatId)) {
+    public int releaseAllHolds(String eventId, String userId) {
+        List<String> releasedSeatIds = seatLockRepository.unlockAll(eventId, userId);
+
+        for (String seatId : releasedSeatIds) {
+            seatRepository.findById(eventId, seatId)
+                    .ifPresent(seat -> untrackLock(seat, "UNLOCKED"));
+        }
+
+        if (!releasedSeatIds.isEmpty()) {
+            log.info("Seat holds released: eventId={}, userId={}, seats={}", eventId, userId, releasedSeatIds);
+        }
+        return releasedSeatIds.size();
+    }
+
+    /**
+     * 결제 시작 (PG 호출 전)
+     * 본인 선점 좌석인지 확인하고 진행 중 결제로 표시하여 같은 좌석의 두 번째 결제를 거절
+     */
+    public void beginPayment(String eventId, String seatId, String userId, String paymentId) {
+        PaymentStartResult result = seatLockRepository.beginPayment(eventId, seatId, userId, paymentId);
+
+        switch (result) {
+            case STARTED:
+                return;
+
+            case IN_PROGRESS:
+                throw new TurnstileException(ErrorCode.PAYMENT_IN_PROGRESS, seatId);
+
+            case ALREADY_RESERVED:
+                throw new TurnstileException(ErrorCode.SEAT_ALREADY_RESERVED, seatId);
+
+            case NOT_OWNER:
                 throw new TurnstileException(ErrorCode.SEAT_NOT_LOCKED_BY_USER, seatId);
-            } else {
+
+            case LOCK_EXPIRED:
                 throw new TurnstileException(ErrorCode.SEAT_LOCK_EXPIRED, seatId);
-            }
+
+            default:
+                throw new TurnstileException(ErrorCode.INTERNAL_ERROR);
         }
     }
 
     /**
-     * 좌석 예약 완료 처리
+     * 결제 종료 (결제 확정/실패 시 진행 중 표시 해제)
+     */
+    public void endPayment(String eventId, String seatId, String paymentId) {
+        seatLockRepository.endPayment(eventId, seatId, paymentId);
+    }
+
+    /**
+     * 원자적 체크아웃 (결제 시 사용)
+     * 선점 소유 확인, 공유 예약 표시, 락 해제, 토큰 회수를 Redis 스크립트 한 번으로 수행하고
+     * 성공한 경우에만 메모리에 예약 상태를 반영
+     *
+     * @return 예약 완료된 좌석
      */
-    public void reserveSeat(String eventId, String seatId) {
+    public Seat checkout(String eventId, String seatId, String userId) {
         Seat seat = findSeatOrThrow(eventId, seatId);
-        seat.reserve();
-        seatRepository.save(seat);
 
-        // Redis 선점 락 해제
-        seatLockRepository.forceUnlock(eventId, seatId);
+        CheckoutResult result = seatLockRepository.checkout(eventId, seatId, userId);
+
+        switch (result.status()) {
+            case SUCCESS:
+                break;
+
+            case ALREADY_RESERVED:
+                throw new TurnstileException(ErrorCode.SEAT_ALREADY_RESERVED, seatId);
+
+            case NOT_OWNER:
+                throw new TurnstileException(ErrorCode.SEAT_NOT_LOCKED_BY_USER, seatId);
+
+            case LOCK_EXPIRED:
+                throw new TurnstileException(ErrorCode.SEAT_LOCK_EXPIRED, seatId);
+
+            default:
+                throw new TurnstileException(ErrorCode.INTERNAL_ERROR);
+        }
+
+        applyReserved(seat);
 
-        log.info("Seat reserved: eventId={}, seatId={}", eventId, seatId);
+        // 토큰 회수와 함께 해제된 나머지 선점 좌석 반영
+        for (String releasedSeatId : result.releasedSeatIds()) {
+            seatRepository.findById(eventId, releasedSeatId)
+                    .ifPresent(releasedSeat -> untrackLock(releasedSeat, "UNLOCKED"));
+        }
+
+        log.info("Seat checked out: eventId={}, seatId={}, userId={}, releasedHolds={}",
+                eventId, seatId, userId, result.releasedSeatIds().size());
+        return seat;
+    }
+
+    /**
+     * 다른 노드의 선점 반영 (키스페이스 set 알림)
+     */
+    public void onLockAcquired(String eventId, String seatId) {
+        seatRepository.findById(eventId, seatId)
+                .filter(seat -> !seat.isReserved())
+                .ifPresent(seat -> trackLock(seat, null));
+    }
+
+    /**
+     * 선점 해제/만료 반영 (키스페이스 del/expired 알림)
+     * DEL이 체크아웃에 의한 것이면(공유 예약 상태에 존재) 해제가 아닌 예약 완료로 반영
+     */
+    public void onLockReleased(String eventId, String seatId, boolean expired) {
+        seatRepository.findById(eventId, seatId)
+                .filter(seat -> !seat.isReserved())
+                .ifPresent(seat -> {
+                    if (!expired && seatLockRepository.isReserved(eventId, seatId)) {
+                        applyReserved(seat);
+                    } else {
+                        untrackLock(seat, expired ? "EXPIRED" : "UNLOCKED");
+                    }
+                });
+    }
+
+    /**
+     * 만료 시각이 지난 선점을 미러에서 해제 (로컬 만료 스윕)
+     * 키스페이스 알림이 없는 환경에서 Redis TTL 만료를 대신 감지
+     *
+     * @return 만료 처리된 좌석 수
+     */
+    public int releaseExpiredLocks() {
+        List<LockEntry> expired = lockMirrorRepository.releaseExpired(System.currentTimeMillis());
+        for (LockEntry entry : expired) {
+            onUntracked(entry.seat(), "EXPIRED");
+        }
+        return expired.size();
     }
 
     /**
@@ -155,21 +298,110 @@ public class SeatService {
                 .orElseThrow(() -> new TurnstileException(ErrorCode.SEAT_NOT_FOUND, seatId));
     }
 
+    /**
+     * 메모리에 예약 완료 반영 (좌석 상태, 선점 미러, 재고 카운터)
+     * 로컬 체크아웃과 다른 노드의 체크아웃 알림이 겹쳐도 한 번만 반영
+     */
+    private void applyReserved(Seat seat) {
+        synchronized (seat) {
+            if (seat.isReserved()) {
+                return;
+            }
+            seat.reserve();
+        }
+        seatRepository.save(seat);
+
+        boolean wasLocked = lockMirrorRepository.release(seat.getEventId(), seat.getSeatId()).isPresent();
+        boolean soldOut = inventoryRepository.onReserved(seat, wasLocked);
+        log.info("Seat reserved: eventId={}, seatId={}", seat.getEventId(), seat.getSeatId());
+
+        // 예약은 이미 공유 상태(Redis)와 메모리에 반영되었으므로 저널 기록 실패로 중단하지 않음
+        // (중단하면 재시도는 isReserved로 바로 반환되어 미러/재고가 영영 갱신되지 않음)
+        try {
+            journal.ifAvailable(repositoryJournal -> repositoryJournal.seatReserved(seat));
+        } catch (RuntimeException e) {
+            log.error("Journal append failed for reserved seat: eventId={}, seatId={}, error={}",
+                    seat.getEventId(), seat.getSeatId(), e.getMessage());
+        }
+
+        // 마지막 좌석이 예약되면 매진 처리 (이벤트당 1회)
+        if (soldOut) {
+            eventService.markSoldOut(seat.getEventId());
+            queueService.closeQueueSoldOut(seat.getEventId());
+        }
+    }
+
+    /**
+     * 선점 미러 등록 및 재고 반영 (AVAILABLE → LOCKED)
+     */
+    private void trackLock(Seat seat, String userId) {
+        long expiresAtMs = System.currentTimeMillis() + seatLockRepository.getLockTtlSeconds() * 1000L;
+        if (lockMirrorRepository.lock(seat, userId, expiresAtMs)) {
+            inventoryRepository.onLocked(seat);
+        }
+    }
+
+    /**
+     * 선점 미러 해제 및 재고 반영 (LOCKED → AVAILABLE)
+     */
+    private void untrackLock(Seat seat, String reason) {
+        if (lockMirrorRepository.release(seat.getEventId(), seat.getSeatId()).isPresent()) {
+            onUntracked(seat, reason);
+        }
+    }
+
+    private void onUntracked(Seat seat, String reason) {
+        inventoryRepository.onUnlocked(seat);
+        seatSseRegistry.broadcast(seat.getEventId(), SeatSseEvent.seatReleased(seat, reason));
+        log.debug("Seat lock released: eventId={}, seatId={}, reason={}", seat.getEventId(), seat.getSeatId(), reason);
+    }
+
+    /**
+     * 좌석 목록을 실제 유효 상태로 변환 (선점 여부 판별 기준은 목록당 한 번 준비)
+     */
+    private List<SeatResponse> toResponses(List<Seat> seats) {
+        Predicate<Seat> locked = lockCheck(seats);
+        return seats.stream()
+                .map(seat -> SeatResponse.from(seat, getEffectiveStatus(seat, locked)))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 실제 유효한 좌석 상태 반환
-     * Memory 상태 + Redis 선점 상태를 조합
+     * Memory 상태 + 선점 여부(선점 미러 또는 Redis 일괄 확인 결과)를 조합
      */
-    private SeatStatus getEffectiveStatus(Seat seat) {
+    private SeatStatus getEffectiveStatus(Seat seat, Predicate<Seat> locked) {
         // 이미 예약 완료된 좌석
         if (seat.isReserved()) {
             return SeatStatus.RESERVED;
         }
 
-        // Redis에서 선점 중인지 확인
-        if (seatLockRepository.isLocked(seat.getEventId(), seat.getSeatId())) {
+        // 선점 중인지 확인
+        if (locked.test(seat)) {
             return SeatStatus.LOCKED;
         }
 
         return SeatStatus.AVAILABLE;
     }
+
+    /**
+     * 선점 여부 판별 기준
+     * 키스페이스 알림을 사용하면 선점 미러, 사용하지 않으면 다른 노드의 선점이 미러에 없으므로
+     * 예약되지 않은 좌석의 락 키를 Redis EXISTS로 한 번에 확인
+     */
+    private Predicate<Seat> lockCheck(List<Seat> seats) {
+        if (seatLockProperties.isKeyspaceNotificationEnabled()) {
+            return seat -> lockMirrorRepository.isLocked(seat.getEventId(), seat.getSeatId());
+        }
+        if (seats.isEmpty()) {
+            return seat -> false;
+        }
+
+        List<String> seatIds = seats.stream()
+                .filter(seat -> !seat.isReserved())
+                .map(Seat::getSeatId)
+                .toList();
+        Set<String> lockedSeatIds = seatLockRepository.findLockedSeatIds(seats.get(0).getEventId(), seatIds);
+        return seat -> lockedSeatIds.contains(seat.getSeatId());
+    }
 }
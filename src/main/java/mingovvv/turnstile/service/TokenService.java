@@ -9,6 +9,9 @@ import org.springframework.stereotype.Service;
 
 /**
  * 입장 토큰 서비스
+ * <p>
+ * 토큰 회수는 결제 체크아웃 스크립트가 남은 좌석 선점 해제와 함께 원자적으로 처리하고,
+ * 체크아웃 없이 토큰이 사라지는 경우는 TTL 만료뿐이므로 좌석 선점 일괄 해제는 토큰 만료 키스페이스 리스너가 담당합니다.
  */
 @Slf4j
 @Service
@@ -42,14 +45,6 @@ public class TokenService {
         return tokenRepository.hasToken(eventId, userId);
     }
 
-    /**
-     * 토큰 삭제
-     */
-    public void deleteToken(String eventId, String userId) {
-        tokenRepository.deleteToken(eventId, userId);
-        log.info("Token deleted: eventId={}, userId={}", eventId, userId);
-    }
-
     /**
      * 토큰 남은 시간 조회
      */
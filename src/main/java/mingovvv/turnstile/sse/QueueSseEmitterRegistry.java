@@ -79,6 +79,36 @@ public class QueueSseEmitterRegistry {
         }
     }
 
+    /**
+     * 특정 이벤트의 모든 사용자에게 마지막 이벤트를 전송하고 연결 종료
+     *
+     * @return 전송 대상 Emitter 수
+     */
+    public int sendAndCompleteAll(String eventId, QueueSseEvent event) {
+        String prefix = eventId + ":";
+        int count = 0;
+
+        for (Map.Entry<String, SseEmitter> entry : emitters.entrySet()) {
+            if (!entry.getKey().startsWith(prefix) || !emitters.remove(entry.getKey(), entry.getValue())) {
+                continue;
+            }
+
+            SseEmitter emitter = entry.getValue();
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(event.getEventType())
+                        .data(event));
+                emitter.complete();
+            } catch (Exception e) {
+                log.debug("Failed to send final SSE: {}, error: {}", entry.getKey(), e.getMessage());
+            }
+            count++;
+        }
+
+        log.debug("SSE broadcast and completed: eventId={}, type={}, count={}", eventId, event.getEventType(), count);
+        return count;
+    }
+
     /**
      * 특정 사용자의 연결 종료
      */
@@ -15,6 +15,7 @@ public class QueueSseEvent {
      * - QUEUE_UPDATE: 순번 업데이트
      * - TOKEN_ISSUED: 토큰 발급 (입장 가능)
      * - QUEUE_LEFT: 대기열 이탈
+     * - SOLD_OUT: 매진 (대기열 종료)
      */
     private String eventType;
 
@@ -51,6 +52,15 @@ public class QueueSseEvent {
                 .build();
     }
 
+    public static QueueSseEvent soldOut(String eventId) {
+        return QueueSseEvent.builder()
+                .eventType("SOLD_OUT")
+                .eventId(eventId)
+                .canEnter(false)
+                .message("매진되었습니다. 대기열이 종료됩니다.")
+                .build();
+    }
+
     public static QueueSseEvent queueLeft(String eventId, String userId) {
         return QueueSseEvent.builder()
                 .eventType("QUEUE_LEFT")
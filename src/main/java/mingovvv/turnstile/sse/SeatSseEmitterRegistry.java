@@ -0,0 +1,74 @@
+package mingovvv.turnstile.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌석 맵 SSE Emitter 관리 레지스트리
+ * <p>
+ * 좌석 선택 화면을 보고 있는 클라이언트들의 SSE 연결을 관리합니다.
+ * 사용자 구분 없이 이벤트 단위로 브로드캐스트합니다.
+ * Key: eventId
+ */
+@Slf4j
+@Component
+public class SeatSseEmitterRegistry {
+
+    // eventId → SseEmitter 목록
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    private static final long SSE_TIMEOUT = 30 * 60 * 1000L; // 30분
+
+    /**
+     * SSE Emitter 등록
+     */
+    public SseEmitter register(String eventId) {
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT);
+        Set<SseEmitter> eventEmitters = emitters.computeIfAbsent(eventId, ignored -> ConcurrentHashMap.newKeySet());
+
+        // 연결 종료 시 정리
+        emitter.onCompletion(() -> eventEmitters.remove(emitter));
+        emitter.onTimeout(() -> eventEmitters.remove(emitter));
+        emitter.onError(e -> eventEmitters.remove(emitter));
+
+        eventEmitters.add(emitter);
+        log.debug("Seat SSE registered: eventId={}, connections={}", eventId, eventEmitters.size());
+
+        return emitter;
+    }
+
+    /**
+     * 이벤트의 모든 구독자에게 전송
+     */
+    public void broadcast(String eventId, SeatSseEvent event) {
+        Set<SseEmitter> eventEmitters = emitters.get(eventId);
+        if (eventEmitters == null || eventEmitters.isEmpty()) {
+            return;
+        }
+
+        for (SseEmitter emitter : eventEmitters) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(event.getEventType())
+                        .data(event));
+            } catch (IOException e) {
+                log.debug("Failed to send seat SSE: eventId={}, error={}", eventId, e.getMessage());
+                eventEmitters.remove(emitter);
+            }
+        }
+    }
+
+    /**
+     * 특정 이벤트의 Emitter 수 조회
+     */
+    public int getEmitterCountByEventId(String eventId) {
+        Set<SseEmitter> eventEmitters = emitters.get(eventId);
+        return eventEmitters != null ? eventEmitters.size() : 0;
+    }
+}
@@ -0,0 +1,40 @@
+package mingovvv.turnstile.sse;
+
+import lombok.Builder;
+import lombok.Getter;
+import mingovvv.turnstile.domain.Seat;
+import mingovvv.turnstile.domain.enums.SeatGrade;
+import mingovvv.turnstile.domain.enums.SeatStatus;
+
+/**
+ * 좌석 상태 변경 SSE 이벤트 데이터
+ */
+@Getter
+@Builder
+public class SeatSseEvent {
+
+    /**
+     * 이벤트 타입
+     * - SEAT_RELEASED: 선점 해제/만료로 좌석이 다시 선택 가능해짐
+     */
+    private String eventType;
+
+    private String eventId;
+    private String seatId;
+    private String section;
+    private SeatGrade grade;
+    private SeatStatus status;
+    private String reason;           // UNLOCKED, EXPIRED
+
+    public static SeatSseEvent seatReleased(Seat seat, String reason) {
+        return SeatSseEvent.builder()
+                .eventType("SEAT_RELEASED")
+                .eventId(seat.getEventId())
+                .seatId(seat.getSeatId())
+                .section(seat.getSection())
+                .grade(seat.getGrade())
+                .status(SeatStatus.AVAILABLE)
+                .reason(reason)
+                .build();
+    }
+}
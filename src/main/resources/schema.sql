@@ -0,0 +1,26 @@
+-- 결제/예약 write-behind 저장 테이블 (feature.db.enabled=true, 임베디드 DB에서 자동 실행)
+CREATE TABLE IF NOT EXISTS payment (
+    payment_id     VARCHAR(32) NOT NULL PRIMARY KEY,
+    user_id        VARCHAR(64) NOT NULL,
+    reservation_id VARCHAR(32),
+    amount         INT         NOT NULL,
+    status         VARCHAR(16) NOT NULL,
+    requested_at   TIMESTAMP,
+    paid_at        TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_payment_user ON payment (user_id);
+
+CREATE TABLE IF NOT EXISTS reservation (
+    reservation_id VARCHAR(32) NOT NULL PRIMARY KEY,
+    event_id       VARCHAR(32) NOT NULL,
+    seat_id        VARCHAR(32) NOT NULL,
+    user_id        VARCHAR(64) NOT NULL,
+    payment_id     VARCHAR(32),
+    amount         INT         NOT NULL,
+    status         VARCHAR(16) NOT NULL,
+    confirmed_at   TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_reservation_user ON reservation (user_id);
+CREATE INDEX IF NOT EXISTS idx_reservation_event ON reservation (event_id);
@@ -0,0 +1,163 @@
+package mingovvv.common.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import mingovvv.common.filter.accesslog.AccessLogPipeline;
+import mingovvv.common.filter.accesslog.AccessLogRecord;
+import mingovvv.common.filter.wrapper.CustomRequestWrapper;
+import mingovvv.common.properties.AccessLogProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class AccessLogFilterTest {
+
+    private AccessLogPipeline pipeline;
+    private AccessLogFilter filter;
+    private AtomicReference<ServletRequest> chainRequest;
+
+    @BeforeEach
+    void setUp() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setDefaultSampleRate(1.0);
+        properties.setRoutes(List.of(
+                route(List.of("/api/events/{eventId}/queue/status"), List.of("GET"), 0.0, false),
+                route(List.of("/api/health"), List.of(), 1.0, true)
+        ));
+        pipeline = mock(AccessLogPipeline.class);
+        filter = new AccessLogFilter(properties, pipeline);
+        chainRequest = new AtomicReference<>();
+    }
+
+    @Test
+    void sampledRouteLogsBodies() throws Exception {
+        doFilter(request("POST", "/api/payments"), json());
+
+        AccessLogRecord record = published();
+        assertThat(chainRequest.get()).isInstanceOf(CustomRequestWrapper.class);
+        assertThat(new String(record.requestBody().bytes(), StandardCharsets.UTF_8)).isEqualTo("{\"seatId\":\"A-1\"}");
+        assertThat(new String(record.responseBody().bytes(), StandardCharsets.UTF_8)).isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void unsampledRouteIsNotBuffered() throws Exception {
+        MockHttpServletResponse response = doFilter(request("GET", "/api/events/EVT001/queue/status"), json());
+
+        AccessLogRecord record = published();
+        assertThat(chainRequest.get()).isNotInstanceOf(CustomRequestWrapper.class);
+        assertThat(record.requestBody()).isNull();
+        assertThat(record.responseBody()).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void routeMethodMustMatch() throws Exception {
+        doFilter(request("POST", "/api/events/EVT001/queue/status"), json());
+
+        assertThat(published().requestBody()).isNotNull();
+    }
+
+    @Test
+    void skippedRouteIsNotLogged() throws Exception {
+        doFilter(request("GET", "/api/health"), json());
+
+        verify(pipeline, never()).publish(any());
+    }
+
+    @Test
+    void routeIsResolvedWithoutContextPath() throws Exception {
+        MockHttpServletRequest request = request("GET", "/turnstile/api/events/EVT001/queue/status");
+        request.setContextPath("/turnstile");
+
+        doFilter(request, json());
+
+        assertThat(published().requestBody()).isNull();
+    }
+
+    @Test
+    void pathParameterDoesNotChangeRoute() throws Exception {
+        doFilter(request("GET", "/api/events/EVT001/queue/status;jsessionid=abc"), json());
+
+        assertThat(published().requestBody()).isNull();
+    }
+
+    @Test
+    void eventStreamRequestIsNotBuffered() throws Exception {
+        MockHttpServletRequest request = request("GET", "/api/events/EVT001/queue/subscribe");
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE);
+
+        doFilter(request, eventStream());
+
+        AccessLogRecord record = published();
+        assertThat(chainRequest.get()).isNotInstanceOf(CustomRequestWrapper.class);
+        assertThat(record.responseBody()).isNull();
+    }
+
+    @Test
+    void eventStreamResponseIsPassedThroughWithoutAcceptHeader() throws Exception {
+        MockHttpServletResponse response = doFilter(request("GET", "/api/events/EVT001/queue/subscribe"), eventStream());
+
+        assertThat(published().responseBody()).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("data: hello\n\n");
+    }
+
+    private FilterChain json() {
+        return (req, res) -> {
+            chainRequest.set(req);
+            req.getInputStream().readAllBytes();
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getWriter().write("{\"ok\":true}");
+        };
+    }
+
+    private FilterChain eventStream() {
+        return (req, res) -> {
+            chainRequest.set(req);
+            res.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+            res.getWriter().write("data: hello\n\n");
+            res.getWriter().flush();
+        };
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private AccessLogRecord published() {
+        ArgumentCaptor<AccessLogRecord> record = ArgumentCaptor.forClass(AccessLogRecord.class);
+        verify(pipeline).publish(record.capture());
+        return record.getValue();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent("{\"seatId\":\"A-1\"}".getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static AccessLogProperties.Route route(List<String> paths, List<String> methods, double sampleRate, boolean skip) {
+        AccessLogProperties.Route route = new AccessLogProperties.Route();
+        route.setPaths(paths);
+        route.setMethods(methods);
+        route.setSampleRate(sampleRate);
+        route.setSkip(skip);
+        return route;
+    }
+}
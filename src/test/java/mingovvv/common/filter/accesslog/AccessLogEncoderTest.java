@@ -0,0 +1,76 @@
+package mingovvv.common.filter.accesslog;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AccessLogEncoder encoder = new AccessLogEncoder(new JsonFactory());
+
+    @Test
+    void encodesOneLineWithOptionalFieldsOmitted() throws IOException {
+        String line = encode(record(body("{\n  \"userId\": \"user-1\"\n}"), null, null));
+
+        assertThat(line).doesNotContain("\n");
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("method").asText()).isEqualTo("POST");
+        assertThat(json.get("uri").asText()).isEqualTo("/api/payments");
+        assertThat(json.get("status").asInt()).isEqualTo(200);
+        assertThat(json.get("reqBody").asText()).isEqualTo("{ \"userId\": \"user-1\" }");
+        assertThat(json.has("resBody")).isFalse();
+        assertThat(json.has("error")).isFalse();
+        assertThat(json.has("traceId")).isFalse();
+    }
+
+    @Test
+    void longBodyIsTruncated() throws IOException {
+        String line = encode(record(body("a".repeat(AccessLogBody.MAX_LENGTH + 10)), null, null));
+
+        String reqBody = objectMapper.readTree(line).get("reqBody").asText();
+        assertThat(reqBody).hasSize(AccessLogBody.MAX_LENGTH + "... (truncated)".length());
+        assertThat(reqBody).endsWith("... (truncated)");
+    }
+
+    @Test
+    void partiallyCopiedBodyIsMarkedTruncated() throws IOException {
+        AccessLogBody partial = new AccessLogBody("abc".getBytes(StandardCharsets.UTF_8), 10_000, null);
+
+        String line = encode(record(partial, null, null));
+
+        assertThat(objectMapper.readTree(line).get("reqBody").asText()).isEqualTo("abc... (truncated)");
+    }
+
+    @Test
+    void skippedBodyAndErrorAreRecorded() throws IOException {
+        String line = encode(record(null, AccessLogBody.skipped("binary"), "IllegalStateException"));
+
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("resBody").asText()).isEqualTo("skip(binary)");
+        assertThat(json.get("error").asText()).isEqualTo("IllegalStateException");
+    }
+
+    private String encode(AccessLogRecord record) throws IOException {
+        StringWriter out = new StringWriter();
+        encoder.encode(record, out);
+        return out.toString();
+    }
+
+    private static AccessLogBody body(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new AccessLogBody(bytes, bytes.length, null);
+    }
+
+    private static AccessLogRecord record(AccessLogBody requestBody, AccessLogBody responseBody, String error) {
+        return new AccessLogRecord(1_800_000_000_000L, "1", "POST", "/api/payments", null, "10.0.0.1",
+                200, 12, null, null, requestBody, responseBody, error);
+    }
+}
@@ -0,0 +1,113 @@
+package mingovvv.common.filter.accesslog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new AccessLogRingBuffer<String>(1).capacity()).isEqualTo(2);
+        assertThat(new AccessLogRingBuffer<String>(8).capacity()).isEqualTo(8);
+        assertThat(new AccessLogRingBuffer<String>(9).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void fullBufferRejectsUntilDrained() {
+        AccessLogRingBuffer<Integer> ring = new AccessLogRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(i)).isTrue();
+        }
+        assertThat(ring.offer(4)).isFalse();
+        assertThat(ring.size()).isEqualTo(4);
+
+        List<Integer> sink = new ArrayList<>();
+        assertThat(ring.drainTo(sink, 2)).isEqualTo(2);
+        assertThat(sink).containsExactly(0, 1);
+
+        assertThat(ring.offer(4)).isTrue();
+        assertThat(ring.offer(5)).isTrue();
+        assertThat(ring.offer(6)).isFalse();
+    }
+
+    @Test
+    void drainPreservesOrderAcrossWrapAround() {
+        AccessLogRingBuffer<Integer> ring = new AccessLogRingBuffer<>(4);
+        List<Integer> sink = new ArrayList<>();
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 3; i++) {
+                ring.offer(round * 3 + i);
+            }
+            ring.drainTo(sink, 10);
+        }
+
+        assertThat(sink).hasSize(15);
+        for (int i = 0; i < 15; i++) {
+            assertThat(sink.get(i)).isEqualTo(i);
+        }
+        assertThat(ring.size()).isZero();
+    }
+
+    @Test
+    void drainOfEmptyBufferReturnsZero() {
+        AccessLogRingBuffer<Integer> ring = new AccessLogRingBuffer<>(4);
+
+        assertThat(ring.drainTo(new ArrayList<>(), 10)).isZero();
+    }
+
+    @Test
+    void concurrentProducersLoseOrDuplicateNothing() throws InterruptedException {
+        int producers = 8;
+        int perProducer = 20_000;
+        AccessLogRingBuffer<Integer> ring = new AccessLogRingBuffer<>(1024);
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(producers);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        if (!ring.offer(base + i)) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // 단일 소비자
+        List<Integer> sink = new ArrayList<>();
+        start.countDown();
+        while (done.getCount() > 0 || ring.size() > 0) {
+            if (ring.drainTo(sink, 256) == 0) {
+                Thread.onSpinWait();
+            }
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        Set<Integer> unique = new HashSet<>(sink);
+        assertThat(unique).hasSameSizeAs(sink);
+        assertThat(sink.size() + rejected.get()).isEqualTo(producers * perProducer);
+    }
+}
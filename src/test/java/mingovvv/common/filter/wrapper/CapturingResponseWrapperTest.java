@@ -0,0 +1,63 @@
+package mingovvv.common.filter.wrapper;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CapturingResponseWrapperTest {
+
+    @Test
+    void bodyIsCapturedUntilCopiedToResponse() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response);
+
+        wrapper.getOutputStream().write("{\"ok\":true}".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(wrapper.getCapturedBody().toString(StandardCharsets.UTF_8, 1024)).isEqualTo("{\"ok\":true}");
+
+        wrapper.copyBodyToResponse();
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"ok\":true}");
+        assertThat(response.getContentLength()).isEqualTo(11);
+        assertThat(wrapper.getCapturedBody()).isNull();
+    }
+
+    @Test
+    void streamingContentTypeIsPassedThrough() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response);
+
+        wrapper.setContentType("text/event-stream");
+        wrapper.getOutputStream().write("data: 1\n\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(wrapper.isStreaming()).isTrue();
+        assertThat(wrapper.getCapturedBody()).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("data: 1\n\n");
+    }
+
+    @Test
+    void writeListenerAndReadinessAreDelegatedToOriginalStream() throws IOException {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream original = mock(ServletOutputStream.class);
+        when(response.getOutputStream()).thenReturn(original);
+        when(original.isReady()).thenReturn(false);
+        WriteListener listener = mock(WriteListener.class);
+
+        ServletOutputStream stream = new CapturingResponseWrapper(response).getOutputStream();
+        stream.setWriteListener(listener);
+
+        verify(original).setWriteListener(listener);
+        assertThat(stream.isReady()).isFalse();
+    }
+}
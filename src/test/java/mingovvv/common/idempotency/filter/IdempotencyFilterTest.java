@@ -0,0 +1,127 @@
+package mingovvv.common.idempotency.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import mingovvv.common.idempotency.config.IdempotencyProperties;
+import mingovvv.common.idempotency.impl.InMemoryIdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"seatId\":\"A-1\"}";
+
+    private IdempotencyFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setEnabled(true);
+        filter = new IdempotencyFilter(properties, new InMemoryIdempotencyStore(properties, new SimpleMeterRegistry()),
+                new ObjectMapper());
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void completedRequestIsReplayedWithoutExecuting() throws Exception {
+        MockHttpServletResponse first = doFilter(request("key-1", BODY), created());
+        MockHttpServletResponse replay = doFilter(request("key-1", BODY), created());
+
+        assertThat(executions).hasValue(1);
+        assertThat(replay.getStatus()).isEqualTo(201);
+        assertThat(replay.getHeader("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(replay.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    @Test
+    void duplicateWhileInProgressGets409Immediately() throws Exception {
+        AtomicReference<MockHttpServletResponse> duplicate = new AtomicReference<>();
+        // 첫 요청이 처리되는 도중에 같은 키의 재시도가 도착
+        FilterChain slow = (req, res) -> {
+            executions.incrementAndGet();
+            duplicate.set(doFilter(request("key-1", BODY), created()));
+            res.getWriter().write("{}");
+        };
+
+        doFilter(request("key-1", BODY), slow);
+
+        assertThat(executions).hasValue(1);
+        assertThat(duplicate.get().getStatus()).isEqualTo(409);
+        assertThat(duplicate.get().getHeader("Retry-After")).isEqualTo("1");
+        assertThat(duplicate.get().getContentAsString()).contains("REQ-009");
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyGets422() throws Exception {
+        doFilter(request("key-1", BODY), created());
+
+        MockHttpServletResponse reused = doFilter(request("key-1", "{\"seatId\":\"B-2\"}"), created());
+
+        assertThat(executions).hasValue(1);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(reused.getContentAsString()).contains("REQ-010");
+    }
+
+    @Test
+    void failedRequestReleasesKeyForRetry() {
+        FilterChain failing = (req, res) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(500);
+        };
+
+        doFilter(request("key-1", BODY), failing);
+        MockHttpServletResponse retry = doFilter(request("key-1", BODY), created());
+
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader("Idempotent-Replayed")).isNull();
+    }
+
+    @Test
+    void requestWithoutKeyIsAlwaysExecuted() {
+        doFilter(request(null, BODY), created());
+        doFilter(request(null, BODY), created());
+
+        assertThat(executions).hasValue(2);
+    }
+
+    private FilterChain created() {
+        return (req, res) -> {
+            int count = executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(201);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"paymentId\":\"PAY-" + count + "\"}");
+        };
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request, FilterChain chain) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/payments");
+        if (key != null) {
+            request.addHeader("Idempotency-Key", key);
+        }
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,111 @@
+package mingovvv.common.idempotency.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mingovvv.common.idempotency.config.IdempotencyProperties;
+import mingovvv.common.idempotency.model.CachedResponse;
+import mingovvv.common.idempotency.model.IdempotencyRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final long LOCK_TTL = 30;
+    private static final long TTL = 300;
+
+    private IdempotencyProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties();
+        properties.setMaxEntries(10);
+        properties.setMaxBytes(10 * 1024);
+        meterRegistry = new SimpleMeterRegistry();
+        store = new InMemoryIdempotencyStore(properties, meterRegistry);
+    }
+
+    @Test
+    void secondClaimSeesInProgressUntilCompleted() {
+        assertThat(store.tryClaim("key-1", "fp", "owner-1", LOCK_TTL)).isEmpty();
+
+        Optional<IdempotencyRecord> inProgress = store.tryClaim("key-1", "fp", "owner-2", LOCK_TTL);
+        assertThat(inProgress).hasValueSatisfying(record -> {
+            assertThat(record.isCompleted()).isFalse();
+            assertThat(record.matches("fp")).isTrue();
+        });
+
+        assertThat(store.complete("key-1", "owner-1", response("{\"ok\":true}"), TTL)).isTrue();
+
+        IdempotencyRecord completed = store.get("key-1").orElseThrow();
+        assertThat(completed.isCompleted()).isTrue();
+        assertThat(new String(completed.response().body(), StandardCharsets.UTF_8)).isEqualTo("{\"ok\":true}");
+    }
+
+    @Test
+    void compressedBodyIsRestored() {
+        String body = "x".repeat(4096);
+        store.tryClaim("key-1", "fp", "owner-1", LOCK_TTL);
+        store.complete("key-1", "owner-1", response(body), TTL);
+
+        assertThat(new String(store.get("key-1").orElseThrow().response().body(), StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void onlyOwnerCanCompleteOrRelease() {
+        store.tryClaim("key-1", "fp", "owner-1", LOCK_TTL);
+
+        assertThat(store.complete("key-1", "owner-2", response("{}"), TTL)).isFalse();
+        store.release("key-1", "owner-2");
+        assertThat(store.get("key-1")).isPresent();
+
+        store.release("key-1", "owner-1");
+        assertThat(store.get("key-1")).isEmpty();
+    }
+
+    @Test
+    void inProgressClaimsAreNotEvictedBySize() {
+        store.tryClaim("in-flight", "fp", "owner-1", LOCK_TTL);
+
+        // 한도(10건 / 10KB)를 훨씬 넘는 완료 응답
+        for (int i = 0; i < 200; i++) {
+            String key = "done-" + i;
+            store.tryClaim(key, "fp", "owner-" + i, LOCK_TTL);
+            store.complete(key, "owner-" + i, response("{\"i\":" + i + "}"), TTL);
+        }
+
+        assertThat(store.size()).isLessThanOrEqualTo(11);
+        assertThat(store.get("in-flight")).hasValueSatisfying(record -> assertThat(record.isCompleted()).isFalse());
+        assertThat(meterRegistry.counter("idempotency.store.evictions", "cause", "size").count()).isPositive();
+    }
+
+    @Test
+    void lookupsAreCountedOncePerRequest() {
+        store.tryClaim("key-1", "fp", "owner-1", LOCK_TTL);
+        store.tryClaim("key-1", "fp", "owner-2", LOCK_TTL);
+        // 두 번째 요청의 완료 대기 폴링
+        for (int i = 0; i < 5; i++) {
+            store.get("key-1");
+        }
+        store.complete("key-1", "owner-1", response("{}"), TTL);
+        store.get("key-1");
+        store.tryClaim("key-1", "fp", "owner-3", LOCK_TTL);
+
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("in_progress")).isEqualTo(1);
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("idempotency.store.requests", "result", result).count();
+    }
+
+    private static CachedResponse response(String body) {
+        return new CachedResponse(200, "application/json", body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,139 @@
+package mingovvv.common.idempotency.impl;
+
+import mingovvv.common.idempotency.model.CachedResponse;
+import mingovvv.common.idempotency.model.IdempotencyRecord;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 선점/완료/해제 Lua 스크립트를 로컬 Redis(localhost:6379)에서 실행해 검증합니다.
+ * Redis가 없으면 건너뜁니다.
+ */
+class RedisIdempotencyStoreTest {
+
+    private static final long LOCK_TTL = 30;
+    private static final long TTL = 300;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RedisIdempotencyStore store;
+    private String key;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", 6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        boolean available;
+        try (var connection = connectionFactory.getConnection()) {
+            available = "PONG".equals(connection.ping());
+        } catch (RuntimeException e) {
+            available = false;
+        }
+        assumeTrue(available, "local Redis is not running");
+
+        store = new RedisIdempotencyStore(redisTemplate);
+        key = "test-" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            redisTemplate.delete("idempotency:" + key);
+        }
+    }
+
+    @Test
+    void claimIsExclusiveUntilCompleted() {
+        assertThat(store.tryClaim(key, "fp", "owner-1", LOCK_TTL)).isEmpty();
+
+        Optional<IdempotencyRecord> second = store.tryClaim(key, "other-fp", "owner-2", LOCK_TTL);
+        assertThat(second).hasValueSatisfying(record -> {
+            assertThat(record.isCompleted()).isFalse();
+            assertThat(record.matches("fp")).isTrue();
+            assertThat(record.matches("other-fp")).isFalse();
+        });
+        assertThat(redisTemplate.getExpire("idempotency:" + key)).isBetween(1L, LOCK_TTL);
+    }
+
+    @Test
+    void completedResponseIsReplayed() {
+        store.tryClaim(key, "fp", "owner-1", LOCK_TTL);
+        byte[] body = "{\"paymentId\":\"PAY-1\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(store.complete(key, "owner-1", new CachedResponse(201, "application/json", body), TTL)).isTrue();
+
+        IdempotencyRecord record = store.tryClaim(key, "fp", "owner-2", LOCK_TTL).orElseThrow();
+        assertThat(record.isCompleted()).isTrue();
+        assertThat(record.response().status()).isEqualTo(201);
+        assertThat(record.response().contentType()).isEqualTo("application/json");
+        assertThat(record.response().body()).isEqualTo(body);
+        assertThat(store.get(key)).hasValueSatisfying(stored -> assertThat(stored.isCompleted()).isTrue());
+        assertThat(redisTemplate.getExpire("idempotency:" + key)).isGreaterThan(LOCK_TTL);
+    }
+
+    @Test
+    void responseWithoutContentTypeOrBodyRoundTrips() {
+        store.tryClaim(key, "fp", "owner-1", LOCK_TTL);
+        store.complete(key, "owner-1", new CachedResponse(204, null, new byte[0]), TTL);
+
+        CachedResponse response = store.get(key).orElseThrow().response();
+        assertThat(response.status()).isEqualTo(204);
+        assertThat(response.contentType()).isNull();
+        assertThat(response.body()).isEmpty();
+    }
+
+    @Test
+    void completeByAnotherOwnerIsIgnored() {
+        store.tryClaim(key, "fp", "owner-1", LOCK_TTL);
+
+        assertThat(store.complete(key, "owner-2", new CachedResponse(200, null, new byte[0]), TTL)).isFalse();
+        assertThat(store.get(key)).hasValueSatisfying(record -> assertThat(record.isCompleted()).isFalse());
+    }
+
+    @Test
+    void releaseByOwnerAllowsReclaim() {
+        store.tryClaim(key, "fp", "owner-1", LOCK_TTL);
+
+        store.release(key, "owner-2");
+        assertThat(store.get(key)).isPresent();
+
+        store.release(key, "owner-1");
+        assertThat(store.get(key)).isEmpty();
+        assertThat(store.tryClaim(key, "fp", "owner-3", LOCK_TTL)).isEmpty();
+    }
+
+    @Test
+    void releaseDoesNotRemoveCompletedResponse() {
+        store.tryClaim(key, "fp", "owner-1", LOCK_TTL);
+        store.complete(key, "owner-1", new CachedResponse(200, null, new byte[0]), TTL);
+
+        store.release(key, "owner-1");
+
+        assertThat(store.get(key)).hasValueSatisfying(record -> assertThat(record.isCompleted()).isTrue());
+    }
+}
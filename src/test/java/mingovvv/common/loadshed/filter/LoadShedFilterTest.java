@@ -0,0 +1,114 @@
+package mingovvv.common.loadshed.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mingovvv.common.loadshed.config.LoadShedProperties;
+import mingovvv.common.loadshed.impl.GradientConcurrencyLimiter;
+import mingovvv.common.loadshed.model.EndpointClass;
+import mingovvv.common.loadshed.model.LoadShedPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadShedFilterTest {
+
+    private EndpointClass checkout;
+    private EndpointClass statusPoll;
+    private EndpointClass defaultClass;
+    private LoadShedFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        LoadShedProperties properties = new LoadShedProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(10);
+        properties.setYieldUtilization(0.8);
+
+        checkout = endpointClass("checkout", "/api/payments", LoadShedPriority.CRITICAL, properties);
+        statusPoll = endpointClass("status-poll", "/api/events/{eventId}/queue/status", LoadShedPriority.LOW, properties);
+        defaultClass = new EndpointClass("default", List.of(), Set.of(), LoadShedPriority.NORMAL,
+            new GradientConcurrencyLimiter(properties));
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Map<EndpointClass, Counter> rejections = new IdentityHashMap<>();
+        for (EndpointClass endpointClass : List.of(checkout, statusPoll, defaultClass)) {
+            rejections.put(endpointClass, registry.counter("load_shed.rejected", "class", endpointClass.name()));
+        }
+        filter = new LoadShedFilter(properties, List.of(checkout, statusPoll), defaultClass, rejections, new ObjectMapper());
+    }
+
+    @Test
+    void requestBeyondClassLimitIsRejectedWithRetryAfter() throws Exception {
+        occupy(statusPoll, 10);
+
+        MockHttpServletResponse response = doFilter(new MockHttpServletRequest("GET", "/api/events/EVT001/queue/status"));
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    @Test
+    void lowPriorityYieldsWhileCriticalIsBusy() throws Exception {
+        occupy(checkout, 8);
+
+        assertThat(doFilter(new MockHttpServletRequest("GET", "/api/events/EVT001/queue/status")).getStatus())
+            .isEqualTo(503);
+        assertThat(doFilter(new MockHttpServletRequest("POST", "/api/payments")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void criticalDoesNotYieldToLowerPriority() throws Exception {
+        occupy(statusPoll, 10);
+
+        assertThat(doFilter(new MockHttpServletRequest("POST", "/api/payments")).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void classIsResolvedFromPathWithinApplication() throws Exception {
+        occupy(statusPoll, 10);
+
+        MockHttpServletRequest withContextPath = new MockHttpServletRequest("GET", "/turnstile/api/events/EVT001/queue/status");
+        withContextPath.setContextPath("/turnstile");
+        MockHttpServletRequest withPathParameter =
+            new MockHttpServletRequest("GET", "/api/events/EVT001/queue/status;jsessionid=abc");
+
+        assertThat(doFilter(withContextPath).getStatus()).isEqualTo(503);
+        assertThat(doFilter(withPathParameter).getStatus()).isEqualTo(503);
+        assertThat(defaultClass.limiter().getInflight()).isZero();
+    }
+
+    @Test
+    void permitIsReturnedAfterRequestCompletes() throws Exception {
+        doFilter(new MockHttpServletRequest("POST", "/api/payments"));
+
+        assertThat(checkout.limiter().getInflight()).isZero();
+    }
+
+    private MockHttpServletResponse doFilter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static void occupy(EndpointClass endpointClass, int count) {
+        for (int i = 0; i < count; i++) {
+            endpointClass.limiter().tryAcquire();
+        }
+    }
+
+    private static EndpointClass endpointClass(String name, String path, LoadShedPriority priority, LoadShedProperties properties) {
+        return new EndpointClass(name, List.of(PathPatternParser.defaultInstance.parse(path)), Set.of(), priority,
+            new GradientConcurrencyLimiter(properties));
+    }
+}
@@ -0,0 +1,188 @@
+package mingovvv.common.loadshed.impl;
+
+import mingovvv.common.loadshed.ConcurrencyLimiter;
+import mingovvv.common.loadshed.config.LoadShedProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.PriorityQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    // 과부하 시뮬레이션: 서버 처리 용량, 기본 지연, 클라이언트 대기 한도, 시뮬레이션 길이 (1틱 = 1ms)
+    private static final int CAPACITY = 50;
+    private static final int BASE_LATENCY_TICKS = 10;
+    private static final int DEADLINE_TICKS = 100;
+    private static final int TICKS = 20_000;
+
+    private LoadShedProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoadShedProperties();
+        properties.setInitialLimit(20);
+        properties.setMinLimit(10);
+        properties.setMaxLimit(180);
+        properties.setTolerance(1.5);
+        properties.setSmoothing(1.0);
+        properties.setWindowSamples(10);
+    }
+
+    @Test
+    void requestsBeyondLimitAreRejectedUntilReleased() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties);
+
+        for (int i = 1; i <= 20; i++) {
+            assertThat(limiter.tryAcquire()).isEqualTo(i);
+        }
+        assertThat(limiter.tryAcquire()).isEqualTo(-1);
+
+        limiter.release();
+        assertThat(limiter.getInflight()).isEqualTo(19);
+        assertThat(limiter.tryAcquire()).isEqualTo(20);
+    }
+
+    @Test
+    void limitGrowsUnderFullLoadWithStableLatency() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties);
+
+        window(limiter, 10 * MILLIS, 20);
+
+        // 20 × 1.0 + √20
+        assertThat(limiter.getLimit()).isEqualTo(24);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void limitDoesNotGrowWhenMostOfItIsUnused() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 5; i++) {
+            window(limiter, 10 * MILLIS, 3);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRisesAndStopsAtMinLimit() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties);
+        window(limiter, 10 * MILLIS, 20);
+        int before = limiter.getLimit();
+
+        // 기준선(10ms)의 tolerance 배를 넘는 지연: gradient 0.5
+        window(limiter, 100 * MILLIS, before);
+        assertThat(limiter.getLimit()).isLessThan(before);
+
+        for (int i = 0; i < 20; i++) {
+            window(limiter, 100 * MILLIS, limiter.getLimit());
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void releaseWithoutLatencyDoesNotMoveLimit() {
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    /**
+     * 과부하 시뮬레이션 (가상 시간, 결정적)
+     * 서버는 동시 50건까지는 10ms에 처리하고, 그 이상은 처리 중인 건수에 비례해 느려집니다.
+     * 클라이언트는 100ms가 지나면 응답을 버리므로 그 이후의 응답은 goodput에 포함하지 않습니다.
+     * 한도가 없으면 부하에 비례해 지연이 늘어 goodput이 무너지고, 한도를 두면 부하가 커져도 goodput이 유지됩니다.
+     */
+    @Test
+    void goodputStaysFlatUnderOverload() {
+        properties.setInitialLimit(50);
+
+        double at2x = simulate(new GradientConcurrencyLimiter(properties), 10);
+        double at8x = simulate(new GradientConcurrencyLimiter(properties), 40);
+        double unlimitedAt8x = simulate(new UnlimitedLimiter(), 40);
+
+        // 처리 용량은 50건 / 10ms = 틱(1ms)당 5건
+        assertThat(at2x).isGreaterThan(4.0);
+        assertThat(at8x).isGreaterThan(at2x * 0.9);
+        assertThat(unlimitedAt8x).isLessThan(at2x * 0.5);
+    }
+
+    private static void window(ConcurrencyLimiter limiter, long rttNanos, int inflightAtStart) {
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onComplete(rttNanos, inflightAtStart);
+        }
+    }
+
+    /**
+     * @param arrivalsPerTick 틱(1ms)당 도착 요청 수
+     * @return 후반부 구간의 틱당 기한 내 완료 건수
+     */
+    private static double simulate(ConcurrencyLimiter limiter, int arrivalsPerTick) {
+        PriorityQueue<long[]> running = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        long good = 0;
+        int measureFrom = TICKS / 2;
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            while (!running.isEmpty() && running.peek()[0] <= tick) {
+                long[] request = running.poll();
+                long latency = request[0] - request[1];
+                limiter.onComplete(latency * MILLIS, (int) request[2]);
+                if (tick >= measureFrom && latency <= DEADLINE_TICKS) {
+                    good++;
+                }
+            }
+            for (int i = 0; i < arrivalsPerTick; i++) {
+                int inflight = limiter.tryAcquire();
+                if (inflight < 0) {
+                    continue;
+                }
+                long latency = (long) BASE_LATENCY_TICKS * Math.max(CAPACITY, inflight) / CAPACITY;
+                running.add(new long[]{tick + latency, tick, inflight});
+            }
+        }
+        return (double) good / (TICKS - measureFrom);
+    }
+
+    /**
+     * 한도 없이 모두 받아들이는 비교 대상
+     */
+    private static final class UnlimitedLimiter implements ConcurrencyLimiter {
+
+        private int inflight;
+
+        @Override
+        public int tryAcquire() {
+            return ++inflight;
+        }
+
+        @Override
+        public void onComplete(long rttNanos, int inflightAtStart) {
+            inflight--;
+        }
+
+        @Override
+        public void release() {
+            inflight--;
+        }
+
+        @Override
+        public int getLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int getInflight() {
+            return inflight;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package mingovvv.common.oauth.controller;
+
+import mingovvv.common.oauth.service.OAuth2TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class OAuth2ClientAdminControllerTest {
+
+    private OAuth2TokenService tokenService;
+    private OAuth2ClientAdminController controller;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = mock(OAuth2TokenService.class);
+        controller = new OAuth2ClientAdminController(tokenService);
+    }
+
+    @Test
+    void disableDelegatesToService() {
+        ResponseEntity<Map<String, Object>> response = controller.disableClient("client-a");
+
+        verify(tokenService).disableClient("client-a");
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("clientId", "client-a");
+    }
+
+    @Test
+    void evictDelegatesToService() {
+        controller.evictClient("client-a");
+
+        verify(tokenService).evictClient("client-a");
+    }
+
+    @Test
+    void requiresAdminRole() {
+        PreAuthorize preAuthorize = OAuth2ClientAdminController.class.getAnnotation(PreAuthorize.class);
+
+        assertThat(preAuthorize).isNotNull();
+        assertThat(preAuthorize.value()).isEqualTo("hasRole('ADMIN')");
+    }
+}
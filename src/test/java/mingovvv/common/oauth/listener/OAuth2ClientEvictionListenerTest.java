@@ -0,0 +1,57 @@
+package mingovvv.common.oauth.listener;
+
+import mingovvv.common.oauth.repository.OAuth2ClientEvictionRedisRepository;
+import mingovvv.common.oauth.service.OAuth2TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class OAuth2ClientEvictionListenerTest {
+
+    private OAuth2TokenService tokenService;
+    private OAuth2ClientEvictionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = mock(OAuth2TokenService.class);
+        listener = new OAuth2ClientEvictionListener(tokenService);
+    }
+
+    @Test
+    void remoteEvictionEvictsLocalCacheWithoutRepublishing() {
+        listener.onMessage(message("client-a"), null);
+
+        verify(tokenService).evictLocalClient("client-a");
+        verify(tokenService, never()).evictClient(anyString());
+    }
+
+    @Test
+    void blankMessageIsIgnored() {
+        listener.onMessage(message(" "), null);
+
+        verify(tokenService, never()).evictLocalClient(anyString());
+    }
+
+    @Test
+    void evictionFailureDoesNotPropagate() {
+        doThrow(new IllegalStateException("boom")).when(tokenService).evictLocalClient("client-a");
+
+        listener.onMessage(message("client-a"), null);
+
+        verify(tokenService).evictLocalClient("client-a");
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                OAuth2ClientEvictionRedisRepository.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
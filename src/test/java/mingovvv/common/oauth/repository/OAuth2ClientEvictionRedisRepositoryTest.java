@@ -0,0 +1,37 @@
+package mingovvv.common.oauth.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OAuth2ClientEvictionRedisRepositoryTest {
+
+    private StringRedisTemplate redisTemplate;
+    private OAuth2ClientEvictionRedisRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        repository = new OAuth2ClientEvictionRedisRepository(redisTemplate);
+    }
+
+    @Test
+    void publishesClientIdOnEvictionChannel() {
+        repository.publish("client-a");
+
+        verify(redisTemplate).convertAndSend("oauth2:client:evict", "client-a");
+    }
+
+    @Test
+    void publishFailureIsSwallowed() {
+        when(redisTemplate.convertAndSend("oauth2:client:evict", "client-a"))
+                .thenThrow(new IllegalStateException("redis down"));
+
+        assertThatCode(() -> repository.publish("client-a")).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,136 @@
+package mingovvv.common.oauth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mingovvv.common.constants.ResultCode;
+import mingovvv.common.oauth.domain.OAuth2Client;
+import mingovvv.common.oauth.dto.OAuth2TokenRequest;
+import mingovvv.common.oauth.exception.OAuth2Exception;
+import mingovvv.common.oauth.repository.OAuth2ClientEvictionRedisRepository;
+import mingovvv.common.oauth.repository.OAuth2ClientRepository;
+import mingovvv.common.properties.OAuth2ClientCacheProperties;
+import mingovvv.common.security.JwtTokenProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OAuth2TokenServiceTest {
+
+    private OAuth2ClientRepository clientRepository;
+    private OAuth2ClientEvictionRedisRepository evictionRepository;
+    private OAuth2TokenService service;
+    private OAuth2Client client;
+
+    @BeforeEach
+    void setUp() {
+        clientRepository = mock(OAuth2ClientRepository.class);
+        evictionRepository = mock(OAuth2ClientEvictionRedisRepository.class);
+        JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+
+        client = OAuth2Client.builder()
+                .clientId("client-a")
+                .clientSecret("encoded")
+                .clientName("Client A")
+                .scopes("read write")
+                .build();
+        when(clientRepository.findByClientId("client-a")).thenReturn(Optional.of(client));
+        when(passwordEncoder.matches("secret", "encoded")).thenReturn(true);
+        when(jwtTokenProvider.generateClientCredentialsToken(anyString(), anyString(), anyLong())).thenReturn("jwt");
+
+        OAuth2ClientCacheProperties properties = new OAuth2ClientCacheProperties();
+        properties.setCredentialTtl(Duration.ofMinutes(1));
+
+        service = new OAuth2TokenService(clientRepository, jwtTokenProvider, passwordEncoder,
+                evictionRepository, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void verifiedCredentialsAreServedFromCache() {
+        service.issueToken(request());
+        service.issueToken(request());
+
+        verify(clientRepository, times(1)).findByClientId("client-a");
+    }
+
+    @Test
+    void evictClientDropsLocalCacheAndPublishes() {
+        service.issueToken(request());
+
+        service.evictClient("client-a");
+        service.issueToken(request());
+
+        verify(clientRepository, times(2)).findByClientId("client-a");
+        verify(evictionRepository).publish("client-a");
+    }
+
+    @Test
+    void evictLocalClientDoesNotPublish() {
+        service.issueToken(request());
+
+        service.evictLocalClient("client-a");
+        service.issueToken(request());
+
+        verify(clientRepository, times(2)).findByClientId("client-a");
+        verify(evictionRepository, never()).publish(anyString());
+    }
+
+    @Test
+    void disabledClientIsRejectedImmediately() {
+        service.issueToken(request());
+
+        service.disableClient("client-a");
+
+        assertThat(client.getEnabled()).isFalse();
+        verify(evictionRepository).publish("client-a");
+        assertThatThrownBy(() -> service.issueToken(request()))
+                .isInstanceOfSatisfying(OAuth2Exception.class,
+                        e -> assertThat(e.getResultCode()).isEqualTo(ResultCode.Error.OAUTH_CLIENT_DISABLED));
+    }
+
+    @Test
+    void disableInsideTransactionPublishesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.disableClient("client-a");
+            verify(evictionRepository, never()).publish(anyString());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(evictionRepository).publish("client-a");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void disableUnknownClientFailsWithoutPublishing() {
+        when(clientRepository.findByClientId("unknown")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.disableClient("unknown"))
+                .isInstanceOfSatisfying(OAuth2Exception.class,
+                        e -> assertThat(e.getResultCode()).isEqualTo(ResultCode.Error.OAUTH_INVALID_CLIENT));
+        verify(evictionRepository, never()).publish(anyString());
+    }
+
+    private OAuth2TokenRequest request() {
+        OAuth2TokenRequest request = new OAuth2TokenRequest();
+        request.setGrantType("client_credentials");
+        request.setClientId("client-a");
+        request.setClientSecret("secret");
+        return request;
+    }
+}
@@ -0,0 +1,144 @@
+package mingovvv.common.ratelimit.impl;
+
+import mingovvv.common.ratelimit.config.RateLimitProperties;
+import mingovvv.common.ratelimit.model.RateLimitQuota;
+import mingovvv.common.ratelimit.model.RateLimitResult;
+import mingovvv.common.ratelimit.model.RateLimitTimestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimiterTest {
+
+    private static final long EPOCH_MILLIS = 1_800_000_000_000L;
+
+    private RateLimitProperties properties;
+    private InMemoryRateLimiter rateLimiter;
+    private long startNanos;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setIdleSweepSeconds(3600);
+        rateLimiter = new InMemoryRateLimiter(properties);
+        startNanos = System.nanoTime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.close();
+    }
+
+    @Test
+    void burstDefaultsToMaxRequests() {
+        assertThat(properties.getBurst()).isEqualTo(properties.getMaxRequests());
+
+        properties.setBurst(5);
+        assertThat(properties.getBurst()).isEqualTo(5);
+    }
+
+    @Test
+    void defaultQuotaAllowsFullWindowAtOnce() {
+        // 기본값(100건 / 60초)은 이전 고정 윈도우처럼 100건을 한 번에 허용
+        RateLimitQuota quota = RateLimitQuota.of(100, 60, properties.getBurst());
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(consume("user-1", quota, 0).allowed()).isTrue();
+        }
+        assertThat(consume("user-1", quota, 0).allowed()).isFalse();
+    }
+
+    @Test
+    void burstIsRefilledOneIntervalAtATime() {
+        // 10건 / 10초, burst 2 → 1초에 1건씩 회복
+        RateLimitQuota quota = RateLimitQuota.of(10, 10, 2);
+
+        assertThat(consume("user-1", quota, 0).allowed()).isTrue();
+        RateLimitResult second = consume("user-1", quota, 0);
+        assertThat(second.allowed()).isTrue();
+        assertThat(second.remaining()).isZero();
+        assertThat(consume("user-1", quota, 0).allowed()).isFalse();
+
+        assertThat(consume("user-1", quota, 999).allowed()).isFalse();
+        assertThat(consume("user-1", quota, 1000).allowed()).isTrue();
+        assertThat(consume("user-1", quota, 1000).allowed()).isFalse();
+    }
+
+    @Test
+    void anyIntervalAdmitsAtMostBurstPlusRate() {
+        // 고정 윈도우 경계에서 2배가 통과하지 않음: 임의 구간 t에서 최대 burst + t / interval건
+        RateLimitQuota quota = RateLimitQuota.of(10, 10, 5);
+        int allowed = 0;
+        for (long millis = 0; millis < 10_000; millis += 100) {
+            for (int i = 0; i < 3; i++) {
+                if (consume("user-1", quota, millis).allowed()) {
+                    allowed++;
+                }
+            }
+        }
+        assertThat(allowed).isLessThanOrEqualTo(5 + 10);
+    }
+
+    @Test
+    void keysAreLimitedIndependently() {
+        RateLimitQuota quota = RateLimitQuota.of(1, 60, 1);
+
+        assertThat(consume("user-1", quota, 0).allowed()).isTrue();
+        assertThat(consume("user-1", quota, 0).allowed()).isFalse();
+        assertThat(consume("user-2", quota, 0).allowed()).isTrue();
+        assertThat(rateLimiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectionReportsRetryTime() {
+        RateLimitQuota quota = RateLimitQuota.of(1, 60, 1);
+        consume("user-1", quota, 0);
+
+        RateLimitResult rejected = consume("user-1", quota, 0);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.resetEpochSeconds()).isEqualTo(EPOCH_MILLIS / 1000 + 60);
+    }
+
+    @Test
+    void concurrentConsumersNeverExceedBurst() throws InterruptedException {
+        RateLimitQuota quota = RateLimitQuota.of(1_000, 3600, 1_000);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        for (int t = 0; t < 16; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        if (consume("hot", quota, 0).allowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(1_000);
+    }
+
+    private RateLimitResult consume(String key, RateLimitQuota quota, long elapsedMillis) {
+        RateLimitTimestamp timestamp = new RateLimitTimestamp(
+                startNanos + TimeUnit.MILLISECONDS.toNanos(elapsedMillis), EPOCH_MILLIS + elapsedMillis);
+        return rateLimiter.tryConsume(key, quota, timestamp);
+    }
+}
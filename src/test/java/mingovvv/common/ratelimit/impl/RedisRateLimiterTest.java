@@ -0,0 +1,184 @@
+package mingovvv.common.ratelimit.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mingovvv.common.ratelimit.RateLimiter;
+import mingovvv.common.ratelimit.config.RateLimitProperties;
+import mingovvv.common.ratelimit.model.RateLimitQuota;
+import mingovvv.common.ratelimit.model.RateLimitResult;
+import mingovvv.common.ratelimit.model.RateLimitTimestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 임대 방식의 정확도(전체 허용량이 한도를 넘지 않는지, 임대분이 버려지지 않는지)와
+ * 처리량(요청당 Redis 호출 수)을 노드 여러 개와 Lua 스크립트를 흉내 낸 Redis로 측정합니다.
+ */
+class RedisRateLimiterTest {
+
+    private static final String KEY = "ip:10.0.0.1";
+    // 100건 / 60초, burst 100 (interval 600ms)
+    private static final RateLimitQuota QUOTA = RateLimitQuota.of(100, 60, 100);
+
+    private final Map<String, Long> tats = new HashMap<>();
+    private final List<RedisRateLimiter> nodes = new ArrayList<>();
+    private StringRedisTemplate redisTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitProperties properties;
+    private long nowMillis = 1_800_000_000_000L;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new RateLimitProperties();
+        properties.setIdleSweepSeconds(3600);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> lease(
+                        ((List<String>) invocation.getArgument(1)).get(0),
+                        Long.parseLong(invocation.getArgument(2)),
+                        Long.parseLong(invocation.getArgument(3)),
+                        Long.parseLong(invocation.getArgument(4))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(RedisRateLimiter::close);
+    }
+
+    @Test
+    void singleNodeAdmitsExactlyBurstWithFewRedisCalls() {
+        RedisRateLimiter node = node();
+
+        int allowed = 0;
+        for (int i = 0; i < 150; i++) {
+            if (consume(node).allowed()) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(100);
+        // 임대량 1, 2, 4, 8, 16, 20... 으로 늘어나므로 100건을 10회 남짓으로 처리, 거절 이후에는 로컬에서 거절
+        assertThat(redisCalls()).isLessThanOrEqualTo(12);
+    }
+
+    @Test
+    void nodesSharingKeyNeverExceedQuota() {
+        List<RedisRateLimiter> cluster = List.of(node(), node(), node());
+
+        int allowed = 0;
+        int requests = 0;
+        // 60초 동안 노드마다 10ms 간격 요청 (총 18,000건)
+        for (long elapsed = 0; elapsed < 60_000; elapsed += 10) {
+            for (RedisRateLimiter node : cluster) {
+                requests++;
+                if (consume(node).allowed()) {
+                    allowed++;
+                }
+            }
+            nowMillis += 10;
+        }
+
+        // 임의 구간 t에서 최대 burst + t / interval = 100 + 60,000 / 600
+        assertThat(allowed).isLessThanOrEqualTo(200);
+        // 만료로 버려지는 임대분이 거의 없어야 함
+        assertThat(allowed).isGreaterThanOrEqualTo(180);
+        assertThat(redisCalls()).isLessThan(requests / 20);
+    }
+
+    @Test
+    void deniedKeyIsRejectedLocallyUntilRetryTime() {
+        RedisRateLimiter node = node();
+        RateLimitQuota quota = RateLimitQuota.of(1, 60, 1);
+        assertThat(consume(node, quota).allowed()).isTrue();
+        assertThat(consume(node, quota).allowed()).isFalse();
+        double callsAfterDenial = redisCalls();
+
+        nowMillis += 59_000;
+        RateLimitResult result = consume(node, quota);
+
+        assertThat(result.allowed()).isFalse();
+        assertThat(redisCalls()).isEqualTo(callsAfterDenial);
+
+        nowMillis += 1_000;
+        assertThat(consume(node, quota).allowed()).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void redisFailureFallsBackToLocalLimiter() {
+        RateLimiter fallback = mock(RateLimiter.class);
+        RateLimitResult local = new RateLimitResult(true, 9, 0);
+        when(fallback.tryConsume(eq(KEY), eq(QUOTA), any(RateLimitTimestamp.class))).thenReturn(local);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        RedisRateLimiter node = new RedisRateLimiter(redisTemplate, properties, fallback, meterRegistry);
+        nodes.add(node);
+
+        assertThat(consume(node)).isSameAs(local);
+        assertThat(meterRegistry.counter("rate_limit.redis.fallbacks").count()).isEqualTo(1);
+    }
+
+    @Test
+    void closeAlsoClosesFallbackLimiter() {
+        InMemoryRateLimiter fallback = mock(InMemoryRateLimiter.class);
+        RedisRateLimiter node = new RedisRateLimiter(redisTemplate, properties, fallback, meterRegistry);
+
+        node.close();
+
+        verify(fallback).close();
+    }
+
+    private RedisRateLimiter node() {
+        RedisRateLimiter node = new RedisRateLimiter(redisTemplate, properties, mock(RateLimiter.class), meterRegistry);
+        nodes.add(node);
+        return node;
+    }
+
+    private RateLimitResult consume(RedisRateLimiter node) {
+        return consume(node, QUOTA);
+    }
+
+    private RateLimitResult consume(RedisRateLimiter node, RateLimitQuota quota) {
+        return node.tryConsume(KEY, quota, new RateLimitTimestamp(System.nanoTime(), nowMillis));
+    }
+
+    private double redisCalls() {
+        return meterRegistry.counter("rate_limit.redis.calls").count();
+    }
+
+    /**
+     * LEASE_SCRIPT와 같은 계산 (서버 시각 = 테스트 시계)
+     */
+    private List<Long> lease(String key, long interval, long capacity, long requested) {
+        long now = nowMillis * 1000;
+        long tat = Math.max(tats.getOrDefault(key, 0L), now);
+
+        long available = Math.floorDiv(now + capacity - tat, interval);
+        if (available <= 0) {
+            return List.of(0L, tat + interval - capacity - now, 0L);
+        }
+
+        long granted = Math.min(requested, available);
+        tat += granted * interval;
+        tats.put(key, tat);
+        return List.of(granted, tat - now, available - granted);
+    }
+}
@@ -0,0 +1,79 @@
+package mingovvv.common.ratelimit.policy;
+
+import mingovvv.common.ratelimit.RateLimiter;
+import mingovvv.common.ratelimit.model.RateLimitQuota;
+import mingovvv.common.ratelimit.model.RateLimitResult;
+import mingovvv.common.ratelimit.model.RateLimitTimestamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimitPolicyEngineTest {
+
+    private final RateLimitPolicy status = new RateLimitPolicy("queue-status", Set.of("GET"),
+            List.of(RateLimitDimension.IP, RateLimitDimension.USER, RateLimitDimension.EVENT), RateLimitQuota.of(60, 60, 5));
+
+    private final List<String> consumedKeys = new ArrayList<>();
+    private RateLimitPolicyEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiter rateLimiter = mock(RateLimiter.class);
+        when(rateLimiter.tryConsume(anyString(), any(RateLimitQuota.class), any(RateLimitTimestamp.class)))
+                .thenAnswer(invocation -> {
+                    consumedKeys.add(invocation.getArgument(0));
+                    return new RateLimitResult(true, 4, 0);
+                });
+        RateLimitPolicyMatcher matcher = new RateLimitPolicyMatcher();
+        matcher.register("/api/events/{eventId}/queue/status", status);
+        engine = new RateLimitPolicyEngine(matcher, rateLimiter, null);
+    }
+
+    @Test
+    void keyCombinesIpUserAndEvent() {
+        MockHttpServletRequest request = request("/api/events/EVT001/queue/status");
+        request.setParameter("userId", "user-1");
+
+        assertThat(engine.evaluate(request).policy()).isEqualTo(status);
+        assertThat(consumedKeys).containsExactly("queue-status:10.0.0.1|u=user-1|EVT001");
+    }
+
+    @Test
+    void pathParameterDoesNotBypassPolicy() {
+        assertThat(engine.evaluate(request("/api/events/EVT001/queue/status;jsessionid=abc"))).isNotNull();
+        assertThat(consumedKeys).containsExactly("queue-status:10.0.0.1|ip=10.0.0.1|EVT001");
+    }
+
+    @Test
+    void contextPathIsStrippedBeforeMatching() {
+        MockHttpServletRequest request = request("/turnstile/api/events/EVT001/queue/status");
+        request.setContextPath("/turnstile");
+
+        assertThat(engine.evaluate(request)).isNotNull();
+    }
+
+    @Test
+    void otherMethodIsNotLimited() {
+        MockHttpServletRequest request = request("/api/events/EVT001/queue/status");
+        request.setMethod("POST");
+
+        assertThat(engine.evaluate(request)).isNull();
+        assertThat(consumedKeys).isEmpty();
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
@@ -0,0 +1,77 @@
+package mingovvv.common.ratelimit.policy;
+
+import mingovvv.common.ratelimit.model.RateLimitQuota;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitPolicyMatcherTest {
+
+    private final RateLimitPolicy status = policy("queue-status");
+    private final RateLimitPolicy events = policy("events");
+    private final RateLimitPolicy seats = policy("seats");
+
+    private RateLimitPolicyMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new RateLimitPolicyMatcher();
+        matcher.register("/api/events/{eventId}/queue/status", status);
+        matcher.register("/api/events/**", events);
+        matcher.register("/api/events/*/seats/{seatId}/lock", seats);
+    }
+
+    @Test
+    void collectsEveryMatchingPolicyWithPathVariables() {
+        RateLimitPolicyMatcher.Match match = matcher.match("/api/events/EVT001/queue/status");
+
+        assertThat(match.policies()).containsExactly(events, status);
+        assertThat(match.pathVariables()).containsEntry("eventId", "EVT001");
+    }
+
+    @Test
+    void pathParametersAreIgnoredLikeMvc() {
+        RateLimitPolicyMatcher.Match match = matcher.match("/api/events/EVT001/queue/status;jsessionid=abc");
+
+        assertThat(match.policies()).contains(status);
+    }
+
+    @Test
+    void encodedSegmentsAreDecodedLikeMvc() {
+        RateLimitPolicyMatcher.Match match = matcher.match("/api/events/EVT001/queue/%73tatus");
+
+        assertThat(match.policies()).contains(status);
+    }
+
+    @Test
+    void trailingSlashAndEmptySegmentsDoNotBypass() {
+        assertThat(matcher.match("/api/events/EVT001/queue/status/").policies()).contains(status);
+        assertThat(matcher.match("/api//events/EVT001/queue/status").policies()).contains(status);
+    }
+
+    @Test
+    void singleSegmentWildcardDoesNotCrossSegments() {
+        assertThat(matcher.match("/api/events/EVT001/seats/A-1-1/lock").pathVariables()).containsEntry("seatId", "A-1-1");
+        assertThat(matcher.match("/api/events/EVT001/x/seats/A-1-1/lock").policies()).containsExactly(events);
+    }
+
+    @Test
+    void unmatchedPathReturnsNone() {
+        assertThat(matcher.match("/api/payments").isEmpty()).isTrue();
+    }
+
+    @Test
+    void matchAllMustBeLastSegment() {
+        assertThatThrownBy(() -> matcher.register("/api/**/status", status))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static RateLimitPolicy policy(String name) {
+        return new RateLimitPolicy(name, Set.of(), List.of(RateLimitDimension.IP), RateLimitQuota.of(10, 60, 10));
+    }
+}
@@ -0,0 +1,125 @@
+package mingovvv.common.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mingovvv.common.properties.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-verified-token-cache-min-256-bits";
+    private static final String OTHER_SECRET = "other-secret-key-for-verified-token-cache-min-256-bits";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        provider = new JwtTokenProvider(
+                new JwtProperties(SECRET, 3_600_000, 604_800_000, "turnstile", "Authorization", "Bearer", 100),
+                meterRegistry);
+    }
+
+    @Test
+    void cachedTokenSkipsVerification() {
+        String token = accessToken();
+
+        JwtPrincipal first = provider.verify(token);
+        JwtPrincipal second = provider.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(count("verified")).isEqualTo(1);
+        assertThat(count("cache_hit")).isEqualTo(1);
+    }
+
+    @Test
+    void authoritiesAreReadThroughTheCache() {
+        String token = accessToken();
+        provider.verify(token);
+
+        assertThat(provider.getAuthoritiesFromToken(token)).isEqualTo("ROLE_ADMIN,ROLE_USER");
+        assertThat(provider.getUsernameFromToken(token)).isEqualTo("alice");
+        assertThat(count("verified")).isEqualTo(1);
+        assertThat(count("cache_hit")).isEqualTo(2);
+    }
+
+    @Test
+    void expiredCachedTokenIsVerifiedAgainAndRejected() throws InterruptedException {
+        // JWT 만료 시각은 초 단위이므로 1초 안에 만료되는 토큰
+        String token = sign(SECRET, Date.from(Instant.now().plusSeconds(1)));
+        JwtPrincipal principal = provider.verify(token);
+        assertThat(principal).isNotNull();
+
+        while (principal.isValidAt(Instant.now())) {
+            Thread.sleep(50);
+        }
+
+        assertThat(provider.verify(token)).isNull();
+        assertThat(count("cache_hit")).isZero();
+        assertThat(count("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void tokenWithSamePayloadButForeignSignatureIsNotServedFromCache() {
+        Date expiration = Date.from(Instant.now().plusSeconds(3600));
+        String token = sign(SECRET, expiration);
+        String forged = sign(OTHER_SECRET, expiration);
+        assertThat(payload(forged)).isEqualTo(payload(token));
+        provider.verify(token);
+
+        assertThat(provider.verify(forged)).isNull();
+        assertThat(count("cache_hit")).isZero();
+        assertThat(count("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void tokenWithoutExpirationIsNotCached() {
+        String token = sign(SECRET, null);
+
+        assertThat(provider.verify(token)).isNotNull();
+        assertThat(provider.verify(token)).isNotNull();
+
+        assertThat(count("verified")).isEqualTo(2);
+        assertThat(count("cache_hit")).isZero();
+    }
+
+    private String accessToken() {
+        UserDetails user = User.withUsername("alice")
+                .password("password")
+                .authorities("ROLE_USER", "ROLE_ADMIN")
+                .build();
+        return provider.generateAccessToken(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static String sign(String secret, Date expiration) {
+        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return Jwts.builder()
+                .subject("alice")
+                .claim("authorities", "ROLE_USER")
+                .issuedAt(new Date(1_800_000_000_000L))
+                .expiration(expiration)
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+    }
+
+    private static String payload(String token) {
+        return token.substring(0, token.lastIndexOf('.'));
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("jwt.verify", "result", result).count();
+    }
+}
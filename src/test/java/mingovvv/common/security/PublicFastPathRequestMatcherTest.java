@@ -0,0 +1,65 @@
+package mingovvv.common.security;
+
+import mingovvv.common.properties.PublicFastPathProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicFastPathRequestMatcherTest {
+
+    private PublicFastPathProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PublicFastPathProperties();
+        properties.setPaths(List.of("/api/events/{eventId}/queue/status"));
+    }
+
+    @Test
+    void matchesListedPathAndMethod() {
+        PublicFastPathRequestMatcher matcher = new PublicFastPathRequestMatcher(properties);
+
+        assertThat(matcher.matches(new MockHttpServletRequest("GET", "/api/events/EVT001/queue/status"))).isTrue();
+        assertThat(matcher.matches(new MockHttpServletRequest("POST", "/api/events/EVT001/queue/status"))).isFalse();
+        assertThat(matcher.matches(new MockHttpServletRequest("GET", "/api/events/EVT001/queue/enter"))).isFalse();
+    }
+
+    @Test
+    void matchesPathWithinApplicationLikeMvc() {
+        PublicFastPathRequestMatcher matcher = new PublicFastPathRequestMatcher(properties);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/turnstile/api/events/EVT001/queue/status");
+        request.setContextPath("/turnstile");
+
+        assertThat(matcher.matches(request)).isTrue();
+    }
+
+    @Test
+    void contextPathIsNotPartOfPattern() {
+        // 패턴은 MVC 핸들러 매핑처럼 context path를 제외한 경로 기준
+        properties.setPaths(List.of("/turnstile/api/events/{eventId}/queue/status"));
+        PublicFastPathRequestMatcher matcher = new PublicFastPathRequestMatcher(properties);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/turnstile/api/events/EVT001/queue/status");
+        request.setContextPath("/turnstile");
+
+        assertThat(matcher.matches(request)).isFalse();
+    }
+
+    @Test
+    void pathParametersAreIgnoredLikeMvc() {
+        PublicFastPathRequestMatcher matcher = new PublicFastPathRequestMatcher(properties);
+
+        assertThat(matcher.matches(new MockHttpServletRequest("GET", "/api/events/EVT001/queue/status;jsessionid=abc"))).isTrue();
+    }
+
+    @Test
+    void emptyListMatchesNothing() {
+        properties.setPaths(List.of());
+        PublicFastPathRequestMatcher matcher = new PublicFastPathRequestMatcher(properties);
+
+        assertThat(matcher.matches(new MockHttpServletRequest("GET", "/api/events/EVT001/queue/status"))).isFalse();
+    }
+}
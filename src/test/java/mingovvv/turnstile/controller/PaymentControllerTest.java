@@ -0,0 +1,64 @@
+package mingovvv.turnstile.controller;
+
+import mingovvv.turnstile.dto.request.PaymentRequest;
+import mingovvv.turnstile.dto.response.ReservationResponse;
+import mingovvv.turnstile.exception.ErrorCode;
+import mingovvv.turnstile.exception.TurnstileException;
+import mingovvv.turnstile.service.PaymentService;
+import mingovvv.turnstile.service.TokenService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentControllerTest {
+
+    private PaymentService paymentService;
+    private TokenService tokenService;
+    private PaymentController controller;
+
+    @BeforeEach
+    void setUp() {
+        paymentService = mock(PaymentService.class);
+        tokenService = mock(TokenService.class);
+        controller = new PaymentController(paymentService, tokenService);
+    }
+
+    @Test
+    void paymentRequiresOwnEntryTokenBeforeCharging() {
+        doThrow(new TurnstileException(ErrorCode.TOKEN_INVALID))
+                .when(tokenService).validateToken("EVT001", "victim", "attacker-token");
+
+        assertThatThrownBy(() -> controller.processPayment("attacker-token", request("victim")))
+                .isInstanceOf(TurnstileException.class);
+        verify(paymentService, never()).processPayment(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void userReservationsKeepListShape() {
+        List<ReservationResponse> reservations = List.of();
+        when(paymentService.getUserReservations("user-1")).thenReturn(reservations);
+
+        assertThat(controller.getUserReservations("user-1").getBody()).containsEntry("data", reservations);
+        verify(paymentService, never()).getUserReservationPage(anyString(), any());
+    }
+
+    private PaymentRequest request(String userId) {
+        PaymentRequest request = new PaymentRequest();
+        ReflectionTestUtils.setField(request, "userId", userId);
+        ReflectionTestUtils.setField(request, "eventId", "EVT001");
+        ReflectionTestUtils.setField(request, "seatId", "A-1-1");
+        return request;
+    }
+}
@@ -0,0 +1,51 @@
+package mingovvv.turnstile.controller;
+
+import mingovvv.turnstile.exception.ErrorCode;
+import mingovvv.turnstile.exception.TurnstileException;
+import mingovvv.turnstile.service.SeatService;
+import mingovvv.turnstile.service.TokenService;
+import mingovvv.turnstile.sse.SeatSseEmitterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeatControllerTest {
+
+    private SeatService seatService;
+    private TokenService tokenService;
+    private SeatController controller;
+
+    @BeforeEach
+    void setUp() {
+        seatService = mock(SeatService.class);
+        tokenService = mock(TokenService.class);
+        controller = new SeatController(seatService, tokenService, mock(SeatSseEmitterRegistry.class));
+    }
+
+    @Test
+    void releaseAllLocksRequiresOwnEntryToken() {
+        doThrow(new TurnstileException(ErrorCode.TOKEN_INVALID))
+                .when(tokenService).validateToken("EVT001", "victim", "attacker-token");
+
+        assertThatThrownBy(() -> controller.releaseAllLocks("EVT001", "victim", "attacker-token"))
+                .isInstanceOf(TurnstileException.class);
+        verify(seatService, never()).releaseAllHolds(anyString(), anyString());
+    }
+
+    @Test
+    void releaseAllLocksWithValidToken() {
+        when(seatService.releaseAllHolds("EVT001", "user-1")).thenReturn(2);
+
+        assertThat(controller.releaseAllLocks("EVT001", "user-1", "token").getStatusCode().is2xxSuccessful()).isTrue();
+        verify(tokenService).validateToken("EVT001", "user-1", "token");
+        verify(seatService).releaseAllHolds("EVT001", "user-1");
+    }
+}
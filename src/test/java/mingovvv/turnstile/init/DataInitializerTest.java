@@ -0,0 +1,40 @@
+package mingovvv.turnstile.init;
+
+import mingovvv.turnstile.config.EventOpenProperties;
+import mingovvv.turnstile.domain.Event;
+import mingovvv.turnstile.journal.RepositoryJournal;
+import mingovvv.turnstile.repository.memory.EventMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatMemoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class DataInitializerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seedEventUsesConfiguredOpenAt() {
+        Instant openAt = Instant.parse("2026-11-01T02:00:00Z");
+        EventOpenProperties properties = new EventOpenProperties();
+        properties.setSeedOpenAt(openAt);
+        EventMemoryRepository eventRepository = new EventMemoryRepository();
+
+        new DataInitializer(
+                eventRepository,
+                new SeatMemoryRepository(),
+                new SeatInventoryMemoryRepository(),
+                (ObjectProvider<RepositoryJournal>) mock(ObjectProvider.class),
+                properties
+        ).init();
+
+        Event event = eventRepository.findById("EVT002").orElseThrow();
+        assertThat(event.isScheduledToOpen()).isTrue();
+        assertThat(event.getOpenAt()).isEqualTo(openAt);
+        assertThat(eventRepository.findById("EVT001").orElseThrow().getOpenAt()).isNull();
+    }
+}
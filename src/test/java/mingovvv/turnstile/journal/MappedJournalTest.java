@@ -0,0 +1,90 @@
+package mingovvv.turnstile.journal;
+
+import mingovvv.turnstile.journal.MappedJournal.FsyncPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendedRecordsAreReplayedAfterRestartAcrossSegments() throws Exception {
+        MappedJournal journal = journal(64);
+        journal.replay(payload -> { });
+        journal.start();
+        for (int i = 0; i < 10; i++) {
+            journal.append(bytes("record-%02d".formatted(i)));
+        }
+        journal.close();
+
+        List<String> replayed = new ArrayList<>();
+        long count = journal(64).replay(payload -> replayed.add(string(payload)));
+
+        assertThat(count).isEqualTo(10);
+        assertThat(replayed).containsExactly(
+                "record-00", "record-01", "record-02", "record-03", "record-04",
+                "record-05", "record-06", "record-07", "record-08", "record-09");
+    }
+
+    @Test
+    void rollFailureStopsWriterAndFailsLaterAppends() throws Exception {
+        MappedJournal journal = journal(64);
+        journal.replay(payload -> { });
+        journal.start();
+        // 다음 세그먼트 파일을 미리 만들어 두어 세그먼트 전환(CREATE_NEW)이 실패하게 함
+        Files.createFile(directory.resolve("journal-%020d.log".formatted(1)));
+
+        // 16바이트 페이로드 레코드는 64바이트 세그먼트에 2건만 들어감
+        journal.append(bytes("0123456789abcdef"));
+        journal.append(bytes("0123456789abcdef"));
+        assertThatThrownBy(() -> journal.append(bytes("0123456789abcdef")))
+                .isInstanceOf(CompletionException.class);
+
+        assertThat(journal.isFailed()).isTrue();
+        assertThatThrownBy(() -> journal.append(bytes("after-failure")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(IOException.class);
+        journal.close();
+    }
+
+    @Test
+    void recordLargerThanSegmentIsRejectedByCaller() throws Exception {
+        MappedJournal journal = journal(64);
+        journal.replay(payload -> { });
+        journal.start();
+
+        assertThatThrownBy(() -> journal.append(new byte[64]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(journal.isFailed()).isFalse();
+        journal.close();
+    }
+
+    private MappedJournal journal(int segmentSize) {
+        return new MappedJournal(directory, segmentSize, FsyncPolicy.SYNC, 1_000, 1_000_000,
+                sink -> { }, 16, 1_000);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.remaining()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,61 @@
+package mingovvv.turnstile.journal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mingovvv.turnstile.config.JournalProperties;
+import mingovvv.turnstile.domain.Payment;
+import mingovvv.turnstile.domain.enums.PaymentStatus;
+import mingovvv.turnstile.repository.memory.PaymentMemoryRepository;
+import mingovvv.turnstile.repository.memory.ReservationMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatMemoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void pendingPaymentSurvivesRecoveryWithItsSeat() throws Exception {
+        RepositoryJournal journal = journal(new PaymentMemoryRepository());
+        journal.recover();
+        journal.paymentSaved(Payment.builder()
+                .paymentId("PAY-1")
+                .userId("user-1")
+                .eventId("EVT001")
+                .seatId("A-1-1")
+                .amount(100_000)
+                .status(PaymentStatus.PENDING)
+                .requestedAt(LocalDateTime.now())
+                .build());
+        journal.close();
+
+        PaymentMemoryRepository recovered = new PaymentMemoryRepository();
+        RepositoryJournal restarted = journal(recovered);
+        restarted.recover();
+        restarted.close();
+
+        // PENDING 결제는 FAILED로 덮지 않고 좌석 정보와 함께 남겨 기동 후 PG 조회로 확정
+        Payment payment = recovered.findById("PAY-1").orElseThrow();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        assertThat(payment.getEventId()).isEqualTo("EVT001");
+        assertThat(payment.getSeatId()).isEqualTo("A-1-1");
+    }
+
+    private RepositoryJournal journal(PaymentMemoryRepository paymentRepository) {
+        JournalProperties properties = new JournalProperties();
+        properties.setDirectory(directory.toString());
+        return new RepositoryJournal(
+                new SeatMemoryRepository(),
+                new ReservationMemoryRepository(),
+                paymentRepository,
+                properties,
+                new SimpleMeterRegistry()
+        );
+    }
+}
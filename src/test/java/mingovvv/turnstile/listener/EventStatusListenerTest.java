@@ -0,0 +1,91 @@
+package mingovvv.turnstile.listener;
+
+import mingovvv.turnstile.domain.enums.EventStatus;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.repository.redis.EventStatusRedisRepository;
+import mingovvv.turnstile.service.EventService;
+import mingovvv.turnstile.service.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventStatusListenerTest {
+
+    private EventService eventService;
+    private QueueService queueService;
+    private SeatInventoryMemoryRepository inventoryRepository;
+    private EventStatusListener listener;
+
+    @BeforeEach
+    void setUp() {
+        eventService = mock(EventService.class);
+        queueService = mock(QueueService.class);
+        inventoryRepository = mock(SeatInventoryMemoryRepository.class);
+        listener = new EventStatusListener(eventService, queueService, inventoryRepository);
+    }
+
+    @Test
+    void remoteSoldOutFlipsInventoryAndClosesQueue() {
+        when(eventService.applyRemoteStatus("EVT001", EventStatus.SOLD_OUT)).thenReturn(true);
+        when(inventoryRepository.markSoldOut("EVT001")).thenReturn(true);
+
+        listener.onMessage(message("EVT001:SOLD_OUT"), null);
+
+        verify(inventoryRepository).markSoldOut("EVT001");
+        verify(queueService).closeQueueSoldOut("EVT001");
+    }
+
+    @Test
+    void soldOutFlagIsSetEvenIfEventStatusAlreadyMatched() {
+        when(eventService.applyRemoteStatus("EVT001", EventStatus.SOLD_OUT)).thenReturn(false);
+        when(inventoryRepository.markSoldOut("EVT001")).thenReturn(true);
+
+        listener.onMessage(message("EVT001:SOLD_OUT"), null);
+
+        verify(inventoryRepository).markSoldOut("EVT001");
+        verify(queueService).closeQueueSoldOut("EVT001");
+    }
+
+    @Test
+    void ownEchoDoesNotCloseQueueAgain() {
+        when(eventService.applyRemoteStatus("EVT001", EventStatus.SOLD_OUT)).thenReturn(false);
+        when(inventoryRepository.markSoldOut("EVT001")).thenReturn(false);
+
+        listener.onMessage(message("EVT001:SOLD_OUT"), null);
+
+        verify(queueService, never()).closeQueueSoldOut(anyString());
+    }
+
+    @Test
+    void otherStatusesDoNotTouchInventory() {
+        when(eventService.applyRemoteStatus("EVT001", EventStatus.OPEN)).thenReturn(true);
+
+        listener.onMessage(message("EVT001:OPEN"), null);
+
+        verify(inventoryRepository, never()).markSoldOut(anyString());
+        verify(queueService, never()).closeQueueSoldOut(anyString());
+    }
+
+    @Test
+    void malformedMessageIsIgnored() {
+        listener.onMessage(message("EVT001:UNKNOWN"), null);
+        listener.onMessage(message("garbage"), null);
+
+        verify(inventoryRepository, never()).markSoldOut(anyString());
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                EventStatusRedisRepository.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
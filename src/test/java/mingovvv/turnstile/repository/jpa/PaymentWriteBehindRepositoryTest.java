@@ -0,0 +1,173 @@
+package mingovvv.turnstile.repository.jpa;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import mingovvv.turnstile.config.WriteBehindProperties;
+import mingovvv.turnstile.domain.Payment;
+import mingovvv.turnstile.domain.Reservation;
+import mingovvv.turnstile.domain.enums.PaymentStatus;
+import mingovvv.turnstile.domain.enums.ReservationStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * write-behind 큐의 H2 배치 저장과 실패 건 격리 검증
+ */
+@DataJpaTest(properties = {
+        "spring.autoconfigure.exclude=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "decorator.datasource.enabled=false",
+        "feature.db.enabled=true",
+        "turnstile.write-behind.flush-interval=20ms",
+        "turnstile.write-behind.max-attempts=2",
+        "turnstile.write-behind.retry-backoff=10ms"
+})
+@Import({PaymentWriteBehindRepository.class, PaymentWriteBehindRepositoryTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentWriteBehindRepositoryTest {
+
+    private static final int RECORDS = 5_000;
+    private static final Path DEAD_LETTER_FILE = createTempDirectory().resolve("dead-letter.jsonl");
+
+    @Autowired
+    private PaymentWriteBehindRepository writeBehindRepository;
+
+    @Autowired
+    private PaymentJpaRepository paymentJpaRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void deadLetterFile(DynamicPropertyRegistry registry) {
+        registry.add("turnstile.write-behind.dead-letter-file", DEAD_LETTER_FILE::toString);
+    }
+
+    @Test
+    void persistsEveryQueuedRecordInBatches() throws InterruptedException {
+        List<String> paymentIds = new ArrayList<>();
+        List<String> reservationIds = new ArrayList<>();
+        for (int i = 0; i < RECORDS; i++) {
+            Payment payment = payment("PAY-WB-" + i, "RSV-WB-" + i, "user-1");
+            writeBehindRepository.enqueue(payment, reservation("RSV-WB-" + i, payment.getPaymentId()));
+            paymentIds.add(payment.getPaymentId());
+            reservationIds.add("RSV-WB-" + i);
+        }
+
+        await(() -> paymentJpaRepository.findAllById(paymentIds).size() == RECORDS);
+
+        assertThat(reservationJpaRepository.findAllById(reservationIds)).hasSize(RECORDS);
+        assertThat(reservationJpaRepository.findById("RSV-WB-0").orElseThrow().getPaymentId()).isEqualTo("PAY-WB-0");
+    }
+
+    @Test
+    void poisonRecordIsDeadLetteredWithoutDroppingTheRestOfItsBatch() throws InterruptedException, IOException {
+        // 이미 저장된 결제 ID와 같은 건 (중복 PK)
+        paymentJpaRepository.save(PaymentEntity.from(payment("PAY-DUP", null, "original-user")));
+
+        List<String> paymentIds = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String paymentId = i == 25 ? "PAY-DUP" : "PAY-BATCH-" + i;
+            Payment payment = payment(paymentId, "RSV-BATCH-" + i, "user-1");
+            writeBehindRepository.enqueue(payment, reservation("RSV-BATCH-" + i, paymentId));
+            paymentIds.add(paymentId);
+        }
+
+        await(() -> failedRecords() >= 1 && paymentJpaRepository.findAllById(paymentIds).size() == 50);
+
+        assertThat(failedRecords()).isEqualTo(1.0);
+        // 정상 건은 모두 저장, 중복 건은 예약과 함께 저장되지 않고 기존 행도 덮어쓰지 않음
+        assertThat(reservationJpaRepository.existsById("RSV-BATCH-24")).isTrue();
+        assertThat(reservationJpaRepository.existsById("RSV-BATCH-25")).isFalse();
+        assertThat(paymentJpaRepository.findById("PAY-DUP").orElseThrow().getUserId()).isEqualTo("original-user");
+
+        List<String> deadLetters = Files.readAllLines(DEAD_LETTER_FILE);
+        assertThat(deadLetters).hasSize(1);
+        assertThat(deadLetters.getFirst())
+                .contains("\"paymentId\":\"PAY-DUP\"")
+                .contains("\"reservationId\":\"RSV-BATCH-25\"")
+                .contains("\"seatId\":\"A-1-1\"");
+    }
+
+    private double failedRecords() {
+        return meterRegistry.counter("turnstile.write_behind.records", "result", "failed").count();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("write-behind-test");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Payment payment(String paymentId, String reservationId, String userId) {
+        Payment payment = Payment.builder()
+                .paymentId(paymentId)
+                .userId(userId)
+                .amount(100_000)
+                .status(PaymentStatus.PENDING)
+                .requestedAt(LocalDateTime.now())
+                .build();
+        if (reservationId != null) {
+            payment.success(reservationId);
+        }
+        return payment;
+    }
+
+    private static Reservation reservation(String reservationId, String paymentId) {
+        return Reservation.builder()
+                .reservationId(reservationId)
+                .eventId("EVT001")
+                .seatId("A-1-1")
+                .userId("user-1")
+                .paymentId(paymentId)
+                .amount(100_000)
+                .status(ReservationStatus.CONFIRMED)
+                .confirmedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @TestConfiguration
+    @EnableConfigurationProperties(WriteBehindProperties.class)
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
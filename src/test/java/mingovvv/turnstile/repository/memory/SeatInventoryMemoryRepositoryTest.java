@@ -0,0 +1,125 @@
+package mingovvv.turnstile.repository.memory;
+
+import mingovvv.turnstile.domain.Seat;
+import mingovvv.turnstile.domain.enums.SeatGrade;
+import mingovvv.turnstile.domain.enums.SeatStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatInventoryMemoryRepositoryTest {
+
+    private static final String EVENT_ID = "EVT001";
+
+    private SeatInventoryMemoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SeatInventoryMemoryRepository();
+    }
+
+    @Test
+    void lastReservationFlipsSoldOutExactlyOnce() {
+        List<Seat> seats = seats(3);
+        repository.initialize(EVENT_ID, seats);
+
+        assertThat(repository.onReserved(seats.get(0), false)).isFalse();
+        assertThat(repository.onReserved(seats.get(1), false)).isFalse();
+        assertThat(repository.isSoldOut(EVENT_ID)).isFalse();
+
+        assertThat(repository.onReserved(seats.get(2), false)).isTrue();
+        assertThat(repository.isSoldOut(EVENT_ID)).isTrue();
+        assertThat(repository.getAvailableCount(EVENT_ID)).isZero();
+    }
+
+    @Test
+    void lockedSeatsKeepEventOpen() {
+        List<Seat> seats = seats(2);
+        repository.initialize(EVENT_ID, seats);
+
+        repository.onLocked(seats.get(0));
+        repository.onReserved(seats.get(1), false);
+
+        assertThat(repository.isSoldOut(EVENT_ID)).isFalse();
+        assertThat(repository.findTotalByEventId(EVENT_ID)).get()
+                .satisfies(total -> {
+                    assertThat(total.available()).isZero();
+                    assertThat(total.locked()).isEqualTo(1);
+                    assertThat(total.reserved()).isEqualTo(1);
+                });
+
+        assertThat(repository.onReserved(seats.get(0), true)).isTrue();
+    }
+
+    @Test
+    void concurrentReservationsReportSoldOutOnce() throws Exception {
+        int seatCount = 200;
+        List<Seat> seats = seats(seatCount);
+        repository.initialize(EVENT_ID, seats);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Seat seat : seats) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return repository.onReserved(seat, false);
+                }));
+            }
+            start.countDown();
+
+            int flips = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    flips++;
+                }
+            }
+            assertThat(flips).isEqualTo(1);
+        }
+        assertThat(repository.findTotalByEventId(EVENT_ID)).get()
+                .extracting(SeatInventoryMemoryRepository.SeatInventory::reserved)
+                .isEqualTo(seatCount);
+    }
+
+    @Test
+    void remoteSoldOutFlipsLocalFlagWithoutCounters() {
+        repository.initialize(EVENT_ID, seats(5));
+
+        assertThat(repository.markSoldOut(EVENT_ID)).isTrue();
+        assertThat(repository.markSoldOut(EVENT_ID)).isFalse();
+        assertThat(repository.isSoldOut(EVENT_ID)).isTrue();
+        assertThat(repository.getAvailableCount(EVENT_ID)).isZero();
+    }
+
+    @Test
+    void unknownEventIsNeitherSoldOutNorLimited() {
+        assertThat(repository.isSoldOut("UNKNOWN")).isFalse();
+        assertThat(repository.markSoldOut("UNKNOWN")).isFalse();
+        assertThat(repository.getAvailableCount("UNKNOWN")).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    private List<Seat> seats(int count) {
+        List<Seat> seats = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            seats.add(Seat.builder()
+                    .seatId("A-1-" + i)
+                    .eventId(EVENT_ID)
+                    .section("A")
+                    .rowNum(1)
+                    .seatNum(i)
+                    .grade(SeatGrade.VIP)
+                    .price(SeatGrade.VIP.getDefaultPrice())
+                    .status(SeatStatus.AVAILABLE)
+                    .build());
+        }
+        return seats;
+    }
+}
@@ -0,0 +1,68 @@
+package mingovvv.turnstile.repository.memory;
+
+import mingovvv.turnstile.domain.Seat;
+import mingovvv.turnstile.domain.enums.SeatGrade;
+import mingovvv.turnstile.domain.enums.SeatStatus;
+import mingovvv.turnstile.repository.memory.SeatLockMemoryRepository.LockEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatLockMemoryRepositoryTest {
+
+    private SeatLockMemoryRepository repository;
+    private Seat seat;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SeatLockMemoryRepository();
+        seat = Seat.builder()
+                .seatId("A-1-1")
+                .eventId("EVT001")
+                .section("A")
+                .rowNum(1)
+                .seatNum(1)
+                .grade(SeatGrade.VIP)
+                .price(SeatGrade.VIP.getDefaultPrice())
+                .status(SeatStatus.AVAILABLE)
+                .build();
+    }
+
+    @Test
+    void keyspaceSetEventKeepsKnownOwner() {
+        assertThat(repository.lock(seat, "user-1", 1_000)).isTrue();
+
+        // 자신이 건 락의 키스페이스 set 알림 (선점자 미상)
+        assertThat(repository.lock(seat, null, 2_000)).isFalse();
+
+        assertThat(repository.findById("EVT001", "A-1-1")).get()
+                .satisfies(entry -> {
+                    assertThat(entry.userId()).isEqualTo("user-1");
+                    assertThat(entry.expiresAtMs()).isEqualTo(2_000);
+                });
+    }
+
+    @Test
+    void remoteLockIsLearnedWhenOwnerBecomesKnown() {
+        assertThat(repository.lock(seat, null, 1_000)).isTrue();
+        assertThat(repository.lock(seat, "user-2", 1_500)).isFalse();
+
+        assertThat(repository.findById("EVT001", "A-1-1")).get()
+                .extracting(LockEntry::userId)
+                .isEqualTo("user-2");
+    }
+
+    @Test
+    void releaseExpiredRemovesOnlyPastEntries() {
+        repository.lock(seat, "user-1", 1_000);
+
+        assertThat(repository.releaseExpired(999)).isEmpty();
+        List<LockEntry> released = repository.releaseExpired(1_000);
+
+        assertThat(released).extracting(LockEntry::userId).containsExactly("user-1");
+        assertThat(repository.isLocked("EVT001", "A-1-1")).isFalse();
+    }
+}
@@ -0,0 +1,87 @@
+package mingovvv.turnstile.repository.redis;
+
+import mingovvv.turnstile.repository.redis.PreQueueRedisRepository.EnterResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PreQueueRedisRepositoryTest {
+
+    private StringRedisTemplate redisTemplate;
+    private PreQueueRedisRepository repository;
+
+    // 스크립트 호출마다 전달된 KEYS / ARGV
+    private final List<List<String>> invokedKeys = new ArrayList<>();
+    private final List<Object[]> invokedArgs = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        repository = new PreQueueRedisRepository(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enterPassesPreQueueAndOpenedKeysWithLotteryScore() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    invokedKeys.add(List.copyOf((List<String>) invocation.getArgument(1)));
+                    invokedArgs.add(new Object[]{invocation.getArgument(2), invocation.getArgument(3), invocation.getArgument(4)});
+                    return "ADDED";
+                });
+
+        assertThat(repository.enter("EVT002", "user-1", 100)).isEqualTo(EnterResult.ADDED);
+
+        assertThat(invokedKeys.get(0)).containsExactly("queue:pre:EVT002", "queue:pre-opened:EVT002");
+        Object[] args = invokedArgs.get(0);
+        assertThat(args[0]).isEqualTo("user-1");
+        assertThat(Long.parseLong((String) args[1])).isBetween(0L, (1L << 52) - 1);
+        assertThat(args[2]).isEqualTo("100");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enterReportsOpenedOnceFlushHasStarted() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn("OPENED");
+
+        assertThat(repository.enter("EVT002", "user-1", 100)).isEqualTo(EnterResult.OPENED);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushRepeatsUntilPreQueueIsEmpty() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    invokedKeys.add(List.copyOf((List<String>) invocation.getArgument(1)));
+                    return invokedKeys.size() == 1 ? List.of(2L, 1L) : List.of(1L, 0L);
+                });
+
+        assertThat(repository.flushToQueue("EVT002", 2)).isEqualTo(3);
+
+        assertThat(invokedKeys).hasSize(2);
+        assertThat(invokedKeys.get(0)).containsExactly("queue:pre:EVT002", "queue:EVT002", "queue:pre-opened:EVT002");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushOfEmptyPreQueueRunsScriptOnce() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    invokedKeys.add(List.copyOf((List<String>) invocation.getArgument(1)));
+                    return List.of(0L, 0L);
+                });
+
+        assertThat(repository.flushToQueue("EVT002", 10_000)).isZero();
+        assertThat(invokedKeys).hasSize(1);
+    }
+}
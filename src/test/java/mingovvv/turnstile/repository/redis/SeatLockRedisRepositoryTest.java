@@ -0,0 +1,120 @@
+package mingovvv.turnstile.repository.redis;
+
+import mingovvv.turnstile.config.SeatLockProperties;
+import mingovvv.turnstile.repository.redis.SeatLockRedisRepository.CheckoutStatus;
+import mingovvv.turnstile.repository.redis.SeatLockRedisRepository.LockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatLockRedisRepositoryTest {
+
+    private StringRedisTemplate redisTemplate;
+    private SetOperations<String, String> setOperations;
+    private SeatLockRedisRepository repository;
+
+    // 스크립트 호출마다 전달된 KEYS
+    private final List<List<String>> invokedKeys = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        setOperations = mock(SetOperations.class);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        repository = new SeatLockRedisRepository(redisTemplate, new SeatLockProperties());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryLockPassesEveryHeldLockKeyThroughKeys() {
+        when(setOperations.members("seat:holds:EVT001:user-1")).thenReturn(Set.of("A-1-2", "A-1-3"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    invokedKeys.add(List.copyOf((List<String>) invocation.getArgument(1)));
+                    return "SUCCESS";
+                });
+
+        assertThat(repository.tryLock("EVT001", "A-1-1", "user-1")).isEqualTo(LockResult.SUCCESS);
+
+        List<String> keys = invokedKeys.get(0);
+        assertThat(keys.subList(0, 3))
+                .containsExactly("seat:lock:EVT001:A-1-1", "seat:holds:EVT001:user-1", "seat:reserved:EVT001");
+        assertThat(keys.subList(3, keys.size()))
+                .containsExactlyInAnyOrder("seat:lock:EVT001:A-1-2", "seat:lock:EVT001:A-1-3");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryLockRereadsHoldIndexWhenStale() {
+        when(setOperations.members("seat:holds:EVT001:user-1"))
+                .thenReturn(Set.of())
+                .thenReturn(Set.of("A-1-2"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    invokedKeys.add(List.copyOf((List<String>) invocation.getArgument(1)));
+                    return invokedKeys.size() == 1 ? "STALE" : "LIMIT_EXCEEDED";
+                });
+
+        assertThat(repository.tryLock("EVT001", "A-1-1", "user-1")).isEqualTo(LockResult.LIMIT_EXCEEDED);
+        assertThat(invokedKeys).hasSize(2);
+        assertThat(invokedKeys.get(1)).contains("seat:lock:EVT001:A-1-2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void tryLockGivesUpWhenIndexKeepsChanging() {
+        when(setOperations.members("seat:holds:EVT001:user-1")).thenReturn(Set.of());
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn("STALE");
+
+        assertThatThrownBy(() -> repository.tryLock("EVT001", "A-1-1", "user-1"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unlockAllReturnsOnlyReleasedSeats() {
+        when(setOperations.members("seat:holds:EVT001:user-1")).thenReturn(Set.of("A-1-2", "A-1-3"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    invokedKeys.add(List.copyOf((List<String>) invocation.getArgument(1)));
+                    return List.of("OK", "A-1-2");
+                });
+
+        assertThat(repository.unlockAll("EVT001", "user-1")).containsExactly("A-1-2");
+        assertThat(invokedKeys.get(0)).containsExactlyInAnyOrder(
+                "seat:holds:EVT001:user-1", "seat:lock:EVT001:A-1-2", "seat:lock:EVT001:A-1-3");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void checkoutPassesTokenAndHeldLockKeys() {
+        when(setOperations.members("seat:holds:EVT001:user-1")).thenReturn(Set.of("A-1-1", "A-1-2"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenAnswer(invocation -> {
+                    invokedKeys.add(List.copyOf((List<String>) invocation.getArgument(1)));
+                    return List.of("SUCCESS", "A-1-2");
+                });
+
+        SeatLockRedisRepository.CheckoutResult result = repository.checkout("EVT001", "A-1-1", "user-1");
+
+        assertThat(result.status()).isEqualTo(CheckoutStatus.SUCCESS);
+        assertThat(result.releasedSeatIds()).containsExactly("A-1-2");
+        assertThat(invokedKeys.get(0)).contains(
+                TokenRedisRepository.tokenKey("EVT001", "user-1"),
+                "seat:lock:EVT001:A-1-2");
+    }
+}
@@ -0,0 +1,87 @@
+package mingovvv.turnstile.scheduler;
+
+import mingovvv.turnstile.config.EventOpenProperties;
+import mingovvv.turnstile.domain.Event;
+import mingovvv.turnstile.domain.enums.EventStatus;
+import mingovvv.turnstile.repository.memory.EventMemoryRepository;
+import mingovvv.turnstile.repository.redis.EventStatusRedisRepository;
+import mingovvv.turnstile.service.EventService;
+import mingovvv.turnstile.service.EventWarmUpService;
+import mingovvv.turnstile.service.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class EventOpenSchedulerTest {
+
+    private EventMemoryRepository eventRepository;
+    private QueueService queueService;
+    private TaskScheduler taskScheduler;
+    private EventOpenScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = new EventMemoryRepository();
+        queueService = mock(QueueService.class);
+        taskScheduler = mock(TaskScheduler.class);
+        EventOpenProperties properties = new EventOpenProperties();
+        properties.setPreWarmLead(Duration.ofSeconds(60));
+        scheduler = new EventOpenScheduler(
+                eventRepository,
+                new EventService(eventRepository, mock(EventStatusRedisRepository.class)),
+                mock(EventWarmUpService.class),
+                queueService,
+                taskScheduler,
+                properties
+        );
+    }
+
+    @Test
+    void openingIsScheduledAtTheExactOpenInstant() {
+        Instant openAt = Instant.now().plusSeconds(30);
+        eventRepository.save(upcoming(openAt));
+
+        scheduler.scheduleOpenings();
+
+        ArgumentCaptor<Runnable> open = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(open.capture(), eq(openAt));
+
+        open.getValue().run();
+        assertThat(eventRepository.findById("EVT002").orElseThrow().getStatus()).isEqualTo(EventStatus.OPEN);
+        verify(queueService).flushPreQueue("EVT002");
+    }
+
+    @Test
+    void eventOutsidePreWarmLeadIsNotScheduledYet() {
+        eventRepository.save(upcoming(Instant.now().plus(Duration.ofMinutes(10))));
+
+        scheduler.scheduleOpenings();
+
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    private Event upcoming(Instant openAt) {
+        return Event.builder()
+                .eventId("EVT002")
+                .name("2026 봄 뮤직 페스티벌")
+                .venue("잠실 종합운동장")
+                .eventDate(LocalDateTime.of(2026, 4, 15, 18, 0))
+                .maxConcurrentUsers(200)
+                .status(EventStatus.UPCOMING)
+                .openAt(openAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
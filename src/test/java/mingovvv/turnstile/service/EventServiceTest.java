@@ -0,0 +1,69 @@
+package mingovvv.turnstile.service;
+
+import mingovvv.turnstile.domain.Event;
+import mingovvv.turnstile.domain.enums.EventStatus;
+import mingovvv.turnstile.exception.ErrorCode;
+import mingovvv.turnstile.exception.TurnstileException;
+import mingovvv.turnstile.repository.memory.EventMemoryRepository;
+import mingovvv.turnstile.repository.redis.EventStatusRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class EventServiceTest {
+
+    private EventMemoryRepository eventRepository;
+    private EventStatusRedisRepository eventStatusRepository;
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = new EventMemoryRepository();
+        eventStatusRepository = mock(EventStatusRedisRepository.class);
+        eventService = new EventService(eventRepository, eventStatusRepository);
+        eventRepository.save(event("EVT001", EventStatus.OPEN));
+    }
+
+    @Test
+    void statusChangeIsPublishedToOtherNodes() {
+        eventService.markSoldOut("EVT001");
+
+        assertThat(eventRepository.findById("EVT001").orElseThrow().getStatus()).isEqualTo(EventStatus.SOLD_OUT);
+        verify(eventStatusRepository).publish("EVT001", EventStatus.SOLD_OUT);
+        assertThatThrownBy(() -> eventService.validateEventOpen("EVT001"))
+                .isInstanceOfSatisfying(TurnstileException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EVENT_SOLD_OUT));
+    }
+
+    @Test
+    void remoteStatusIsAppliedWithoutRepublishing() {
+        assertThat(eventService.applyRemoteStatus("EVT001", EventStatus.CLOSED)).isTrue();
+        assertThat(eventService.applyRemoteStatus("EVT001", EventStatus.CLOSED)).isFalse();
+
+        verify(eventStatusRepository, never()).publish(anyString(), any());
+        assertThatThrownBy(() -> eventService.validateEventOpen("EVT001"))
+                .isInstanceOfSatisfying(TurnstileException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.EVENT_NOT_OPEN));
+    }
+
+    private Event event(String eventId, EventStatus status) {
+        return Event.builder()
+                .eventId(eventId)
+                .name("2026 가을 콘서트")
+                .venue("고척 스카이돔")
+                .eventDate(LocalDateTime.of(2026, 12, 24, 19, 0))
+                .maxConcurrentUsers(100)
+                .status(status)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
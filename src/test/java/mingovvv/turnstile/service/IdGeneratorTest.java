@@ -0,0 +1,73 @@
+package mingovvv.turnstile.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdGeneratorTest {
+
+    @Test
+    void idsAreUniqueAndOrderedAcrossThreads() throws InterruptedException {
+        IdGenerator idGenerator = new IdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 20_000;
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            Thread.ofPlatform().start(() -> {
+                long previous = -1;
+                for (int i = 0; i < perThread; i++) {
+                    long id = idGenerator.nextId();
+                    // 같은 스레드에서 발급한 ID는 단조 증가
+                    assertThat(id).isGreaterThan(previous);
+                    previous = id;
+                    ids.add(id);
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    void prefixedIdsSortInIssueOrderAndCarryNodeId() {
+        IdGenerator idGenerator = new IdGenerator(1023);
+        List<String> issued = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            issued.add(idGenerator.nextId("PAY-"));
+        }
+
+        assertThat(issued).isSorted();
+        assertThat(issued.getFirst()).startsWith("PAY-").hasSize("PAY-".length() + 13);
+        assertThat((idGenerator.nextId() >>> 12) & 1023).isEqualTo(1023);
+    }
+
+    @Test
+    void nodeIdOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> new IdGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void issuingStopsWhenLeaseIsLost() {
+        NodeIdLease lease = mock(NodeIdLease.class);
+        when(lease.getNodeId()).thenReturn(3L);
+        when(lease.isValid()).thenReturn(true, false);
+        IdGenerator idGenerator = new IdGenerator(lease);
+
+        idGenerator.nextId();
+        assertThatThrownBy(idGenerator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+}
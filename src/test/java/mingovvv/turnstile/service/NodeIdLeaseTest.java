@@ -0,0 +1,120 @@
+package mingovvv.turnstile.service;
+
+import mingovvv.turnstile.repository.redis.NodeIdRedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class NodeIdLeaseTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private NodeIdRedisRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(NodeIdRedisRepository.class);
+    }
+
+    @Test
+    void explicitNodeIdDoesNotTouchRedis() {
+        NodeIdLease lease = new NodeIdLease(repository, 12, TTL);
+        lease.renew();
+
+        assertThat(lease.getNodeId()).isEqualTo(12);
+        assertThat(lease.isValid()).isTrue();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void unsetNodeIdIsLeasedFromRedis() {
+        when(repository.acquire(eq(1024), anyString(), eq(TTL), anyInt())).thenReturn(42L);
+
+        NodeIdLease lease = new NodeIdLease(repository, -1, TTL);
+
+        assertThat(lease.getNodeId()).isEqualTo(42);
+    }
+
+    @Test
+    void startupFailsWhenNoNodeIdCanBeLeased() {
+        when(repository.acquire(eq(1024), anyString(), eq(TTL), anyInt())).thenReturn(-1L);
+        assertThatThrownBy(() -> new NodeIdLease(repository, -1, TTL)).isInstanceOf(IllegalStateException.class);
+
+        when(repository.acquire(eq(1024), anyString(), eq(TTL), anyInt()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        assertThatThrownBy(() -> new NodeIdLease(repository, -1, TTL)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void leaseTakenByAnotherNodeInvalidatesIt() {
+        when(repository.acquire(eq(1024), anyString(), eq(TTL), anyInt())).thenReturn(5L);
+        when(repository.renew(eq(5L), anyString(), eq(TTL))).thenReturn(false);
+
+        NodeIdLease lease = new NodeIdLease(repository, -1, TTL);
+        lease.renew();
+
+        assertThat(lease.isValid()).isFalse();
+    }
+
+    @Test
+    void renewalErrorPastTtlInvalidatesLease() {
+        when(repository.acquire(eq(1024), anyString(), eq(Duration.ZERO), anyInt())).thenReturn(5L);
+        when(repository.renew(eq(5L), anyString(), eq(Duration.ZERO)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // TTL 0: 연장 실패 즉시 만료로 간주
+        NodeIdLease lease = new NodeIdLease(repository, -1, Duration.ZERO);
+        lease.renew();
+
+        assertThat(lease.isValid()).isFalse();
+    }
+
+    @Test
+    void leaseLapsesWithoutWaitingForTheNextRenewal() throws InterruptedException {
+        Duration ttl = Duration.ofMillis(100);
+        when(repository.acquire(eq(1024), anyString(), eq(ttl), anyInt())).thenReturn(5L);
+
+        NodeIdLease lease = new NodeIdLease(repository, -1, ttl);
+        assertThat(lease.isValid()).isTrue();
+
+        // 연장 스케줄이 돌지 않은 채(Redis 무응답 등) TTL의 90%가 지남
+        Thread.sleep(120);
+
+        assertThat(lease.isValid()).isFalse();
+    }
+
+    @Test
+    void successfulRenewalExtendsValidity() throws InterruptedException {
+        Duration ttl = Duration.ofMillis(100);
+        when(repository.acquire(eq(1024), anyString(), eq(ttl), anyInt())).thenReturn(5L);
+        when(repository.renew(eq(5L), anyString(), eq(ttl))).thenReturn(true);
+
+        NodeIdLease lease = new NodeIdLease(repository, -1, ttl);
+        Thread.sleep(120);
+        lease.renew();
+
+        assertThat(lease.isValid()).isTrue();
+    }
+
+    @Test
+    void releaseReturnsLeasedNodeId() {
+        when(repository.acquire(eq(1024), anyString(), eq(TTL), anyInt())).thenReturn(5L);
+
+        NodeIdLease lease = new NodeIdLease(repository, -1, TTL);
+        lease.release();
+
+        verify(repository).release(eq(5L), anyString());
+    }
+}
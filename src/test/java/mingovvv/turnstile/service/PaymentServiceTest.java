@@ -0,0 +1,234 @@
+package mingovvv.turnstile.service;
+
+import mingovvv.common.http.dto.PaymentGatewayRes;
+import mingovvv.turnstile.domain.Payment;
+import mingovvv.turnstile.domain.Seat;
+import mingovvv.turnstile.domain.enums.PaymentStatus;
+import mingovvv.turnstile.domain.enums.SeatGrade;
+import mingovvv.turnstile.domain.enums.SeatStatus;
+import mingovvv.turnstile.exception.ErrorCode;
+import mingovvv.turnstile.exception.TurnstileException;
+import mingovvv.turnstile.journal.RepositoryJournal;
+import mingovvv.turnstile.repository.jpa.PaymentWriteBehindRepository;
+import mingovvv.turnstile.repository.memory.PaymentMemoryRepository;
+import mingovvv.turnstile.repository.memory.ReservationMemoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PaymentServiceTest {
+
+    private static final String EVENT_ID = "EVT001";
+    private static final String SEAT_ID = "A-1-1";
+    private static final String USER_ID = "user-1";
+
+    private SeatService seatService;
+    private PaymentGatewayService paymentGatewayService;
+    private PaymentMemoryRepository paymentRepository;
+    private ReservationMemoryRepository reservationRepository;
+    private PaymentService paymentService;
+
+    // approve에 전달된 완료 콜백
+    private final AtomicReference<BiConsumer<PaymentGatewayRes, Throwable>> callback = new AtomicReference<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        seatService = mock(SeatService.class);
+        paymentGatewayService = mock(PaymentGatewayService.class);
+        paymentRepository = new PaymentMemoryRepository();
+        reservationRepository = new ReservationMemoryRepository();
+
+        IdGenerator idGenerator = mock(IdGenerator.class);
+        when(idGenerator.nextId("PAY-")).thenReturn("PAY-1");
+        when(idGenerator.nextId("RSV-")).thenReturn("RSV-1");
+
+        when(seatService.findSeatOrThrow(EVENT_ID, SEAT_ID)).thenReturn(Seat.builder()
+                .seatId(SEAT_ID)
+                .eventId(EVENT_ID)
+                .section("A")
+                .rowNum(1)
+                .seatNum(1)
+                .grade(SeatGrade.VIP)
+                .price(SeatGrade.VIP.getDefaultPrice())
+                .status(SeatStatus.AVAILABLE)
+                .build());
+
+        doAnswer(invocation -> {
+            callback.set(invocation.getArgument(1));
+            return null;
+        }).when(paymentGatewayService).approve(any(), any());
+
+        // 지연 실행 작업은 즉시 실행
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(paymentGatewayService).schedule(any(), any());
+
+        paymentService = new PaymentService(
+                seatService,
+                paymentGatewayService,
+                idGenerator,
+                paymentRepository,
+                reservationRepository,
+                (ObjectProvider<PaymentWriteBehindRepository>) mock(ObjectProvider.class),
+                (ObjectProvider<RepositoryJournal>) mock(ObjectProvider.class)
+        );
+    }
+
+    @Test
+    void paymentForSeatHeldByAnotherUserNeverReachesGateway() {
+        doThrow(new TurnstileException(ErrorCode.SEAT_NOT_LOCKED_BY_USER, SEAT_ID))
+                .when(seatService).beginPayment(EVENT_ID, SEAT_ID, "attacker", "PAY-1");
+
+        assertThatThrownBy(() -> paymentService.processPayment(EVENT_ID, SEAT_ID, "attacker"))
+                .isInstanceOf(TurnstileException.class);
+
+        verify(paymentGatewayService, never()).approve(any(), any());
+        verify(seatService, never()).releaseAllHolds(any(), any());
+        assertThat(paymentRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void secondPaymentForSameSeatIsRejectedWhileFirstIsPending() {
+        doThrow(new TurnstileException(ErrorCode.PAYMENT_IN_PROGRESS, SEAT_ID))
+                .when(seatService).beginPayment(EVENT_ID, SEAT_ID, USER_ID, "PAY-1");
+
+        assertThatThrownBy(() -> paymentService.processPayment(EVENT_ID, SEAT_ID, USER_ID))
+                .isInstanceOfSatisfying(TurnstileException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PAYMENT_IN_PROGRESS));
+        verify(paymentGatewayService, never()).approve(any(), any());
+    }
+
+    @Test
+    void approvedPaymentReservesSeat() {
+        paymentService.processPayment(EVENT_ID, SEAT_ID, USER_ID);
+        callback.get().accept(approved(), null);
+
+        assertThat(status()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(reservationRepository.existsBySeat(EVENT_ID, SEAT_ID)).isTrue();
+        verify(seatService).endPayment(EVENT_ID, SEAT_ID, "PAY-1");
+    }
+
+    @Test
+    void declinedPaymentFailsAndReleasesOwnHolds() {
+        paymentService.processPayment(EVENT_ID, SEAT_ID, USER_ID);
+        callback.get().accept(new PaymentGatewayRes("PAY-1", false, null, PaymentGatewayRes.DECLINED), null);
+
+        assertThat(status()).isEqualTo(PaymentStatus.FAILED);
+        verify(seatService).releaseAllHolds(EVENT_ID, USER_ID);
+        verify(seatService).endPayment(EVENT_ID, SEAT_ID, "PAY-1");
+    }
+
+    @Test
+    void timeoutReconcilesApprovedPaymentInsteadOfFailing() {
+        when(paymentGatewayService.inquire("PAY-1")).thenReturn(approved());
+
+        paymentService.processPayment(EVENT_ID, SEAT_ID, USER_ID);
+        callback.get().accept(null, new TimeoutException());
+
+        assertThat(status()).isEqualTo(PaymentStatus.SUCCESS);
+        verify(seatService, never()).releaseAllHolds(any(), any());
+        verify(paymentGatewayService, never()).cancel(anyString(), anyString());
+    }
+
+    @Test
+    void timeoutWithoutPgRecordVoidsBeforeFailing() {
+        when(paymentGatewayService.inquire("PAY-1"))
+                .thenReturn(new PaymentGatewayRes("PAY-1", false, null, PaymentGatewayRes.NOT_FOUND));
+        when(paymentGatewayService.cancel(eq("PAY-1"), anyString()))
+                .thenReturn(new PaymentGatewayRes("PAY-1", false, null, PaymentGatewayRes.VOIDED));
+
+        paymentService.processPayment(EVENT_ID, SEAT_ID, USER_ID);
+        callback.get().accept(null, new TimeoutException());
+
+        assertThat(status()).isEqualTo(PaymentStatus.FAILED);
+        verify(paymentGatewayService).cancel(eq("PAY-1"), anyString());
+        verify(seatService).releaseAllHolds(EVENT_ID, USER_ID);
+    }
+
+    @Test
+    void timeoutStaysPendingWhenPgCannotBeReached() {
+        when(paymentGatewayService.inquire("PAY-1")).thenThrow(new IllegalStateException("PG down"));
+
+        paymentService.processPayment(EVENT_ID, SEAT_ID, USER_ID);
+        callback.get().accept(null, new TimeoutException());
+
+        assertThat(status()).isEqualTo(PaymentStatus.PENDING);
+        verify(seatService, never()).releaseAllHolds(any(), any());
+        verify(seatService, never()).endPayment(any(), any(), any());
+    }
+
+    @Test
+    void approvedButCheckoutFailedIsCanceledAtPg() {
+        doThrow(new TurnstileException(ErrorCode.SEAT_LOCK_EXPIRED, SEAT_ID))
+                .when(seatService).checkout(EVENT_ID, SEAT_ID, USER_ID);
+        when(paymentGatewayService.cancel(eq("PAY-1"), anyString()))
+                .thenReturn(new PaymentGatewayRes("PAY-1", false, "TX-1", PaymentGatewayRes.CANCELED));
+
+        paymentService.processPayment(EVENT_ID, SEAT_ID, USER_ID);
+        callback.get().accept(approved(), null);
+
+        assertThat(status()).isEqualTo(PaymentStatus.FAILED);
+        verify(paymentGatewayService).cancel(eq("PAY-1"), anyString());
+        assertThat(reservationRepository.existsBySeat(EVENT_ID, SEAT_ID)).isFalse();
+    }
+
+    @Test
+    void bulkheadRejectionLeavesNoPaymentBehind() {
+        doThrow(new TurnstileException(ErrorCode.PAYMENT_GATEWAY_BUSY, "PAY-1"))
+                .when(paymentGatewayService).approve(any(), any());
+
+        assertThatThrownBy(() -> paymentService.processPayment(EVENT_ID, SEAT_ID, USER_ID))
+                .isInstanceOf(TurnstileException.class);
+
+        assertThat(paymentRepository.findById("PAY-1")).isEmpty();
+        verify(seatService).endPayment(EVENT_ID, SEAT_ID, "PAY-1");
+    }
+
+    @Test
+    void pendingPaymentRecoveredAfterRestartIsReconciledAndReleasesHolds() {
+        paymentRepository.save(Payment.builder()
+                .paymentId("PAY-1")
+                .userId(USER_ID)
+                .eventId(EVENT_ID)
+                .seatId(SEAT_ID)
+                .amount(100_000)
+                .status(PaymentStatus.PENDING)
+                .build());
+        when(paymentGatewayService.inquire("PAY-1"))
+                .thenReturn(new PaymentGatewayRes("PAY-1", false, null, PaymentGatewayRes.NOT_FOUND));
+        when(paymentGatewayService.cancel(eq("PAY-1"), anyString()))
+                .thenReturn(new PaymentGatewayRes("PAY-1", false, null, PaymentGatewayRes.VOIDED));
+
+        paymentService.reconcilePendingPayments();
+
+        assertThat(status()).isEqualTo(PaymentStatus.FAILED);
+        verify(seatService).endPayment(EVENT_ID, SEAT_ID, "PAY-1");
+        verify(seatService).releaseAllHolds(EVENT_ID, USER_ID);
+    }
+
+    private PaymentGatewayRes approved() {
+        return new PaymentGatewayRes("PAY-1", true, "TX-1", PaymentGatewayRes.APPROVED);
+    }
+
+    private PaymentStatus status() {
+        return paymentRepository.findById("PAY-1").orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,179 @@
+package mingovvv.turnstile.service;
+
+import mingovvv.turnstile.config.EventOpenProperties;
+import mingovvv.turnstile.domain.Event;
+import mingovvv.turnstile.domain.enums.EventStatus;
+import mingovvv.turnstile.dto.response.QueueStatusResponse;
+import mingovvv.turnstile.exception.ErrorCode;
+import mingovvv.turnstile.exception.TurnstileException;
+import mingovvv.turnstile.repository.memory.EventMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.repository.redis.EventStatusRedisRepository;
+import mingovvv.turnstile.repository.redis.PreQueueRedisRepository;
+import mingovvv.turnstile.repository.redis.PreQueueRedisRepository.EnterResult;
+import mingovvv.turnstile.repository.redis.QueueRedisRepository;
+import mingovvv.turnstile.repository.redis.TokenRedisRepository;
+import mingovvv.turnstile.sse.QueueSseEmitterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QueueServiceTest {
+
+    private static final String EVENT_ID = "EVT002";
+    private static final String USER_ID = "user-1";
+
+    private EventMemoryRepository eventRepository;
+    private QueueRedisRepository queueRepository;
+    private PreQueueRedisRepository preQueueRepository;
+    private EventOpenProperties properties;
+    private QueueService queueService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = new EventMemoryRepository();
+        queueRepository = mock(QueueRedisRepository.class);
+        preQueueRepository = mock(PreQueueRedisRepository.class);
+        properties = new EventOpenProperties();
+        properties.setPreQueueCapacity(100);
+        queueService = new QueueService(
+                new EventService(eventRepository, mock(EventStatusRedisRepository.class)),
+                queueRepository,
+                mock(TokenRedisRepository.class),
+                mock(QueueSseEmitterRegistry.class),
+                new SeatInventoryMemoryRepository(),
+                preQueueRepository,
+                properties);
+    }
+
+    @Test
+    void entryBeforeOpenIsPreQueued() {
+        saveUpcomingEvent(Instant.now().plus(Duration.ofMinutes(1)));
+        when(preQueueRepository.enter(EVENT_ID, USER_ID, 100)).thenReturn(EnterResult.ADDED);
+        when(preQueueRepository.size(EVENT_ID)).thenReturn(42L);
+
+        QueueStatusResponse response = queueService.enterQueue(EVENT_ID, USER_ID);
+
+        assertThat(response.isPreQueued()).isTrue();
+        assertThat(response.getTotalWaiting()).isEqualTo(42);
+        verify(queueRepository, never()).enter(anyString(), anyString());
+    }
+
+    @Test
+    void fullPreQueueIsRejected() {
+        saveUpcomingEvent(Instant.now().plus(Duration.ofMinutes(1)));
+        when(preQueueRepository.enter(EVENT_ID, USER_ID, 100)).thenReturn(EnterResult.FULL);
+
+        assertThatThrownBy(() -> queueService.enterQueue(EVENT_ID, USER_ID))
+                .isInstanceOfSatisfying(TurnstileException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PRE_QUEUE_FULL));
+    }
+
+    @Test
+    void entryAfterAnotherNodeStartedFlushJoinsQueue() {
+        // 이 노드의 카탈로그는 아직 UPCOMING이지만 다른 노드가 이미 사전 대기열을 옮기기 시작함
+        saveUpcomingEvent(Instant.now().plus(Duration.ofSeconds(1)));
+        when(preQueueRepository.enter(EVENT_ID, USER_ID, 100)).thenReturn(EnterResult.OPENED);
+        when(queueRepository.enter(EVENT_ID, USER_ID)).thenReturn(1L);
+        when(queueRepository.getPosition(EVENT_ID, USER_ID)).thenReturn(0L);
+        when(queueRepository.getTotalWaiting(EVENT_ID)).thenReturn(1L);
+
+        QueueStatusResponse response = queueService.enterQueue(EVENT_ID, USER_ID);
+
+        assertThat(response.isPreQueued()).isFalse();
+        assertThat(response.getPosition()).isZero();
+        verify(queueRepository).enter(EVENT_ID, USER_ID);
+    }
+
+    @Test
+    void leaveFromPreQueueDoesNotTouchQueue() {
+        when(preQueueRepository.remove(EVENT_ID, USER_ID)).thenReturn(true);
+
+        queueService.leaveQueue(EVENT_ID, USER_ID);
+
+        verify(queueRepository, never()).leave(anyString(), anyString());
+    }
+
+    @Test
+    void leaveAfterFlushRemovesFromQueue() {
+        when(preQueueRepository.remove(EVENT_ID, USER_ID)).thenReturn(false);
+        when(queueRepository.leave(EVENT_ID, USER_ID)).thenReturn(true);
+
+        queueService.leaveQueue(EVENT_ID, USER_ID);
+
+        verify(queueRepository).leave(EVENT_ID, USER_ID);
+    }
+
+    @Test
+    void flushUsesConfiguredBatchSize() {
+        properties.setPreQueueBatchSize(500);
+        when(preQueueRepository.flushToQueue(EVENT_ID, 500)).thenReturn(3L);
+
+        assertThat(queueService.flushPreQueue(EVENT_ID)).isEqualTo(3);
+        verify(queueRepository).getTotalWaiting(EVENT_ID);
+    }
+
+    @Test
+    void emptyFlushSkipsBroadcast() {
+        when(preQueueRepository.flushToQueue(anyString(), anyInt())).thenReturn(0L);
+
+        assertThat(queueService.flushPreQueue(EVENT_ID)).isZero();
+        verify(queueRepository, never()).getTotalWaiting(anyString());
+    }
+
+    @Test
+    void drainedPreQueueIsNotFlushedAgain() {
+        when(preQueueRepository.flushToQueue(anyString(), anyInt())).thenReturn(3L);
+
+        queueService.flushPreQueue(EVENT_ID);
+        assertThat(queueService.flushPreQueue(EVENT_ID)).isZero();
+
+        verify(preQueueRepository, times(1)).flushToQueue(anyString(), anyInt());
+    }
+
+    @Test
+    void failedFlushIsRetriedOnNextCall() {
+        when(preQueueRepository.flushToQueue(anyString(), anyInt()))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(3L);
+
+        assertThatThrownBy(() -> queueService.flushPreQueue(EVENT_ID))
+                .isInstanceOf(RedisConnectionFailureException.class);
+        assertThat(queueService.flushPreQueue(EVENT_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void soldOutClearsPreQueue() {
+        queueService.closeQueueSoldOut(EVENT_ID);
+
+        verify(preQueueRepository).clear(EVENT_ID);
+        verify(queueRepository).clear(EVENT_ID);
+    }
+
+    private void saveUpcomingEvent(Instant openAt) {
+        eventRepository.save(Event.builder()
+                .eventId(EVENT_ID)
+                .name("2026 가을 콘서트")
+                .venue("고척 스카이돔")
+                .eventDate(LocalDateTime.of(2026, 12, 24, 19, 0))
+                .maxConcurrentUsers(100)
+                .status(EventStatus.UPCOMING)
+                .openAt(openAt)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,160 @@
+package mingovvv.turnstile.service;
+
+import mingovvv.turnstile.config.SeatLockProperties;
+import mingovvv.turnstile.domain.Seat;
+import mingovvv.turnstile.domain.enums.SeatGrade;
+import mingovvv.turnstile.domain.enums.SeatStatus;
+import mingovvv.turnstile.dto.response.SeatResponse;
+import mingovvv.turnstile.journal.RepositoryJournal;
+import mingovvv.turnstile.repository.memory.ReservationMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatInventoryMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatLockMemoryRepository;
+import mingovvv.turnstile.repository.memory.SeatMemoryRepository;
+import mingovvv.turnstile.repository.redis.SeatLockRedisRepository;
+import mingovvv.turnstile.sse.SeatSseEmitterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SeatServiceTest {
+
+    private static final String EVENT_ID = "EVT001";
+
+    private SeatMemoryRepository seatRepository;
+    private SeatLockRedisRepository seatLockRepository;
+    private SeatInventoryMemoryRepository inventoryRepository;
+    private SeatLockMemoryRepository lockMirrorRepository;
+    private SeatLockProperties seatLockProperties;
+    private ObjectProvider<RepositoryJournal> journalProvider;
+    private SeatService seatService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        seatRepository = new SeatMemoryRepository();
+        seatLockRepository = mock(SeatLockRedisRepository.class);
+        inventoryRepository = new SeatInventoryMemoryRepository();
+        lockMirrorRepository = new SeatLockMemoryRepository();
+        seatLockProperties = new SeatLockProperties();
+        journalProvider = mock(ObjectProvider.class);
+
+        when(seatLockRepository.getLockTtlSeconds()).thenReturn(300L);
+
+        seatService = new SeatService(
+                mock(EventService.class),
+                mock(QueueService.class),
+                seatRepository,
+                seatLockRepository,
+                new ReservationMemoryRepository(),
+                inventoryRepository,
+                lockMirrorRepository,
+                mock(SeatSseEmitterRegistry.class),
+                seatLockProperties,
+                journalProvider
+        );
+
+        for (int i = 1; i <= 3; i++) {
+            seatRepository.save(seat("A-1-" + i));
+        }
+        inventoryRepository.initialize(EVENT_ID, seatRepository.findByEventId(EVENT_ID));
+    }
+
+    @Test
+    void keyspaceEnabledReadsLockStateFromMirrorOnly() {
+        lockMirrorRepository.lock(seatRepository.findById(EVENT_ID, "A-1-2").orElseThrow(), "user-1", Long.MAX_VALUE);
+
+        List<SeatResponse> seats = seatService.getSeats(EVENT_ID);
+
+        assertThat(seats).extracting(SeatResponse::getSeatId, SeatResponse::getStatus)
+                .contains(
+                        tuple("A-1-1", SeatStatus.AVAILABLE),
+                        tuple("A-1-2", SeatStatus.LOCKED)
+                );
+        verify(seatLockRepository, never()).findLockedSeatIds(anyString(), anyList());
+    }
+
+    @Test
+    void keyspaceDisabledFallsBackToRedisExists() {
+        seatLockProperties.setKeyspaceNotificationEnabled(false);
+        when(seatLockRepository.findLockedSeatIds(any(), anyList())).thenReturn(Set.of("A-1-3"));
+
+        List<SeatResponse> seats = seatService.getSeats(EVENT_ID);
+
+        assertThat(seats).filteredOn(seat -> seat.getStatus() == SeatStatus.LOCKED)
+                .extracting(SeatResponse::getSeatId)
+                .containsExactly("A-1-3");
+        assertThat(seatService.getSeat(EVENT_ID, "A-1-3").getStatus()).isEqualTo(SeatStatus.LOCKED);
+    }
+
+    @Test
+    void keyspaceSetAfterLocalLockKeepsOwner() {
+        when(seatLockRepository.tryLock(EVENT_ID, "A-1-1", "user-1"))
+                .thenReturn(SeatLockRedisRepository.LockResult.SUCCESS);
+
+        seatService.lockSeat(EVENT_ID, "A-1-1", "user-1");
+        seatService.onLockAcquired(EVENT_ID, "A-1-1");
+
+        assertThat(lockMirrorRepository.findById(EVENT_ID, "A-1-1")).get()
+                .extracting(SeatLockMemoryRepository.LockEntry::userId)
+                .isEqualTo("user-1");
+        assertThat(inventoryRepository.findTotalByEventId(EVENT_ID)).get()
+                .extracting(SeatInventoryMemoryRepository.SeatInventory::locked)
+                .isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void journalFailureDoesNotAbortAppliedReservation() {
+        RepositoryJournal journal = mock(RepositoryJournal.class);
+        doThrow(new IllegalStateException("Journal queue full")).when(journal).seatReserved(any());
+        doAnswer(invocation -> {
+            invocation.<Consumer<RepositoryJournal>>getArgument(0).accept(journal);
+            return null;
+        }).when(journalProvider).ifAvailable(any(Consumer.class));
+        Seat seat = seatRepository.findById(EVENT_ID, "A-1-1").orElseThrow();
+        lockMirrorRepository.lock(seat, "user-1", Long.MAX_VALUE);
+        inventoryRepository.onLocked(seat);
+        when(seatLockRepository.isReserved(EVENT_ID, "A-1-1")).thenReturn(true);
+
+        // 다른 노드의 체크아웃으로 선점 락이 삭제됨 (예약 반영)
+        seatService.onLockReleased(EVENT_ID, "A-1-1", false);
+
+        verify(journal).seatReserved(seat);
+        assertThat(seat.isReserved()).isTrue();
+        assertThat(lockMirrorRepository.findById(EVENT_ID, "A-1-1")).isEmpty();
+        assertThat(inventoryRepository.findTotalByEventId(EVENT_ID)).get()
+                .extracting(SeatInventoryMemoryRepository.SeatInventory::locked,
+                        SeatInventoryMemoryRepository.SeatInventory::reserved,
+                        SeatInventoryMemoryRepository.SeatInventory::available)
+                .containsExactly(0, 1, 2);
+    }
+
+    private Seat seat(String seatId) {
+        return Seat.builder()
+                .seatId(seatId)
+                .eventId(EVENT_ID)
+                .section("A")
+                .rowNum(1)
+                .seatNum(Integer.parseInt(seatId.substring(seatId.lastIndexOf('-') + 1)))
+                .grade(SeatGrade.VIP)
+                .price(SeatGrade.VIP.getDefaultPrice())
+                .status(SeatStatus.AVAILABLE)
+                .build();
+    }
+}